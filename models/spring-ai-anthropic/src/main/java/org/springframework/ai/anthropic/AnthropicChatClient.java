@@ -38,6 +38,8 @@ import org.springframework.ai.anthropic.api.AnthropicApi.Role;
 import org.springframework.ai.anthropic.api.AnthropicApi.StreamResponse;
 import org.springframework.ai.anthropic.api.AnthropicApi.Usage;
 import org.springframework.ai.anthropic.metadata.AnthropicChatResponseMetadata;
+import org.springframework.ai.anthropic.metadata.AnthropicRateLimit;
+import org.springframework.ai.anthropic.metadata.support.AnthropicResponseHeaderExtractor;
 import org.springframework.ai.chat.ChatClient;
 import org.springframework.ai.chat.ChatResponse;
 import org.springframework.ai.chat.Generation;
@@ -49,7 +51,9 @@ import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.ai.model.ModelOptionsUtils;
 import org.springframework.ai.model.function.AbstractFunctionCallSupport;
 import org.springframework.ai.model.function.FunctionCallbackContext;
+import org.springframework.ai.retry.ReactiveRetryTemplate;
 import org.springframework.ai.retry.RetryUtils;
+import org.springframework.ai.retry.ratelimit.AdaptiveRateLimiter;
 import org.springframework.http.ResponseEntity;
 import org.springframework.retry.support.RetryTemplate;
 import org.springframework.util.Assert;
@@ -88,6 +92,16 @@ public class AnthropicChatClient extends
 	 */
 	public final RetryTemplate retryTemplate;
 
+	/**
+	 * The retry template used to retry the Anthropic streaming calls.
+	 */
+	private final ReactiveRetryTemplate reactiveRetryTemplate;
+
+	/**
+	 * The rate limiter of the API key, or {@code null} if requests are not limited.
+	 */
+	private final AdaptiveRateLimiter rateLimiter;
+
 	/**
 	 * Construct a new {@link AnthropicChatClient} instance.
 	 * @param anthropicApi the lower-level API for the Anthropic service.
@@ -131,16 +145,37 @@ public class AnthropicChatClient extends
 	 */
 	public AnthropicChatClient(AnthropicApi anthropicApi, AnthropicChatOptions defaultOptions,
 			RetryTemplate retryTemplate, FunctionCallbackContext functionCallbackContext) {
+		this(anthropicApi, defaultOptions, retryTemplate, functionCallbackContext,
+				RetryUtils.DEFAULT_REACTIVE_RETRY_TEMPLATE, null);
+	}
+
+	/**
+	 * Construct a new {@link AnthropicChatClient} instance.
+	 * @param anthropicApi the lower-level API for the Anthropic service.
+	 * @param defaultOptions the default options used for the chat completion requests.
+	 * @param retryTemplate the retry template used to retry the Anthropic API calls.
+	 * @param functionCallbackContext the function callback context used to store the
+	 * state of the function calls.
+	 * @param reactiveRetryTemplate the retry template used to retry the Anthropic
+	 * streaming calls.
+	 * @param rateLimiter the rate limiter of the API key, may be null.
+	 */
+	public AnthropicChatClient(AnthropicApi anthropicApi, AnthropicChatOptions defaultOptions,
+			RetryTemplate retryTemplate, FunctionCallbackContext functionCallbackContext,
+			ReactiveRetryTemplate reactiveRetryTemplate, AdaptiveRateLimiter rateLimiter) {
 
 		super(functionCallbackContext);
 
 		Assert.notNull(anthropicApi, "AnthropicApi must not be null");
 		Assert.notNull(defaultOptions, "DefaultOptions must not be null");
 		Assert.notNull(retryTemplate, "RetryTemplate must not be null");
+		Assert.notNull(reactiveRetryTemplate, "ReactiveRetryTemplate must not be null");
 
 		this.anthropicApi = anthropicApi;
 		this.defaultOptions = defaultOptions;
 		this.retryTemplate = retryTemplate;
+		this.reactiveRetryTemplate = reactiveRetryTemplate;
+		this.rateLimiter = rateLimiter;
 	}
 
 	@Override
@@ -150,7 +185,15 @@ public class AnthropicChatClient extends
 
 		return this.retryTemplate.execute(ctx -> {
 			ResponseEntity<ChatCompletion> completionEntity = this.callWithFunctionSupport(request);
-			return toChatResponse(completionEntity.getBody());
+
+			ChatCompletion chatCompletion = completionEntity.getBody();
+			AnthropicRateLimit rateLimit = AnthropicResponseHeaderExtractor.extractAiResponseHeaders(completionEntity);
+
+			ChatResponse chatResponse = toChatResponse(chatCompletion);
+			if (chatResponse.getMetadata() instanceof AnthropicChatResponseMetadata metadata) {
+				metadata.withRateLimit(rateLimit);
+			}
+			return chatResponse;
 		});
 	}
 
@@ -159,7 +202,11 @@ public class AnthropicChatClient extends
 
 		ChatCompletionRequest request = createRequest(prompt, true);
 
-		Flux<StreamResponse> response = this.anthropicApi.chatCompletionStream(request);
+		Flux<StreamResponse> response = this.reactiveRetryTemplate.execute((this.rateLimiter != null)
+				? this.rateLimiter.acquireReactive(request.model(), estimateTokens(request))
+					.flatMapMany(permit -> this.anthropicApi.chatCompletionStream(request)
+						.doFinally(signal -> permit.release(null, null)))
+				: this.anthropicApi.chatCompletionStream(request));
 
 		AtomicReference<ChatCompletionBuilder> chatCompletionReference = new AtomicReference<>();
 
@@ -222,6 +269,23 @@ public class AnthropicChatClient extends
 		}).map(this::toChatResponse);
 	}
 
+	/**
+	 * Estimates the tokens counted against the rate limit: the system prompt and the
+	 * messages of the request, which include the tool results of the previous round
+	 * trips, and the requested completion tokens.
+	 */
+	private long estimateTokens(ChatCompletionRequest request) {
+		long tokens = AdaptiveRateLimiter.estimateTokens(request.system());
+		for (RequestMessage message : request.messages()) {
+			if (message.content() != null) {
+				for (MediaContent content : message.content()) {
+					tokens += AdaptiveRateLimiter.estimateTokens(content.text());
+				}
+			}
+		}
+		return (request.maxTokens() != null) ? tokens + request.maxTokens() : tokens;
+	}
+
 	private ChatResponse toChatResponse(ChatCompletion chatCompletion) {
 		if (chatCompletion == null) {
 			logger.warn("Null chat completion returned");
@@ -436,9 +500,30 @@ public class AnthropicChatClient extends
 		return new RequestMessage(response.getBody().content(), Role.ASSISTANT);
 	}
 
+	/**
+	 * Sends one request to the API. A prompt with tool calls takes several round trips,
+	 * so the permit of the rate limiter is acquired here, once per request.
+	 */
 	@Override
 	protected ResponseEntity<ChatCompletion> doChatCompletion(ChatCompletionRequest request) {
-		return this.anthropicApi.chatCompletionEntity(request);
+		if (this.rateLimiter == null) {
+			return this.anthropicApi.chatCompletionEntity(request);
+		}
+		AdaptiveRateLimiter.Permit permit = this.rateLimiter.acquire(request.model(), estimateTokens(request));
+		ResponseEntity<ChatCompletion> completionEntity;
+		try {
+			completionEntity = this.anthropicApi.chatCompletionEntity(request);
+		}
+		catch (RuntimeException ex) {
+			permit.release(null, null);
+			throw ex;
+		}
+		ChatCompletion chatCompletion = completionEntity.getBody();
+		Usage usage = (chatCompletion != null) ? chatCompletion.usage() : null;
+		permit.release(AnthropicResponseHeaderExtractor.extractAiResponseHeaders(completionEntity),
+				(usage != null && usage.inputTokens() != null && usage.outputTokens() != null)
+						? (long) usage.inputTokens() + usage.outputTokens() : null);
+		return completionEntity;
 	}
 
 	@SuppressWarnings("null")
@@ -18,7 +18,6 @@ package org.springframework.ai.anthropic.api;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
-import java.util.function.Predicate;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
@@ -26,8 +25,10 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import org.springframework.ai.model.ModelOptionsUtils;
+import org.springframework.ai.model.sse.SseEvent;
+import org.springframework.ai.model.sse.SseJsonDecoder;
 import org.springframework.ai.retry.RetryUtils;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -54,7 +55,7 @@ public class AnthropicApi {
 
 	public static final String DEFAULT_ANTHROPIC_BETA_VERSION = "tools-2024-04-04";
 
-	private static final Predicate<String> SSE_DONE_PREDICATE = "[DONE]"::equals;
+	private static final SseJsonDecoder<StreamResponse> STREAM_DECODER = new SseJsonDecoder<>(StreamResponse.class);
 
 	private final RestClient restClient;
 
@@ -87,6 +88,22 @@ public class AnthropicApi {
 	 */
 	public AnthropicApi(String baseUrl, String anthropicApiKey, String anthropicVersion,
 			RestClient.Builder restClientBuilder, ResponseErrorHandler responseErrorHandler) {
+		this(baseUrl, anthropicApiKey, anthropicVersion, restClientBuilder, WebClient.builder(),
+				responseErrorHandler);
+	}
+
+	/**
+	 * Create a new client api.
+	 * @param baseUrl api base URL.
+	 * @param anthropicApiKey Anthropic api Key.
+	 * @param anthropicVersion Anthropic version.
+	 * @param restClientBuilder RestClient builder.
+	 * @param webClientBuilder WebClient builder, used for the streaming requests.
+	 * @param responseErrorHandler Response error handler.
+	 */
+	public AnthropicApi(String baseUrl, String anthropicApiKey, String anthropicVersion,
+			RestClient.Builder restClientBuilder, WebClient.Builder webClientBuilder,
+			ResponseErrorHandler responseErrorHandler) {
 
 		Consumer<HttpHeaders> jsonContentHeaders = headers -> {
 			headers.add(HEADER_X_API_KEY, anthropicApiKey);
@@ -100,7 +117,7 @@ public class AnthropicApi {
 			.defaultStatusHandler(responseErrorHandler)
 			.build();
 
-		this.webClient = WebClient.builder().baseUrl(baseUrl).defaultHeaders(jsonContentHeaders).build();
+		this.webClient = webClientBuilder.baseUrl(baseUrl).defaultHeaders(jsonContentHeaders).build();
 	}
 
 	/**
@@ -567,6 +584,19 @@ public class AnthropicApi {
 	 * @return Returns a {@link Flux} stream from chat completion chunks.
 	 */
 	public Flux<StreamResponse> chatCompletionStream(ChatCompletionRequest chatRequest) {
+		return chatCompletionEventStream(chatRequest).mapNotNull(SseEvent::data);
+	}
+
+	/**
+	 * Creates a streaming chat response for the given chat conversation, keeping the
+	 * server-sent event types, such as {@code message_start}, {@code ping} or
+	 * {@code error}.
+	 * @param chatRequest The chat completion request. Must have the stream property set
+	 * to true.
+	 * @return Returns a {@link Flux} stream of server-sent events holding the chat
+	 * completion chunks.
+	 */
+	public Flux<SseEvent<StreamResponse>> chatCompletionEventStream(ChatCompletionRequest chatRequest) {
 
 		Assert.notNull(chatRequest, "The request body can not be null.");
 		Assert.isTrue(chatRequest.stream(), "Request must set the steam property to true.");
@@ -575,10 +605,8 @@ public class AnthropicApi {
 			.uri("/v1/messages")
 			.body(Mono.just(chatRequest), ChatCompletionRequest.class)
 			.retrieve()
-			.bodyToFlux(String.class)
-			.takeUntil(SSE_DONE_PREDICATE)
-			.filter(SSE_DONE_PREDICATE.negate())
-			.map(content -> ModelOptionsUtils.jsonToObject(content, StreamResponse.class));
+			.bodyToFlux(DataBuffer.class)
+			.transform(STREAM_DECODER::decode);
 	}
 
 }
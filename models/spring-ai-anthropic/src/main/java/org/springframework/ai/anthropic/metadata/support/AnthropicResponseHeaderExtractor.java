@@ -0,0 +1,100 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.anthropic.metadata.support;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.ai.anthropic.metadata.AnthropicRateLimit;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
+
+/**
+ * Utility used to extract the rate limit HTTP response headers of the
+ * {@literal Anthropic} API.
+ *
+ * @since 1.0.0
+ */
+public class AnthropicResponseHeaderExtractor {
+
+	private static final Logger logger = LoggerFactory.getLogger(AnthropicResponseHeaderExtractor.class);
+
+	public static final String REQUESTS_LIMIT_HEADER = "anthropic-ratelimit-requests-limit";
+
+	public static final String REQUESTS_REMAINING_HEADER = "anthropic-ratelimit-requests-remaining";
+
+	public static final String REQUESTS_RESET_HEADER = "anthropic-ratelimit-requests-reset";
+
+	public static final String TOKENS_LIMIT_HEADER = "anthropic-ratelimit-tokens-limit";
+
+	public static final String TOKENS_REMAINING_HEADER = "anthropic-ratelimit-tokens-remaining";
+
+	public static final String TOKENS_RESET_HEADER = "anthropic-ratelimit-tokens-reset";
+
+	public static AnthropicRateLimit extractAiResponseHeaders(ResponseEntity<?> response) {
+		return extractAiResponseHeaders(response.getHeaders(), Clock.systemUTC());
+	}
+
+	static AnthropicRateLimit extractAiResponseHeaders(HttpHeaders headers, Clock clock) {
+		Long requestsLimit = getHeaderAsLong(headers, REQUESTS_LIMIT_HEADER);
+		Long requestsRemaining = getHeaderAsLong(headers, REQUESTS_REMAINING_HEADER);
+		Long tokensLimit = getHeaderAsLong(headers, TOKENS_LIMIT_HEADER);
+		Long tokensRemaining = getHeaderAsLong(headers, TOKENS_REMAINING_HEADER);
+
+		Duration requestsReset = getHeaderAsDuration(headers, REQUESTS_RESET_HEADER, clock);
+		Duration tokensReset = getHeaderAsDuration(headers, TOKENS_RESET_HEADER, clock);
+
+		return new AnthropicRateLimit(requestsLimit, requestsRemaining, requestsReset, tokensLimit, tokensRemaining,
+				tokensReset);
+	}
+
+	/**
+	 * The reset headers hold the RFC 3339 time at which the rate limit is replenished.
+	 */
+	private static Duration getHeaderAsDuration(HttpHeaders headers, String headerName, Clock clock) {
+		String value = headers.getFirst(headerName);
+		if (StringUtils.hasText(value)) {
+			try {
+				Duration reset = Duration.between(clock.instant(), Instant.parse(value.trim()));
+				return reset.isNegative() ? Duration.ZERO : reset;
+			}
+			catch (DateTimeParseException e) {
+				logger.warn("Value [{}] for HTTP header [{}] is not valid: {}", value, headerName, e.getMessage());
+			}
+		}
+		return null;
+	}
+
+	private static Long getHeaderAsLong(HttpHeaders headers, String headerName) {
+		String value = headers.getFirst(headerName);
+		if (StringUtils.hasText(value)) {
+			try {
+				return Long.parseLong(value.trim());
+			}
+			catch (NumberFormatException e) {
+				logger.warn("Value [{}] for HTTP header [{}] is not valid: {}", value, headerName, e.getMessage());
+			}
+		}
+		return null;
+	}
+
+}
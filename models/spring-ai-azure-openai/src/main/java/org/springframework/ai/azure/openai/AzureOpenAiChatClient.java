@@ -15,11 +15,13 @@
  */
 package org.springframework.ai.azure.openai;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import com.azure.ai.openai.OpenAIAsyncClient;
 import com.azure.ai.openai.OpenAIClient;
 import com.azure.ai.openai.models.ChatChoice;
 import com.azure.ai.openai.models.ChatCompletions;
@@ -42,6 +44,8 @@ import com.azure.core.util.IterableStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import org.springframework.ai.azure.openai.metadata.AzureOpenAiChatResponseMetadata;
 import org.springframework.ai.chat.ChatClient;
@@ -62,7 +66,8 @@ import org.springframework.util.CollectionUtils;
 
 /**
  * {@link ChatClient} implementation for {@literal Microsoft Azure AI} backed by
- * {@link OpenAIClient}.
+ * {@link OpenAIClient}. When an {@link OpenAIAsyncClient} is provided, streaming runs on
+ * the non-blocking Azure SDK pipeline.
  *
  * @author Mark Pollack
  * @author Ueibin Kim
@@ -91,6 +96,11 @@ public class AzureOpenAiChatClient
 	 */
 	private final OpenAIClient openAIClient;
 
+	/**
+	 * The optional {@link OpenAIAsyncClient} used for streaming.
+	 */
+	private final OpenAIAsyncClient openAIAsyncClient;
+
 	public AzureOpenAiChatClient(OpenAIClient microsoftOpenAiClient) {
 		this(microsoftOpenAiClient,
 				AzureOpenAiChatOptions.builder()
@@ -105,10 +115,25 @@ public class AzureOpenAiChatClient
 
 	public AzureOpenAiChatClient(OpenAIClient microsoftOpenAiClient, AzureOpenAiChatOptions options,
 			FunctionCallbackContext functionCallbackContext) {
+		this(microsoftOpenAiClient, null, options, functionCallbackContext);
+	}
+
+	/**
+	 * Creates a chat client that streams on the given {@link OpenAIAsyncClient}.
+	 * @param microsoftOpenAiClient the client used for blocking calls.
+	 * @param microsoftOpenAiAsyncClient the client used for streaming, can be
+	 * {@literal null}.
+	 * @param options the default options.
+	 * @param functionCallbackContext the function callback context, can be
+	 * {@literal null}.
+	 */
+	public AzureOpenAiChatClient(OpenAIClient microsoftOpenAiClient, OpenAIAsyncClient microsoftOpenAiAsyncClient,
+			AzureOpenAiChatOptions options, FunctionCallbackContext functionCallbackContext) {
 		super(functionCallbackContext);
 		Assert.notNull(microsoftOpenAiClient, "com.azure.ai.openai.OpenAIClient must not be null");
 		Assert.notNull(options, "AzureOpenAiChatOptions must not be null");
 		this.openAIClient = microsoftOpenAiClient;
+		this.openAIAsyncClient = microsoftOpenAiAsyncClient;
 		this.defaultOptions = options;
 	}
 
@@ -137,24 +162,37 @@ public class AzureOpenAiChatClient
 		ChatCompletions chatCompletions = this.callWithFunctionSupport(options);
 		logger.trace("Azure ChatCompletions: {}", chatCompletions);
 
-		List<Generation> generations = chatCompletions.getChoices()
-			.stream()
-			.map(choice -> new Generation(choice.getMessage().getContent())
-				.withGenerationMetadata(generateChoiceMetadata(choice)))
-			.toList();
-
-		PromptMetadata promptFilterMetadata = generatePromptMetadata(chatCompletions);
-
-		return new ChatResponse(generations,
-				AzureOpenAiChatResponseMetadata.from(chatCompletions, promptFilterMetadata));
+		return toChatResponse(chatCompletions);
 	}
 
+	/**
+	 * Streams the response. With an {@link OpenAIAsyncClient} the stream runs on the
+	 * non-blocking Azure SDK pipeline, with backpressure and cancellation. Requests with
+	 * functions are resolved with non-streaming asynchronous calls, the functions being
+	 * invoked on the bounded elastic scheduler, and the final answer is emitted as a
+	 * single response.
+	 * @param prompt the prompt.
+	 * @return the streamed responses.
+	 */
 	@Override
 	public Flux<ChatResponse> stream(Prompt prompt) {
 
 		ChatCompletionsOptions options = toAzureChatCompletionsOptions(prompt);
 		options.setStream(true);
 
+		if (this.openAIAsyncClient != null) {
+			if (!CollectionUtils.isEmpty(options.getTools())) {
+				options.setStream(false);
+				return callWithFunctionSupportReactive(options).map(this::toChatResponse).flux();
+			}
+			return this.openAIAsyncClient.getChatCompletionsStream(options.getModel(), options)
+				// Note: the first chat completions can be ignored when using Azure OpenAI
+				// service which is a known service bug.
+				.skip(1)
+				.flatMapIterable(ChatCompletions::getChoices)
+				.map(this::toStreamingChatResponse);
+		}
+
 		IterableStream<ChatCompletions> chatCompletionsStream = this.openAIClient
 			.getChatCompletionsStream(options.getModel(), options);
 
@@ -164,11 +202,41 @@ public class AzureOpenAiChatClient
 			.skip(1)
 			.map(ChatCompletions::getChoices)
 			.flatMap(List::stream)
-			.map(choice -> {
-				var content = (choice.getDelta() != null) ? choice.getDelta().getContent() : null;
-				var generation = new Generation(content).withGenerationMetadata(generateChoiceMetadata(choice));
-				return new ChatResponse(List.of(generation));
-			}));
+			.map(this::toStreamingChatResponse));
+	}
+
+	private Mono<ChatCompletions> callWithFunctionSupportReactive(ChatCompletionsOptions request) {
+		return this.openAIAsyncClient.getChatCompletions(request.getModel(), request).flatMap(response -> {
+			if (!isToolFunctionCall(response)) {
+				return Mono.just(response);
+			}
+			return Mono.fromCallable(() -> {
+				List<ChatRequestMessage> conversationHistory = new ArrayList<>(doGetUserMessages(request));
+				ChatRequestMessage responseMessage = doGetToolResponseMessage(response);
+				conversationHistory.add(responseMessage);
+				return doCreateToolResponseRequest(request, responseMessage, conversationHistory);
+			}).subscribeOn(Schedulers.boundedElastic()).flatMap(this::callWithFunctionSupportReactive);
+		});
+	}
+
+	private ChatResponse toChatResponse(ChatCompletions chatCompletions) {
+
+		List<Generation> generations = chatCompletions.getChoices()
+			.stream()
+			.map(choice -> new Generation(choice.getMessage().getContent())
+				.withGenerationMetadata(generateChoiceMetadata(choice)))
+			.toList();
+
+		PromptMetadata promptFilterMetadata = generatePromptMetadata(chatCompletions);
+
+		return new ChatResponse(generations,
+				AzureOpenAiChatResponseMetadata.from(chatCompletions, promptFilterMetadata));
+	}
+
+	private ChatResponse toStreamingChatResponse(ChatChoice choice) {
+		var content = (choice.getDelta() != null) ? choice.getDelta().getContent() : null;
+		var generation = new Generation(content).withGenerationMetadata(generateChoiceMetadata(choice));
+		return new ChatResponse(List.of(generation));
 	}
 
 	/**
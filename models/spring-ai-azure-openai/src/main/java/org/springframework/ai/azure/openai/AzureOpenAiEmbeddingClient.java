@@ -18,6 +18,7 @@ package org.springframework.ai.azure.openai;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.azure.ai.openai.OpenAIAsyncClient;
 import com.azure.ai.openai.OpenAIClient;
 import com.azure.ai.openai.models.EmbeddingItem;
 import com.azure.ai.openai.models.Embeddings;
@@ -25,6 +26,8 @@ import com.azure.ai.openai.models.EmbeddingsOptions;
 import com.azure.ai.openai.models.EmbeddingsUsage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import org.springframework.ai.document.Document;
 import org.springframework.ai.document.MetadataMode;
@@ -43,6 +46,8 @@ public class AzureOpenAiEmbeddingClient extends AbstractEmbeddingClient {
 
 	private final OpenAIClient azureOpenAiClient;
 
+	private final OpenAIAsyncClient azureOpenAiAsyncClient;
+
 	private final AzureOpenAiEmbeddingOptions defaultOptions;
 
 	private final MetadataMode metadataMode;
@@ -58,10 +63,23 @@ public class AzureOpenAiEmbeddingClient extends AbstractEmbeddingClient {
 
 	public AzureOpenAiEmbeddingClient(OpenAIClient azureOpenAiClient, MetadataMode metadataMode,
 			AzureOpenAiEmbeddingOptions options) {
+		this(azureOpenAiClient, null, metadataMode, options);
+	}
+
+	/**
+	 * @param azureOpenAiClient the client used by {@link #call(EmbeddingRequest)}.
+	 * @param azureOpenAiAsyncClient the client used by
+	 * {@link #callReactive(EmbeddingRequest)}, can be {@literal null}.
+	 * @param metadataMode the metadata mode used to embed documents.
+	 * @param options the default options.
+	 */
+	public AzureOpenAiEmbeddingClient(OpenAIClient azureOpenAiClient, OpenAIAsyncClient azureOpenAiAsyncClient,
+			MetadataMode metadataMode, AzureOpenAiEmbeddingOptions options) {
 		Assert.notNull(azureOpenAiClient, "com.azure.ai.openai.OpenAIClient must not be null");
 		Assert.notNull(metadataMode, "Metadata mode must not be null");
 		Assert.notNull(options, "Options must not be null");
 		this.azureOpenAiClient = azureOpenAiClient;
+		this.azureOpenAiAsyncClient = azureOpenAiAsyncClient;
 		this.metadataMode = metadataMode;
 		this.defaultOptions = options;
 	}
@@ -76,6 +94,15 @@ public class AzureOpenAiEmbeddingClient extends AbstractEmbeddingClient {
 		return response.getResults().stream().map(embedding -> embedding.getOutput()).flatMap(List::stream).toList();
 	}
 
+	@Override
+	public List<List<Double>> embedDocuments(List<Document> documents) {
+		Assert.notNull(documents, "Documents must not be null");
+		if (documents.isEmpty()) {
+			return List.of();
+		}
+		return this.embed(documents.stream().map(document -> document.getFormattedContent(this.metadataMode)).toList());
+	}
+
 	@Override
 	public EmbeddingResponse call(EmbeddingRequest embeddingRequest) {
 		logger.debug("Retrieving embeddings");
@@ -87,6 +114,22 @@ public class AzureOpenAiEmbeddingClient extends AbstractEmbeddingClient {
 		return generateEmbeddingResponse(embeddings);
 	}
 
+	/**
+	 * Non-blocking variant of {@link #call(EmbeddingRequest)}. Runs on the
+	 * {@link OpenAIAsyncClient} when one is configured, otherwise the blocking call runs
+	 * on the bounded elastic scheduler.
+	 * @param embeddingRequest the embedding request.
+	 * @return the embedding response.
+	 */
+	public Mono<EmbeddingResponse> callReactive(EmbeddingRequest embeddingRequest) {
+		if (this.azureOpenAiAsyncClient == null) {
+			return Mono.fromCallable(() -> call(embeddingRequest)).subscribeOn(Schedulers.boundedElastic());
+		}
+		return Mono.fromCallable(() -> toEmbeddingOptions(embeddingRequest))
+			.flatMap(azureOptions -> this.azureOpenAiAsyncClient.getEmbeddings(azureOptions.getModel(), azureOptions))
+			.map(this::generateEmbeddingResponse);
+	}
+
 	/**
 	 * Test access
 	 */
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.azure.openai;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import com.azure.ai.openai.OpenAIAsyncClient;
+import com.azure.ai.openai.OpenAIClient;
+import com.azure.ai.openai.OpenAIClientBuilder;
+import com.azure.core.credential.AzureKeyCredential;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import org.springframework.ai.chat.ChatResponse;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.document.MetadataMode;
+import org.springframework.ai.embedding.EmbeddingRequest;
+import org.springframework.ai.embedding.EmbeddingResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Unit Tests for the {@link OpenAIAsyncClient} paths of {@link AzureOpenAiChatClient} and
+ * {@link AzureOpenAiEmbeddingClient}, against a mock web server.
+ */
+public class AzureOpenAiAsyncClientTests {
+
+	private final MockWebServer server = new MockWebServer();
+
+	private final OpenAIClient blockingClient = Mockito.mock(OpenAIClient.class);
+
+	private OpenAIAsyncClient asyncClient;
+
+	@BeforeEach
+	void startServer() throws IOException {
+		this.server.start();
+		this.asyncClient = new OpenAIClientBuilder().endpoint(this.server.url("/azure").toString())
+			.credential(new AzureKeyCredential("test-key"))
+			.buildAsyncClient();
+	}
+
+	@AfterEach
+	void stopServer() throws IOException {
+		this.server.shutdown();
+	}
+
+	@Test
+	void streamsOnTheAsyncClient() throws InterruptedException {
+		// Azure OpenAI sends the prompt filter results first, without choices.
+		String events = event("{\"id\":\"\",\"created\":0,\"choices\":[]}")
+				+ event(chunk("{\"role\":\"assistant\",\"content\":\"Hello\"}", null))
+				+ event(chunk("{\"content\":\" world\"}", "stop")) + event("[DONE]");
+		this.server.enqueue(new MockResponse().setHeader("Content-Type", "text/event-stream").setBody(events));
+
+		AzureOpenAiChatClient chatClient = new AzureOpenAiChatClient(this.blockingClient, this.asyncClient,
+				AzureOpenAiChatOptions.builder().withDeploymentName("gpt-35-turbo").build(), null);
+
+		List<ChatResponse> responses = chatClient.stream(new Prompt("Hello"))
+			.collectList()
+			.block(Duration.ofSeconds(10));
+
+		assertThat(responses).extracting(response -> response.getResult().getOutput().getContent())
+			.filteredOn(Objects::nonNull)
+			.containsExactly("Hello", " world");
+		assertThat(responses.get(responses.size() - 1).getResult().getMetadata().getFinishReason())
+			.isEqualToIgnoringCase("stop");
+
+		RecordedRequest request = this.server.takeRequest(5, TimeUnit.SECONDS);
+		assertThat(request.getPath()).startsWith("/azure/openai/deployments/gpt-35-turbo/chat/completions");
+		assertThat(request.getBody().readUtf8()).contains("\"stream\":true");
+		verifyNoInteractions(this.blockingClient);
+	}
+
+	@Test
+	void embedsReactivelyOnTheAsyncClient() throws InterruptedException {
+		this.server.enqueue(new MockResponse().setHeader("Content-Type", "application/json").setBody("""
+				{
+					"data": [
+						{ "index": 0, "embedding": [0.5, 0.25] },
+						{ "index": 1, "embedding": [0.125, 1.0] }
+					],
+					"usage": { "prompt_tokens": 4, "total_tokens": 4 }
+				}
+				"""));
+
+		AzureOpenAiEmbeddingClient embeddingClient = new AzureOpenAiEmbeddingClient(this.blockingClient,
+				this.asyncClient, MetadataMode.EMBED,
+				AzureOpenAiEmbeddingOptions.builder().withDeploymentName("text-embedding-ada-002").build());
+
+		EmbeddingResponse response = embeddingClient
+			.callReactive(new EmbeddingRequest(List.of("first", "second"), null))
+			.block(Duration.ofSeconds(10));
+
+		assertThat(response.getResults()).hasSize(2);
+		assertThat(response.getResults().get(0).getOutput()).containsExactly(0.5, 0.25);
+		assertThat(response.getResults().get(1).getOutput()).containsExactly(0.125, 1.0);
+
+		RecordedRequest request = this.server.takeRequest(5, TimeUnit.SECONDS);
+		assertThat(request.getPath()).startsWith("/azure/openai/deployments/text-embedding-ada-002/embeddings");
+		assertThat(request.getBody().readUtf8()).contains("\"first\"", "\"second\"");
+		verifyNoInteractions(this.blockingClient);
+	}
+
+	private static String chunk(String delta, String finishReason) {
+		String finish = (finishReason != null) ? ",\"finish_reason\":\"" + finishReason + "\"" : "";
+		return "{\"id\":\"chatcmpl-1\",\"created\":1,\"choices\":[{\"index\":0" + finish + ",\"delta\":" + delta
+				+ "}]}";
+	}
+
+	private static String event(String data) {
+		return "data: " + data + "\n\n";
+	}
+
+}
@@ -96,6 +96,15 @@ public class BedrockCohereEmbeddingClient extends AbstractEmbeddingClient {
 		return embed(document.getContent());
 	}
 
+	@Override
+	public List<List<Double>> embedDocuments(List<Document> documents) {
+		Assert.notNull(documents, "Documents must not be null");
+		if (documents.isEmpty()) {
+			return List.of();
+		}
+		return this.embed(documents.stream().map(document -> document.getContent()).toList());
+	}
+
 	@Override
 	public EmbeddingResponse call(EmbeddingRequest request) {
 		Assert.notEmpty(request.getInstructions(), "At least one text is required!");
@@ -44,6 +44,7 @@ import org.springframework.ai.mistralai.api.MistralAiApi.ChatCompletionRequest;
 import org.springframework.ai.model.ModelOptionsUtils;
 import org.springframework.ai.model.function.AbstractFunctionCallSupport;
 import org.springframework.ai.model.function.FunctionCallbackContext;
+import org.springframework.ai.retry.ReactiveRetryTemplate;
 import org.springframework.ai.retry.RetryUtils;
 import org.springframework.http.ResponseEntity;
 import org.springframework.retry.support.RetryTemplate;
@@ -73,6 +74,8 @@ public class MistralAiChatClient extends
 
 	private final RetryTemplate retryTemplate;
 
+	private final ReactiveRetryTemplate reactiveRetryTemplate;
+
 	public MistralAiChatClient(MistralAiApi mistralAiApi) {
 		this(mistralAiApi,
 				MistralAiChatOptions.builder()
@@ -89,13 +92,21 @@ public class MistralAiChatClient extends
 
 	public MistralAiChatClient(MistralAiApi mistralAiApi, MistralAiChatOptions options,
 			FunctionCallbackContext functionCallbackContext, RetryTemplate retryTemplate) {
+		this(mistralAiApi, options, functionCallbackContext, retryTemplate, RetryUtils.DEFAULT_REACTIVE_RETRY_TEMPLATE);
+	}
+
+	public MistralAiChatClient(MistralAiApi mistralAiApi, MistralAiChatOptions options,
+			FunctionCallbackContext functionCallbackContext, RetryTemplate retryTemplate,
+			ReactiveRetryTemplate reactiveRetryTemplate) {
 		super(functionCallbackContext);
 		Assert.notNull(mistralAiApi, "MistralAiApi must not be null");
 		Assert.notNull(options, "Options must not be null");
 		Assert.notNull(retryTemplate, "RetryTemplate must not be null");
+		Assert.notNull(reactiveRetryTemplate, "ReactiveRetryTemplate must not be null");
 		this.mistralAiApi = mistralAiApi;
 		this.defaultOptions = options;
 		this.retryTemplate = retryTemplate;
+		this.reactiveRetryTemplate = reactiveRetryTemplate;
 	}
 
 	@Override
@@ -142,7 +153,7 @@ public class MistralAiChatClient extends
 
 		return retryTemplate.execute(ctx -> {
 
-			var completionChunks = this.mistralAiApi.chatCompletionStream(request);
+			var completionChunks = this.reactiveRetryTemplate.execute(this.mistralAiApi.chatCompletionStream(request));
 
 			// For chunked responses, only the first chunk contains the choice role.
 			// The rest of the chunks with same ID share the same role.
@@ -118,6 +118,15 @@ public class MistralAiEmbeddingClient extends AbstractEmbeddingClient {
 		return this.embed(document.getFormattedContent(this.metadataMode));
 	}
 
+	@Override
+	public List<List<Double>> embedDocuments(List<Document> documents) {
+		Assert.notNull(documents, "Documents must not be null");
+		if (documents.isEmpty()) {
+			return List.of();
+		}
+		return this.embed(documents.stream().map(document -> document.getFormattedContent(this.metadataMode)).toList());
+	}
+
 	private EmbeddingResponseMetadata generateResponseMetadata(String model, MistralAiApi.Usage usage) {
 		var metadata = new EmbeddingResponseMetadata();
 		metadata.put("model", model);
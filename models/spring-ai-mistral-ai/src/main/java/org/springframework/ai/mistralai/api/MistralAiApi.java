@@ -19,7 +19,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
-import java.util.function.Predicate;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
@@ -28,9 +27,11 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import org.springframework.ai.model.ModelOptionsUtils;
+import org.springframework.ai.model.sse.SseJsonDecoder;
 import org.springframework.ai.retry.RetryUtils;
 import org.springframework.boot.context.properties.bind.ConstructorBinding;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -59,7 +60,8 @@ public class MistralAiApi {
 
 	private static final String DEFAULT_BASE_URL = "https://api.mistral.ai";
 
-	private static final Predicate<String> SSE_DONE_PREDICATE = "[DONE]"::equals;
+	private static final SseJsonDecoder<ChatCompletionChunk> CHUNK_DECODER = new SseJsonDecoder<>(
+			ChatCompletionChunk.class);
 
 	private final RestClient restClient;
 
@@ -91,6 +93,19 @@ public class MistralAiApi {
 	 */
 	public MistralAiApi(String baseUrl, String mistralAiApiKey, RestClient.Builder restClientBuilder,
 			ResponseErrorHandler responseErrorHandler) {
+		this(baseUrl, mistralAiApiKey, restClientBuilder, WebClient.builder(), responseErrorHandler);
+	}
+
+	/**
+	 * Create a new client api.
+	 * @param baseUrl api base URL.
+	 * @param mistralAiApiKey Mistral api Key.
+	 * @param restClientBuilder RestClient builder.
+	 * @param webClientBuilder WebClient builder, used for the streaming requests.
+	 * @param responseErrorHandler Response error handler.
+	 */
+	public MistralAiApi(String baseUrl, String mistralAiApiKey, RestClient.Builder restClientBuilder,
+			WebClient.Builder webClientBuilder, ResponseErrorHandler responseErrorHandler) {
 
 		Consumer<HttpHeaders> jsonContentHeaders = headers -> {
 			headers.setBearerAuth(mistralAiApiKey);
@@ -102,7 +117,7 @@ public class MistralAiApi {
 			.defaultStatusHandler(responseErrorHandler)
 			.build();
 
-		this.webClient = WebClient.builder().baseUrl(baseUrl).defaultHeaders(jsonContentHeaders).build();
+		this.webClient = webClientBuilder.baseUrl(baseUrl).defaultHeaders(jsonContentHeaders).build();
 	}
 
 	/**
@@ -724,10 +739,8 @@ public class MistralAiApi {
 			.uri("/v1/chat/completions")
 			.body(Mono.just(chatRequest), ChatCompletionRequest.class)
 			.retrieve()
-			.bodyToFlux(String.class)
-			.takeUntil(SSE_DONE_PREDICATE)
-			.filter(SSE_DONE_PREDICATE.negate())
-			.map(content -> ModelOptionsUtils.jsonToObject(content, ChatCompletionChunk.class))
+			.bodyToFlux(DataBuffer.class)
+			.transform(CHUNK_DECODER::decodeData)
 			.map(chunk -> {
 				if (this.chunkMerger.isStreamingToolFunctionCall(chunk)) {
 					isInsideTool.set(true);
@@ -103,6 +103,18 @@ public class OllamaApi {
 	 * @param restClientBuilder The {@link RestClient.Builder} to use.
 	 */
 	public OllamaApi(String baseUrl, RestClient.Builder restClientBuilder) {
+		this(baseUrl, restClientBuilder, WebClient.builder());
+	}
+
+	/**
+	 * Crate a new OllamaApi instance with the given base url, {@link RestClient.Builder}
+	 * and {@link WebClient.Builder}.
+	 * @param baseUrl The base url of the Ollama server.
+	 * @param restClientBuilder The {@link RestClient.Builder} to use.
+	 * @param webClientBuilder The {@link WebClient.Builder} to use for the streaming
+	 * requests.
+	 */
+	public OllamaApi(String baseUrl, RestClient.Builder restClientBuilder, WebClient.Builder webClientBuilder) {
 
 		this.responseErrorHandler = new OllamaResponseErrorHandler();
 
@@ -113,7 +125,7 @@ public class OllamaApi {
 
 		this.restClient = restClientBuilder.baseUrl(baseUrl).defaultHeaders(defaultHeaders).build();
 
-		this.webClient = WebClient.builder().baseUrl(baseUrl).defaultHeaders(defaultHeaders).build();
+		this.webClient = webClientBuilder.baseUrl(baseUrl).defaultHeaders(defaultHeaders).build();
 	}
 
 	// --------------------------------------------------------------------------
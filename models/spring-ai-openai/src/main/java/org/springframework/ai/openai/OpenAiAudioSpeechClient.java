@@ -26,11 +26,17 @@ import org.springframework.ai.openai.api.common.OpenAiApiException;
 import org.springframework.ai.openai.audio.speech.*;
 import org.springframework.ai.openai.metadata.audio.OpenAiAudioSpeechResponseMetadata;
 import org.springframework.ai.openai.metadata.support.OpenAiResponseHeaderExtractor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.ResponseEntity;
 import org.springframework.retry.support.RetryTemplate;
 import org.springframework.util.Assert;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
 import java.time.Duration;
 
 /**
@@ -128,6 +134,52 @@ public class OpenAiAudioSpeechClient implements SpeechClient, StreamingSpeechCli
 					OpenAiResponseHeaderExtractor.extractAiResponseHeaders(entity))));
 	}
 
+	/**
+	 * Streams the audio for the given speech prompt as the data buffers received from the
+	 * connection, so that the audio is never copied to the heap. The subscriber must
+	 * release every buffer with {@link DataBufferUtils#release(DataBuffer)}.
+	 * @param prompt The speech prompt containing the text and options for speech
+	 * synthesis.
+	 * @return A Flux of data buffers holding the audio.
+	 */
+	public Flux<DataBuffer> streamAudio(SpeechPrompt prompt) {
+		return this.audioApi.streamDataBuffers(this.createRequestBody(prompt));
+	}
+
+	/**
+	 * Streams the audio for the given speech prompt to the output stream, releasing each
+	 * buffer once written. The writes happen on a bounded elastic thread, so a slow
+	 * listener does not hold up the connection's event loop. The stream is not closed.
+	 * @param prompt The speech prompt containing the text and options for speech
+	 * synthesis.
+	 * @param outputStream The stream to write the audio to.
+	 * @return A Mono completing once all the audio is written.
+	 */
+	public Mono<Void> streamAudio(SpeechPrompt prompt, OutputStream outputStream) {
+		Assert.notNull(outputStream, "OutputStream must not be null");
+		return write(DataBufferUtils.write(streamAudio(prompt).publishOn(Schedulers.boundedElastic()), outputStream));
+	}
+
+	/**
+	 * Streams the audio for the given speech prompt to the channel, releasing each buffer
+	 * once written. The writes happen on a bounded elastic thread, so a slow listener does
+	 * not hold up the connection's event loop. The channel is not closed.
+	 * @param prompt The speech prompt containing the text and options for speech
+	 * synthesis.
+	 * @param channel The channel to write the audio to.
+	 * @return A Mono completing once all the audio is written.
+	 */
+	public Mono<Void> streamAudio(SpeechPrompt prompt, WritableByteChannel channel) {
+		Assert.notNull(channel, "WritableByteChannel must not be null");
+		return write(DataBufferUtils.write(streamAudio(prompt).publishOn(Schedulers.boundedElastic()), channel));
+	}
+
+	private static Mono<Void> write(Flux<DataBuffer> written) {
+		return written.doOnNext(DataBufferUtils::release)
+			.doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+			.then();
+	}
+
 	private OpenAiAudioApi.SpeechRequest createRequestBody(SpeechPrompt request) {
 		OpenAiAudioSpeechOptions options = this.defaultOptions;
 
@@ -31,6 +31,15 @@
 
 package org.springframework.ai.openai;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,6 +47,12 @@ import org.springframework.ai.chat.metadata.RateLimit;
 import org.springframework.ai.model.ModelClient;
 import org.springframework.ai.openai.api.OpenAiAudioApi;
 import org.springframework.ai.openai.api.OpenAiAudioApi.StructuredResponse;
+import org.springframework.ai.openai.api.OpenAiAudioApi.StructuredResponse.Segment;
+import org.springframework.ai.openai.api.OpenAiAudioApi.StructuredResponse.Word;
+import org.springframework.ai.openai.api.OpenAiAudioApi.TranscriptResponseFormat;
+import org.springframework.ai.openai.api.OpenAiAudioApi.TranscriptionRequest.GranularityType;
+import org.springframework.ai.openai.audio.transcription.AudioSegmenter;
+import org.springframework.ai.openai.audio.transcription.AudioSegmenter.AudioSegment;
 import org.springframework.ai.openai.audio.transcription.AudioTranscription;
 import org.springframework.ai.openai.audio.transcription.AudioTranscriptionPrompt;
 import org.springframework.ai.openai.audio.transcription.AudioTranscriptionResponse;
@@ -124,55 +139,211 @@ public class OpenAiAudioTranscriptionClient
 
 		return this.retryTemplate.execute(ctx -> {
 
-			Resource audioResource = request.getInstructions();
-
 			OpenAiAudioApi.TranscriptionRequest requestBody = createRequestBody(request);
 
-			if (requestBody.responseFormat().isJsonType()) {
+			return toResponse(request.getInstructions(),
+					this.audioApi.createTranscription(requestBody, responseType(requestBody)));
+		});
+	}
 
-				ResponseEntity<StructuredResponse> transcriptionEntity = this.audioApi.createTranscription(requestBody,
-						StructuredResponse.class);
+	/**
+	 * Transcribes the audio without loading it into memory, the resource being streamed
+	 * into the request body. The audio must still be within the 25 MB limit of the API,
+	 * see {@link #callSegmented(AudioTranscriptionPrompt, AudioSegmenter, int)} for longer
+	 * recordings.
+	 * @param request the transcription prompt.
+	 * @return the transcription response.
+	 */
+	public AudioTranscriptionResponse callStreaming(AudioTranscriptionPrompt request) {
 
-				var transcription = transcriptionEntity.getBody();
+		return this.retryTemplate.execute(ctx -> {
 
-				if (transcription == null) {
-					logger.warn("No transcription returned for request: {}", audioResource);
-					return new AudioTranscriptionResponse(null);
-				}
+			OpenAiAudioApi.TranscriptionRequest requestBody = createRequestBuilder(request).build();
 
-				AudioTranscription transcript = new AudioTranscription(transcription.text());
+			return toResponse(request.getInstructions(), this.audioApi.createTranscription(request.getInstructions(),
+					requestBody, responseType(requestBody)));
+		});
+	}
 
-				RateLimit rateLimits = OpenAiResponseHeaderExtractor.extractAiResponseHeaders(transcriptionEntity);
+	/**
+	 * Transcribes a long recording. The audio is split into overlapping segments by the
+	 * segmenter, the segments are transcribed in parallel and the transcripts are stitched
+	 * back together in order, with timestamps relative to the start of the recording.
+	 * Where segments overlap, the text is taken from the segment whose boundary is
+	 * closest. The segments are always requested as {@code verbose_json} and the response
+	 * metadata holds the stitched structured response.
+	 * @param request the transcription prompt.
+	 * @param segmenter splits the audio into segments.
+	 * @param maxConcurrency the maximum number of segments transcribed at the same time.
+	 * @return the transcription response.
+	 */
+	public AudioTranscriptionResponse callSegmented(AudioTranscriptionPrompt request, AudioSegmenter segmenter,
+			int maxConcurrency) {
+		Assert.notNull(segmenter, "AudioSegmenter must not be null");
+		Assert.isTrue(maxConcurrency > 0, "maxConcurrency must be positive");
+
+		List<AudioSegment> segments = segmenter.split(request.getInstructions());
+		if (segments.isEmpty()) {
+			return new AudioTranscriptionResponse(new AudioTranscription(""));
+		}
 
-				return new AudioTranscriptionResponse(transcript,
-						OpenAiAudioTranscriptionResponseMetadata.from(transcriptionEntity.getBody())
-							.withRateLimit(rateLimits));
+		OpenAiAudioApi.TranscriptionRequest.Builder requestBuilder = createRequestBuilder(request)
+			.withResponseFormat(TranscriptResponseFormat.VERBOSE_JSON);
+		OpenAiAudioTranscriptionOptions options = mergedOptions(request);
+		requestBuilder.withGranularityType(
+				(options.getGranularityType() != null) ? options.getGranularityType() : GranularityType.SEGMENT);
+		OpenAiAudioApi.TranscriptionRequest requestBody = requestBuilder.build();
 
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(maxConcurrency, segments.size()));
+		try {
+			List<CompletableFuture<StructuredResponse>> futures = segments.stream()
+				.map(segment -> CompletableFuture.supplyAsync(() -> this.retryTemplate.execute(ctx -> this.audioApi
+					.createTranscription(segment.audio(), requestBody, StructuredResponse.class)
+					.getBody()), executor))
+				.toList();
+			List<StructuredResponse> transcripts = futures.stream().map(CompletableFuture::join).toList();
+
+			StructuredResponse transcript = stitch(segments, transcripts);
+			return new AudioTranscriptionResponse(new AudioTranscription(transcript.text()),
+					OpenAiAudioTranscriptionResponseMetadata.from(transcript));
+		}
+		catch (CompletionException ex) {
+			if (ex.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
 			}
-			else {
+			throw ex;
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Merges the transcripts of overlapping segments. A segment or word belongs to the
+	 * audio segment whose share of the recording contains its midpoint, the shares being
+	 * split in the middle of each overlap.
+	 */
+	static StructuredResponse stitch(List<AudioSegment> segments, List<StructuredResponse> transcripts) {
 
-				ResponseEntity<String> transcriptionEntity = this.audioApi.createTranscription(requestBody,
-						String.class);
+		List<Segment> mergedSegments = new ArrayList<>();
+		List<Word> mergedWords = new ArrayList<>();
+		List<String> texts = new ArrayList<>();
+		String language = null;
 
-				var transcription = transcriptionEntity.getBody();
+		for (int i = 0; i < segments.size(); i++) {
+			StructuredResponse transcript = transcripts.get(i);
+			if (transcript == null) {
+				continue;
+			}
+			float offset = seconds(segments.get(i).start());
+			float from = (i == 0) ? Float.NEGATIVE_INFINITY : boundary(segments.get(i - 1), segments.get(i));
+			float to = (i == segments.size() - 1) ? Float.POSITIVE_INFINITY
+					: boundary(segments.get(i), segments.get(i + 1));
 
-				if (transcription == null) {
-					logger.warn("No transcription returned for request: {}", audioResource);
-					return new AudioTranscriptionResponse(null);
+			if (language == null) {
+				language = transcript.language();
+			}
+			if (transcript.text() != null) {
+				texts.add(transcript.text().strip());
+			}
+			if (transcript.segments() != null) {
+				for (Segment segment : transcript.segments()) {
+					if (segment.start() == null || segment.end() == null) {
+						continue;
+					}
+					float start = segment.start() + offset;
+					float end = segment.end() + offset;
+					if (isWithin(start, end, from, to)) {
+						mergedSegments.add(new Segment(mergedSegments.size(), segment.seek(), start, end,
+								segment.text(), segment.tokens(), segment.temperature(), segment.avgLogprob(),
+								segment.compressionRatio(), segment.noSpeechProb()));
+					}
 				}
+			}
+			if (transcript.words() != null) {
+				for (Word word : transcript.words()) {
+					if (word.start() == null || word.end() == null) {
+						continue;
+					}
+					float start = word.start() + offset;
+					float end = word.end() + offset;
+					if (isWithin(start, end, from, to)) {
+						mergedWords.add(new Word(word.word(), start, end));
+					}
+				}
+			}
+		}
 
-				AudioTranscription transcript = new AudioTranscription(transcription);
+		String text;
+		if (!mergedSegments.isEmpty()) {
+			text = mergedSegments.stream().map(segment -> segment.text().strip()).collect(Collectors.joining(" "));
+		}
+		else if (!mergedWords.isEmpty()) {
+			text = mergedWords.stream().map(word -> word.word().strip()).collect(Collectors.joining(" "));
+		}
+		else {
+			// No timestamps to remove the overlaps with.
+			text = String.join(" ", texts);
+		}
 
-				RateLimit rateLimits = OpenAiResponseHeaderExtractor.extractAiResponseHeaders(transcriptionEntity);
+		return new StructuredResponse(language, seconds(segments.get(segments.size() - 1).end()), text, mergedWords,
+				mergedSegments);
+	}
 
-				return new AudioTranscriptionResponse(transcript,
-						OpenAiAudioTranscriptionResponseMetadata.from(transcriptionEntity.getBody())
-							.withRateLimit(rateLimits));
-			}
-		});
+	private static boolean isWithin(float start, float end, float from, float to) {
+		float midpoint = (start + end) / 2;
+		return midpoint >= from && midpoint < to;
+	}
+
+	private static float boundary(AudioSegment previous, AudioSegment next) {
+		return (seconds(previous.end()) + seconds(next.start())) / 2;
+	}
+
+	private static float seconds(Duration duration) {
+		return duration.toMillis() / 1000f;
+	}
+
+	private static Class<?> responseType(OpenAiAudioApi.TranscriptionRequest requestBody) {
+		return requestBody.responseFormat().isJsonType() ? StructuredResponse.class : String.class;
+	}
+
+	private AudioTranscriptionResponse toResponse(Resource audioResource, ResponseEntity<?> transcriptionEntity) {
+
+		var transcription = transcriptionEntity.getBody();
+
+		if (transcription == null) {
+			logger.warn("No transcription returned for request: {}", audioResource);
+			return new AudioTranscriptionResponse(null);
+		}
+
+		RateLimit rateLimits = OpenAiResponseHeaderExtractor.extractAiResponseHeaders(transcriptionEntity);
+
+		if (transcription instanceof StructuredResponse structuredResponse) {
+			return new AudioTranscriptionResponse(new AudioTranscription(structuredResponse.text()),
+					OpenAiAudioTranscriptionResponseMetadata.from(structuredResponse).withRateLimit(rateLimits));
+		}
+
+		return new AudioTranscriptionResponse(new AudioTranscription(transcription.toString()),
+				OpenAiAudioTranscriptionResponseMetadata.from(transcription.toString()).withRateLimit(rateLimits));
 	}
 
 	OpenAiAudioApi.TranscriptionRequest createRequestBody(AudioTranscriptionPrompt request) {
+		return createRequestBuilder(request).withFile(toBytes(request.getInstructions())).build();
+	}
+
+	private OpenAiAudioApi.TranscriptionRequest.Builder createRequestBuilder(AudioTranscriptionPrompt request) {
+
+		OpenAiAudioTranscriptionOptions options = mergedOptions(request);
+
+		return OpenAiAudioApi.TranscriptionRequest.builder()
+			.withResponseFormat(options.getResponseFormat())
+			.withPrompt(options.getPrompt())
+			.withTemperature(options.getTemperature())
+			.withLanguage(options.getLanguage())
+			.withModel(options.getModel());
+	}
+
+	private OpenAiAudioTranscriptionOptions mergedOptions(AudioTranscriptionPrompt request) {
 
 		OpenAiAudioTranscriptionOptions options = this.defaultOptions;
 
@@ -186,16 +357,7 @@ public class OpenAiAudioTranscriptionClient
 			}
 		}
 
-		OpenAiAudioApi.TranscriptionRequest audioTranscriptionRequest = OpenAiAudioApi.TranscriptionRequest.builder()
-			.withFile(toBytes(request.getInstructions()))
-			.withResponseFormat(options.getResponseFormat())
-			.withPrompt(options.getPrompt())
-			.withTemperature(options.getTemperature())
-			.withLanguage(options.getLanguage())
-			.withModel(options.getModel())
-			.build();
-
-		return audioTranscriptionRequest;
+		return options;
 	}
 
 	private byte[] toBytes(Resource resource) {
@@ -221,6 +383,8 @@ public class OpenAiAudioTranscriptionClient
 		merged.setResponseFormat(
 				source.getResponseFormat() != null ? source.getResponseFormat() : target.getResponseFormat());
 		merged.setTemperature(source.getTemperature() != null ? source.getTemperature() : target.getTemperature());
+		merged.setGranularityType(
+				source.getGranularityType() != null ? source.getGranularityType() : target.getGranularityType());
 		return merged;
 	}
 
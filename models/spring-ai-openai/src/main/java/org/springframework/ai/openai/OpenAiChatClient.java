@@ -51,7 +51,9 @@ import org.springframework.ai.openai.api.OpenAiApi.ChatCompletionMessage.ToolCal
 import org.springframework.ai.openai.api.OpenAiApi.ChatCompletionRequest;
 import org.springframework.ai.openai.metadata.OpenAiChatResponseMetadata;
 import org.springframework.ai.openai.metadata.support.OpenAiResponseHeaderExtractor;
+import org.springframework.ai.retry.ReactiveRetryTemplate;
 import org.springframework.ai.retry.RetryUtils;
+import org.springframework.ai.retry.ratelimit.AdaptiveRateLimiter;
 import org.springframework.http.ResponseEntity;
 import org.springframework.retry.support.RetryTemplate;
 import org.springframework.util.Assert;
@@ -88,11 +90,21 @@ public class OpenAiChatClient extends
 	 */
 	public final RetryTemplate retryTemplate;
 
+	/**
+	 * The retry template used to retry the OpenAI streaming calls.
+	 */
+	private final ReactiveRetryTemplate reactiveRetryTemplate;
+
 	/**
 	 * Low-level access to the OpenAI API.
 	 */
 	private final OpenAiApi openAiApi;
 
+	/**
+	 * The rate limiter of the API key, or {@code null} if requests are not limited.
+	 */
+	private final AdaptiveRateLimiter rateLimiter;
+
 	/**
 	 * Creates an instance of the OpenAiChatClient.
 	 * @param openAiApi The OpenAiApi instance to be used for interacting with the OpenAI
@@ -124,13 +136,33 @@ public class OpenAiChatClient extends
 	 */
 	public OpenAiChatClient(OpenAiApi openAiApi, OpenAiChatOptions options,
 			FunctionCallbackContext functionCallbackContext, RetryTemplate retryTemplate) {
+		this(openAiApi, options, functionCallbackContext, retryTemplate, RetryUtils.DEFAULT_REACTIVE_RETRY_TEMPLATE,
+				null);
+	}
+
+	/**
+	 * Initializes a new instance of the OpenAiChatClient.
+	 * @param openAiApi The OpenAiApi instance to be used for interacting with the OpenAI
+	 * Chat API.
+	 * @param options The OpenAiChatOptions to configure the chat client.
+	 * @param functionCallbackContext The function callback context.
+	 * @param retryTemplate The retry template.
+	 * @param reactiveRetryTemplate The retry template of the streaming calls.
+	 * @param rateLimiter The rate limiter of the API key, may be null.
+	 */
+	public OpenAiChatClient(OpenAiApi openAiApi, OpenAiChatOptions options,
+			FunctionCallbackContext functionCallbackContext, RetryTemplate retryTemplate,
+			ReactiveRetryTemplate reactiveRetryTemplate, AdaptiveRateLimiter rateLimiter) {
 		super(functionCallbackContext);
 		Assert.notNull(openAiApi, "OpenAiApi must not be null");
 		Assert.notNull(options, "Options must not be null");
 		Assert.notNull(retryTemplate, "RetryTemplate must not be null");
+		Assert.notNull(reactiveRetryTemplate, "ReactiveRetryTemplate must not be null");
 		this.openAiApi = openAiApi;
 		this.defaultOptions = options;
 		this.retryTemplate = retryTemplate;
+		this.reactiveRetryTemplate = reactiveRetryTemplate;
+		this.rateLimiter = rateLimiter;
 	}
 
 	@Override
@@ -143,13 +175,13 @@ public class OpenAiChatClient extends
 			ResponseEntity<ChatCompletion> completionEntity = this.callWithFunctionSupport(request);
 
 			var chatCompletion = completionEntity.getBody();
+			RateLimit rateLimits = OpenAiResponseHeaderExtractor.extractAiResponseHeaders(completionEntity);
+
 			if (chatCompletion == null) {
 				logger.warn("No chat completion returned for prompt: {}", prompt);
 				return new ChatResponse(List.of());
 			}
 
-			RateLimit rateLimits = OpenAiResponseHeaderExtractor.extractAiResponseHeaders(completionEntity);
-
 			List<Generation> generations = chatCompletion.choices().stream().map(choice -> {
 				return new Generation(choice.message().content(), toMap(chatCompletion.id(), choice))
 					.withGenerationMetadata(ChatGenerationMetadata.from(choice.finishReason().name(), null));
@@ -181,7 +213,12 @@ public class OpenAiChatClient extends
 
 		return this.retryTemplate.execute(ctx -> {
 
-			Flux<OpenAiApi.ChatCompletionChunk> completionChunks = this.openAiApi.chatCompletionStream(request);
+			Flux<OpenAiApi.ChatCompletionChunk> completionChunks = this.reactiveRetryTemplate
+				.execute((this.rateLimiter != null)
+						? this.rateLimiter.acquireReactive(request.model(), estimateTokens(request))
+							.flatMapMany(permit -> this.openAiApi.chatCompletionStream(request)
+								.doFinally(signal -> permit.release(null, null)))
+						: this.openAiApi.chatCompletionStream(request));
 
 			// For chunked responses, only the first chunk contains the choice role.
 			// The rest of the chunks with same ID share the same role.
@@ -222,6 +259,28 @@ public class OpenAiChatClient extends
 		});
 	}
 
+	/**
+	 * Estimates the tokens counted against the rate limit: the messages of the request,
+	 * which include the function call results of the previous round trips, and the
+	 * requested completion tokens.
+	 */
+	private long estimateTokens(ChatCompletionRequest request) {
+		long tokens = 0;
+		for (ChatCompletionMessage message : request.messages()) {
+			if (message.rawContent() instanceof String text) {
+				tokens += AdaptiveRateLimiter.estimateTokens(text);
+			}
+			else if (message.rawContent() instanceof List<?> contents) {
+				for (Object content : contents) {
+					if (content instanceof MediaContent mediaContent) {
+						tokens += AdaptiveRateLimiter.estimateTokens(mediaContent.text());
+					}
+				}
+			}
+		}
+		return (request.maxTokens() != null) ? tokens + request.maxTokens() : tokens;
+	}
+
 	/**
 	 * Convert the ChatCompletionChunk into a ChatCompletion. The Usage is set to null.
 	 * @param chunk the ChatCompletionChunk to convert
@@ -363,9 +422,29 @@ public class OpenAiChatClient extends
 		return chatCompletion.getBody().choices().iterator().next().message();
 	}
 
+	/**
+	 * Sends one request to the API. A prompt with function calls takes several round
+	 * trips, so the permit of the rate limiter is acquired here, once per request.
+	 */
 	@Override
 	protected ResponseEntity<ChatCompletion> doChatCompletion(ChatCompletionRequest request) {
-		return this.openAiApi.chatCompletionEntity(request);
+		if (this.rateLimiter == null) {
+			return this.openAiApi.chatCompletionEntity(request);
+		}
+		AdaptiveRateLimiter.Permit permit = this.rateLimiter.acquire(request.model(), estimateTokens(request));
+		ResponseEntity<ChatCompletion> completionEntity;
+		try {
+			completionEntity = this.openAiApi.chatCompletionEntity(request);
+		}
+		catch (RuntimeException ex) {
+			permit.release(null, null);
+			throw ex;
+		}
+		ChatCompletion chatCompletion = completionEntity.getBody();
+		OpenAiApi.Usage usage = (chatCompletion != null) ? chatCompletion.usage() : null;
+		permit.release(OpenAiResponseHeaderExtractor.extractAiResponseHeaders(completionEntity),
+				(usage != null && usage.totalTokens() != null) ? usage.totalTokens().longValue() : null);
+		return completionEntity;
 	}
 
 	@Override
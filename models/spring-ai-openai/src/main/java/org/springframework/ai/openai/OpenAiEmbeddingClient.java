@@ -32,7 +32,10 @@ import org.springframework.ai.model.ModelOptionsUtils;
 import org.springframework.ai.openai.api.OpenAiApi;
 import org.springframework.ai.openai.api.OpenAiApi.EmbeddingList;
 import org.springframework.ai.openai.api.OpenAiApi.Usage;
+import org.springframework.ai.openai.metadata.support.OpenAiResponseHeaderExtractor;
 import org.springframework.ai.retry.RetryUtils;
+import org.springframework.ai.retry.ratelimit.AdaptiveRateLimiter;
+import org.springframework.http.ResponseEntity;
 import org.springframework.retry.support.RetryTemplate;
 import org.springframework.util.Assert;
 
@@ -53,6 +56,8 @@ public class OpenAiEmbeddingClient extends AbstractEmbeddingClient {
 
 	private final MetadataMode metadataMode;
 
+	private final AdaptiveRateLimiter rateLimiter;
+
 	/**
 	 * Constructor for the OpenAiEmbeddingClient class.
 	 * @param openAiApi The OpenAiApi instance to use for making API requests.
@@ -92,6 +97,19 @@ public class OpenAiEmbeddingClient extends AbstractEmbeddingClient {
 	 */
 	public OpenAiEmbeddingClient(OpenAiApi openAiApi, MetadataMode metadataMode, OpenAiEmbeddingOptions options,
 			RetryTemplate retryTemplate) {
+		this(openAiApi, metadataMode, options, retryTemplate, null);
+	}
+
+	/**
+	 * Initializes a new instance of the OpenAiEmbeddingClient class.
+	 * @param openAiApi - The OpenAiApi instance to use for making API requests.
+	 * @param metadataMode - The mode for generating metadata.
+	 * @param options - The options for OpenAI embedding.
+	 * @param retryTemplate - The RetryTemplate for retrying failed API requests.
+	 * @param rateLimiter - The rate limiter of the API key, may be null.
+	 */
+	public OpenAiEmbeddingClient(OpenAiApi openAiApi, MetadataMode metadataMode, OpenAiEmbeddingOptions options,
+			RetryTemplate retryTemplate, AdaptiveRateLimiter rateLimiter) {
 		Assert.notNull(openAiApi, "OpenAiService must not be null");
 		Assert.notNull(metadataMode, "metadataMode must not be null");
 		Assert.notNull(options, "options must not be null");
@@ -101,6 +119,7 @@ public class OpenAiEmbeddingClient extends AbstractEmbeddingClient {
 		this.metadataMode = metadataMode;
 		this.defaultOptions = options;
 		this.retryTemplate = retryTemplate;
+		this.rateLimiter = rateLimiter;
 	}
 
 	@Override
@@ -109,6 +128,15 @@ public class OpenAiEmbeddingClient extends AbstractEmbeddingClient {
 		return this.embed(document.getFormattedContent(this.metadataMode));
 	}
 
+	@Override
+	public List<List<Double>> embedDocuments(List<Document> documents) {
+		Assert.notNull(documents, "Documents must not be null");
+		if (documents.isEmpty()) {
+			return List.of();
+		}
+		return this.embed(documents.stream().map(document -> document.getFormattedContent(this.metadataMode)).toList());
+	}
+
 	@SuppressWarnings("unchecked")
 	@Override
 	public EmbeddingResponse call(EmbeddingRequest request) {
@@ -127,7 +155,29 @@ public class OpenAiEmbeddingClient extends AbstractEmbeddingClient {
 						org.springframework.ai.openai.api.OpenAiApi.EmbeddingRequest.class);
 			}
 
-			EmbeddingList<OpenAiApi.Embedding> apiEmbeddingResponse = this.openAiApi.embeddings(apiRequest).getBody();
+			long estimatedTokens = request.getInstructions()
+				.stream()
+				.mapToLong(AdaptiveRateLimiter::estimateTokens)
+				.sum();
+			AdaptiveRateLimiter.Permit permit = (this.rateLimiter != null)
+					? this.rateLimiter.acquire(apiRequest.model(), estimatedTokens) : null;
+			ResponseEntity<EmbeddingList<OpenAiApi.Embedding>> embeddingEntity;
+			try {
+				embeddingEntity = this.openAiApi.embeddings(apiRequest);
+			}
+			catch (RuntimeException ex) {
+				if (permit != null) {
+					permit.release(null, null);
+				}
+				throw ex;
+			}
+
+			EmbeddingList<OpenAiApi.Embedding> apiEmbeddingResponse = embeddingEntity.getBody();
+			if (permit != null) {
+				Usage usage = (apiEmbeddingResponse != null) ? apiEmbeddingResponse.usage() : null;
+				permit.release(OpenAiResponseHeaderExtractor.extractAiResponseHeaders(embeddingEntity),
+						(usage != null && usage.totalTokens() != null) ? usage.totalTokens().longValue() : null);
+			}
 
 			if (apiEmbeddingResponse == null) {
 				logger.warn("No embeddings returned for request: {}", request);
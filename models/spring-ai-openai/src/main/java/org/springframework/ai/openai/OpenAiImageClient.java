@@ -31,7 +31,9 @@ import org.springframework.ai.model.ModelOptionsUtils;
 import org.springframework.ai.openai.api.OpenAiImageApi;
 import org.springframework.ai.openai.metadata.OpenAiImageGenerationMetadata;
 import org.springframework.ai.openai.metadata.OpenAiImageResponseMetadata;
+import org.springframework.ai.openai.metadata.support.OpenAiResponseHeaderExtractor;
 import org.springframework.ai.retry.RetryUtils;
+import org.springframework.ai.retry.ratelimit.AdaptiveRateLimiter;
 import org.springframework.http.ResponseEntity;
 import org.springframework.retry.support.RetryTemplate;
 import org.springframework.util.Assert;
@@ -54,18 +56,33 @@ public class OpenAiImageClient implements ImageClient {
 
 	public final RetryTemplate retryTemplate;
 
+	private final AdaptiveRateLimiter rateLimiter;
+
 	public OpenAiImageClient(OpenAiImageApi openAiImageApi) {
 		this(openAiImageApi, OpenAiImageOptions.builder().build(), RetryUtils.DEFAULT_RETRY_TEMPLATE);
 	}
 
 	public OpenAiImageClient(OpenAiImageApi openAiImageApi, OpenAiImageOptions defaultOptions,
 			RetryTemplate retryTemplate) {
+		this(openAiImageApi, defaultOptions, retryTemplate, null);
+	}
+
+	/**
+	 * @param openAiImageApi the OpenAI image API.
+	 * @param defaultOptions the default image options.
+	 * @param retryTemplate the retry template.
+	 * @param rateLimiter the rate limiter of the API key, may be null. Image requests
+	 * only count against the request limit.
+	 */
+	public OpenAiImageClient(OpenAiImageApi openAiImageApi, OpenAiImageOptions defaultOptions,
+			RetryTemplate retryTemplate, AdaptiveRateLimiter rateLimiter) {
 		Assert.notNull(openAiImageApi, "OpenAiImageApi must not be null");
 		Assert.notNull(defaultOptions, "defaultOptions must not be null");
 		Assert.notNull(retryTemplate, "retryTemplate must not be null");
 		this.openAiImageApi = openAiImageApi;
 		this.defaultOptions = defaultOptions;
 		this.retryTemplate = retryTemplate;
+		this.rateLimiter = rateLimiter;
 	}
 
 	public OpenAiImageOptions getDefaultOptions() {
@@ -92,8 +109,21 @@ public class OpenAiImageClient implements ImageClient {
 			}
 
 			// Make the request
-			ResponseEntity<OpenAiImageApi.OpenAiImageResponse> imageResponseEntity = this.openAiImageApi
-				.createImage(imageRequest);
+			AdaptiveRateLimiter.Permit permit = (this.rateLimiter != null)
+					? this.rateLimiter.acquire(imageRequest.model(), 0) : null;
+			ResponseEntity<OpenAiImageApi.OpenAiImageResponse> imageResponseEntity;
+			try {
+				imageResponseEntity = this.openAiImageApi.createImage(imageRequest);
+			}
+			catch (RuntimeException ex) {
+				if (permit != null) {
+					permit.release(null, null);
+				}
+				throw ex;
+			}
+			if (permit != null) {
+				permit.release(OpenAiResponseHeaderExtractor.extractAiResponseHeaders(imageResponseEntity), null);
+			}
 
 			// Convert to org.springframework.ai.model derived ImageResponse data type
 			return convertResponse(imageResponseEntity, imageRequest);
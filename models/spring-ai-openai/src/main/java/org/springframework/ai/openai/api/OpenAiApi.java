@@ -18,7 +18,6 @@ package org.springframework.ai.openai.api;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.function.Predicate;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
@@ -27,9 +26,11 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import org.springframework.ai.model.ModelOptionsUtils;
+import org.springframework.ai.model.sse.SseJsonDecoder;
 import org.springframework.ai.retry.RetryUtils;
 import org.springframework.boot.context.properties.bind.ConstructorBinding;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
@@ -49,7 +50,8 @@ public class OpenAiApi {
 
 	public static final String DEFAULT_CHAT_MODEL = ChatModel.GPT_3_5_TURBO.getValue();
 	public static final String DEFAULT_EMBEDDING_MODEL = EmbeddingModel.TEXT_EMBEDDING_ADA_002.getValue();
-	private static final Predicate<String> SSE_DONE_PREDICATE = "[DONE]"::equals;
+	private static final SseJsonDecoder<ChatCompletionChunk> CHUNK_DECODER = new SseJsonDecoder<>(
+			ChatCompletionChunk.class);
 
 	private final RestClient restClient;
 
@@ -94,6 +96,20 @@ public class OpenAiApi {
 	 * @param responseErrorHandler Response error handler.
 	 */
 	public OpenAiApi(String baseUrl, String openAiToken, RestClient.Builder restClientBuilder, ResponseErrorHandler responseErrorHandler) {
+		this(baseUrl, openAiToken, restClientBuilder, WebClient.builder(), responseErrorHandler);
+	}
+
+	/**
+	 * Create a new chat completion api.
+	 *
+	 * @param baseUrl api base URL.
+	 * @param openAiToken OpenAI apiKey.
+	 * @param restClientBuilder RestClient builder.
+	 * @param webClientBuilder WebClient builder, used for the streaming requests.
+	 * @param responseErrorHandler Response error handler.
+	 */
+	public OpenAiApi(String baseUrl, String openAiToken, RestClient.Builder restClientBuilder,
+			WebClient.Builder webClientBuilder, ResponseErrorHandler responseErrorHandler) {
 
 		this.restClient = restClientBuilder
 				.baseUrl(baseUrl)
@@ -101,7 +117,7 @@ public class OpenAiApi {
 				.defaultStatusHandler(responseErrorHandler)
 				.build();
 
-		this.webClient = WebClient.builder()
+		this.webClient = webClientBuilder
 				.baseUrl(baseUrl)
 				.defaultHeaders(ApiUtils.getJsonContentHeaders(openAiToken))
 				.build();
@@ -770,12 +786,9 @@ public class OpenAiApi {
 				.uri("/v1/chat/completions")
 				.body(Mono.just(chatRequest), ChatCompletionRequest.class)
 				.retrieve()
-				.bodyToFlux(String.class)
-				// cancels the flux stream after the "[DONE]" is received.
-				.takeUntil(SSE_DONE_PREDICATE)
-				// filters out the "[DONE]" message.
-				.filter(SSE_DONE_PREDICATE.negate())
-				.map(content -> ModelOptionsUtils.jsonToObject(content, ChatCompletionChunk.class))
+				.bodyToFlux(DataBuffer.class)
+				// decodes the chunks and cancels the flux stream after the "[DONE]" is received.
+				.transform(CHUNK_DECODER::decodeData)
 				// Detect is the chunk is part of a streaming function call.
  				.map(chunk -> {
 					if (this.chunkMerger.isStreamingToolFunctionCall(chunk)) {
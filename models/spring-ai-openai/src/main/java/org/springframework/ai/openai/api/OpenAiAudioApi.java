@@ -15,6 +15,9 @@
  */
 package org.springframework.ai.openai.api;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
@@ -23,12 +26,16 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import org.springframework.ai.retry.RetryUtils;
 import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.Assert;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.util.StringUtils;
 import org.springframework.web.client.ResponseErrorHandler;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -44,6 +51,11 @@ import reactor.core.publisher.Mono;
  */
 public class OpenAiAudioApi {
 
+	/**
+	 * The file name of audio in an unknown format, which the API still accepts.
+	 */
+	private static final String DEFAULT_AUDIO_FILENAME = "audio.webm";
+
 	private final RestClient restClient;
 
 	private final WebClient webClient;
@@ -289,7 +301,9 @@ public class OpenAiAudioApi {
 	 * "https://platform.openai.com/docs/api-reference/audio/createTranscription">Create
 	 * Transcription</a>
 	 *
-	 * @param file The audio file to transcribe. Must be a valid audio file type.
+	 * @param file The audio file to transcribe. Must be a valid audio file type. Can be
+	 * null when the audio is passed as a {@link Resource} to
+	 * {@link OpenAiAudioApi#createTranscription(Resource, TranscriptionRequest, Class)}.
 	 * @param model ID of the model to use. Only whisper-1 is currently available.
 	 * @param language The language of the input audio. Supplying the input language in
 	 * ISO-639-1 format will improve accuracy and latency.
@@ -394,7 +408,6 @@ public class OpenAiAudioApi {
 			}
 
 			public TranscriptionRequest build() {
-				Assert.notNull(this.file, "file must not be null");
 				Assert.hasText(this.model, "model must not be empty");
 				Assert.notNull(this.responseFormat, "response_format must not be null");
 
@@ -626,6 +639,24 @@ public class OpenAiAudioApi {
 			});
 	}
 
+	/**
+	 * Streams audio generated from the input text as the data buffers received from the
+	 * connection, without copying them. The subscriber must release every buffer, for
+	 * instance with {@link org.springframework.core.io.buffer.DataBufferUtils#release}.
+	 * @param requestBody The request body containing the details for the audio
+	 * generation, such as the input text, model, voice, and response format.
+	 * @return A Flux of data buffers holding the audio.
+	 */
+	public Flux<DataBuffer> streamDataBuffers(SpeechRequest requestBody) {
+
+		return this.webClient.post()
+			.uri("/v1/audio/speech")
+			.body(Mono.just(requestBody), SpeechRequest.class)
+			.accept(MediaType.APPLICATION_OCTET_STREAM)
+			.retrieve()
+			.bodyToFlux(DataBuffer.class);
+	}
+
 	/**
 	 * Transcribes audio into the input language.
 	 * @param requestBody The request body.
@@ -645,14 +676,30 @@ public class OpenAiAudioApi {
 	 * @return Response entity containing the transcribed text in the responseType format.
 	 */
 	public <T> ResponseEntity<T> createTranscription(TranscriptionRequest requestBody, Class<T> responseType) {
+		Assert.notNull(requestBody.file(), "file must not be null");
+		return createTranscription(new NamedResource(new ByteArrayResource(requestBody.file()),
+				audioFilename(requestBody.file())), requestBody, responseType);
+	}
+
+	/**
+	 * Transcribes audio into the input language. The audio is streamed from the resource
+	 * into the request body instead of being loaded into memory, and the file of the
+	 * request body is ignored. The resource file name tells the API the audio format.
+	 * Without a file name, the format is detected from the first bytes of the audio. The
+	 * resource is read once per attempt, so it must be readable more than once to be
+	 * retried.
+	 * @param <T> The response type.
+	 * @param audio The audio to transcribe.
+	 * @param requestBody The request body.
+	 * @param responseType The response type class.
+	 * @return Response entity containing the transcribed text in the responseType format.
+	 */
+	public <T> ResponseEntity<T> createTranscription(Resource audio, TranscriptionRequest requestBody,
+			Class<T> responseType) {
 
 		MultiValueMap<String, Object> multipartBody = new LinkedMultiValueMap<>();
-		multipartBody.add("file", new ByteArrayResource(requestBody.file()) {
-			@Override
-			public String getFilename() {
-				return "audio.webm";
-			}
-		});
+		multipartBody.add("file",
+				StringUtils.hasText(audio.getFilename()) ? audio : new NamedResource(audio, audioFilename(audio)));
 		multipartBody.add("model", requestBody.model());
 		multipartBody.add("language", requestBody.language());
 		multipartBody.add("prompt", requestBody.prompt());
@@ -671,6 +718,101 @@ public class OpenAiAudioApi {
 			.toEntity(responseType);
 	}
 
+	/**
+	 * Detects the format of audio without a file name from its first bytes.
+	 */
+	private static String audioFilename(Resource audio) {
+		if (audio.isOpen()) {
+			// The stream can only be read once, for the upload.
+			return DEFAULT_AUDIO_FILENAME;
+		}
+		try (InputStream in = audio.getInputStream()) {
+			return audioFilename(in.readNBytes(12));
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException("Failed to read audio: " + audio, e);
+		}
+	}
+
+	private static String audioFilename(byte[] header) {
+		if (startsWith(header, 0, "RIFF") && startsWith(header, 8, "WAVE")) {
+			return "audio.wav";
+		}
+		if (startsWith(header, 0, "fLaC")) {
+			return "audio.flac";
+		}
+		if (startsWith(header, 0, "OggS")) {
+			return "audio.ogg";
+		}
+		if (startsWith(header, 4, "ftyp")) {
+			return "audio.m4a";
+		}
+		if (startsWith(header, 0, "ID3")
+				|| (header.length >= 2 && (header[0] & 0xFF) == 0xFF && (header[1] & 0xE0) == 0xE0)) {
+			return "audio.mp3";
+		}
+		return DEFAULT_AUDIO_FILENAME;
+	}
+
+	private static boolean startsWith(byte[] bytes, int offset, String prefix) {
+		if (bytes.length < offset + prefix.length()) {
+			return false;
+		}
+		for (int i = 0; i < prefix.length(); i++) {
+			if (bytes[offset + i] != prefix.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Gives a file name to a resource, which the API requires, while still reading the
+	 * audio from the resource on every attempt.
+	 */
+	private static final class NamedResource extends AbstractResource {
+
+		private final Resource resource;
+
+		private final String filename;
+
+		NamedResource(Resource resource, String filename) {
+			this.resource = resource;
+			this.filename = filename;
+		}
+
+		@Override
+		public InputStream getInputStream() throws IOException {
+			return this.resource.getInputStream();
+		}
+
+		@Override
+		public boolean exists() {
+			return this.resource.exists();
+		}
+
+		@Override
+		public boolean isOpen() {
+			return this.resource.isOpen();
+		}
+
+		@Override
+		public long contentLength() throws IOException {
+			return this.resource.contentLength();
+		}
+
+		@Override
+		public String getFilename() {
+			return this.filename;
+		}
+
+		@Override
+		public String getDescription() {
+			return this.resource.getDescription();
+		}
+
+	}
+
 	/**
 	 * Translates audio into English.
 	 * @param requestBody The request body.
@@ -692,12 +834,8 @@ public class OpenAiAudioApi {
 	public <T> ResponseEntity<T> createTranslation(TranslationRequest requestBody, Class<T> responseType) {
 
 		MultiValueMap<String, Object> multipartBody = new LinkedMultiValueMap<>();
-		multipartBody.add("file", new ByteArrayResource(requestBody.file()) {
-			@Override
-			public String getFilename() {
-				return "audio.webm";
-			}
-		});
+		multipartBody.add("file", new NamedResource(new ByteArrayResource(requestBody.file()),
+				audioFilename(requestBody.file())));
 		multipartBody.add("model", requestBody.model());
 		multipartBody.add("prompt", requestBody.prompt());
 		multipartBody.add("response_format", requestBody.responseFormat().getValue());
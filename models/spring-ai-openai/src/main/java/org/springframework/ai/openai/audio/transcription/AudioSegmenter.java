@@ -0,0 +1,53 @@
+/*
+ * Copyright 2024-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.openai.audio.transcription;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.core.io.Resource;
+
+/**
+ * Splits a long recording into overlapping segments that can be transcribed
+ * independently. The segments should read the source audio lazily, so that a recording
+ * is never fully loaded into memory.
+ *
+ * @since 1.0.0
+ * @see WavAudioSegmenter
+ */
+@FunctionalInterface
+public interface AudioSegmenter {
+
+	/**
+	 * Splits the audio into segments, in playback order. Consecutive segments may
+	 * overlap, that is a segment may start before the previous one ends.
+	 * @param audio the audio to split.
+	 * @return the segments.
+	 */
+	List<AudioSegment> split(Resource audio);
+
+	/**
+	 * A segment of a recording.
+	 *
+	 * @param audio the audio of the segment, a standalone file of the same format.
+	 * @param start the offset of the segment in the recording.
+	 * @param end the offset of the end of the segment in the recording.
+	 */
+	record AudioSegment(Resource audio, Duration start, Duration end) {
+	}
+
+}
@@ -0,0 +1,281 @@
+/*
+ * Copyright 2024-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.openai.audio.transcription;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.util.Assert;
+
+/**
+ * {@link AudioSegmenter} for uncompressed WAV (RIFF) recordings. Every segment is a
+ * valid WAV file that streams its slice of the source resource, so the source must be
+ * readable more than once, for example a file.
+ *
+ * @since 1.0.0
+ */
+public class WavAudioSegmenter implements AudioSegmenter {
+
+	/**
+	 * The maximum size of a file accepted by the transcription API.
+	 */
+	public static final long MAX_SEGMENT_BYTES = 25L * 1024 * 1024;
+
+	private final Duration segmentDuration;
+
+	private final Duration overlap;
+
+	/**
+	 * @param segmentDuration the duration of each segment. Every segment must stay below
+	 * {@link #MAX_SEGMENT_BYTES}.
+	 * @param overlap the overlap of consecutive segments, so that words cut at a segment
+	 * boundary are transcribed in full by one of them.
+	 */
+	public WavAudioSegmenter(Duration segmentDuration, Duration overlap) {
+		Assert.isTrue(segmentDuration != null && !segmentDuration.isNegative() && !segmentDuration.isZero(),
+				"segmentDuration must be positive");
+		Assert.isTrue(overlap != null && !overlap.isNegative(), "overlap must not be negative");
+		Assert.isTrue(overlap.compareTo(segmentDuration) < 0, "overlap must be shorter than segmentDuration");
+		this.segmentDuration = segmentDuration;
+		this.overlap = overlap;
+	}
+
+	@Override
+	public List<AudioSegment> split(Resource audio) {
+		WavFormat format = readFormat(audio);
+
+		long segmentBytes = alignedBytes(this.segmentDuration, format);
+		long overlapBytes = alignedBytes(this.overlap, format);
+		Assert.isTrue(segmentBytes > 0,
+				() -> "Segments of " + this.segmentDuration + " hold no complete audio frame of " + audio);
+		Assert.isTrue(segmentBytes > overlapBytes,
+				() -> "Overlap of " + this.overlap
+						+ " is not shorter than the segments once aligned to the audio frames of " + audio);
+		Assert.isTrue(segmentBytes + format.headerSize() <= MAX_SEGMENT_BYTES,
+				() -> "Segments of " + this.segmentDuration + " exceed " + MAX_SEGMENT_BYTES + " bytes");
+
+		List<AudioSegment> segments = new ArrayList<>();
+		long offset = 0;
+		while (offset < format.dataSize()) {
+			long length = Math.min(segmentBytes, format.dataSize() - offset);
+			segments.add(new AudioSegment(new WavSegmentResource(audio, format, offset, length, segments.size()),
+					format.duration(offset), format.duration(offset + length)));
+			if (offset + length >= format.dataSize()) {
+				break;
+			}
+			offset += segmentBytes - overlapBytes;
+		}
+		return segments;
+	}
+
+	private static long alignedBytes(Duration duration, WavFormat format) {
+		long bytes = duration.toMillis() * format.byteRate() / 1000;
+		return bytes - (bytes % format.blockAlign());
+	}
+
+	private static WavFormat readFormat(Resource audio) {
+		try (InputStream in = audio.getInputStream()) {
+			byte[] riff = in.readNBytes(12);
+			Assert.isTrue(riff.length == 12 && "RIFF".equals(ascii(riff, 0)) && "WAVE".equals(ascii(riff, 8)),
+					() -> "Not a WAV file: " + audio);
+
+			long position = 12;
+			byte[] fmtChunk = null;
+			while (true) {
+				byte[] chunkHeader = in.readNBytes(8);
+				Assert.isTrue(chunkHeader.length == 8, () -> "No data chunk in WAV file: " + audio);
+				String chunkId = ascii(chunkHeader, 0);
+				long chunkSize = Integer.toUnsignedLong(littleEndian(chunkHeader).getInt(4));
+				position += 8;
+				if ("fmt ".equals(chunkId)) {
+					fmtChunk = in.readNBytes((int) chunkSize);
+				}
+				else if ("data".equals(chunkId)) {
+					Assert.notNull(fmtChunk, () -> "No fmt chunk before the data chunk in WAV file: " + audio);
+					long dataSize = chunkSize;
+					long contentLength = contentLength(audio);
+					if (contentLength > 0) {
+						dataSize = Math.min(dataSize, contentLength - position);
+					}
+					ByteBuffer fmt = littleEndian(fmtChunk);
+					return new WavFormat(fmtChunk, Integer.toUnsignedLong(fmt.getInt(8)), fmt.getShort(12), position,
+							dataSize);
+				}
+				else {
+					in.skipNBytes(chunkSize);
+				}
+				position += chunkSize;
+				if ((chunkSize & 1) == 1) {
+					// Chunks are padded to an even size.
+					in.skipNBytes(1);
+					position++;
+				}
+			}
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException("Failed to read WAV header: " + audio, e);
+		}
+	}
+
+	private static long contentLength(Resource audio) {
+		try {
+			return audio.contentLength();
+		}
+		catch (IOException e) {
+			return -1;
+		}
+	}
+
+	private static String ascii(byte[] bytes, int offset) {
+		return new String(bytes, offset, 4, StandardCharsets.US_ASCII);
+	}
+
+	private static ByteBuffer littleEndian(byte[] bytes) {
+		return ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	private record WavFormat(byte[] fmtChunk, long byteRate, int blockAlign, long dataOffset, long dataSize) {
+
+		int headerSize() {
+			return 12 + 8 + this.fmtChunk.length + 8;
+		}
+
+		Duration duration(long bytes) {
+			return Duration.ofNanos(bytes * 1_000_000_000L / this.byteRate);
+		}
+
+		byte[] header(long dataLength) {
+			ByteBuffer header = ByteBuffer.allocate(headerSize()).order(ByteOrder.LITTLE_ENDIAN);
+			header.put("RIFF".getBytes(StandardCharsets.US_ASCII));
+			header.putInt((int) (headerSize() - 8 + dataLength));
+			header.put("WAVE".getBytes(StandardCharsets.US_ASCII));
+			header.put("fmt ".getBytes(StandardCharsets.US_ASCII));
+			header.putInt(this.fmtChunk.length);
+			header.put(this.fmtChunk);
+			header.put("data".getBytes(StandardCharsets.US_ASCII));
+			header.putInt((int) dataLength);
+			return header.array();
+		}
+
+	}
+
+	private static class WavSegmentResource extends AbstractResource {
+
+		private final Resource source;
+
+		private final WavFormat format;
+
+		private final long offset;
+
+		private final long length;
+
+		private final int index;
+
+		WavSegmentResource(Resource source, WavFormat format, long offset, long length, int index) {
+			this.source = source;
+			this.format = format;
+			this.offset = offset;
+			this.length = length;
+			this.index = index;
+		}
+
+		@Override
+		public InputStream getInputStream() throws IOException {
+			InputStream data = this.source.getInputStream();
+			try {
+				data.skipNBytes(this.format.dataOffset() + this.offset);
+			}
+			catch (IOException ex) {
+				data.close();
+				throw ex;
+			}
+			return new SequenceInputStream(new ByteArrayInputStream(this.format.header(this.length)),
+					new BoundedInputStream(data, this.length));
+		}
+
+		@Override
+		public long contentLength() {
+			return this.format.headerSize() + this.length;
+		}
+
+		@Override
+		public String getFilename() {
+			return "segment-" + this.index + ".wav";
+		}
+
+		@Override
+		public String getDescription() {
+			return "Segment " + this.index + " of " + this.source.getDescription();
+		}
+
+	}
+
+	private static class BoundedInputStream extends FilterInputStream {
+
+		private long remaining;
+
+		BoundedInputStream(InputStream in, long limit) {
+			super(in);
+			this.remaining = limit;
+		}
+
+		@Override
+		public int read() throws IOException {
+			if (this.remaining <= 0) {
+				return -1;
+			}
+			int b = super.read();
+			if (b >= 0) {
+				this.remaining--;
+			}
+			return b;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			if (this.remaining <= 0) {
+				return -1;
+			}
+			int read = super.read(b, off, (int) Math.min(len, this.remaining));
+			if (read > 0) {
+				this.remaining -= read;
+			}
+			return read;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			long skipped = super.skip(Math.min(n, this.remaining));
+			this.remaining -= skipped;
+			return skipped;
+		}
+
+	}
+
+}
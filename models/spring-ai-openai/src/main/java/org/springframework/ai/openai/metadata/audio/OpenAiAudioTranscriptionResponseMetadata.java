@@ -40,6 +40,7 @@ public class OpenAiAudioTranscriptionResponseMetadata implements ResponseMetadat
 	public static OpenAiAudioTranscriptionResponseMetadata from(OpenAiAudioApi.StructuredResponse result) {
 		Assert.notNull(result, "OpenAI Transcription must not be null");
 		OpenAiAudioTranscriptionResponseMetadata transcriptionResponseMetadata = new OpenAiAudioTranscriptionResponseMetadata();
+		transcriptionResponseMetadata.structuredResponse = result;
 		return transcriptionResponseMetadata;
 	}
 
@@ -52,6 +53,9 @@ public class OpenAiAudioTranscriptionResponseMetadata implements ResponseMetadat
 	@Nullable
 	private RateLimit rateLimit;
 
+	@Nullable
+	private OpenAiAudioApi.StructuredResponse structuredResponse;
+
 	protected OpenAiAudioTranscriptionResponseMetadata() {
 		this(null);
 	}
@@ -66,6 +70,15 @@ public class OpenAiAudioTranscriptionResponseMetadata implements ResponseMetadat
 		return rateLimit != null ? rateLimit : new EmptyRateLimit();
 	}
 
+	/**
+	 * @return the structured transcription, with its segments and words, when a JSON
+	 * response format was requested.
+	 */
+	@Nullable
+	public OpenAiAudioApi.StructuredResponse getStructuredResponse() {
+		return this.structuredResponse;
+	}
+
 	public OpenAiAudioTranscriptionResponseMetadata withRateLimit(RateLimit rateLimit) {
 		this.rateLimit = rateLimit;
 		return this;
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.openai.audio.speech;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.openai.OpenAiAudioSpeechClient;
+import org.springframework.ai.openai.api.OpenAiAudioApi;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit Tests for the {@link DataBuffer} based streaming of
+ * {@link OpenAiAudioSpeechClient}.
+ */
+public class OpenAiSpeechClientStreamingTests {
+
+	private final OpenAiAudioApi audioApi = mock(OpenAiAudioApi.class);
+
+	private final OpenAiAudioSpeechClient speechClient = new OpenAiAudioSpeechClient(this.audioApi);
+
+	@Test
+	void streamsAudioToOutputStream() {
+		when(this.audioApi.streamDataBuffers(any(OpenAiAudioApi.SpeechRequest.class)))
+			.thenReturn(Flux.defer(() -> Flux.just(buffer("first "), buffer("second"))));
+
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		this.speechClient.streamAudio(new SpeechPrompt("Hello"), outputStream).block();
+
+		assertThat(outputStream.toString(StandardCharsets.UTF_8)).isEqualTo("first second");
+	}
+
+	@Test
+	void streamsAudioToChannel() {
+		when(this.audioApi.streamDataBuffers(any(OpenAiAudioApi.SpeechRequest.class)))
+			.thenReturn(Flux.defer(() -> Flux.just(buffer("first "), buffer("second"))));
+
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		this.speechClient.streamAudio(new SpeechPrompt("Hello"), Channels.newChannel(outputStream)).block();
+
+		assertThat(outputStream.toString(StandardCharsets.UTF_8)).isEqualTo("first second");
+	}
+
+	private static DataBuffer buffer(String content) {
+		return DefaultDataBufferFactory.sharedInstance.wrap(content.getBytes(StandardCharsets.UTF_8));
+	}
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.openai.audio.transcription;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ai.openai.OpenAiAudioTranscriptionClient;
+import org.springframework.ai.openai.api.OpenAiAudioApi;
+import org.springframework.ai.openai.api.OpenAiAudioApi.StructuredResponse;
+import org.springframework.ai.openai.api.OpenAiAudioApi.StructuredResponse.Segment;
+import org.springframework.ai.openai.api.OpenAiAudioApi.TranscriptResponseFormat;
+import org.springframework.ai.openai.api.OpenAiAudioApi.TranscriptionRequest;
+import org.springframework.ai.openai.audio.transcription.AudioSegmenter.AudioSegment;
+import org.springframework.ai.openai.metadata.audio.OpenAiAudioTranscriptionResponseMetadata;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ResponseEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit Tests for {@link OpenAiAudioTranscriptionClient#callSegmented}.
+ */
+class OpenAiSegmentedTranscriptionTests {
+
+	private final Resource first = new ByteArrayResource(new byte[0], "first");
+
+	private final Resource second = new ByteArrayResource(new byte[0], "second");
+
+	@Test
+	void stitchesOverlappingSegments() {
+
+		OpenAiAudioApi audioApi = mock(OpenAiAudioApi.class);
+		// The segments overlap between 8s and 10s, the boundary is at 9s.
+		when(audioApi.createTranscription(same(this.first), any(TranscriptionRequest.class),
+				eq(StructuredResponse.class)))
+			.thenReturn(ResponseEntity.ok(transcript(segment(0f, 4f, " Ask not what"),
+					segment(4f, 8.5f, " your country can do"), segment(8.5f, 10f, " for"))));
+		when(audioApi.createTranscription(same(this.second), any(TranscriptionRequest.class),
+				eq(StructuredResponse.class)))
+			.thenReturn(ResponseEntity.ok(transcript(segment(0f, 0.8f, " do"), segment(0.8f, 3f, " for you."))));
+
+		AudioSegmenter segmenter = audio -> List.of(
+				new AudioSegment(this.first, Duration.ZERO, Duration.ofSeconds(10)),
+				new AudioSegment(this.second, Duration.ofSeconds(8), Duration.ofSeconds(11)));
+		OpenAiAudioTranscriptionClient client = new OpenAiAudioTranscriptionClient(audioApi);
+
+		AudioTranscriptionResponse response = client
+			.callSegmented(new AudioTranscriptionPrompt(new ByteArrayResource(new byte[0])), segmenter, 2);
+
+		assertThat(response.getResult().getOutput()).isEqualTo("Ask not what your country can do for you.");
+		StructuredResponse stitched = ((OpenAiAudioTranscriptionResponseMetadata) response.getMetadata())
+			.getStructuredResponse();
+		assertThat(stitched.duration()).isEqualTo(11f);
+		assertThat(stitched.segments()).extracting(Segment::start).containsExactly(0f, 4f, 8.8f);
+		assertThat(stitched.segments()).extracting(Segment::id).containsExactly(0, 1, 2);
+
+		verify(audioApi).createTranscription(same(this.first),
+				eq(TranscriptionRequest.builder()
+					.withModel(OpenAiAudioApi.WhisperModel.WHISPER_1.getValue())
+					.withResponseFormat(TranscriptResponseFormat.VERBOSE_JSON)
+					.withTemperature(0.7f)
+					.withGranularityType(TranscriptionRequest.GranularityType.SEGMENT)
+					.build()),
+				eq(StructuredResponse.class));
+	}
+
+	private static StructuredResponse transcript(Segment... segments) {
+		return new StructuredResponse("english", null, null, null, List.of(segments));
+	}
+
+	private static Segment segment(float start, float end, String text) {
+		return new Segment(0, 0, start, end, text, null, null, null, null, null);
+	}
+
+}
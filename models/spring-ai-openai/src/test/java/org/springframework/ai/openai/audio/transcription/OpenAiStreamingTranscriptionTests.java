@@ -0,0 +1,86 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.openai.audio.transcription;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ai.openai.OpenAiAudioTranscriptionClient;
+import org.springframework.ai.openai.OpenAiAudioTranscriptionOptions;
+import org.springframework.ai.openai.api.OpenAiAudioApi;
+import org.springframework.ai.retry.RetryUtils;
+import org.springframework.ai.retry.TransientAiException;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.content;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+/**
+ * Unit Tests for {@link OpenAiAudioTranscriptionClient#callStreaming}.
+ */
+class OpenAiStreamingTranscriptionTests {
+
+	private static final String AUDIO = "RIFF\u0000\u0000\u0000\u0000WAVEfmt audio samples";
+
+	@Test
+	void uploadsResourceWithoutFilenameOnEveryAttempt() {
+
+		RestClient.Builder restClientBuilder = RestClient.builder();
+		MockRestServiceServer server = MockRestServiceServer.bindTo(restClientBuilder).build();
+		OpenAiAudioApi audioApi = new OpenAiAudioApi("", "TEST", restClientBuilder,
+				RetryUtils.DEFAULT_RESPONSE_ERROR_HANDLER);
+
+		server.expect(requestTo("/v1/audio/transcriptions"))
+			.andExpect(method(HttpMethod.POST))
+			.andExpect(content().string(containsString("filename=\"audio.wav\"")))
+			.andExpect(content().string(containsString("audio samples")))
+			.andRespond(withServerError());
+		server.expect(requestTo("/v1/audio/transcriptions"))
+			.andExpect(content().string(containsString("filename=\"audio.wav\"")))
+			.andExpect(content().string(containsString("audio samples")))
+			.andRespond(withSuccess("{\"text\":\"Hello\"}", MediaType.APPLICATION_JSON));
+
+		RetryTemplate retryTemplate = RetryTemplate.builder()
+			.maxAttempts(2)
+			.retryOn(TransientAiException.class)
+			.noBackoff()
+			.build();
+		OpenAiAudioTranscriptionClient client = new OpenAiAudioTranscriptionClient(audioApi,
+				OpenAiAudioTranscriptionOptions.builder()
+					.withModel(OpenAiAudioApi.WhisperModel.WHISPER_1.getValue())
+					.withResponseFormat(OpenAiAudioApi.TranscriptResponseFormat.JSON)
+					.build(),
+				retryTemplate);
+
+		AudioTranscriptionResponse response = client.callStreaming(
+				new AudioTranscriptionPrompt(new ByteArrayResource(AUDIO.getBytes(StandardCharsets.ISO_8859_1))));
+
+		assertThat(response.getResult().getOutput()).isEqualTo("Hello");
+		server.verify();
+	}
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.openai.audio.transcription;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ai.openai.audio.transcription.AudioSegmenter.AudioSegment;
+import org.springframework.core.io.ByteArrayResource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Unit Tests for {@link WavAudioSegmenter}.
+ */
+class WavAudioSegmenterTests {
+
+	// 8 kHz, 16 bit mono: 16000 bytes per second.
+	private static final int BYTE_RATE = 16_000;
+
+	@Test
+	void splitsIntoOverlappingSegments() throws IOException {
+
+		byte[] samples = new byte[BYTE_RATE * 25];
+		for (int i = 0; i < samples.length; i++) {
+			samples[i] = (byte) i;
+		}
+		WavAudioSegmenter segmenter = new WavAudioSegmenter(Duration.ofSeconds(10), Duration.ofSeconds(2));
+
+		List<AudioSegment> segments = segmenter.split(new ByteArrayResource(wav(samples)));
+
+		assertThat(segments).extracting(AudioSegment::start)
+			.containsExactly(Duration.ZERO, Duration.ofSeconds(8), Duration.ofSeconds(16));
+		assertThat(segments).extracting(AudioSegment::end)
+			.containsExactly(Duration.ofSeconds(10), Duration.ofSeconds(18), Duration.ofSeconds(25));
+
+		AudioSegment second = segments.get(1);
+		assertThat(second.audio().getFilename()).isEqualTo("segment-1.wav");
+		try (InputStream in = second.audio().getInputStream()) {
+			byte[] segment = in.readAllBytes();
+			assertThat(segment).hasSize(44 + BYTE_RATE * 10);
+			assertThat(second.audio().contentLength()).isEqualTo(segment.length);
+			assertThat(new String(segment, 0, 4, StandardCharsets.US_ASCII)).isEqualTo("RIFF");
+			assertThat(ByteBuffer.wrap(segment).order(ByteOrder.LITTLE_ENDIAN).getInt(40)).isEqualTo(BYTE_RATE * 10);
+			assertThat(segment[44]).isEqualTo(samples[BYTE_RATE * 8]);
+		}
+	}
+
+	@Test
+	void rejectsOtherFormats() {
+		WavAudioSegmenter segmenter = new WavAudioSegmenter(Duration.ofSeconds(10), Duration.ZERO);
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> segmenter.split(new ByteArrayResource("ID3 not a wav".getBytes())))
+			.withMessageContaining("Not a WAV file");
+	}
+
+	@Test
+	void rejectsSegmentsWithoutACompleteFrame() {
+		WavAudioSegmenter segmenter = new WavAudioSegmenter(Duration.ofNanos(500_000), Duration.ZERO);
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> segmenter.split(new ByteArrayResource(wav(new byte[BYTE_RATE]))))
+			.withMessageContaining("no complete audio frame");
+	}
+
+	@Test
+	void rejectsAnOverlapAsLongAsTheAlignedSegments() {
+		WavAudioSegmenter segmenter = new WavAudioSegmenter(Duration.ofNanos(1_900_000), Duration.ofMillis(1));
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> segmenter.split(new ByteArrayResource(wav(new byte[BYTE_RATE]))))
+			.withMessageContaining("is not shorter than the segments");
+	}
+
+	private static byte[] wav(byte[] samples) {
+		ByteBuffer wav = ByteBuffer.allocate(44 + samples.length).order(ByteOrder.LITTLE_ENDIAN);
+		wav.put("RIFF".getBytes(StandardCharsets.US_ASCII));
+		wav.putInt(36 + samples.length);
+		wav.put("WAVE".getBytes(StandardCharsets.US_ASCII));
+		wav.put("fmt ".getBytes(StandardCharsets.US_ASCII));
+		wav.putInt(16);
+		wav.putShort((short) 1); // PCM
+		wav.putShort((short) 1); // mono
+		wav.putInt(8_000);
+		wav.putInt(BYTE_RATE);
+		wav.putShort((short) 2);
+		wav.putShort((short) 16);
+		wav.put("data".getBytes(StandardCharsets.US_ASCII));
+		wav.putInt(samples.length);
+		wav.put(samples);
+		return wav.array();
+	}
+
+}
@@ -167,6 +167,16 @@ public class PostgresMlEmbeddingClient extends AbstractEmbeddingClient implement
 		return this.embed(document.getFormattedContent(this.defaultOptions.getMetadataMode()));
 	}
 
+	@Override
+	public List<List<Double>> embedDocuments(List<Document> documents) {
+		Assert.notNull(documents, "Documents must not be null");
+		if (documents.isEmpty()) {
+			return List.of();
+		}
+		MetadataMode metadataMode = this.defaultOptions.getMetadataMode();
+		return this.embed(documents.stream().map(document -> document.getFormattedContent(metadataMode)).toList());
+	}
+
 	@SuppressWarnings("null")
 	@Override
 	public EmbeddingResponse call(EmbeddingRequest request) {
@@ -217,6 +217,15 @@ public class TransformersEmbeddingClient extends AbstractEmbeddingClient impleme
 		return this.embed(document.getFormattedContent(this.metadataMode));
 	}
 
+	@Override
+	public List<List<Double>> embedDocuments(List<Document> documents) {
+		Assert.notNull(documents, "Documents must not be null");
+		if (documents.isEmpty()) {
+			return List.of();
+		}
+		return this.embed(documents.stream().map(document -> document.getFormattedContent(this.metadataMode)).toList());
+	}
+
 	@Override
 	public EmbeddingResponse embedForResponse(List<String> texts) {
 		List<Embedding> data = new ArrayList<>();
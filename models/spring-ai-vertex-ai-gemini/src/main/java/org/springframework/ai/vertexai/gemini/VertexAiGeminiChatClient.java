@@ -15,19 +15,26 @@
  */
 package org.springframework.ai.vertexai.gemini;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.google.api.gax.rpc.ResponseObserver;
+import com.google.api.gax.rpc.StreamController;
 import com.google.cloud.vertexai.VertexAI;
 import com.google.cloud.vertexai.api.Content;
 import com.google.cloud.vertexai.api.FunctionCall;
 import com.google.cloud.vertexai.api.FunctionDeclaration;
 import com.google.cloud.vertexai.api.FunctionResponse;
+import com.google.cloud.vertexai.api.GenerateContentRequest;
 import com.google.cloud.vertexai.api.GenerateContentResponse;
 import com.google.cloud.vertexai.api.GenerationConfig;
 import com.google.cloud.vertexai.api.Part;
@@ -35,10 +42,11 @@ import com.google.cloud.vertexai.api.Schema;
 import com.google.cloud.vertexai.api.Tool;
 import com.google.cloud.vertexai.generativeai.GenerativeModel;
 import com.google.cloud.vertexai.generativeai.PartMaker;
-import com.google.cloud.vertexai.generativeai.ResponseStream;
 import com.google.protobuf.Struct;
 import com.google.protobuf.util.JsonFormat;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import org.springframework.ai.chat.ChatClient;
 import org.springframework.ai.chat.ChatResponse;
@@ -71,12 +79,31 @@ public class VertexAiGeminiChatClient
 
 	private final static boolean IS_RUNTIME_CALL = true;
 
+	/**
+	 * Maximum number of {@link GenerativeModel} instances kept for reuse.
+	 */
+	private static final int MAX_CACHED_MODELS = 64;
+
 	private final VertexAI vertexAI;
 
 	private final VertexAiGeminiChatOptions defaultOptions;
 
 	private final GenerationConfig generationConfig;
 
+	/**
+	 * {@link GenerativeModel} instances by model name, generation config and tools, least
+	 * recently used first.
+	 */
+	private final Map<GenerativeModelKey, GenerativeModel> generativeModels = Collections
+		.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<GenerativeModelKey, GenerativeModel> eldest) {
+				return size() > MAX_CACHED_MODELS;
+			}
+
+		});
+
 	public enum GeminiMessageType {
 
 		USER("user"),
@@ -158,17 +185,24 @@ public class VertexAiGeminiChatClient
 		return new ChatResponse(generations, toChatResponseMetadata(response));
 	}
 
+	/**
+	 * Streams the response on the asynchronous gRPC stub. Demand is forwarded to the gRPC
+	 * stream, and cancelling the subscription cancels the call. Function calls are
+	 * resolved on the bounded elastic scheduler.
+	 * @param prompt the prompt.
+	 * @return the streamed responses.
+	 */
 	@Override
 	public Flux<ChatResponse> stream(Prompt prompt) {
-		try {
-
-			var request = createGeminiRequest(prompt);
-
-			ResponseStream<GenerateContentResponse> responseStream = request.model
-				.generateContentStream(request.contents);
-
-			return Flux.fromStream(responseStream.stream()).map(response -> {
-				response = handleFunctionCallOrReturn(request, response);
+		return Mono.fromCallable(() -> createGeminiRequest(prompt))
+			.flatMapMany(request -> streamGenerateContent(request).concatMap(response -> {
+				if (!isToolFunctionCall(response)) {
+					return Mono.just(response);
+				}
+				return Mono.fromCallable(() -> handleFunctionCallOrReturn(request, response))
+					.subscribeOn(Schedulers.boundedElastic());
+			}))
+			.map(response -> {
 				List<Generation> generations = response.getCandidatesList()
 					.stream()
 					.map(candidate -> candidate.getContent().getPartsList())
@@ -179,10 +213,65 @@ public class VertexAiGeminiChatClient
 
 				return new ChatResponse(generations, toChatResponseMetadata(response));
 			});
+	}
+
+	private Flux<GenerateContentResponse> streamGenerateContent(GeminiRequest request) {
+		return Flux.create(sink -> {
+			try {
+				this.vertexAI.getPredictionServiceClient()
+					.streamGenerateContentCallable()
+					.call(toGenerateContentRequest(request), new ResponseObserver<GenerateContentResponse>() {
+
+						@Override
+						public void onStart(StreamController controller) {
+							controller.disableAutoInboundFlowControl();
+							sink.onRequest(n -> controller.request((int) Math.min(n, Integer.MAX_VALUE)));
+							sink.onCancel(controller::cancel);
+						}
+
+						@Override
+						public void onResponse(GenerateContentResponse response) {
+							sink.next(response);
+						}
+
+						@Override
+						public void onError(Throwable t) {
+							sink.error(new RuntimeException("Failed to generate content", t));
+						}
+
+						@Override
+						public void onComplete() {
+							sink.complete();
+						}
+
+					});
+			}
+			catch (IOException e) {
+				sink.error(new RuntimeException("Failed to generate content", e));
+			}
+		});
+	}
+
+	private GenerateContentRequest toGenerateContentRequest(GeminiRequest request) {
+		GenerativeModel model = request.model();
+		String modelName = model.getModelName();
+		if (!modelName.startsWith("projects/")) {
+			modelName = "projects/%s/locations/%s/publishers/google/models/%s".formatted(this.vertexAI.getProjectId(),
+					this.vertexAI.getLocation(), modelName);
 		}
-		catch (Exception e) {
-			throw new RuntimeException("Failed to generate content", e);
+		GenerateContentRequest.Builder builder = GenerateContentRequest.newBuilder()
+			.setModel(modelName)
+			.addAllContents(request.contents());
+		if (model.getGenerationConfig() != null) {
+			builder.setGenerationConfig(model.getGenerationConfig());
 		}
+		if (model.getTools() != null) {
+			builder.addAllTools(model.getTools());
+		}
+		if (model.getSafetySettings() != null) {
+			builder.addAllSafetySettings(model.getSafetySettings());
+		}
+		return builder.build();
 	}
 
 	private VertexAiChatResponseMetadata toChatResponseMetadata(GenerateContentResponse response) {
@@ -193,14 +282,16 @@ public class VertexAiGeminiChatClient
 	public record GeminiRequest(List<Content> contents, GenerativeModel model) {
 	}
 
+	private record GenerativeModelKey(String modelName, GenerationConfig generationConfig, List<Tool> tools) {
+	}
+
 	private GeminiRequest createGeminiRequest(Prompt prompt) {
 
 		Set<String> functionsForThisRequest = new HashSet<>();
 
 		GenerationConfig generationConfig = this.generationConfig;
 
-		var generativeModelBuilder = new GenerativeModel.Builder().setModelName(this.defaultOptions.getModel())
-			.setVertexAi(this.vertexAI);
+		String modelName = this.defaultOptions.getModel();
 
 		VertexAiGeminiChatOptions updatedRuntimeOptions = null;
 
@@ -236,25 +327,32 @@ public class VertexAiGeminiChatClient
 			if (StringUtils.hasText(updatedRuntimeOptions.getModel())
 					&& !updatedRuntimeOptions.getModel().equals(this.defaultOptions.getModel())) {
 				// Override model name
-				generativeModelBuilder.setModelName(updatedRuntimeOptions.getModel());
+				modelName = updatedRuntimeOptions.getModel();
 			}
 
 			generationConfig = toGenerationConfig(updatedRuntimeOptions);
 		}
 
 		// Add the enabled functions definitions to the request's tools parameter.
-		if (!CollectionUtils.isEmpty(functionsForThisRequest)) {
-			List<Tool> tools = this.getFunctionTools(functionsForThisRequest);
-			generativeModelBuilder.setTools(tools);
-		}
-
-		generativeModelBuilder.setGenerationConfig(generationConfig);
+		List<Tool> tools = CollectionUtils.isEmpty(functionsForThisRequest) ? List.of()
+				: this.getFunctionTools(functionsForThisRequest);
 
-		GenerativeModel generativeModel = generativeModelBuilder.build();
+		GenerativeModel generativeModel = this.generativeModels
+			.computeIfAbsent(new GenerativeModelKey(modelName, generationConfig, tools), this::createGenerativeModel);
 
 		return new GeminiRequest(toGeminiContent(prompt), generativeModel);
 	}
 
+	private GenerativeModel createGenerativeModel(GenerativeModelKey key) {
+		var generativeModelBuilder = new GenerativeModel.Builder().setModelName(key.modelName())
+			.setVertexAi(this.vertexAI)
+			.setGenerationConfig(key.generationConfig());
+		if (!key.tools().isEmpty()) {
+			generativeModelBuilder.setTools(key.tools());
+		}
+		return generativeModelBuilder.build();
+	}
+
 	private GenerationConfig toGenerationConfig(VertexAiGeminiChatOptions options) {
 
 		GenerationConfig.Builder generationConfigBuilder = GenerationConfig.newBuilder();
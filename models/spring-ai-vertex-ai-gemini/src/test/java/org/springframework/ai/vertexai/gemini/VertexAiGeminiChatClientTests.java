@@ -0,0 +1,311 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.vertexai.gemini;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import com.google.api.gax.rpc.ResponseObserver;
+import com.google.api.gax.rpc.ServerStreamingCallable;
+import com.google.api.gax.rpc.StreamController;
+import com.google.cloud.vertexai.VertexAI;
+import com.google.cloud.vertexai.api.Candidate;
+import com.google.cloud.vertexai.api.Content;
+import com.google.cloud.vertexai.api.FunctionCall;
+import com.google.cloud.vertexai.api.GenerateContentRequest;
+import com.google.cloud.vertexai.api.GenerateContentResponse;
+import com.google.cloud.vertexai.api.Part;
+import com.google.cloud.vertexai.api.PredictionServiceClient;
+import com.google.cloud.vertexai.generativeai.GenerativeModel;
+import com.google.protobuf.Struct;
+import com.google.protobuf.Value;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.reactivestreams.Subscription;
+import reactor.core.Disposable;
+import reactor.core.publisher.BaseSubscriber;
+
+import org.springframework.ai.chat.ChatResponse;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.model.function.FunctionCallback;
+import org.springframework.ai.vertexai.gemini.VertexAiGeminiChatClient.GeminiRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit Tests for the streaming on the asynchronous gRPC stub and the
+ * {@link GenerativeModel} cache of {@link VertexAiGeminiChatClient}.
+ */
+class VertexAiGeminiChatClientTests {
+
+	private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+	private final VertexAI vertexAI = mock(VertexAI.class);
+
+	private final PredictionServiceClient predictionServiceClient = mock(PredictionServiceClient.class);
+
+	@SuppressWarnings("unchecked")
+	private final ServerStreamingCallable<GenerateContentRequest, GenerateContentResponse> streamCallable = mock(
+			ServerStreamingCallable.class);
+
+	private final StreamController controller = mock(StreamController.class);
+
+	private final List<GenerateContentRequest> streamRequests = new CopyOnWriteArrayList<>();
+
+	private final List<GeminiRequest> completions = new CopyOnWriteArrayList<>();
+
+	/**
+	 * Played on the observer of a streaming call once it is started, if set.
+	 */
+	private volatile Consumer<ResponseObserver<GenerateContentResponse>> script;
+
+	private volatile ResponseObserver<GenerateContentResponse> observer;
+
+	private VertexAiGeminiChatClient chatClient;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() throws IOException {
+		when(this.vertexAI.getProjectId()).thenReturn("my-project");
+		when(this.vertexAI.getLocation()).thenReturn("us-central1");
+		when(this.vertexAI.getPredictionServiceClient()).thenReturn(this.predictionServiceClient);
+		when(this.predictionServiceClient.streamGenerateContentCallable()).thenReturn(this.streamCallable);
+		doAnswer(invocation -> {
+			this.streamRequests.add(invocation.getArgument(0));
+			this.observer = invocation.getArgument(1);
+			this.observer.onStart(this.controller);
+			if (this.script != null) {
+				this.script.accept(this.observer);
+			}
+			return null;
+		}).when(this.streamCallable).call(any(GenerateContentRequest.class), any(ResponseObserver.class));
+
+		this.chatClient = spy(new VertexAiGeminiChatClient(this.vertexAI,
+				VertexAiGeminiChatOptions.builder().withModel("gemini-pro").withTemperature(0.8f).build()));
+		doAnswer(invocation -> {
+			this.completions.add(invocation.getArgument(0));
+			return textResponse("sunny");
+		}).when(this.chatClient).doChatCompletion(any(GeminiRequest.class));
+	}
+
+	@Test
+	void streamSendsTheFullModelResourceName() {
+		this.script = observer -> {
+			observer.onResponse(textResponse("Hello"));
+			observer.onComplete();
+		};
+
+		List<ChatResponse> responses = this.chatClient.stream(new Prompt("Hi")).collectList().block(TIMEOUT);
+
+		assertThat(responses).extracting(response -> response.getResult().getOutput().getContent())
+			.containsExactly("Hello");
+		assertThat(this.streamRequests).hasSize(1);
+		GenerateContentRequest request = this.streamRequests.get(0);
+		assertThat(request.getModel())
+			.isEqualTo("projects/my-project/locations/us-central1/publishers/google/models/gemini-pro");
+		assertThat(request.getContents(0).getParts(0).getText()).isEqualTo("Hi");
+		assertThat(request.getGenerationConfig().getTemperature()).isEqualTo(0.8f);
+	}
+
+	@Test
+	void streamForwardsTheDemandToTheGrpcStream() {
+		List<String> texts = new CopyOnWriteArrayList<>();
+		AtomicBoolean completed = new AtomicBoolean();
+		BaseSubscriber<ChatResponse> subscriber = new BaseSubscriber<>() {
+
+			@Override
+			protected void hookOnSubscribe(Subscription subscription) {
+				request(1);
+			}
+
+			@Override
+			protected void hookOnNext(ChatResponse response) {
+				texts.add(response.getResult().getOutput().getContent());
+			}
+
+			@Override
+			protected void hookOnComplete() {
+				completed.set(true);
+			}
+
+		};
+
+		this.chatClient.stream(new Prompt("Hi")).subscribe(subscriber);
+
+		verify(this.controller).disableAutoInboundFlowControl();
+		ArgumentCaptor<Integer> requested = ArgumentCaptor.forClass(Integer.class);
+		verify(this.controller, atLeastOnce()).request(requested.capture());
+		// Bounded by the prefetch of the stream, not requested unbounded.
+		assertThat(requested.getAllValues().stream().mapToInt(Integer::intValue).sum()).isBetween(1, 32);
+
+		this.observer.onResponse(textResponse("Hello"));
+		this.observer.onResponse(textResponse(" world"));
+		assertThat(texts).containsExactly("Hello");
+
+		subscriber.request(1);
+		assertThat(texts).containsExactly("Hello", " world");
+
+		this.observer.onComplete();
+		assertThat(completed).isTrue();
+		verify(this.controller, never()).cancel();
+	}
+
+	@Test
+	void cancellingTheSubscriptionCancelsTheCall() {
+		Disposable subscription = this.chatClient.stream(new Prompt("Hi")).subscribe();
+		this.observer.onResponse(textResponse("Hello"));
+
+		subscription.dispose();
+
+		verify(this.controller).cancel();
+	}
+
+	@Test
+	void streamFailsWhenTheCallFails() {
+		IllegalStateException failure = new IllegalStateException("UNAVAILABLE");
+		this.script = observer -> observer.onError(failure);
+
+		assertThatThrownBy(() -> this.chatClient.stream(new Prompt("Hi")).blockLast(TIMEOUT))
+			.isInstanceOf(RuntimeException.class)
+			.hasMessage("Failed to generate content")
+			.hasCause(failure);
+	}
+
+	@Test
+	void streamFailsWhenTheClientCannotBeCreated() throws IOException {
+		IOException failure = new IOException("No credentials");
+		when(this.vertexAI.getPredictionServiceClient()).thenThrow(failure);
+
+		assertThatThrownBy(() -> this.chatClient.stream(new Prompt("Hi")).blockLast(TIMEOUT))
+			.isInstanceOf(RuntimeException.class)
+			.hasMessage("Failed to generate content")
+			.hasCause(failure);
+		verify(this.predictionServiceClient, never()).streamGenerateContentCallable();
+	}
+
+	@Test
+	void streamResolvesFunctionCallsInOrderOffTheGrpcThread() {
+		List<String> callbackThreads = new CopyOnWriteArrayList<>();
+		FunctionCallback weatherCallback = mock(FunctionCallback.class);
+		when(weatherCallback.call(anyString())).thenAnswer(invocation -> {
+			callbackThreads.add(Thread.currentThread().getName());
+			return "{\"temperature\": 30}";
+		});
+		this.chatClient.getFunctionCallbackRegister().put("getCurrentWeather", weatherCallback);
+		this.script = observer -> {
+			observer.onResponse(functionCallResponse("getCurrentWeather", "Paris"));
+			observer.onResponse(textResponse("after"));
+			observer.onComplete();
+		};
+
+		List<ChatResponse> responses = this.chatClient.stream(new Prompt("Weather in Paris?"))
+			.collectList()
+			.block(TIMEOUT);
+
+		assertThat(responses).extracting(response -> response.getResult().getOutput().getContent())
+			.containsExactly("sunny", "after");
+		ArgumentCaptor<String> arguments = ArgumentCaptor.forClass(String.class);
+		verify(weatherCallback).call(arguments.capture());
+		assertThat(arguments.getValue()).contains("\"location\": \"Paris\"");
+		assertThat(callbackThreads).singleElement().asString().startsWith("boundedElastic");
+		assertThat(this.completions).singleElement().satisfies(request -> {
+			assertThat(request.contents()).hasSize(3);
+			assertThat(request.contents().get(1).getParts(0).getFunctionCall().getName())
+				.isEqualTo("getCurrentWeather");
+			assertThat(request.contents().get(2).getParts(0).getFunctionResponse().getName())
+				.isEqualTo("getCurrentWeather");
+		});
+	}
+
+	@Test
+	void generativeModelsAreCachedByModelNameGenerationConfigAndTools() {
+		GenerativeModel model = modelFor(new Prompt("Hi"));
+
+		assertThat(modelFor(new Prompt("Hello"))).isSameAs(model);
+		assertThat(modelFor(new Prompt("Hi", VertexAiGeminiChatOptions.builder().withTemperature(0.2f).build())))
+			.isNotSameAs(model);
+		assertThat(modelFor(new Prompt("Hi", VertexAiGeminiChatOptions.builder().withModel("gemini-1.0-pro").build())))
+			.isNotSameAs(model);
+		assertThat(generativeModels()).hasSize(3);
+	}
+
+	@Test
+	void generativeModelCacheEvictsTheLeastRecentlyUsedModel() {
+		GenerativeModel first = modelFor(temperature(0));
+		GenerativeModel second = modelFor(temperature(1));
+		for (int i = 2; i < 64; i++) {
+			modelFor(temperature(i));
+		}
+		assertThat(generativeModels()).hasSize(64);
+
+		// Using the first model makes the second one the least recently used.
+		assertThat(modelFor(temperature(0))).isSameAs(first);
+		modelFor(temperature(64));
+
+		assertThat(generativeModels()).hasSize(64);
+		assertThat(modelFor(temperature(0))).isSameAs(first);
+		assertThat(modelFor(temperature(1))).isNotSameAs(second);
+	}
+
+	private GenerativeModel modelFor(Prompt prompt) {
+		this.chatClient.call(prompt);
+		return this.completions.get(this.completions.size() - 1).model();
+	}
+
+	private static Prompt temperature(int index) {
+		return new Prompt("Hi", VertexAiGeminiChatOptions.builder().withTemperature(index / 100f).build());
+	}
+
+	private Map<?, ?> generativeModels() {
+		return (Map<?, ?>) ReflectionTestUtils.getField(this.chatClient, "generativeModels");
+	}
+
+	private static GenerateContentResponse textResponse(String text) {
+		return GenerateContentResponse.newBuilder()
+			.addCandidates(Candidate.newBuilder()
+				.setContent(Content.newBuilder().setRole("model").addParts(Part.newBuilder().setText(text))))
+			.build();
+	}
+
+	private static GenerateContentResponse functionCallResponse(String name, String location) {
+		FunctionCall functionCall = FunctionCall.newBuilder()
+			.setName(name)
+			.setArgs(Struct.newBuilder().putFields("location", Value.newBuilder().setStringValue(location).build()))
+			.build();
+		Part part = Part.newBuilder().setFunctionCall(functionCall).build();
+		return GenerateContentResponse.newBuilder()
+			.addCandidates(Candidate.newBuilder().setContent(Content.newBuilder().setRole("model").addParts(part)))
+			.build();
+	}
+
+}
@@ -24,6 +24,7 @@ import org.springframework.ai.embedding.Embedding;
 import org.springframework.ai.embedding.EmbeddingRequest;
 import org.springframework.ai.embedding.EmbeddingResponse;
 import org.springframework.ai.vertexai.palm2.api.VertexAiPaLm2Api;
+import org.springframework.util.Assert;
 
 /**
  * @author Christian Tzolov
@@ -41,6 +42,15 @@ public class VertexAiPaLm2EmbeddingClient extends AbstractEmbeddingClient {
 		return embed(document.getContent());
 	}
 
+	@Override
+	public List<List<Double>> embedDocuments(List<Document> documents) {
+		Assert.notNull(documents, "Documents must not be null");
+		if (documents.isEmpty()) {
+			return List.of();
+		}
+		return this.embed(documents.stream().map(document -> document.getContent()).toList());
+	}
+
 	@Override
 	public EmbeddingResponse call(EmbeddingRequest request) {
 		List<VertexAiPaLm2Api.Embedding> vertexEmbeddings = this.vertexAiApi.batchEmbedText(request.getInstructions());
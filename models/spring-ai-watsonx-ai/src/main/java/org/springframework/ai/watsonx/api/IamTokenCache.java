@@ -0,0 +1,163 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.watsonx.api;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import com.ibm.cloud.sdk.core.security.IamToken;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import reactor.core.publisher.Mono;
+
+/**
+ * Caches the IBM Cloud IAM access token used by {@link WatsonxAiApi}.
+ *
+ * <p>
+ * The token is reused until {@link #EXPIRY_MARGIN} before it expires. Once
+ * {@link #REFRESH_RATIO} of its lifetime has passed, the next caller triggers a
+ * background refresh and still gets the current token. Only a caller without a usable
+ * token waits for the refresh. Concurrent callers share a single token request.
+ *
+ * @since 1.0.0
+ */
+final class IamTokenCache {
+
+	private static final Log logger = LogFactory.getLog(IamTokenCache.class);
+
+	static final double REFRESH_RATIO = 0.8;
+
+	static final Duration EXPIRY_MARGIN = Duration.ofSeconds(60);
+
+	private static final Executor REFRESH_EXECUTOR = task -> {
+		Thread thread = new Thread(task, "watsonx-iam-token-refresh");
+		thread.setDaemon(true);
+		thread.start();
+	};
+
+	private final Supplier<IamToken> tokenRequest;
+
+	private final Clock clock;
+
+	private final Executor refreshExecutor;
+
+	private volatile CachedToken current;
+
+	private CompletableFuture<CachedToken> refreshing;
+
+	IamTokenCache(Supplier<IamToken> tokenRequest) {
+		this(tokenRequest, Clock.systemUTC(), REFRESH_EXECUTOR);
+	}
+
+	IamTokenCache(Supplier<IamToken> tokenRequest, Clock clock, Executor refreshExecutor) {
+		this.tokenRequest = tokenRequest;
+		this.clock = clock;
+		this.refreshExecutor = refreshExecutor;
+	}
+
+	/**
+	 * @return a valid access token, blocking only if no cached token is usable.
+	 */
+	String getAccessToken() {
+		String accessToken = cachedAccessToken();
+		if (accessToken != null) {
+			return accessToken;
+		}
+		try {
+			return refresh().join().accessToken();
+		}
+		catch (CompletionException ex) {
+			if (ex.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw ex;
+		}
+	}
+
+	/**
+	 * @return a valid access token, without blocking the subscriber.
+	 */
+	Mono<String> getAccessTokenReactive() {
+		return Mono.defer(() -> {
+			String accessToken = cachedAccessToken();
+			return (accessToken != null) ? Mono.just(accessToken)
+					: Mono.fromFuture(refresh()).map(CachedToken::accessToken);
+		});
+	}
+
+	private String cachedAccessToken() {
+		CachedToken token = this.current;
+		Instant now = this.clock.instant();
+		if (token == null || !now.isBefore(token.expiresAt())) {
+			return null;
+		}
+		if (!now.isBefore(token.refreshAt())) {
+			refresh().exceptionally(ex -> {
+				logger.warn("Background refresh of the IAM token failed, the current token is used until it expires",
+						ex);
+				return null;
+			});
+		}
+		return token.accessToken();
+	}
+
+	private synchronized CompletableFuture<CachedToken> refresh() {
+		if (this.refreshing != null) {
+			return this.refreshing;
+		}
+		CompletableFuture<CachedToken> refresh = new CompletableFuture<>();
+		this.refreshing = refresh;
+		this.refreshExecutor.execute(() -> {
+			try {
+				Instant requestedAt = this.clock.instant();
+				CachedToken token = CachedToken.of(this.tokenRequest.get(), requestedAt);
+				synchronized (this) {
+					this.current = token;
+					this.refreshing = null;
+				}
+				refresh.complete(token);
+			}
+			catch (Throwable ex) {
+				synchronized (this) {
+					this.refreshing = null;
+				}
+				refresh.completeExceptionally(ex);
+			}
+		});
+		return refresh;
+	}
+
+	private record CachedToken(String accessToken, Instant refreshAt, Instant expiresAt) {
+
+		static CachedToken of(IamToken token, Instant requestedAt) {
+			long lifetimeSeconds = (token.getExpiresIn() != null) ? token.getExpiresIn() : 0;
+			Duration lifetime = Duration.ofSeconds(lifetimeSeconds);
+			Instant expiresAt = requestedAt.plus(lifetime).minus(EXPIRY_MARGIN);
+			Instant refreshAt = requestedAt.plusMillis((long) (lifetime.toMillis() * REFRESH_RATIO));
+			if (refreshAt.isAfter(expiresAt)) {
+				refreshAt = expiresAt;
+			}
+			return new CachedToken(token.getAccessToken(), refreshAt, expiresAt);
+		}
+
+	}
+
+}
@@ -47,6 +47,7 @@ public class WatsonxAiApi {
     private final RestClient restClient;
     private final WebClient webClient;
     private final IamAuthenticator iamAuthenticator;
+    private final IamTokenCache iamTokenCache;
     private final String streamEndpoint;
     private final String textEndpoint;
     private final String projectId;
@@ -67,11 +68,34 @@ public class WatsonxAiApi {
             String projectId,
             String IAMToken,
             RestClient.Builder restClientBuilder
+    ) {
+        this(baseUrl, streamEndpoint, textEndpoint, projectId, IAMToken, restClientBuilder, WebClient.builder());
+    }
+
+    /**
+     * Create a new chat api.
+     * @param baseUrl api base URL.
+     * @param streamEndpoint streaming generation.
+     * @param textEndpoint text generation.
+     * @param projectId watsonx.ai project identifier.
+     * @param IAMToken IBM Cloud IAM token.
+     * @param restClientBuilder rest client builder.
+     * @param webClientBuilder web client builder, used for the streaming generation.
+     */
+    public WatsonxAiApi(
+            String baseUrl,
+            String streamEndpoint,
+            String textEndpoint,
+            String projectId,
+            String IAMToken,
+            RestClient.Builder restClientBuilder,
+            WebClient.Builder webClientBuilder
     ) {
         this.streamEndpoint = streamEndpoint;
         this.textEndpoint = textEndpoint;
         this.projectId = projectId;
         this.iamAuthenticator = IamAuthenticator.fromConfiguration(Map.of("APIKEY", IAMToken));
+        this.iamTokenCache = new IamTokenCache(this.iamAuthenticator::requestToken);
 
         Consumer<HttpHeaders> defaultHeaders = headers -> {
             headers.setContentType(MediaType.APPLICATION_JSON);
@@ -83,15 +107,21 @@ public class WatsonxAiApi {
             .defaultHeaders(defaultHeaders)
             .build();
 
-        this.webClient = WebClient.builder().baseUrl(baseUrl)
+        this.webClient = webClientBuilder.baseUrl(baseUrl)
             .defaultHeaders(defaultHeaders)
             .build();
     }
 
+    /**
+     * Generates text. The IAM access token is cached and refreshed in the background
+     * before it expires, so that the calls do not wait for IAM.
+     * @param watsonxAiRequest the request.
+     * @return the response.
+     */
     public ResponseEntity<WatsonxAiResponse> generate(WatsonxAiRequest watsonxAiRequest) {
         Assert.notNull(watsonxAiRequest, WATSONX_REQUEST_CANNOT_BE_NULL);
 
-        String bearer = this.iamAuthenticator.requestToken().getAccessToken();
+        String bearer = this.iamTokenCache.getAccessToken();
 
         return this.restClient.post()
                 .uri(this.textEndpoint)
@@ -104,14 +134,13 @@ public class WatsonxAiApi {
     public Flux<WatsonxAiResponse> generateStreaming(WatsonxAiRequest watsonxAiRequest) {
         Assert.notNull(watsonxAiRequest, WATSONX_REQUEST_CANNOT_BE_NULL);
 
-        String bearer = this.iamAuthenticator.requestToken().getAccessToken();
-
-        return this.webClient.post()
-                .uri(this.streamEndpoint)
-                .header(HttpHeaders.AUTHORIZATION, "Bearer " + bearer)
-                .bodyValue(watsonxAiRequest.withProjectId(this.projectId))
-                .retrieve()
-                .bodyToFlux(WatsonxAiResponse.class)
+        return this.iamTokenCache.getAccessTokenReactive()
+                .flatMapMany(bearer -> this.webClient.post()
+                        .uri(this.streamEndpoint)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + bearer)
+                        .bodyValue(watsonxAiRequest.withProjectId(this.projectId))
+                        .retrieve()
+                        .bodyToFlux(WatsonxAiResponse.class))
                 .handle((data, sink) -> {
                     if (logger.isTraceEnabled()) {
                         logger.trace(data);
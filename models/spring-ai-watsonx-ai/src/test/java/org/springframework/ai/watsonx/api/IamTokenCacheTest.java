@@ -0,0 +1,118 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.watsonx.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.ibm.cloud.sdk.core.security.IamToken;
+import org.junit.jupiter.api.Test;
+
+public class IamTokenCacheTest {
+
+	private final MutableClock clock = new MutableClock();
+
+	private final AtomicInteger requests = new AtomicInteger();
+
+	private final List<Runnable> pendingRefreshes = new ArrayList<>();
+
+	@Test
+	public void reusesTokenUntilRefreshIsDue() {
+		IamTokenCache cache = new IamTokenCache(this::requestToken, this.clock, Runnable::run);
+
+		assertThat(cache.getAccessToken()).isEqualTo("token-1");
+		this.clock.advance(Duration.ofMinutes(30));
+		assertThat(cache.getAccessToken()).isEqualTo("token-1");
+		assertThat(cache.getAccessTokenReactive().block()).isEqualTo("token-1");
+		assertThat(this.requests).hasValue(1);
+	}
+
+	@Test
+	public void refreshesInTheBackgroundBeforeExpiry() {
+		IamTokenCache cache = new IamTokenCache(this::requestToken, this.clock, task -> {
+			if (this.requests.get() == 0) {
+				task.run();
+			}
+			else {
+				this.pendingRefreshes.add(task);
+			}
+		});
+		assertThat(cache.getAccessToken()).isEqualTo("token-1");
+
+		// Past 80% of the one hour lifetime: the current token is returned and a single
+		// refresh is scheduled, however many callers there are.
+		this.clock.advance(Duration.ofMinutes(50));
+		assertThat(cache.getAccessToken()).isEqualTo("token-1");
+		assertThat(cache.getAccessToken()).isEqualTo("token-1");
+		assertThat(this.pendingRefreshes).hasSize(1);
+
+		this.pendingRefreshes.get(0).run();
+		assertThat(cache.getAccessToken()).isEqualTo("token-2");
+		assertThat(this.requests).hasValue(2);
+	}
+
+	@Test
+	public void expiredTokenIsRequestedAgain() {
+		IamTokenCache cache = new IamTokenCache(this::requestToken, this.clock, Runnable::run);
+
+		assertThat(cache.getAccessToken()).isEqualTo("token-1");
+		this.clock.advance(Duration.ofMinutes(59));
+		assertThat(cache.getAccessToken()).isEqualTo("token-2");
+	}
+
+	private IamToken requestToken() {
+		IamToken token = mock(IamToken.class);
+		when(token.getAccessToken()).thenReturn("token-" + this.requests.incrementAndGet());
+		when(token.getExpiresIn()).thenReturn(3600L);
+		return token;
+	}
+
+	private static class MutableClock extends Clock {
+
+		private Instant instant = Instant.parse("2024-01-01T00:00:00Z");
+
+		void advance(Duration duration) {
+			this.instant = this.instant.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return this.instant;
+		}
+
+	}
+
+}
@@ -0,0 +1,545 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.chat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ChatClient} and {@link StreamingChatClient} composed of the clients of several
+ * providers or deployments that serve the same prompts, for example OpenAI and Azure
+ * OpenAI.
+ *
+ * <p>
+ * Each prompt is routed to a client picked at random, weighted by a score that combines
+ * the configured weight with the observed latency and health of the client. The other
+ * clients follow in the order of their score:
+ * <ul>
+ * <li>When a client fails with a transient error, the prompt fails over to the next
+ * client right away.</li>
+ * <li>With {@link Builder#withHedgeDelay(Duration) hedging}, a client that has not
+ * answered after its 95th percentile latency gets a hedged request to the next client.
+ * The first client to answer wins and the other request is cancelled, so the tail
+ * latency of one provider does not become the latency of the application.</li>
+ * </ul>
+ *
+ * <p>
+ * A streaming client answers with its first response: the stream of the first client to
+ * respond is forwarded, and a stream that fails after its first response is not failed
+ * over, since that would repeat part of the answer.
+ *
+ * @since 1.0.0
+ */
+public class FailoverChatClient implements ChatClient, StreamingChatClient {
+
+	private static final Logger logger = LoggerFactory.getLogger(FailoverChatClient.class);
+
+	/**
+	 * The exceptions that fail over by default. They are matched by name since
+	 * spring-ai-core does not depend on spring-ai-retry.
+	 */
+	private static final Set<String> FAILOVER_EXCEPTIONS = Set.of("org.springframework.ai.retry.TransientAiException",
+			"org.springframework.ai.retry.circuitbreaker.CircuitBreakerOpenException",
+			"org.springframework.ai.retry.ratelimit.RateLimitExceededException");
+
+	private static final int LATENCY_WINDOW = 128;
+
+	private static final int MIN_LATENCY_SAMPLES = 20;
+
+	private static final double SMOOTHING = 0.2;
+
+	/**
+	 * Keeps some traffic on unhealthy clients, so that they are noticed when they
+	 * recover.
+	 */
+	private static final double MIN_HEALTH = 0.01;
+
+	/**
+	 * How much slower than its average latency a failed call is counted, so that a
+	 * client that fails fast does not look fast.
+	 */
+	private static final double FAILURE_LATENCY_PENALTY = 2;
+
+	private final List<Delegate> delegates;
+
+	private final Duration hedgeDelay;
+
+	private final double hedgePercentile;
+
+	private final Predicate<Throwable> failoverPredicate;
+
+	private final LongSupplier nanoClock;
+
+	private FailoverChatClient(List<Delegate> delegates, Duration hedgeDelay, double hedgePercentile,
+			Predicate<Throwable> failoverPredicate, LongSupplier nanoClock) {
+		this.delegates = List.copyOf(delegates);
+		this.hedgeDelay = hedgeDelay;
+		this.hedgePercentile = hedgePercentile;
+		this.failoverPredicate = failoverPredicate;
+		this.nanoClock = nanoClock;
+	}
+
+	/**
+	 * Calls the clients, cancelling the calls that lost a hedge race by interrupting
+	 * their thread.
+	 */
+	@Override
+	public ChatResponse call(Prompt prompt) {
+		return execute(this.delegates,
+				delegate -> Mono.fromCallable(() -> delegate.chatClient.call(prompt))
+					.subscribeOn(Schedulers.boundedElastic())
+					.flux())
+			.next()
+			.block();
+	}
+
+	@Override
+	public Flux<ChatResponse> stream(Prompt prompt) {
+		List<Delegate> streamingDelegates = this.delegates.stream()
+			.filter(delegate -> delegate.chatClient instanceof StreamingChatClient)
+			.toList();
+		if (streamingDelegates.isEmpty()) {
+			return Flux.error(new IllegalStateException("None of the chat clients supports streaming"));
+		}
+		return execute(streamingDelegates, delegate -> ((StreamingChatClient) delegate.chatClient).stream(prompt));
+	}
+
+	private <T> Flux<T> execute(List<Delegate> delegates, Function<Delegate, Flux<T>> call) {
+		return Flux.defer(() -> {
+			List<Delegate> routed = route(delegates);
+			return Flux.create(sink -> new Race<>(routed, call, sink).start());
+		});
+	}
+
+	/**
+	 * Orders the clients for one prompt: the first one is picked at random, weighted by
+	 * the scores, and the others follow by decreasing score. A client without a known
+	 * latency is scored with the mean latency of the others, so that it is neither
+	 * favoured nor starved until it is measured.
+	 */
+	private static List<Delegate> route(List<Delegate> delegates) {
+		double[] latencies = new double[delegates.size()];
+		double measuredLatency = 0;
+		int measured = 0;
+		for (int i = 0; i < latencies.length; i++) {
+			latencies[i] = delegates.get(i).averageLatencyNanos();
+			if (!Double.isNaN(latencies[i])) {
+				measuredLatency += latencies[i];
+				measured++;
+			}
+		}
+		double neutralLatency = (measured > 0) ? measuredLatency / measured : 0;
+
+		List<Scored> scored = new ArrayList<>(delegates.size());
+		double total = 0;
+		for (int i = 0; i < latencies.length; i++) {
+			Delegate delegate = delegates.get(i);
+			double score = delegate.score(Double.isNaN(latencies[i]) ? neutralLatency : latencies[i]);
+			scored.add(new Scored(delegate, score));
+			total += score;
+		}
+		scored.sort(Comparator.comparingDouble(Scored::score).reversed());
+
+		List<Delegate> routed = new ArrayList<>(delegates.size());
+		int first = 0;
+		double pick = ThreadLocalRandom.current().nextDouble() * total;
+		for (int i = 0; i < scored.size() && total > 0; i++) {
+			pick -= scored.get(i).score();
+			if (pick < 0) {
+				first = i;
+				break;
+			}
+		}
+		routed.add(scored.get(first).delegate());
+		for (int i = 0; i < scored.size(); i++) {
+			if (i != first) {
+				routed.add(scored.get(i).delegate());
+			}
+		}
+		return routed;
+	}
+
+	/**
+	 * @return the delay after which a client that has not answered gets a hedged
+	 * request, or {@code null} when requests are not hedged.
+	 */
+	private Duration hedgeDelay(Delegate delegate) {
+		if (this.hedgeDelay == null) {
+			return null;
+		}
+		Duration percentile = (this.hedgePercentile > 0) ? delegate.latencyPercentile(this.hedgePercentile) : null;
+		return (percentile != null) ? percentile : this.hedgeDelay;
+	}
+
+	private static boolean isTransient(Throwable throwable) {
+		for (Class<?> type = throwable.getClass(); type != null; type = type.getSuperclass()) {
+			if (FAILOVER_EXCEPTIONS.contains(type.getName())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private record Scored(Delegate delegate, double score) {
+	}
+
+	/**
+	 * One of the composed clients, with its latency and health statistics. The latency
+	 * of a streaming call is the time to its first response.
+	 */
+	private static final class Delegate {
+
+		private final String name;
+
+		private final ChatClient chatClient;
+
+		private final double weight;
+
+		private final long[] latencies = new long[LATENCY_WINDOW];
+
+		private long latencyCount;
+
+		private double averageLatencyNanos;
+
+		private double health = 1;
+
+		private Delegate(String name, ChatClient chatClient, double weight) {
+			this.name = name;
+			this.chatClient = chatClient;
+			this.weight = weight;
+		}
+
+		synchronized void onSuccess(long latencyNanos) {
+			recordLatency(latencyNanos);
+			this.health += SMOOTHING * (1 - this.health);
+		}
+
+		/**
+		 * Records a failed call: it lowers the health, and counts the call as slower than
+		 * the average latency, or than the time it took to fail if that is longer.
+		 */
+		synchronized void onFailure(long latencyNanos) {
+			this.health -= SMOOTHING * this.health;
+			if (this.latencyCount > 0) {
+				double penalty = Math.max(latencyNanos, FAILURE_LATENCY_PENALTY * this.averageLatencyNanos);
+				this.averageLatencyNanos += SMOOTHING * (penalty - this.averageLatencyNanos);
+			}
+		}
+
+		synchronized void recordLatency(long latencyNanos) {
+			this.latencies[(int) (this.latencyCount++ % LATENCY_WINDOW)] = latencyNanos;
+			this.averageLatencyNanos = (this.latencyCount == 1) ? latencyNanos
+					: this.averageLatencyNanos + SMOOTHING * (latencyNanos - this.averageLatencyNanos);
+		}
+
+		/**
+		 * @return the average latency, or {@link Double#NaN} when no call has succeeded
+		 * yet.
+		 */
+		synchronized double averageLatencyNanos() {
+			return (this.latencyCount > 0) ? this.averageLatencyNanos : Double.NaN;
+		}
+
+		synchronized double score(double latencyNanos) {
+			double latencyMillis = Math.max(1, latencyNanos / 1_000_000);
+			return this.weight * Math.max(MIN_HEALTH, this.health) / latencyMillis;
+		}
+
+		synchronized Duration latencyPercentile(double percentile) {
+			if (this.latencyCount < MIN_LATENCY_SAMPLES) {
+				return null;
+			}
+			int count = (int) Math.min(this.latencyCount, LATENCY_WINDOW);
+			long[] sorted = Arrays.copyOf(this.latencies, count);
+			Arrays.sort(sorted);
+			return Duration.ofNanos(sorted[Math.max(0, (int) Math.ceil(percentile * count) - 1)]);
+		}
+
+	}
+
+	/**
+	 * The requests of one prompt, from the first client until one of them answers or all
+	 * of them failed.
+	 */
+	private final class Race<T> {
+
+		private final List<Delegate> delegates;
+
+		private final Function<Delegate, Flux<T>> call;
+
+		private final FluxSink<T> sink;
+
+		private final Disposable[] attempts;
+
+		private final long[] startedAt;
+
+		private final List<Throwable> failures = new ArrayList<>();
+
+		private Disposable hedge;
+
+		private int started;
+
+		private int running;
+
+		private int winner = -1;
+
+		private boolean done;
+
+		Race(List<Delegate> delegates, Function<Delegate, Flux<T>> call, FluxSink<T> sink) {
+			this.delegates = delegates;
+			this.call = call;
+			this.sink = sink;
+			this.attempts = new Disposable[delegates.size()];
+			this.startedAt = new long[delegates.size()];
+		}
+
+		synchronized void start() {
+			this.sink.onDispose(this::finish);
+			startNext();
+		}
+
+		private void startNext() {
+			if (this.done || this.started >= this.delegates.size()) {
+				return;
+			}
+			int index = this.started++;
+			this.running++;
+			Delegate delegate = this.delegates.get(index);
+			this.startedAt[index] = FailoverChatClient.this.nanoClock.getAsLong();
+
+			disposeHedge();
+			Duration delay = (this.started < this.delegates.size()) ? hedgeDelay(delegate) : null;
+			if (delay != null) {
+				this.hedge = Mono.delay(delay).subscribe(tick -> hedge(delegate));
+			}
+
+			this.attempts[index] = Flux.defer(() -> this.call.apply(delegate))
+				.subscribe(element -> onNext(index, element), ex -> onError(index, ex), () -> onComplete(index));
+		}
+
+		private synchronized void hedge(Delegate delegate) {
+			if (!this.done && this.winner == -1) {
+				logger.debug("Chat client {} did not answer in time, sending a hedged request", delegate.name);
+				startNext();
+			}
+		}
+
+		private synchronized void onNext(int index, T element) {
+			if (this.done) {
+				return;
+			}
+			if (this.winner == -1) {
+				win(index);
+			}
+			if (this.winner == index) {
+				this.sink.next(element);
+			}
+		}
+
+		private synchronized void onError(int index, Throwable ex) {
+			if (this.done || (this.winner != -1 && this.winner != index)) {
+				return;
+			}
+			Delegate delegate = this.delegates.get(index);
+			delegate.onFailure(FailoverChatClient.this.nanoClock.getAsLong() - this.startedAt[index]);
+			if (this.winner == index || !FailoverChatClient.this.failoverPredicate.test(ex)) {
+				finish();
+				this.sink.error(ex);
+				return;
+			}
+			logger.warn("Chat client {} failed, failing over", delegate.name, ex);
+			this.running--;
+			this.failures.add(ex);
+			if (this.started < this.delegates.size()) {
+				startNext();
+				return;
+			}
+			if (this.running > 0) {
+				// A hedged request is still in flight.
+				return;
+			}
+			finish();
+			Throwable last = this.failures.get(this.failures.size() - 1);
+			for (Throwable failure : this.failures) {
+				if (failure != last) {
+					last.addSuppressed(failure);
+				}
+			}
+			this.sink.error(last);
+		}
+
+		private synchronized void onComplete(int index) {
+			if (this.done) {
+				return;
+			}
+			if (this.winner == -1) {
+				win(index);
+			}
+			if (this.winner == index) {
+				finish();
+				this.sink.complete();
+			}
+		}
+
+		private void win(int index) {
+			this.winner = index;
+			long now = FailoverChatClient.this.nanoClock.getAsLong();
+			this.delegates.get(index).onSuccess(now - this.startedAt[index]);
+			disposeHedge();
+			for (int i = 0; i < this.started; i++) {
+				if (i != index && this.attempts[i] != null && !this.attempts[i].isDisposed()) {
+					// The loser would have taken at least as long as the winner.
+					this.delegates.get(i).recordLatency(now - this.startedAt[i]);
+					this.attempts[i].dispose();
+				}
+			}
+		}
+
+		private synchronized void finish() {
+			this.done = true;
+			disposeHedge();
+			for (Disposable attempt : this.attempts) {
+				if (attempt != null) {
+					attempt.dispose();
+				}
+			}
+		}
+
+		private void disposeHedge() {
+			if (this.hedge != null) {
+				this.hedge.dispose();
+				this.hedge = null;
+			}
+		}
+
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	public static class Builder {
+
+		private final List<Delegate> delegates = new ArrayList<>();
+
+		private Duration hedgeDelay;
+
+		private double hedgePercentile = 0.95;
+
+		private Predicate<Throwable> failoverPredicate = FailoverChatClient::isTransient;
+
+		private LongSupplier nanoClock = System::nanoTime;
+
+		/**
+		 * Adds a client with a weight of 1.
+		 * @param name the name of the client, used in the logs.
+		 * @param chatClient the client. It is also used for streaming if it is a
+		 * {@link StreamingChatClient}.
+		 * @return this builder.
+		 */
+		public Builder withClient(String name, ChatClient chatClient) {
+			return withClient(name, chatClient, 1);
+		}
+
+		/**
+		 * Adds a client.
+		 * @param name the name of the client, used in the logs.
+		 * @param chatClient the client. It is also used for streaming if it is a
+		 * {@link StreamingChatClient}.
+		 * @param weight the share of the prompts sent to the client first, relative to
+		 * the other clients with the same latency and health. A client with a weight of
+		 * {@code 0} is only used for failover and hedged requests.
+		 * @return this builder.
+		 */
+		public Builder withClient(String name, ChatClient chatClient, double weight) {
+			Assert.hasText(name, "name must not be empty");
+			Assert.notNull(chatClient, "chatClient must not be null");
+			Assert.isTrue(weight >= 0, "weight must not be negative");
+			this.delegates.add(new Delegate(name, chatClient, weight));
+			return this;
+		}
+
+		/**
+		 * Enables hedged requests.
+		 * @param hedgeDelay the delay after which a client that has not answered gets a
+		 * hedged request, until enough of its latencies are known to use the
+		 * {@link #withHedgePercentile(double) percentile} instead.
+		 * @return this builder.
+		 */
+		public Builder withHedgeDelay(Duration hedgeDelay) {
+			Assert.isTrue(hedgeDelay == null || !hedgeDelay.isNegative(), "hedgeDelay must not be negative");
+			this.hedgeDelay = hedgeDelay;
+			return this;
+		}
+
+		/**
+		 * @param hedgePercentile the percentile of the recent latencies of a client after
+		 * which it gets a hedged request, {@code 0.95} by default. With {@code 0}, the
+		 * {@link #withHedgeDelay(Duration) hedge delay} is always used.
+		 * @return this builder.
+		 */
+		public Builder withHedgePercentile(double hedgePercentile) {
+			Assert.isTrue(hedgePercentile >= 0 && hedgePercentile <= 1, "hedgePercentile must be between 0 and 1");
+			this.hedgePercentile = hedgePercentile;
+			return this;
+		}
+
+		/**
+		 * @param failoverPredicate the errors that fail over to the next client. By
+		 * default, {@code TransientAiException}, {@code CircuitBreakerOpenException} and
+		 * {@code RateLimitExceededException}.
+		 * Other errors are returned to the caller.
+		 * @return this builder.
+		 */
+		public Builder withFailoverOn(Predicate<Throwable> failoverPredicate) {
+			Assert.notNull(failoverPredicate, "failoverPredicate must not be null");
+			this.failoverPredicate = failoverPredicate;
+			return this;
+		}
+
+		Builder withNanoClock(LongSupplier nanoClock) {
+			this.nanoClock = nanoClock;
+			return this;
+		}
+
+		public FailoverChatClient build() {
+			Assert.notEmpty(this.delegates, "At least one chat client is required");
+			return new FailoverChatClient(this.delegates, this.hedgeDelay, this.hedgePercentile,
+					this.failoverPredicate, this.nanoClock);
+		}
+
+	}
+
+}
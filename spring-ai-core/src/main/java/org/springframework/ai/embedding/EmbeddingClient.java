@@ -60,6 +60,19 @@ public interface EmbeddingClient extends ModelClient<EmbeddingRequest, Embedding
 			.toList();
 	}
 
+	/**
+	 * Embeds a batch of documents into vectors. Each document is mapped to the same text
+	 * as by {@link #embed(Document)}, so that the vectors do not depend on whether the
+	 * documents are embedded one by one or in a batch. Clients that embed several texts
+	 * in one request override it to do so.
+	 * @param documents the documents to embed.
+	 * @return the embedded vectors, in the order of the documents.
+	 */
+	default List<List<Double>> embedDocuments(List<Document> documents) {
+		Assert.notNull(documents, "Documents must not be null");
+		return documents.stream().map(this::embed).toList();
+	}
+
 	/**
 	 * Embeds a batch of texts into vectors and returns the {@link EmbeddingResponse}.
 	 * @param texts list of texts to embed.
@@ -0,0 +1,28 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.model.sse;
+
+/**
+ * A server-sent event whose data has been decoded by a {@link SseJsonDecoder}.
+ *
+ * @param <T> the type of the event data.
+ * @param id the event id, or {@code null}.
+ * @param event the event type, or {@code null} for the default {@code message} type.
+ * @param data the decoded event data, or {@code null} if the event has no data.
+ * @since 1.0.0
+ */
+public record SseEvent<T>(String id, String event, T data) {
+}
@@ -0,0 +1,406 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.model.sse;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import reactor.core.publisher.Flux;
+
+import org.springframework.ai.model.ModelOptionsUtils;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.util.Assert;
+
+/**
+ * Decodes a {@code text/event-stream} body into {@link SseEvent}s whose data is JSON.
+ *
+ * <p>
+ * The event frames are parsed straight from the {@link DataBuffer}s of the response and
+ * the data is fed to a non-blocking Jackson parser as it arrives, so that neither the
+ * events nor their data are materialized as {@link String}s. Each buffer is released as
+ * soon as it has been parsed. The stream completes at the {@code [DONE]} event that
+ * OpenAI compatible APIs send at the end of the stream.
+ *
+ * @param <T> the type of the event data.
+ * @since 1.0.0
+ */
+public class SseJsonDecoder<T> {
+
+	private static final byte[] DONE = "[DONE]".getBytes(StandardCharsets.US_ASCII);
+
+	private static final SseEvent<?> DONE_EVENT = new SseEvent<>(null, "[DONE]", null);
+
+	private final ObjectMapper objectMapper;
+
+	private final ObjectReader reader;
+
+	/**
+	 * Creates a decoder using {@link ModelOptionsUtils#OBJECT_MAPPER}.
+	 * @param type the type of the event data.
+	 */
+	public SseJsonDecoder(Class<T> type) {
+		this(ModelOptionsUtils.OBJECT_MAPPER, type);
+	}
+
+	public SseJsonDecoder(ObjectMapper objectMapper, Class<T> type) {
+		this(objectMapper, objectMapper.constructType(type));
+	}
+
+	public SseJsonDecoder(ObjectMapper objectMapper, JavaType type) {
+		Assert.notNull(objectMapper, "ObjectMapper must not be null");
+		Assert.notNull(type, "Type must not be null");
+		this.objectMapper = objectMapper;
+		this.reader = objectMapper.readerFor(type);
+	}
+
+	/**
+	 * Decodes the events of the body.
+	 * @param body the response body.
+	 * @return the events, up to the {@code [DONE]} event if any.
+	 */
+	public Flux<SseEvent<T>> decode(Flux<DataBuffer> body) {
+		return Flux.defer(() -> {
+			EventParser parser = new EventParser();
+			return body.concatMapIterable(parser::parse)
+				.concatWith(Flux.defer(() -> Flux.fromIterable(parser.endOfInput())))
+				.takeWhile(event -> event != DONE_EVENT);
+		}).doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+	}
+
+	/**
+	 * Decodes the data of the events of the body, skipping the events without data.
+	 * @param body the response body.
+	 * @return the event data, up to the {@code [DONE]} event if any.
+	 */
+	public Flux<T> decodeData(Flux<DataBuffer> body) {
+		return decode(body).mapNotNull(SseEvent::data);
+	}
+
+	/**
+	 * Parses the event frames of one stream. Lines may be split across buffers, so the
+	 * parser keeps the state of the current line and event between buffers.
+	 */
+	private class EventParser {
+
+		private static final int FIELD = 0;
+
+		private static final int VALUE_START = 1;
+
+		private static final int VALUE = 2;
+
+		private static final int OTHER_FIELD = 0;
+
+		private static final int DATA_FIELD = 1;
+
+		private static final int EVENT_FIELD = 2;
+
+		private static final int ID_FIELD = 3;
+
+		private final JsonParser jsonParser;
+
+		private final ByteBufferFeeder feeder;
+
+		private int lineState = FIELD;
+
+		private boolean skipLineFeed;
+
+		private final byte[] field = new byte[8];
+
+		private int fieldLength;
+
+		private int fieldType;
+
+		private byte[] value = new byte[32];
+
+		private int valueLength;
+
+		private int dataLines;
+
+		// Number of bytes of the data matching [DONE], -1 once the data is known to be JSON.
+		private int doneMatch = -1;
+
+		private boolean done;
+
+		private String eventType;
+
+		private String id;
+
+		private TokenBuffer tokens;
+
+		private int depth;
+
+		private T data;
+
+		private List<SseEvent<T>> events = new ArrayList<>();
+
+		EventParser() {
+			try {
+				this.jsonParser = SseJsonDecoder.this.objectMapper.getFactory().createNonBlockingByteBufferParser();
+			}
+			catch (IOException ex) {
+				throw new IllegalStateException("Failed to create a non-blocking JSON parser", ex);
+			}
+			this.feeder = (ByteBufferFeeder) this.jsonParser.getNonBlockingInputFeeder();
+		}
+
+		List<SseEvent<T>> parse(DataBuffer buffer) {
+			try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+				while (iterator.hasNext()) {
+					parse(iterator.next());
+				}
+			}
+			finally {
+				DataBufferUtils.release(buffer);
+			}
+			return takeEvents();
+		}
+
+		List<SseEvent<T>> endOfInput() {
+			if (this.lineState != FIELD || this.fieldLength > 0) {
+				endOfLine();
+			}
+			this.feeder.endOfInput();
+			drain();
+			if (this.data != null || this.eventType != null || this.done) {
+				dispatch();
+			}
+			if (this.tokens != null) {
+				throw new DecodingException("Incomplete JSON data at the end of the event stream");
+			}
+			return takeEvents();
+		}
+
+		private List<SseEvent<T>> takeEvents() {
+			if (this.events.isEmpty()) {
+				return List.of();
+			}
+			List<SseEvent<T>> events = this.events;
+			this.events = new ArrayList<>();
+			return events;
+		}
+
+		private void parse(ByteBuffer buffer) {
+			int i = buffer.position();
+			int limit = buffer.limit();
+			while (i < limit) {
+				byte b = buffer.get(i);
+				if (this.skipLineFeed) {
+					this.skipLineFeed = false;
+					if (b == '\n') {
+						i++;
+						continue;
+					}
+				}
+				if (b == '\r' || b == '\n') {
+					endOfLine();
+					this.skipLineFeed = (b == '\r');
+					i++;
+				}
+				else if (this.lineState == FIELD) {
+					if (b == ':') {
+						startValue();
+					}
+					else if (this.fieldLength < this.field.length) {
+						this.field[this.fieldLength++] = b;
+					}
+					else {
+						// Longer than any known field name.
+						this.fieldLength = this.field.length + 1;
+					}
+					i++;
+				}
+				else if (this.lineState == VALUE_START) {
+					this.lineState = VALUE;
+					if (b == ' ') {
+						i++;
+					}
+				}
+				else if (this.fieldType == DATA_FIELD && this.doneMatch < 0) {
+					int end = i;
+					while (end < limit && buffer.get(end) != '\r' && buffer.get(end) != '\n') {
+						end++;
+					}
+					feedJson(buffer.slice(i, end - i));
+					i = end;
+				}
+				else if (this.fieldType == DATA_FIELD) {
+					if (this.doneMatch < DONE.length && b == DONE[this.doneMatch]) {
+						this.doneMatch++;
+						i++;
+					}
+					else {
+						// Not [DONE] after all: the byte is parsed as JSON on the next turn.
+						feedJson(ByteBuffer.wrap(DONE, 0, this.doneMatch));
+						this.doneMatch = -1;
+					}
+				}
+				else {
+					if (this.fieldType != OTHER_FIELD) {
+						appendValue(b);
+					}
+					i++;
+				}
+			}
+		}
+
+		private void startValue() {
+			this.fieldType = fieldType();
+			this.lineState = VALUE_START;
+			this.valueLength = 0;
+			if (this.fieldType == DATA_FIELD) {
+				if (this.dataLines++ > 0) {
+					// Data lines are joined with a line feed, which is whitespace to JSON.
+					feedJson(ByteBuffer.wrap(new byte[] { '\n' }));
+				}
+				this.doneMatch = (this.tokens == null && this.data == null) ? 0 : -1;
+			}
+		}
+
+		private void endOfLine() {
+			if (this.lineState == FIELD) {
+				if (this.fieldLength == 0) {
+					dispatch();
+					return;
+				}
+				// A field name without a colon has an empty value.
+				startValue();
+			}
+			if (this.fieldType == DATA_FIELD) {
+				if (this.doneMatch == DONE.length) {
+					this.done = true;
+				}
+				else if (this.doneMatch > 0) {
+					feedJson(ByteBuffer.wrap(DONE, 0, this.doneMatch));
+				}
+				this.doneMatch = -1;
+			}
+			else if (this.fieldType == EVENT_FIELD) {
+				this.eventType = new String(this.value, 0, this.valueLength, StandardCharsets.UTF_8);
+			}
+			else if (this.fieldType == ID_FIELD) {
+				this.id = new String(this.value, 0, this.valueLength, StandardCharsets.UTF_8);
+			}
+			this.lineState = FIELD;
+			this.fieldLength = 0;
+		}
+
+		private void dispatch() {
+			if (this.tokens != null) {
+				throw new DecodingException("Incomplete JSON data in server-sent event");
+			}
+			if (this.done) {
+				@SuppressWarnings("unchecked")
+				SseEvent<T> doneEvent = (SseEvent<T>) DONE_EVENT;
+				this.events.add(doneEvent);
+			}
+			else if (this.data != null || this.eventType != null) {
+				this.events.add(new SseEvent<>(this.id, this.eventType, this.data));
+			}
+			this.id = null;
+			this.eventType = null;
+			this.data = null;
+			this.dataLines = 0;
+			this.done = false;
+		}
+
+		private int fieldType() {
+			if (matches("data")) {
+				return DATA_FIELD;
+			}
+			if (matches("event")) {
+				return EVENT_FIELD;
+			}
+			if (matches("id")) {
+				return ID_FIELD;
+			}
+			return OTHER_FIELD;
+		}
+
+		private boolean matches(String name) {
+			if (this.fieldLength != name.length()) {
+				return false;
+			}
+			for (int i = 0; i < this.fieldLength; i++) {
+				if (this.field[i] != name.charAt(i)) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private void appendValue(byte b) {
+			if (this.valueLength == this.value.length) {
+				byte[] value = new byte[this.value.length * 2];
+				System.arraycopy(this.value, 0, value, 0, this.valueLength);
+				this.value = value;
+			}
+			this.value[this.valueLength++] = b;
+		}
+
+		private void feedJson(ByteBuffer buffer) {
+			if (!buffer.hasRemaining()) {
+				return;
+			}
+			try {
+				this.feeder.feedInput(buffer);
+			}
+			catch (IOException ex) {
+				throw new DecodingException("Failed to feed server-sent event data to the JSON parser", ex);
+			}
+			drain();
+		}
+
+		private void drain() {
+			try {
+				JsonToken token;
+				while ((token = this.jsonParser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+					if (this.tokens == null) {
+						this.tokens = new TokenBuffer(this.jsonParser);
+					}
+					this.tokens.copyCurrentEvent(this.jsonParser);
+					if (token.isStructStart()) {
+						this.depth++;
+					}
+					else if (token.isStructEnd()) {
+						this.depth--;
+					}
+					if (this.depth == 0) {
+						this.data = SseJsonDecoder.this.reader
+							.readValue(this.tokens.asParser(SseJsonDecoder.this.objectMapper));
+						this.tokens = null;
+					}
+				}
+			}
+			catch (IOException ex) {
+				throw new DecodingException("Failed to decode server-sent event data", ex);
+			}
+		}
+
+	}
+
+}
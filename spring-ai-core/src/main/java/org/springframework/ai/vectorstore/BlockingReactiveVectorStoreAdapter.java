@@ -0,0 +1,63 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.vectorstore;
+
+import java.util.List;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import org.springframework.ai.document.Document;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ReactiveVectorStore} view of a blocking {@link VectorStore}. Every operation is
+ * subscribed on the given {@link Scheduler}.
+ */
+final class BlockingReactiveVectorStoreAdapter implements ReactiveVectorStore {
+
+	private final VectorStore vectorStore;
+
+	private final Scheduler scheduler;
+
+	BlockingReactiveVectorStoreAdapter(VectorStore vectorStore, Scheduler scheduler) {
+		Assert.notNull(vectorStore, "VectorStore must not be null");
+		Assert.notNull(scheduler, "Scheduler must not be null");
+		this.vectorStore = vectorStore;
+		this.scheduler = scheduler;
+	}
+
+	@Override
+	public Mono<Void> addReactive(List<Document> documents) {
+		return Mono.<Void>fromRunnable(() -> this.vectorStore.add(documents)).subscribeOn(this.scheduler);
+	}
+
+	@Override
+	public Mono<Boolean> deleteReactive(List<String> idList) {
+		return Mono.fromCallable(() -> this.vectorStore.delete(idList))
+			.flatMap(Mono::justOrEmpty)
+			.subscribeOn(this.scheduler);
+	}
+
+	@Override
+	public Flux<Document> similaritySearchReactive(SearchRequest request) {
+		return Mono.fromCallable(() -> this.vectorStore.similaritySearch(request))
+			.flatMapIterable(documents -> documents)
+			.subscribeOn(this.scheduler);
+	}
+
+}
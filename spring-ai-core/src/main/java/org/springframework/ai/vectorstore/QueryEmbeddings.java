@@ -0,0 +1,80 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.vectorstore;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.ai.embedding.EmbeddingClient;
+
+/**
+ * Resolves the query embeddings of {@link SearchRequest}s, using the precomputed
+ * {@link SearchRequest#getQueryEmbedding()} when present and the {@link EmbeddingClient}
+ * otherwise.
+ */
+public final class QueryEmbeddings {
+
+	private QueryEmbeddings() {
+	}
+
+	/**
+	 * Returns the query embedding of the request.
+	 * @param embeddingClient the client used when the request has no precomputed
+	 * embedding.
+	 * @param request the search request.
+	 * @return the query embedding.
+	 */
+	public static List<Double> embed(EmbeddingClient embeddingClient, SearchRequest request) {
+		if (request.hasQueryEmbedding()) {
+			return toDoubleList(request.getQueryEmbedding());
+		}
+		return embeddingClient.embed(request.getQuery());
+	}
+
+	/**
+	 * Returns the query embeddings of the requests, in order. The queries without a
+	 * precomputed embedding are embedded with a single call.
+	 * @param embeddingClient the client used for the requests without precomputed
+	 * embedding.
+	 * @param requests the search requests.
+	 * @return the query embeddings.
+	 */
+	public static List<List<Double>> embed(EmbeddingClient embeddingClient, List<SearchRequest> requests) {
+		List<String> queries = requests.stream()
+			.filter(request -> !request.hasQueryEmbedding())
+			.map(SearchRequest::getQuery)
+			.toList();
+
+		List<List<Double>> embeddings = queries.isEmpty() ? List.of() : embeddingClient.embed(queries);
+
+		List<List<Double>> result = new ArrayList<>(requests.size());
+		int next = 0;
+		for (SearchRequest request : requests) {
+			result.add(
+					request.hasQueryEmbedding() ? toDoubleList(request.getQueryEmbedding()) : embeddings.get(next++));
+		}
+		return result;
+	}
+
+	private static List<Double> toDoubleList(float[] embedding) {
+		List<Double> result = new ArrayList<>(embedding.length);
+		for (float value : embedding) {
+			result.add((double) value);
+		}
+		return result;
+	}
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.vectorstore;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import org.springframework.ai.document.Document;
+
+/**
+ * Non-blocking counterpart of the {@link VectorStore} operations. Vector stores backed by
+ * an asynchronous client implement it natively. Any other {@link VectorStore} can be
+ * adapted with {@link #of(VectorStore)}, which runs the blocking calls on a dedicated
+ * scheduler so that they never block the calling event loop.
+ *
+ * <p>
+ * The methods are suffixed with {@code Reactive} so that a store can implement both
+ * contracts.
+ */
+public interface ReactiveVectorStore {
+
+	/**
+	 * Adds list of {@link Document}s to the vector store.
+	 * @param documents the list of documents to store.
+	 * @return a {@link Mono} that completes once the documents are stored.
+	 */
+	Mono<Void> addReactive(List<Document> documents);
+
+	/**
+	 * Deletes documents from the vector store.
+	 * @param idList list of document ids for which documents will be removed.
+	 * @return whether all documents were deleted, or an empty {@link Mono} if the store
+	 * cannot tell.
+	 */
+	Mono<Boolean> deleteReactive(List<String> idList);
+
+	/**
+	 * Retrieves documents by query embedding similarity and metadata filters.
+	 * @param request search request for set search parameters, such as the query text,
+	 * topK, similarity threshold and metadata filter expressions.
+	 * @return the documents that match the query request conditions.
+	 */
+	Flux<Document> similaritySearchReactive(SearchRequest request);
+
+	/**
+	 * Retrieves documents by query embedding similarity using the default
+	 * {@link SearchRequest}'s search criteria.
+	 * @param query text to use for embedding similarity comparison.
+	 * @return the documents that have embeddings similar to the query text embedding.
+	 */
+	default Flux<Document> similaritySearchReactive(String query) {
+		return similaritySearchReactive(SearchRequest.query(query));
+	}
+
+	/**
+	 * Returns the store itself when it implements {@link ReactiveVectorStore}, or an
+	 * adapter that runs its blocking operations on {@link Schedulers#boundedElastic()}.
+	 * On Java 21 the bounded elastic scheduler can be backed by virtual threads with the
+	 * {@code reactor.schedulers.defaultBoundedElasticOnVirtualThreads} system property.
+	 * @param vectorStore the vector store to adapt.
+	 * @return the reactive vector store.
+	 */
+	static ReactiveVectorStore of(VectorStore vectorStore) {
+		if (vectorStore instanceof ReactiveVectorStore reactiveVectorStore) {
+			return reactiveVectorStore;
+		}
+		return new BlockingReactiveVectorStoreAdapter(vectorStore, Schedulers.boundedElastic());
+	}
+
+	/**
+	 * Returns an adapter that runs the blocking operations of the vector store on the
+	 * given executor, for example {@code Executors.newVirtualThreadPerTaskExecutor()}.
+	 * @param vectorStore the vector store to adapt.
+	 * @param executor the executor running the blocking operations.
+	 * @return the reactive vector store.
+	 */
+	static ReactiveVectorStore of(VectorStore vectorStore, Executor executor) {
+		return new BlockingReactiveVectorStoreAdapter(vectorStore, Schedulers.fromExecutor(executor));
+	}
+
+}
@@ -21,6 +21,7 @@ import org.springframework.ai.vectorstore.filter.FilterExpressionBuilder;
 import org.springframework.ai.vectorstore.filter.FilterExpressionTextParser;
 import org.springframework.util.Assert;
 
+import java.util.Arrays;
 import java.util.Objects;
 
 /**
@@ -52,6 +53,8 @@ public class SearchRequest {
 
 	private Filter.Expression filterExpression;
 
+	private float[] queryEmbedding;
+
 	private SearchRequest(String query) {
 		this.query = query;
 	}
@@ -78,14 +81,17 @@ public class SearchRequest {
 	}
 
 	/**
-	 * Copy an existing {@link SearchRequest} instance.
+	 * Copy an existing {@link SearchRequest} instance. The query embedding is copied too,
+	 * so that changing the copy does not change the original.
 	 * @param originalSearchRequest {@link SearchRequest} instance to copy.
 	 * @return Returns new {@link SearchRequest} builder instance.
 	 */
 	public static SearchRequest from(SearchRequest originalSearchRequest) {
+		float[] queryEmbedding = originalSearchRequest.getQueryEmbedding();
 		return new SearchRequest(originalSearchRequest.getQuery()).withTopK(originalSearchRequest.getTopK())
 			.withSimilarityThreshold(originalSearchRequest.getSimilarityThreshold())
-			.withFilterExpression(originalSearchRequest.getFilterExpression());
+			.withFilterExpression(originalSearchRequest.getFilterExpression())
+			.withQueryEmbedding((queryEmbedding != null) ? queryEmbedding.clone() : null);
 	}
 
 	/**
@@ -230,10 +236,38 @@ public class SearchRequest {
 		return this;
 	}
 
+	/**
+	 * Precomputed embedding of the query. When set, the vector stores use it as is and
+	 * do not embed the query text, so a single embedding can be reused across stores and
+	 * requests. It must be computed with the same embedding model as the stored
+	 * documents. The request keeps a reference to the given array instead of a copy, so
+	 * changing the array afterwards changes the request. Only {@link #from(SearchRequest)}
+	 * copies the array.
+	 * @param queryEmbedding the query vector, or 'null' to embed the query text.
+	 * @return this builder.
+	 */
+	public SearchRequest withQueryEmbedding(float[] queryEmbedding) {
+		this.queryEmbedding = queryEmbedding;
+		return this;
+	}
+
 	public String getQuery() {
 		return query;
 	}
 
+	/**
+	 * Returns the array set with {@link #withQueryEmbedding(float[])} itself, not a
+	 * copy. Callers must not modify it.
+	 * @return the precomputed query embedding, or 'null' to embed the query text.
+	 */
+	public float[] getQueryEmbedding() {
+		return queryEmbedding;
+	}
+
+	public boolean hasQueryEmbedding() {
+		return this.queryEmbedding != null;
+	}
+
 	public int getTopK() {
 		return topK;
 	}
@@ -253,7 +287,8 @@ public class SearchRequest {
 	@Override
 	public String toString() {
 		return "SearchRequest{" + "query='" + query + '\'' + ", topK=" + topK + ", similarityThreshold="
-				+ similarityThreshold + ", filterExpression=" + filterExpression + '}';
+				+ similarityThreshold + ", filterExpression=" + filterExpression + ", queryEmbedding="
+				+ ((queryEmbedding != null) ? "float[" + queryEmbedding.length + "]" : null) + '}';
 	}
 
 	@Override
@@ -264,12 +299,13 @@ public class SearchRequest {
 			return false;
 		SearchRequest that = (SearchRequest) o;
 		return topK == that.topK && Double.compare(that.similarityThreshold, similarityThreshold) == 0
-				&& Objects.equals(query, that.query) && Objects.equals(filterExpression, that.filterExpression);
+				&& Objects.equals(query, that.query) && Objects.equals(filterExpression, that.filterExpression)
+				&& Arrays.equals(queryEmbedding, that.queryEmbedding);
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(query, topK, similarityThreshold, filterExpression);
+		return 31 * Objects.hash(query, topK, similarityThreshold, filterExpression) + Arrays.hashCode(queryEmbedding);
 	}
 
 }
\ No newline at end of file
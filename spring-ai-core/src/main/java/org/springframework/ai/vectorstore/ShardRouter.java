@@ -0,0 +1,86 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.vectorstore;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.ai.document.Document;
+import org.springframework.util.Assert;
+
+/**
+ * Chooses the shard of a {@link ShardedVectorStore} that a document is written to.
+ */
+@FunctionalInterface
+public interface ShardRouter {
+
+	/**
+	 * Returns the name of the shard the document belongs to.
+	 * @param document the document to route.
+	 * @param shardNames the names of all shards, in registration order.
+	 * @return one of the shard names.
+	 */
+	String route(Document document, List<String> shardNames);
+
+	/**
+	 * Returns the name of the shard holding the document with the given id, when it can
+	 * be derived from the id alone. Deletes of ids without a shard are sent to all
+	 * shards.
+	 * @param id the document id.
+	 * @param shardNames the names of all shards, in registration order.
+	 * @return the shard name, or empty if the id alone does not determine the shard.
+	 */
+	default Optional<String> routeId(String id, List<String> shardNames) {
+		return Optional.empty();
+	}
+
+	/**
+	 * Routes documents by the hash of their id. Deletes are routed the same way.
+	 * @return the router.
+	 */
+	static ShardRouter byIdHash() {
+		return new ShardRouter() {
+
+			@Override
+			public String route(Document document, List<String> shardNames) {
+				return routeId(document.getId(), shardNames).get();
+			}
+
+			@Override
+			public Optional<String> routeId(String id, List<String> shardNames) {
+				return Optional.of(shardNames.get(Math.floorMod(id.hashCode(), shardNames.size())));
+			}
+
+		};
+	}
+
+	/**
+	 * Routes documents by a metadata field. A value equal to a shard name selects that
+	 * shard, any other value is hashed. Deletes are sent to all shards.
+	 * @param metadataKey the metadata field holding the shard key.
+	 * @return the router.
+	 */
+	static ShardRouter byMetadata(String metadataKey) {
+		Assert.hasText(metadataKey, "metadataKey must not be empty");
+		return (document, shardNames) -> {
+			Object value = document.getMetadata().get(metadataKey);
+			Assert.notNull(value, () -> "Document " + document.getId() + " has no '" + metadataKey + "' metadata");
+			String key = value.toString();
+			return shardNames.contains(key) ? key : shardNames.get(Math.floorMod(key.hashCode(), shardNames.size()));
+		};
+	}
+
+}
@@ -0,0 +1,529 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.vectorstore;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.ai.document.Document;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link VectorStore} that spreads documents over several named shards, each of them
+ * any other {@link VectorStore}. Writes are routed by a {@link ShardRouter}. Searches
+ * are sent to all shards concurrently, each with its own timeout, and the results are
+ * merged by score into a global top-K. The shards are called on a thread pool shared by
+ * all the operations of the store, unless another {@link Builder#withExecutor executor}
+ * is configured.
+ *
+ * <p>
+ * A search succeeds as long as one shard answers. Use {@link #search(SearchRequest)} to
+ * find out which shards failed or timed out. Each shard embeds the query on its own,
+ * unless the request carries a precomputed
+ * {@link SearchRequest#withQueryEmbedding(float[]) query embedding}.
+ *
+ * <p>
+ * Results are ranked by the similarity the shards report in the document metadata:
+ * {@code 1 - distance} for the {@code distance} and {@code vector_score} fields, or the
+ * {@code score} field. Documents without any of these fields are ranked by their
+ * position in the shard's result list. The shards are expected to report similarities on
+ * a common scale. Use {@link Builder#withScoreFunction} for stores that report their
+ * score differently, for instance {@link ScoreFunction#minMaxNormalized()} to rescale
+ * the scores of every shard before merging.
+ */
+public class ShardedVectorStore implements VectorStore, DisposableBean {
+
+	private static final Logger logger = LoggerFactory.getLogger(ShardedVectorStore.class);
+
+	public static final Duration DEFAULT_SHARD_TIMEOUT = Duration.ofSeconds(10);
+
+	public static final int DEFAULT_THREADS_PER_SHARD = 4;
+
+	private final Map<String, VectorStore> shards;
+
+	private final List<String> shardNames;
+
+	private final ShardRouter shardRouter;
+
+	private final Duration shardTimeout;
+
+	private final ScoreFunction scoreFunction;
+
+	private final Executor executor;
+
+	private final ExecutorService ownExecutor;
+
+	private ShardedVectorStore(Builder builder) {
+		this.shards = Collections.unmodifiableMap(new LinkedHashMap<>(builder.shards));
+		this.shardNames = List.copyOf(builder.shards.keySet());
+		this.shardRouter = builder.shardRouter;
+		this.shardTimeout = builder.shardTimeout;
+		this.scoreFunction = builder.scoreFunction;
+		this.ownExecutor = (builder.executor == null) ? createExecutor(this.shards.size() * DEFAULT_THREADS_PER_SHARD)
+				: null;
+		this.executor = (builder.executor != null) ? builder.executor : this.ownExecutor;
+	}
+
+	private static ExecutorService createExecutor(int threads) {
+		AtomicInteger threadCount = new AtomicInteger();
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(), runnable -> {
+					Thread thread = new Thread(runnable, "sharded-vector-store-" + threadCount.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				});
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Scores the results of one shard. The scores of all shards are merged into a single
+	 * ranking, so they must be comparable across shards.
+	 */
+	@FunctionalInterface
+	public interface ScoreFunction {
+
+		/**
+		 * @param documents the results of one shard, in the order the shard returned
+		 * them.
+		 * @return the score of every document, higher is more similar.
+		 */
+		double[] score(List<Document> documents);
+
+		/**
+		 * The default score function, using the similarity the shards report in the
+		 * document metadata, see the class level documentation.
+		 * @return the score function.
+		 */
+		static ScoreFunction similarity() {
+			return of(ShardedVectorStore::similarity);
+		}
+
+		/**
+		 * Scores every document on its own. Documents the function returns
+		 * {@link Double#NaN} for are ranked by their position in the shard's results.
+		 * @param similarity the similarity of a search result.
+		 * @return the score function.
+		 */
+		static ScoreFunction of(ToDoubleFunction<Document> similarity) {
+			Assert.notNull(similarity, "similarity must not be null");
+			return documents -> {
+				double[] scores = new double[documents.size()];
+				for (int rank = 0; rank < documents.size(); rank++) {
+					scores[rank] = similarity.applyAsDouble(documents.get(rank));
+					if (Double.isNaN(scores[rank])) {
+						scores[rank] = positionalScore(rank, documents.size());
+					}
+				}
+				return scores;
+			};
+		}
+
+		/**
+		 * Min-max normalises the {@link #similarity() similarities} of every shard to
+		 * {@code [0, 1]}.
+		 * @return the score function.
+		 * @see #minMaxNormalized(ToDoubleFunction)
+		 */
+		static ScoreFunction minMaxNormalized() {
+			return minMaxNormalized(ShardedVectorStore::similarity);
+		}
+
+		/**
+		 * Min-max normalises the similarities of every shard to {@code [0, 1]}, for
+		 * shards whose scores have no common scale. The best result of every shard then
+		 * scores 1.0 and its worst 0.0, whatever their similarity to the query, so a
+		 * shard holding only weak matches ranks its best match level with the best match
+		 * of any other shard.
+		 * @param similarity the similarity of a search result, or {@link Double#NaN} to
+		 * rank the document by its position.
+		 * @return the score function.
+		 */
+		static ScoreFunction minMaxNormalized(ToDoubleFunction<Document> similarity) {
+			Assert.notNull(similarity, "similarity must not be null");
+			return documents -> {
+				double[] scores = new double[documents.size()];
+				double min = Double.POSITIVE_INFINITY;
+				double max = Double.NEGATIVE_INFINITY;
+				for (int i = 0; i < documents.size(); i++) {
+					scores[i] = similarity.applyAsDouble(documents.get(i));
+					if (!Double.isNaN(scores[i])) {
+						min = Math.min(min, scores[i]);
+						max = Math.max(max, scores[i]);
+					}
+				}
+				for (int rank = 0; rank < documents.size(); rank++) {
+					if (Double.isNaN(scores[rank])) {
+						scores[rank] = positionalScore(rank, documents.size());
+					}
+					else {
+						scores[rank] = (max > min) ? (scores[rank] - min) / (max - min) : 1.0;
+					}
+				}
+				return scores;
+			};
+		}
+
+		private static double positionalScore(int rank, int size) {
+			return 1.0 - (double) rank / size;
+		}
+
+	}
+
+	/**
+	 * The documents of a sharded search together with the shards that did not answer.
+	 *
+	 * @param documents the merged top-K documents.
+	 * @param failedShards the error of every shard that failed or timed out, by shard
+	 * name.
+	 */
+	public record SearchResult(List<Document> documents, Map<String, Throwable> failedShards) {
+
+		/**
+		 * @return true if some shards did not contribute to the result.
+		 */
+		public boolean isPartial() {
+			return !this.failedShards.isEmpty();
+		}
+
+	}
+
+	public Map<String, VectorStore> getShards() {
+		return this.shards;
+	}
+
+	/**
+	 * Adds the documents to the shards chosen by the {@link ShardRouter}. The shards are
+	 * written concurrently.
+	 * @param documents the documents to add.
+	 */
+	@Override
+	public void add(List<Document> documents) {
+		Map<String, List<Document>> documentsByShard = new LinkedHashMap<>();
+		for (Document document : documents) {
+			String shardName = this.shardRouter.route(document, this.shardNames);
+			Assert.state(this.shards.containsKey(shardName), () -> "Unknown shard: " + shardName);
+			documentsByShard.computeIfAbsent(shardName, name -> new ArrayList<>()).add(document);
+		}
+
+		Map<String, Supplier<Void>> tasks = new LinkedHashMap<>();
+		documentsByShard.forEach((shardName, shardDocuments) -> tasks.put(shardName, () -> {
+			this.shards.get(shardName).add(shardDocuments);
+			return null;
+		}));
+		throwIfFailed("add documents to", execute(tasks, null));
+	}
+
+	/**
+	 * Deletes the documents from their shards. Ids that the {@link ShardRouter} cannot
+	 * route are deleted from all shards.
+	 * @param idList the ids of the documents to delete.
+	 * @return whether the shards the ids were routed to deleted all of them.
+	 */
+	@Override
+	public Optional<Boolean> delete(List<String> idList) {
+		Map<String, List<String>> routedIds = new LinkedHashMap<>();
+		List<String> unroutedIds = new ArrayList<>();
+		for (String id : idList) {
+			this.shardRouter.routeId(id, this.shardNames)
+				.ifPresentOrElse(shardName -> routedIds.computeIfAbsent(shardName, name -> new ArrayList<>()).add(id),
+						() -> unroutedIds.add(id));
+		}
+
+		Map<String, Supplier<Optional<Boolean>>> tasks = new LinkedHashMap<>();
+		for (String shardName : this.shardNames) {
+			List<String> shardIds = new ArrayList<>(routedIds.getOrDefault(shardName, List.of()));
+			shardIds.addAll(unroutedIds);
+			if (!shardIds.isEmpty()) {
+				tasks.put(shardName, () -> this.shards.get(shardName).delete(shardIds));
+			}
+		}
+		Map<String, ShardOutcome<Optional<Boolean>>> outcomes = execute(tasks, null);
+		throwIfFailed("delete documents from", outcomes);
+
+		// A shard that only received broadcast ids cannot tell whether it held them.
+		boolean deleted = true;
+		if (unroutedIds.isEmpty()) {
+			for (String shardName : routedIds.keySet()) {
+				deleted &= outcomes.get(shardName).value().orElse(true);
+			}
+		}
+		return Optional.of(deleted);
+	}
+
+	/**
+	 * Searches all shards and returns the merged top-K documents. Shards that fail or
+	 * time out are logged and left out of the result.
+	 * @param request the search request.
+	 * @return the merged documents.
+	 * @throws IllegalStateException if no shard answered.
+	 */
+	@Override
+	public List<Document> similaritySearch(SearchRequest request) {
+		SearchResult result = search(request);
+		if (result.isPartial()) {
+			logger.warn("Partial search result, shards {} did not answer", result.failedShards().keySet());
+		}
+		return result.documents();
+	}
+
+	/**
+	 * Searches all shards concurrently, each with the configured shard timeout, and
+	 * merges the results by the score of the {@link ScoreFunction} into the top-K
+	 * documents of the request. Documents with the same id returned by several shards are kept once.
+	 * @param request the search request.
+	 * @return the merged documents and the shards that did not answer.
+	 * @throws IllegalStateException if no shard answered.
+	 */
+	public SearchResult search(SearchRequest request) {
+		Map<String, Supplier<List<Document>>> tasks = new LinkedHashMap<>();
+		for (String shardName : this.shardNames) {
+			tasks.put(shardName, () -> this.shards.get(shardName).similaritySearch(request));
+		}
+		Map<String, ShardOutcome<List<Document>>> outcomes = execute(tasks, this.shardTimeout);
+
+		Map<String, Throwable> failedShards = new LinkedHashMap<>();
+		List<ScoredDocument> scoredDocuments = new ArrayList<>();
+		outcomes.forEach((shardName, outcome) -> {
+			if (outcome.error() != null) {
+				failedShards.put(shardName, outcome.error());
+				return;
+			}
+			List<Document> documents = outcome.value();
+			double[] scores = this.scoreFunction.score(documents);
+			Assert.state(scores.length == documents.size(), "The score function must score every document");
+			for (int i = 0; i < documents.size(); i++) {
+				scoredDocuments.add(new ScoredDocument(documents.get(i), scores[i]));
+			}
+		});
+
+		if (failedShards.size() == this.shardNames.size()) {
+			IllegalStateException ex = new IllegalStateException("No shard answered the search request");
+			failedShards.values().forEach(ex::addSuppressed);
+			throw ex;
+		}
+
+		scoredDocuments.sort(Comparator.comparingDouble(ScoredDocument::score).reversed());
+		Set<String> seenIds = new HashSet<>();
+		List<Document> topK = new ArrayList<>(request.getTopK());
+		for (ScoredDocument scoredDocument : scoredDocuments) {
+			if (topK.size() == request.getTopK()) {
+				break;
+			}
+			if (seenIds.add(scoredDocument.document().getId())) {
+				topK.add(scoredDocument.document());
+			}
+		}
+		return new SearchResult(topK, Collections.unmodifiableMap(failedShards));
+	}
+
+	/**
+	 * Similarity of a search result, see the class level documentation.
+	 * @param document a search result.
+	 * @return the similarity of the document, or {@link Double#NaN} if unknown.
+	 */
+	static double similarity(Document document) {
+		Map<String, Object> metadata = document.getMetadata();
+		if (metadata.get("distance") instanceof Number distance) {
+			return 1 - distance.doubleValue();
+		}
+		if (metadata.get("vector_score") instanceof Number distance) {
+			return 1 - distance.doubleValue();
+		}
+		if (metadata.get("score") instanceof Number score) {
+			return score.doubleValue();
+		}
+		return Double.NaN;
+	}
+
+	/**
+	 * Runs the tasks on the executor and waits for them. The tasks still running when the
+	 * timeout expires are cancelled, which interrupts their thread.
+	 */
+	private <T> Map<String, ShardOutcome<T>> execute(Map<String, Supplier<T>> tasks, Duration timeout) {
+		if (tasks.isEmpty()) {
+			return Map.of();
+		}
+		long deadline = (timeout != null) ? System.nanoTime() + timeout.toNanos() : 0;
+		Map<String, FutureTask<T>> futures = new LinkedHashMap<>();
+		tasks.forEach((shardName, task) -> {
+			FutureTask<T> future = new FutureTask<>(task::get);
+			futures.put(shardName, future);
+			this.executor.execute(future);
+		});
+
+		Map<String, ShardOutcome<T>> outcomes = new LinkedHashMap<>();
+		futures.forEach((shardName, future) -> {
+			try {
+				T value = (timeout != null) ? future.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)
+						: future.get();
+				outcomes.put(shardName, new ShardOutcome<>(value, null));
+			}
+			catch (ExecutionException ex) {
+				outcomes.put(shardName, new ShardOutcome<>(null, (ex.getCause() != null) ? ex.getCause() : ex));
+			}
+			catch (TimeoutException | InterruptedException ex) {
+				if (ex instanceof InterruptedException) {
+					Thread.currentThread().interrupt();
+				}
+				future.cancel(true);
+				outcomes.put(shardName, new ShardOutcome<>(null, ex));
+			}
+		});
+		return outcomes;
+	}
+
+	/**
+	 * Shuts down the thread pool of the store, if no executor was configured.
+	 */
+	@Override
+	public void destroy() {
+		if (this.ownExecutor != null) {
+			this.ownExecutor.shutdownNow();
+		}
+	}
+
+	private static void throwIfFailed(String operation, Map<String, ? extends ShardOutcome<?>> outcomes) {
+		List<String> failedShards = new ArrayList<>();
+		outcomes.forEach((shardName, outcome) -> {
+			if (outcome.error() != null) {
+				failedShards.add(shardName);
+			}
+		});
+		if (!failedShards.isEmpty()) {
+			IllegalStateException ex = new IllegalStateException("Failed to " + operation + " shards " + failedShards);
+			failedShards.forEach(shardName -> ex.addSuppressed(outcomes.get(shardName).error()));
+			throw ex;
+		}
+	}
+
+	private record ShardOutcome<T>(T value, Throwable error) {
+	}
+
+	private record ScoredDocument(Document document, double score) {
+	}
+
+	public static class Builder {
+
+		private final Map<String, VectorStore> shards = new LinkedHashMap<>();
+
+		private ShardRouter shardRouter = ShardRouter.byIdHash();
+
+		private Duration shardTimeout = DEFAULT_SHARD_TIMEOUT;
+
+		private ScoreFunction scoreFunction = ScoreFunction.similarity();
+
+		private Executor executor;
+
+		private Builder() {
+		}
+
+		/**
+		 * @param name the shard name, used by the {@link ShardRouter}.
+		 * @param vectorStore the store holding the shard.
+		 * @return this builder.
+		 */
+		public Builder withShard(String name, VectorStore vectorStore) {
+			Assert.hasText(name, "name must not be empty");
+			Assert.notNull(vectorStore, "vectorStore must not be null");
+			Assert.isTrue(!this.shards.containsKey(name), () -> "Duplicate shard name: " + name);
+			this.shards.put(name, vectorStore);
+			return this;
+		}
+
+		/**
+		 * @param shardRouter the router choosing the shard of each document. Defaults to
+		 * {@link ShardRouter#byIdHash()}.
+		 * @return this builder.
+		 */
+		public Builder withShardRouter(ShardRouter shardRouter) {
+			Assert.notNull(shardRouter, "shardRouter must not be null");
+			this.shardRouter = shardRouter;
+			return this;
+		}
+
+		/**
+		 * @param shardTimeout how long a search waits for each shard. Defaults to
+		 * {@link #DEFAULT_SHARD_TIMEOUT}.
+		 * @return this builder.
+		 */
+		public Builder withShardTimeout(Duration shardTimeout) {
+			Assert.isTrue(shardTimeout != null && !shardTimeout.isNegative() && !shardTimeout.isZero(),
+					"shardTimeout must be positive");
+			this.shardTimeout = shardTimeout;
+			return this;
+		}
+
+		/**
+		 * @param scoreFunction scores the results of every shard. Defaults to
+		 * {@link ScoreFunction#similarity()}, which expects the shards to report
+		 * similarities on a common scale.
+		 * @return this builder.
+		 */
+		public Builder withScoreFunction(ScoreFunction scoreFunction) {
+			Assert.notNull(scoreFunction, "scoreFunction must not be null");
+			this.scoreFunction = scoreFunction;
+			return this;
+		}
+
+		/**
+		 * @param executor the executor calling the shards. Defaults to a thread pool of
+		 * {@link #DEFAULT_THREADS_PER_SHARD} threads per shard, shared by all the
+		 * operations of the store and shut down when the store is destroyed. The shard
+		 * timeout includes the time a call waits for a thread, and the threads of calls
+		 * that timed out are interrupted.
+		 * @return this builder.
+		 */
+		public Builder withExecutor(Executor executor) {
+			this.executor = executor;
+			return this;
+		}
+
+		public ShardedVectorStore build() {
+			Assert.state(!this.shards.isEmpty(), "At least one shard is required");
+			return new ShardedVectorStore(this);
+		}
+
+	}
+
+}
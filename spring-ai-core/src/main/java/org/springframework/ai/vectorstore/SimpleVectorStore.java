@@ -83,7 +83,37 @@ public class SimpleVectorStore implements VectorStore {
 					"The [" + this.getClass() + "] doesn't support metadata filtering!");
 		}
 
-		List<Double> userQueryEmbedding = getUserQueryEmbedding(request.getQuery());
+		List<Double> userQueryEmbedding = QueryEmbeddings.embed(this.embeddingClient, request);
+		return similaritySearch(request, userQueryEmbedding);
+	}
+
+	/**
+	 * Embeds all the query texts with a single embedding call and then scores the stored
+	 * documents for every request.
+	 * @param requests the search requests.
+	 * @return for each request, in order, the documents that match it.
+	 */
+	@Override
+	public List<List<Document>> similaritySearch(List<SearchRequest> requests) {
+		if (requests.isEmpty()) {
+			return List.of();
+		}
+		for (SearchRequest request : requests) {
+			if (request.getFilterExpression() != null) {
+				throw new UnsupportedOperationException(
+						"The [" + this.getClass() + "] doesn't support metadata filtering!");
+			}
+		}
+
+		List<List<Double>> userQueryEmbeddings = QueryEmbeddings.embed(this.embeddingClient, requests);
+		List<List<Document>> results = new ArrayList<>(requests.size());
+		for (int i = 0; i < requests.size(); i++) {
+			results.add(similaritySearch(requests.get(i), userQueryEmbeddings.get(i)));
+		}
+		return results;
+	}
+
+	private List<Document> similaritySearch(SearchRequest request, List<Double> userQueryEmbedding) {
 		return this.store.values()
 			.stream()
 			.map(entry -> new Similarity(entry.getId(),
@@ -176,10 +206,6 @@ public class SimpleVectorStore implements VectorStore {
 		return json;
 	}
 
-	private List<Double> getUserQueryEmbedding(String query) {
-		return this.embeddingClient.embed(query);
-	}
-
 	public static class Similarity {
 
 		private String key;
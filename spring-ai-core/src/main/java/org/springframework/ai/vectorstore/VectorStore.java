@@ -70,4 +70,17 @@ public interface VectorStore extends DocumentWriter {
 		return this.similaritySearch(SearchRequest.query(query));
 	}
 
+	/**
+	 * Retrieves documents for several search requests at once, for example the
+	 * expanded queries of a multi-query retrieval. The default implementation runs the
+	 * requests one after the other, on the calling thread. Implementations with access to
+	 * a batch search API, or to the embedding client, should override it to embed all
+	 * queries in a single call and to reduce the number of round trips.
+	 * @param requests the search requests.
+	 * @return for each request, in order, the documents that match it.
+	 */
+	default List<List<Document>> similaritySearch(List<SearchRequest> requests) {
+		return requests.stream().map(this::similaritySearch).toList();
+	}
+
 }
@@ -0,0 +1,286 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.chat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+import org.springframework.ai.chat.prompt.Prompt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit Tests for {@link FailoverChatClient}.
+ */
+class FailoverChatClientTests {
+
+	private final Prompt prompt = new Prompt("Hello");
+
+	@Test
+	void failsOverOnTransientErrors() {
+		TestClient primary = new TestClient(prompt -> {
+			throw new TransientException();
+		});
+		TestClient standby = new TestClient(prompt -> response("standby"));
+
+		FailoverChatClient client = FailoverChatClient.builder()
+			.withClient("primary", primary)
+			.withClient("standby", standby, 0)
+			.withFailoverOn(TransientException.class::isInstance)
+			.build();
+
+		assertThat(client.call(this.prompt).getResult().getOutput().getContent()).isEqualTo("standby");
+		assertThat(primary.calls).hasValue(1);
+		assertThat(standby.calls).hasValue(1);
+	}
+
+	@Test
+	void returnsOtherErrors() {
+		TestClient primary = new TestClient(prompt -> {
+			throw new IllegalArgumentException("Bad prompt");
+		});
+		TestClient standby = new TestClient(prompt -> response("standby"));
+
+		FailoverChatClient client = FailoverChatClient.builder()
+			.withClient("primary", primary)
+			.withClient("standby", standby, 0)
+			.withFailoverOn(TransientException.class::isInstance)
+			.build();
+
+		assertThatThrownBy(() -> client.call(this.prompt)).isInstanceOf(IllegalArgumentException.class);
+		assertThat(standby.calls).hasValue(0);
+	}
+
+	@Test
+	void failsWhenAllClientsFail() {
+		FailoverChatClient client = FailoverChatClient.builder()
+			.withClient("primary", new TestClient(prompt -> {
+				throw new TransientException();
+			}))
+			.withClient("standby", new TestClient(prompt -> {
+				throw new TransientException();
+			}), 0)
+			.withFailoverOn(TransientException.class::isInstance)
+			.build();
+
+		assertThatThrownBy(() -> client.call(this.prompt)).isInstanceOf(TransientException.class)
+			.satisfies(ex -> assertThat(ex.getSuppressed()).hasSize(1));
+	}
+
+	@Test
+	void hedgesSlowCallsAndCancelsTheLoser() throws InterruptedException {
+		CountDownLatch interrupted = new CountDownLatch(1);
+		TestClient slow = new TestClient(prompt -> {
+			try {
+				Thread.sleep(10_000);
+			}
+			catch (InterruptedException ex) {
+				interrupted.countDown();
+			}
+			return response("slow");
+		});
+		TestClient fast = new TestClient(prompt -> response("fast"));
+
+		FailoverChatClient client = FailoverChatClient.builder()
+			.withClient("slow", slow)
+			.withClient("fast", fast, 0)
+			.withHedgeDelay(Duration.ofMillis(50))
+			.build();
+
+		assertThat(client.call(this.prompt).getResult().getOutput().getContent()).isEqualTo("fast");
+		assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	void streamsTheFirstClientToRespond() {
+		TestClient slow = new TestClient(() -> Flux.just(response("slow")).delayElements(Duration.ofSeconds(10)));
+		TestClient fast = new TestClient(() -> Flux.just(response("fast 1"), response("fast 2")));
+
+		FailoverChatClient client = FailoverChatClient.builder()
+			.withClient("slow", slow)
+			.withClient("fast", fast, 0)
+			.withHedgeDelay(Duration.ofMillis(50))
+			.build();
+
+		List<String> contents = client.stream(this.prompt)
+			.map(response -> response.getResult().getOutput().getContent())
+			.collectList()
+			.block(Duration.ofSeconds(5));
+		assertThat(contents).containsExactly("fast 1", "fast 2");
+	}
+
+	@Test
+	void doesNotFailOverStartedStreams() {
+		TestClient primary = new TestClient(
+				() -> Flux.concat(Flux.just(response("primary")), Flux.error(new TransientException())));
+		TestClient standby = new TestClient(() -> Flux.just(response("standby")));
+
+		FailoverChatClient client = FailoverChatClient.builder()
+			.withClient("primary", primary)
+			.withClient("standby", standby, 0)
+			.withFailoverOn(TransientException.class::isInstance)
+			.build();
+
+		assertThatThrownBy(() -> client.stream(this.prompt).collectList().block())
+			.isInstanceOf(TransientException.class);
+		assertThat(standby.calls).hasValue(0);
+	}
+
+	@Test
+	void routesByWeight() {
+		AtomicLong clock = new AtomicLong();
+		TestClient heavy = new TestClient(prompt -> {
+			clock.addAndGet(Duration.ofMillis(100).toNanos());
+			return response("heavy");
+		});
+		TestClient light = new TestClient(prompt -> {
+			clock.addAndGet(Duration.ofMillis(100).toNanos());
+			return response("light");
+		});
+
+		FailoverChatClient client = FailoverChatClient.builder()
+			.withClient("heavy", heavy, 3)
+			.withClient("light", light, 1)
+			.withNanoClock(clock::get)
+			.build();
+
+		for (int i = 0; i < 1000; i++) {
+			client.call(this.prompt);
+		}
+		assertThat(heavy.calls.get()).isBetween(650, 850);
+		assertThat(light.calls.get()).isEqualTo(1000 - heavy.calls.get());
+	}
+
+	@Test
+	void routesAwayFromFailingClients() {
+		AtomicLong clock = new AtomicLong();
+		TestClient failing = new TestClient(prompt -> {
+			throw new TransientException();
+		});
+		TestClient slow = new TestClient(prompt -> {
+			clock.addAndGet(Duration.ofSeconds(1).toNanos());
+			return response("slow");
+		});
+
+		FailoverChatClient client = FailoverChatClient.builder()
+			.withClient("failing", failing)
+			.withClient("slow", slow)
+			.withFailoverOn(TransientException.class::isInstance)
+			.withNanoClock(clock::get)
+			.build();
+
+		for (int i = 0; i < 50; i++) {
+			client.call(this.prompt);
+		}
+		failing.calls.set(0);
+		for (int i = 0; i < 200; i++) {
+			assertThat(client.call(this.prompt).getResult().getOutput().getContent()).isEqualTo("slow");
+		}
+		// The failing client only gets the traffic kept on unhealthy clients.
+		assertThat(failing.calls.get()).isLessThan(20);
+	}
+
+	@Test
+	void countsFailuresAsSlowCalls() {
+		AtomicLong clock = new AtomicLong();
+		AtomicBoolean failing = new AtomicBoolean();
+		TestClient fast = new TestClient(prompt -> {
+			if (failing.get()) {
+				throw new TransientException();
+			}
+			clock.addAndGet(Duration.ofMillis(1).toNanos());
+			return response("fast");
+		});
+		TestClient slow = new TestClient(prompt -> {
+			clock.addAndGet(Duration.ofMillis(100).toNanos());
+			return response("slow");
+		});
+
+		FailoverChatClient client = FailoverChatClient.builder()
+			.withClient("fast", fast)
+			.withClient("slow", slow)
+			.withFailoverOn(TransientException.class::isInstance)
+			.withNanoClock(clock::get)
+			.build();
+
+		for (int i = 0; i < 50; i++) {
+			client.call(this.prompt);
+		}
+		// Failing instantly must not keep the latency of the client at 1ms, which
+		// would make up for its health.
+		failing.set(true);
+		for (int i = 0; i < 100; i++) {
+			client.call(this.prompt);
+		}
+		fast.calls.set(0);
+		for (int i = 0; i < 100; i++) {
+			assertThat(client.call(this.prompt).getResult().getOutput().getContent()).isEqualTo("slow");
+		}
+		assertThat(fast.calls.get()).isLessThan(20);
+	}
+
+	private static ChatResponse response(String content) {
+		return new ChatResponse(List.of(new Generation(content)));
+	}
+
+	static class TransientException extends RuntimeException {
+
+	}
+
+	static class TestClient implements ChatClient, StreamingChatClient {
+
+		private final AtomicInteger calls = new AtomicInteger();
+
+		private final Function<Prompt, ChatResponse> call;
+
+		private final Supplier<Flux<ChatResponse>> stream;
+
+		TestClient(Function<Prompt, ChatResponse> call) {
+			this.call = call;
+			this.stream = null;
+		}
+
+		TestClient(Supplier<Flux<ChatResponse>> stream) {
+			this.call = null;
+			this.stream = stream;
+		}
+
+		@Override
+		public ChatResponse call(Prompt prompt) {
+			this.calls.incrementAndGet();
+			return this.call.apply(prompt);
+		}
+
+		@Override
+		public Flux<ChatResponse> stream(Prompt prompt) {
+			this.calls.incrementAndGet();
+			return this.stream.get();
+		}
+
+	}
+
+}
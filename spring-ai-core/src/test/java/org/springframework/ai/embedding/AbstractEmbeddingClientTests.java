@@ -16,6 +16,7 @@
 package org.springframework.ai.embedding;
 
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -85,6 +86,27 @@ public class AbstractEmbeddingClientTests {
 		verify(embeddingClient, never()).embed(any(Document.class));
 	}
 
+	@Test
+	public void testDefaultEmbedDocumentsEmbedsEachDocument() {
+
+		EmbeddingClient client = new EmbeddingClient() {
+
+			@Override
+			public List<Double> embed(Document document) {
+				// Embeds the content only, unlike Document#getFormattedContent.
+				return List.of((double) document.getContent().length());
+			}
+
+			@Override
+			public EmbeddingResponse call(EmbeddingRequest request) {
+				throw new UnsupportedOperationException("Unimplemented method 'call'");
+			}
+		};
+
+		List<Document> documents = List.of(new Document("a", Map.of("key", "value")), new Document("abc"));
+		assertThat(client.embedDocuments(documents)).containsExactly(List.of(1.0), List.of(3.0));
+	}
+
 	@Test
 	public void testUnknownModelDimension() {
 		when(embeddingClient.embed(eq("Hello world!"))).thenReturn(List.of(0.1, 0.1, 0.1));
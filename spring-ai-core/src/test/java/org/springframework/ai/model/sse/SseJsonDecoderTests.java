@@ -0,0 +1,87 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.model.sse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit Tests for {@link SseJsonDecoder}.
+ */
+public class SseJsonDecoderTests {
+
+	private final SseJsonDecoder<Chunk> decoder = new SseJsonDecoder<>(Chunk.class);
+
+	@Test
+	void decodesEventsSplitIntoBuffersOfAnySize() {
+
+		String stream = "event: message_start\r\ndata: {\"text\":\"Hel\"}\r\n\r\n"
+				+ ": keep-alive comment\n\n"
+				+ "id: 2\nevent: delta\ndata: {\"text\":\"lo [DONE]\",\n"
+				+ "data:  \"index\":1}\n\n"
+				+ "data: [DONE]\n\n"
+				+ "data: {\"text\":\"ignored\"}\n\n";
+
+		for (int split = 1; split < stream.length(); split++) {
+			List<SseEvent<Chunk>> events = this.decoder.decode(buffers(stream, split)).collectList().block();
+
+			assertThat(events).as("buffers of %d bytes", split)
+				.containsExactly(new SseEvent<>(null, "message_start", new Chunk("Hel", null)),
+						new SseEvent<>("2", "delta", new Chunk("lo [DONE]", 1)));
+		}
+	}
+
+	@Test
+	void decodesLastEventWithoutTrailingBlankLine() {
+		List<Chunk> data = this.decoder.decodeData(buffers("data: {\"text\":\"a\"}\n\ndata: {\"text\":\"b\"}", 7))
+			.collectList()
+			.block();
+
+		assertThat(data).containsExactly(new Chunk("a", null), new Chunk("b", null));
+	}
+
+	@Test
+	void failsOnInvalidJson() {
+		assertThatThrownBy(() -> this.decoder.decode(buffers("data: {\"text\": oops}\n\n", 100)).blockLast())
+			.isInstanceOf(DecodingException.class);
+	}
+
+	private static Flux<DataBuffer> buffers(String stream, int size) {
+		byte[] bytes = stream.getBytes(StandardCharsets.UTF_8);
+		List<byte[]> chunks = new ArrayList<>();
+		for (int i = 0; i < bytes.length; i += size) {
+			byte[] chunk = new byte[Math.min(size, bytes.length - i)];
+			System.arraycopy(bytes, i, chunk, 0, chunk.length);
+			chunks.add(chunk);
+		}
+		return Flux.fromIterable(chunks).map(DefaultDataBufferFactory.sharedInstance::wrap);
+	}
+
+	record Chunk(String text, Integer index) {
+	}
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.vectorstore;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.embedding.EmbeddingClient;
+
+/**
+ * Unit Tests for {@link QueryEmbeddings}.
+ */
+public class QueryEmbeddingsTests {
+
+	@Test
+	void precomputedEmbeddingSkipsTheEmbeddingClient() {
+
+		EmbeddingClient embeddingClient = mock(EmbeddingClient.class);
+
+		List<Double> embedding = QueryEmbeddings.embed(embeddingClient,
+				SearchRequest.query("hello").withQueryEmbedding(new float[] { 1.0f, 0.5f }));
+
+		assertThat(embedding).containsExactly(1.0, 0.5);
+		verifyNoInteractions(embeddingClient);
+	}
+
+	@Test
+	void onlyQueriesWithoutEmbeddingAreEmbeddedInOneCall() {
+
+		EmbeddingClient embeddingClient = mock(EmbeddingClient.class);
+		doReturn(List.of(List.of(1.0), List.of(3.0))).when(embeddingClient).embed(List.of("first", "third"));
+
+		List<List<Double>> embeddings = QueryEmbeddings.embed(embeddingClient,
+				List.of(SearchRequest.query("first"),
+						SearchRequest.query("second").withQueryEmbedding(new float[] { 2.0f }),
+						SearchRequest.query("third")));
+
+		assertThat(embeddings).containsExactly(List.of(1.0), List.of(2.0), List.of(3.0));
+		verify(embeddingClient).embed(List.of("first", "third"));
+		verifyNoMoreInteractions(embeddingClient);
+	}
+
+}
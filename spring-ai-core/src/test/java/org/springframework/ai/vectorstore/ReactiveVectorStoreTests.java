@@ -0,0 +1,181 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.vectorstore;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.ai.document.Document;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit Tests for {@link ReactiveVectorStore} and
+ * {@link BlockingReactiveVectorStoreAdapter}.
+ */
+class ReactiveVectorStoreTests {
+
+	private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+	private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "blocking-store");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	@AfterEach
+	void tearDown() {
+		this.executor.shutdownNow();
+	}
+
+	@Test
+	void returnsReactiveStoresAsIs() {
+		ReactiveTestVectorStore vectorStore = new ReactiveTestVectorStore();
+
+		assertThat(ReactiveVectorStore.of(vectorStore)).isSameAs(vectorStore);
+	}
+
+	@Test
+	void adaptsBlockingStores() {
+		assertThat(ReactiveVectorStore.of(new TestVectorStore()))
+			.isInstanceOf(BlockingReactiveVectorStoreAdapter.class);
+	}
+
+	@Test
+	void runsTheBlockingCallsOnTheExecutor() {
+		TestVectorStore vectorStore = new TestVectorStore();
+		ReactiveVectorStore reactiveStore = ReactiveVectorStore.of(vectorStore, this.executor);
+
+		reactiveStore.addReactive(List.of(new Document("added"))).block(TIMEOUT);
+		assertThat(reactiveStore.deleteReactive(List.of("1")).block(TIMEOUT)).isTrue();
+		List<Document> results = reactiveStore.similaritySearchReactive("query").collectList().block(TIMEOUT);
+
+		assertThat(results).extracting(Document::getContent).containsExactly("added", "query");
+		assertThat(vectorStore.calls).containsExactly("add", "delete", "similaritySearch");
+		assertThat(vectorStore.threads).extracting(Thread::getName).containsOnly("blocking-store");
+	}
+
+	@Test
+	void callsTheStoreOnSubscription() {
+		TestVectorStore vectorStore = new TestVectorStore();
+		ReactiveVectorStore reactiveStore = ReactiveVectorStore.of(vectorStore, this.executor);
+
+		Mono<Void> add = reactiveStore.addReactive(List.of(new Document("added")));
+		Mono<Boolean> delete = reactiveStore.deleteReactive(List.of("1"));
+		Flux<Document> search = reactiveStore.similaritySearchReactive("query");
+		assertThat(vectorStore.calls).isEmpty();
+
+		add.block(TIMEOUT);
+		delete.block(TIMEOUT);
+		search.blockLast(TIMEOUT);
+		search.blockLast(TIMEOUT);
+		assertThat(vectorStore.calls).containsExactly("add", "delete", "similaritySearch", "similaritySearch");
+	}
+
+	@Test
+	void unknownDeleteResultsAreEmpty() {
+		TestVectorStore vectorStore = new TestVectorStore();
+		vectorStore.deleteResult = Optional.empty();
+
+		ReactiveVectorStore reactiveStore = ReactiveVectorStore.of(vectorStore, this.executor);
+
+		assertThat(reactiveStore.deleteReactive(List.of("1")).blockOptional(TIMEOUT)).isEmpty();
+	}
+
+	@Test
+	void propagatesStoreErrors() {
+		TestVectorStore vectorStore = new TestVectorStore();
+		vectorStore.error = new IllegalStateException("Store unavailable");
+		ReactiveVectorStore reactiveStore = ReactiveVectorStore.of(vectorStore, this.executor);
+
+		assertThatThrownBy(() -> reactiveStore.similaritySearchReactive("query").blockLast(TIMEOUT))
+			.isSameAs(vectorStore.error);
+		assertThatThrownBy(() -> reactiveStore.addReactive(List.of()).block(TIMEOUT)).isSameAs(vectorStore.error);
+	}
+
+	static class TestVectorStore implements VectorStore {
+
+		private final List<String> calls = new CopyOnWriteArrayList<>();
+
+		private final List<Thread> threads = new CopyOnWriteArrayList<>();
+
+		private final List<Document> documents = new CopyOnWriteArrayList<>();
+
+		private Optional<Boolean> deleteResult = Optional.of(true);
+
+		private RuntimeException error;
+
+		@Override
+		public void add(List<Document> documents) {
+			record("add");
+			this.documents.addAll(documents);
+		}
+
+		@Override
+		public Optional<Boolean> delete(List<String> idList) {
+			record("delete");
+			return this.deleteResult;
+		}
+
+		@Override
+		public List<Document> similaritySearch(SearchRequest request) {
+			record("similaritySearch");
+			List<Document> results = new ArrayList<>(this.documents);
+			results.add(new Document(request.getQuery()));
+			return results;
+		}
+
+		private void record(String call) {
+			this.calls.add(call);
+			this.threads.add(Thread.currentThread());
+			if (this.error != null) {
+				throw this.error;
+			}
+		}
+
+	}
+
+	static class ReactiveTestVectorStore extends TestVectorStore implements ReactiveVectorStore {
+
+		@Override
+		public Mono<Void> addReactive(List<Document> documents) {
+			return Mono.empty();
+		}
+
+		@Override
+		public Mono<Boolean> deleteReactive(List<String> idList) {
+			return Mono.empty();
+		}
+
+		@Override
+		public Flux<Document> similaritySearchReactive(SearchRequest request) {
+			return Flux.empty();
+		}
+
+	}
+
+}
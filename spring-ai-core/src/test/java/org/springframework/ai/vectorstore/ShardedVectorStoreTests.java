@@ -0,0 +1,238 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.vectorstore;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.document.Document;
+
+/**
+ * Unit Tests for {@link ShardedVectorStore}.
+ */
+public class ShardedVectorStoreTests {
+
+	@Test
+	void addRoutesDocumentsByMetadata() {
+
+		VectorStore eu = mock(VectorStore.class);
+		VectorStore us = mock(VectorStore.class);
+		ShardedVectorStore store = ShardedVectorStore.builder()
+			.withShard("eu", eu)
+			.withShard("us", us)
+			.withShardRouter(ShardRouter.byMetadata("region"))
+			.build();
+
+		Document first = new Document("1", "first", Map.of("region", "eu"));
+		Document second = new Document("2", "second", Map.of("region", "eu"));
+
+		store.add(List.of(first, second));
+
+		verify(eu).add(List.of(first, second));
+		verifyNoInteractions(us);
+	}
+
+	@Test
+	void deleteIsRoutedByIdHash() {
+
+		VectorStore a = mock(VectorStore.class);
+		VectorStore b = mock(VectorStore.class);
+		doReturn(Optional.of(true)).when(a).delete(any());
+		doReturn(Optional.of(true)).when(b).delete(any());
+		ShardedVectorStore store = ShardedVectorStore.builder().withShard("a", a).withShard("b", b).build();
+
+		String id = "document-id";
+		String shard = ShardRouter.byIdHash().routeId(id, List.of("a", "b")).get();
+
+		assertThat(store.delete(List.of(id))).contains(true);
+		verify(shard.equals("a") ? a : b).delete(List.of(id));
+		verifyNoInteractions(shard.equals("a") ? b : a);
+	}
+
+	@Test
+	void searchMergesShardsByScore() {
+
+		VectorStore a = mock(VectorStore.class);
+		VectorStore b = mock(VectorStore.class);
+		doReturn(List.of(document("a1", 0.1f), document("a2", 0.3f), document("a3", 0.5f))).when(a)
+			.similaritySearch(any(SearchRequest.class));
+		doReturn(List.of(document("a1", 0.1f), document("b1", 0.15f), document("b2", 0.35f))).when(b)
+			.similaritySearch(any(SearchRequest.class));
+		ShardedVectorStore store = ShardedVectorStore.builder().withShard("a", a).withShard("b", b).build();
+
+		List<Document> documents = store.similaritySearch(SearchRequest.query("query").withTopK(4));
+
+		assertThat(documents).extracting(Document::getId).containsExactly("a1", "b1", "a2", "b2");
+	}
+
+	@Test
+	void searchRanksTheWeakMatchesOfAShardLast() {
+
+		VectorStore strong = mock(VectorStore.class);
+		VectorStore weak = mock(VectorStore.class);
+		VectorStore single = mock(VectorStore.class);
+		doReturn(List.of(document("s1", 0.05f), document("s2", 0.06f))).when(strong)
+			.similaritySearch(any(SearchRequest.class));
+		doReturn(List.of(document("w1", 0.7f), document("w2", 0.9f))).when(weak)
+			.similaritySearch(any(SearchRequest.class));
+		doReturn(List.of(document("x1", 0.8f))).when(single).similaritySearch(any(SearchRequest.class));
+		ShardedVectorStore store = ShardedVectorStore.builder()
+			.withShard("strong", strong)
+			.withShard("weak", weak)
+			.withShard("single", single)
+			.build();
+
+		List<Document> documents = store.similaritySearch(SearchRequest.query("query").withTopK(5));
+
+		assertThat(documents).extracting(Document::getId).containsExactly("s1", "s2", "w1", "x1", "w2");
+	}
+
+	@Test
+	void searchNormalizesTheScoresOfEveryShardOnRequest() {
+
+		VectorStore distances = mock(VectorStore.class);
+		VectorStore scores = mock(VectorStore.class);
+		doReturn(List.of(document("d1", 0.1f), document("d2", 0.3f), document("d3", 0.5f))).when(distances)
+			.similaritySearch(any(SearchRequest.class));
+		doReturn(List.of(scored("s1", 12), scored("s2", 9), scored("s3", 3))).when(scores)
+			.similaritySearch(any(SearchRequest.class));
+		ShardedVectorStore store = ShardedVectorStore.builder()
+			.withShard("distances", distances)
+			.withShard("scores", scores)
+			.withScoreFunction(ShardedVectorStore.ScoreFunction.minMaxNormalized())
+			.build();
+
+		List<Document> documents = store.similaritySearch(SearchRequest.query("query").withTopK(4));
+
+		// The raw scores of the second shard would rank all its documents first.
+		assertThat(documents).extracting(Document::getId).containsExactly("d1", "s1", "s2", "d2");
+	}
+
+	@Test
+	void operationsShareTheThreadPoolOfTheStore() {
+
+		Set<String> threadNames = ConcurrentHashMap.newKeySet();
+		VectorStore a = mock(VectorStore.class);
+		VectorStore b = mock(VectorStore.class);
+		for (VectorStore shard : List.of(a, b)) {
+			doAnswer(invocation -> {
+				threadNames.add(Thread.currentThread().getName());
+				return List.of();
+			}).when(shard).similaritySearch(any(SearchRequest.class));
+		}
+		ShardedVectorStore store = ShardedVectorStore.builder().withShard("a", a).withShard("b", b).build();
+
+		for (int i = 0; i < 50; i++) {
+			store.similaritySearch("query");
+		}
+		store.destroy();
+
+		assertThat(threadNames).isNotEmpty()
+			.hasSizeLessThanOrEqualTo(2 * ShardedVectorStore.DEFAULT_THREADS_PER_SHARD)
+			.allSatisfy(threadName -> assertThat(threadName).startsWith("sharded-vector-store-"));
+	}
+
+	@Test
+	void searchReportsFailedAndSlowShards() {
+
+		VectorStore healthy = mock(VectorStore.class);
+		VectorStore failing = mock(VectorStore.class);
+		VectorStore slow = mock(VectorStore.class);
+		doReturn(List.of(document("h1", 0.1f))).when(healthy).similaritySearch(any(SearchRequest.class));
+		doThrow(new IllegalStateException("down")).when(failing).similaritySearch(any(SearchRequest.class));
+		doAnswer(invocation -> {
+			Thread.sleep(5_000);
+			return List.of();
+		}).when(slow).similaritySearch(any(SearchRequest.class));
+		ShardedVectorStore store = ShardedVectorStore.builder()
+			.withShard("healthy", healthy)
+			.withShard("failing", failing)
+			.withShard("slow", slow)
+			.withShardTimeout(Duration.ofMillis(200))
+			.build();
+
+		ShardedVectorStore.SearchResult result = store.search(SearchRequest.query("query"));
+
+		assertThat(result.documents()).extracting(Document::getId).containsExactly("h1");
+		assertThat(result.isPartial()).isTrue();
+		assertThat(result.failedShards()).containsOnlyKeys("failing", "slow");
+		assertThat(result.failedShards().get("slow")).isInstanceOf(TimeoutException.class);
+	}
+
+	@Test
+	void searchInterruptsSlowShards() throws InterruptedException {
+
+		CountDownLatch interrupted = new CountDownLatch(1);
+		VectorStore healthy = mock(VectorStore.class);
+		VectorStore slow = mock(VectorStore.class);
+		doReturn(List.of(document("h1", 0.1f))).when(healthy).similaritySearch(any(SearchRequest.class));
+		doAnswer(invocation -> {
+			try {
+				Thread.sleep(10_000);
+			}
+			catch (InterruptedException ex) {
+				interrupted.countDown();
+			}
+			return List.of();
+		}).when(slow).similaritySearch(any(SearchRequest.class));
+		ShardedVectorStore store = ShardedVectorStore.builder()
+			.withShard("healthy", healthy)
+			.withShard("slow", slow)
+			.withShardTimeout(Duration.ofMillis(100))
+			.build();
+
+		assertThat(store.search(SearchRequest.query("query")).failedShards()).containsOnlyKeys("slow");
+		assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	void searchFailsWhenNoShardAnswers() {
+
+		VectorStore failing = mock(VectorStore.class);
+		doThrow(new IllegalStateException("down")).when(failing).similaritySearch(any(SearchRequest.class));
+		ShardedVectorStore store = ShardedVectorStore.builder().withShard("failing", failing).build();
+
+		assertThatThrownBy(() -> store.similaritySearch("query")).isInstanceOf(IllegalStateException.class)
+			.hasMessageContaining("No shard answered");
+	}
+
+	private static Document document(String id, float distance) {
+		return new Document(id, id, Map.of("distance", distance));
+	}
+
+	private static Document scored(String id, double score) {
+		return new Document(id, id, Map.of("score", score));
+	}
+
+}
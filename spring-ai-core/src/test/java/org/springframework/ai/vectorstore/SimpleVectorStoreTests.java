@@ -0,0 +1,91 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.vectorstore;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit Tests for {@link SimpleVectorStore}.
+ */
+public class SimpleVectorStoreTests {
+
+	private final EmbeddingClient embeddingClient = mock(EmbeddingClient.class);
+
+	private final SimpleVectorStore vectorStore = new SimpleVectorStore(this.embeddingClient);
+
+	private final Document spring = new Document("spring", "Spring", Map.of());
+
+	private final Document summer = new Document("summer", "Summer", Map.of());
+
+	@BeforeEach
+	void addDocuments() {
+		doReturn(List.of(1.0, 0.0)).when(this.embeddingClient).embed(this.spring);
+		doReturn(List.of(0.0, 1.0)).when(this.embeddingClient).embed(this.summer);
+		this.vectorStore.add(List.of(this.spring, this.summer));
+	}
+
+	@Test
+	void multipleSearchesEmbedTheQueriesInOneCall() {
+		doReturn(List.of(List.of(0.9, 0.1), List.of(0.1, 0.9))).when(this.embeddingClient)
+			.embed(List.of("blossom", "heat"));
+
+		List<List<Document>> results = this.vectorStore.similaritySearch(List.of(
+				SearchRequest.query("blossom").withTopK(1), SearchRequest.query("heat").withTopK(1),
+				SearchRequest.query("precomputed").withQueryEmbedding(new float[] { 0.0f, 1.0f }).withTopK(1)));
+
+		assertThat(results).hasSize(3);
+		assertThat(results.get(0)).extracting(Document::getId).containsExactly("spring");
+		assertThat(results.get(1)).extracting(Document::getId).containsExactly("summer");
+		assertThat(results.get(2)).extracting(Document::getId).containsExactly("summer");
+		verify(this.embeddingClient).embed(List.of("blossom", "heat"));
+		verify(this.embeddingClient, never()).embed(anyString());
+	}
+
+	@Test
+	void multipleSearchesMatchTheSingleSearches() {
+		doReturn(List.of(0.9, 0.1)).when(this.embeddingClient).embed("blossom");
+		doReturn(List.of(List.of(0.9, 0.1))).when(this.embeddingClient).embed(List.of("blossom"));
+		SearchRequest request = SearchRequest.query("blossom").withSimilarityThreshold(0.5);
+
+		assertThat(this.vectorStore.similaritySearch(List.of(request)))
+			.containsExactly(this.vectorStore.similaritySearch(request));
+	}
+
+	@Test
+	void multipleSearchesRejectFilters() {
+		SearchRequest filtered = SearchRequest.query("heat").withFilterExpression("year == 2024");
+
+		assertThatThrownBy(() -> this.vectorStore.similaritySearch(List.of(SearchRequest.query("blossom"), filtered)))
+			.isInstanceOf(UnsupportedOperationException.class);
+		verify(this.embeddingClient, never()).embed(List.of("blossom", "heat"));
+	}
+
+}
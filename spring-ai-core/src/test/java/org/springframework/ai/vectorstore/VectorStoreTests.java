@@ -0,0 +1,90 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.vectorstore;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ai.document.Document;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit Tests for the default methods of {@link VectorStore}.
+ */
+public class VectorStoreTests {
+
+	@Test
+	void searchesTheRequestsInOrderOnTheCallingThread() {
+		TestVectorStore vectorStore = new TestVectorStore();
+
+		List<List<Document>> results = vectorStore
+			.similaritySearch(List.of(SearchRequest.query("first"), SearchRequest.query("second")));
+
+		assertThat(results).hasSize(2);
+		assertThat(results.get(0)).extracting(Document::getContent).containsExactly("first");
+		assertThat(results.get(1)).extracting(Document::getContent).containsExactly("second");
+		assertThat(vectorStore.threads).containsOnly(Thread.currentThread());
+	}
+
+	@Test
+	void noRequestsReturnNoResults() {
+		TestVectorStore vectorStore = new TestVectorStore();
+
+		assertThat(vectorStore.similaritySearch(List.<SearchRequest>of())).isEmpty();
+		assertThat(vectorStore.threads).isEmpty();
+	}
+
+	@Test
+	void searchErrorsAreNotWrapped() {
+		TestVectorStore vectorStore = new TestVectorStore();
+
+		assertThatThrownBy(() -> vectorStore
+			.similaritySearch(List.of(SearchRequest.query("first"), SearchRequest.query("fail"))))
+			.isExactlyInstanceOf(IllegalStateException.class)
+			.hasMessage("Search failed");
+	}
+
+	static class TestVectorStore implements VectorStore {
+
+		private final List<Thread> threads = new ArrayList<>();
+
+		@Override
+		public void add(List<Document> documents) {
+		}
+
+		@Override
+		public Optional<Boolean> delete(List<String> idList) {
+			return Optional.of(true);
+		}
+
+		@Override
+		public List<Document> similaritySearch(SearchRequest request) {
+			this.threads.add(Thread.currentThread());
+			if (request.getQuery().equals("fail")) {
+				throw new IllegalStateException("Search failed");
+			}
+			return List.of(new Document(request.getQuery(), Map.of()));
+		}
+
+	}
+
+}
@@ -58,6 +58,17 @@ public class SearchRequestTests {
 		assertThat(newRequest.getSimilarityThreshold()).isEqualTo(originalRequest.getSimilarityThreshold());
 	}
 
+	@Test
+	public void createFromCopiesTheQueryEmbedding() {
+		var originalRequest = SearchRequest.query("New Query").withQueryEmbedding(new float[] { 1.0f, 2.0f });
+
+		var newRequest = SearchRequest.from(originalRequest);
+		newRequest.getQueryEmbedding()[0] = 3.0f;
+
+		assertThat(originalRequest.getQueryEmbedding()).containsExactly(1.0f, 2.0f);
+		assertThat(SearchRequest.from(SearchRequest.query("New Query")).getQueryEmbedding()).isNull();
+	}
+
 	@Test
 	public void withQuery() {
 		var emptyRequest = SearchRequest.defaults();
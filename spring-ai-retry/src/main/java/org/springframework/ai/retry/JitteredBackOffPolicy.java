@@ -0,0 +1,117 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.retry;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.backoff.BackOffContext;
+import org.springframework.retry.backoff.BackOffInterruptedException;
+import org.springframework.retry.backoff.Sleeper;
+import org.springframework.retry.backoff.SleepingBackOffPolicy;
+import org.springframework.retry.backoff.ThreadWaitSleeper;
+import org.springframework.util.Assert;
+
+/**
+ * Exponential back off with jitter, so that the clients failing at the same time do not
+ * retry at the same time. The n-th retry waits a random duration between the initial
+ * interval and {@code initialInterval * multiplier^(n-1)}, capped at the maximum
+ * interval.
+ *
+ * <p>
+ * A {@link RetryUtils#getRetryAfter(Throwable) Retry-After} reported by the provider
+ * takes precedence, also capped at the maximum interval.
+ *
+ * @since 1.0.0
+ */
+public class JitteredBackOffPolicy implements SleepingBackOffPolicy<JitteredBackOffPolicy> {
+
+	private final Duration initialInterval;
+
+	private final double multiplier;
+
+	private final Duration maxInterval;
+
+	private final Sleeper sleeper;
+
+	public JitteredBackOffPolicy(Duration initialInterval, double multiplier, Duration maxInterval) {
+		this(initialInterval, multiplier, maxInterval, new ThreadWaitSleeper());
+	}
+
+	private JitteredBackOffPolicy(Duration initialInterval, double multiplier, Duration maxInterval,
+			Sleeper sleeper) {
+		Assert.isTrue(initialInterval != null && !initialInterval.isNegative(),
+				"initialInterval must not be negative");
+		Assert.isTrue(multiplier >= 1, "multiplier must be at least 1");
+		Assert.isTrue(maxInterval != null && maxInterval.compareTo(initialInterval) >= 0,
+				"maxInterval must not be shorter than initialInterval");
+		this.initialInterval = initialInterval;
+		this.multiplier = multiplier;
+		this.maxInterval = maxInterval;
+		this.sleeper = sleeper;
+	}
+
+	@Override
+	public JitteredBackOffPolicy withSleeper(Sleeper sleeper) {
+		return new JitteredBackOffPolicy(this.initialInterval, this.multiplier, this.maxInterval, sleeper);
+	}
+
+	/**
+	 * Computes the back off before a retry.
+	 * @param retryCount the number of attempts that already failed, at least 1.
+	 * @param lastThrowable the failure of the last attempt, may be {@code null}.
+	 * @return the back off.
+	 */
+	public Duration backOff(int retryCount, Throwable lastThrowable) {
+		Duration retryAfter = RetryUtils.getRetryAfter(lastThrowable);
+		if (retryAfter != null && !retryAfter.isNegative()) {
+			return min(retryAfter, this.maxInterval);
+		}
+		long initialMillis = this.initialInterval.toMillis();
+		double ceiling = initialMillis * Math.pow(this.multiplier, Math.max(0, retryCount - 1));
+		long ceilingMillis = (long) Math.min(ceiling, this.maxInterval.toMillis());
+		if (ceilingMillis <= initialMillis) {
+			return Duration.ofMillis(ceilingMillis);
+		}
+		return Duration.ofMillis(ThreadLocalRandom.current().nextLong(initialMillis, ceilingMillis + 1));
+	}
+
+	@Override
+	public BackOffContext start(RetryContext context) {
+		return new JitteredBackOffContext(context);
+	}
+
+	@Override
+	public void backOff(BackOffContext backOffContext) throws BackOffInterruptedException {
+		RetryContext context = ((JitteredBackOffContext) backOffContext).retryContext;
+		try {
+			this.sleeper.sleep(backOff(context.getRetryCount(), context.getLastThrowable()).toMillis());
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new BackOffInterruptedException("Thread interrupted while sleeping", ex);
+		}
+	}
+
+	private static Duration min(Duration a, Duration b) {
+		return (a.compareTo(b) <= 0) ? a : b;
+	}
+
+	private record JitteredBackOffContext(RetryContext retryContext) implements BackOffContext {
+	}
+
+}
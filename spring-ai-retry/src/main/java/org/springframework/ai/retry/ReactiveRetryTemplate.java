@@ -0,0 +1,97 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.retry;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import org.springframework.util.Assert;
+
+/**
+ * Retries the {@link Flux} and {@link Mono} of the streaming model calls, the reactive
+ * counterpart of the {@link org.springframework.retry.support.RetryTemplate} of the
+ * blocking calls. {@link RetryUtils#isTransient(Throwable) Transient} failures are
+ * retried with the back off of a {@link JitteredBackOffPolicy}, without blocking a
+ * thread.
+ *
+ * <p>
+ * A stream is only retried until its first element: once the caller has received part
+ * of a response, a retry would repeat it.
+ *
+ * @since 1.0.0
+ */
+public class ReactiveRetryTemplate {
+
+	private static final Logger logger = LoggerFactory.getLogger(ReactiveRetryTemplate.class);
+
+	private final int maxAttempts;
+
+	private final JitteredBackOffPolicy backOffPolicy;
+
+	/**
+	 * @param maxAttempts the maximum number of attempts, including the first one.
+	 * @param backOffPolicy the back off between attempts.
+	 */
+	public ReactiveRetryTemplate(int maxAttempts, JitteredBackOffPolicy backOffPolicy) {
+		Assert.isTrue(maxAttempts > 0, "maxAttempts must be positive");
+		Assert.notNull(backOffPolicy, "backOffPolicy must not be null");
+		this.maxAttempts = maxAttempts;
+		this.backOffPolicy = backOffPolicy;
+	}
+
+	/**
+	 * Retries the stream on transient failures that happen before its first element.
+	 * @param <T> the element type.
+	 * @param stream the stream of a model call. It must call the model again on every
+	 * subscription.
+	 * @return the retried stream.
+	 */
+	public <T> Flux<T> execute(Flux<T> stream) {
+		return Flux.defer(() -> {
+			AtomicBoolean started = new AtomicBoolean();
+			return stream.doOnNext(element -> started.set(true)).retryWhen(retry(() -> !started.get()));
+		});
+	}
+
+	/**
+	 * Retries the call on transient failures.
+	 * @param <T> the result type.
+	 * @param call the model call. It must call the model again on every subscription.
+	 * @return the retried call.
+	 */
+	public <T> Mono<T> execute(Mono<T> call) {
+		return call.retryWhen(retry(() -> true));
+	}
+
+	private Retry retry(BooleanSupplier retryable) {
+		return Retry.from(signals -> signals.concatMap(signal -> {
+			Throwable failure = signal.failure();
+			int attempts = (int) signal.totalRetries() + 1;
+			if (attempts >= this.maxAttempts || !retryable.getAsBoolean() || !RetryUtils.isTransient(failure)) {
+				return Mono.error(failure);
+			}
+			logger.warn("Retry error. Retry count:" + attempts, failure);
+			return Mono.delay(this.backOffPolicy.backOff(attempts, failure));
+		}));
+	}
+
+}
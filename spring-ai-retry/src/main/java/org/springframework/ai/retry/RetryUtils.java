@@ -18,10 +18,16 @@ package org.springframework.ai.retry;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.TimeoutException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.lang.NonNull;
 import org.springframework.retry.RetryCallback;
@@ -29,7 +35,10 @@ import org.springframework.retry.RetryContext;
 import org.springframework.retry.RetryListener;
 import org.springframework.retry.support.RetryTemplate;
 import org.springframework.util.StreamUtils;
+import org.springframework.util.StringUtils;
 import org.springframework.web.client.ResponseErrorHandler;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 
 /**
  * RetryUtils is a utility class for configuring and handling retry operations. It
@@ -42,10 +51,12 @@ public abstract class RetryUtils {
 
 	private static final Logger logger = LoggerFactory.getLogger(RetryUtils.class);
 
+	private static final String INSUFFICIENT_QUOTA_ERROR_CODE = "insufficient_quota";
+
 	public static final RetryTemplate DEFAULT_RETRY_TEMPLATE = RetryTemplate.builder()
 		.maxAttempts(10)
 		.retryOn(TransientAiException.class)
-		.exponentialBackoff(Duration.ofMillis(2000), 5, Duration.ofMillis(3 * 60000))
+		.customBackoff(new JitteredBackOffPolicy(Duration.ofMillis(2000), 5, Duration.ofMillis(3 * 60000)))
 		.withListener(new RetryListener() {
 			@Override
 			public <T extends Object, E extends Throwable> void onError(RetryContext context,
@@ -55,6 +66,13 @@ public abstract class RetryUtils {
 		})
 		.build();
 
+	/**
+	 * Retries the streaming calls like {@link #DEFAULT_RETRY_TEMPLATE} retries the
+	 * blocking ones.
+	 */
+	public static final ReactiveRetryTemplate DEFAULT_REACTIVE_RETRY_TEMPLATE = new ReactiveRetryTemplate(10,
+			new JitteredBackOffPolicy(Duration.ofMillis(2000), 5, Duration.ofMillis(3 * 60000)));
+
 	public static final ResponseErrorHandler DEFAULT_RESPONSE_ERROR_HANDLER = new ResponseErrorHandler() {
 
 		@Override
@@ -69,16 +87,94 @@ public abstract class RetryUtils {
 				String message = String.format("%s - %s", response.getStatusCode().value(), error);
 				/**
 				 * Thrown on 4xx client errors, such as 401 - Incorrect API key provided,
-				 * 401 - You must be a member of an organization to use the API, 429 -
-				 * Rate limit reached for requests, 429 - You exceeded your current quota
-				 * , please check your plan and billing details.
+				 * 401 - You must be a member of an organization to use the API. 429 -
+				 * Rate limit reached for requests is retried after the Retry-After
+				 * delay, 429 - You exceeded your current quota is not.
 				 */
-				if (response.getStatusCode().is4xxClientError()) {
+				if (response.getStatusCode().is4xxClientError()
+						&& (response.getStatusCode().value() != HttpStatus.TOO_MANY_REQUESTS.value()
+								|| isQuotaExceeded(response.getStatusCode().value(), error))) {
 					throw new NonTransientAiException(message);
 				}
-				throw new TransientAiException(message);
+				throw new TransientAiException(message, getRetryAfter(response.getHeaders()));
 			}
 		}
 	};
 
+	/**
+	 * Tells whether a failure is worth retrying: a {@link TransientAiException}, a
+	 * {@code 5xx} or {@code 429} response, an I/O error or a timeout. A {@code 429}
+	 * response reporting an exceeded quota is not retried.
+	 * @param throwable the failure.
+	 * @return true if the failed call should be retried.
+	 */
+	public static boolean isTransient(Throwable throwable) {
+		if (throwable instanceof TransientAiException) {
+			return true;
+		}
+		if (throwable instanceof WebClientResponseException responseException) {
+			int statusCode = responseException.getStatusCode().value();
+			return responseException.getStatusCode().is5xxServerError()
+					|| (statusCode == HttpStatus.TOO_MANY_REQUESTS.value()
+							&& !isQuotaExceeded(statusCode, responseException.getResponseBodyAsString()));
+		}
+		return throwable instanceof WebClientRequestException || throwable instanceof IOException
+				|| throwable instanceof TimeoutException;
+	}
+
+	/**
+	 * Tells whether an error response reports an exceeded quota, such as the OpenAI
+	 * {@code 429 insufficient_quota} error. Unlike a rate limit, it persists until the
+	 * plan or billing details change, so retrying does not help.
+	 * @param statusCode the HTTP status code of the response.
+	 * @param responseBody the body of the response.
+	 * @return true if the quota is exceeded.
+	 */
+	public static boolean isQuotaExceeded(int statusCode, String responseBody) {
+		return statusCode == HttpStatus.TOO_MANY_REQUESTS.value() && responseBody != null
+				&& responseBody.contains(INSUFFICIENT_QUOTA_ERROR_CODE);
+	}
+
+	/**
+	 * Returns how long the provider asked to wait before retrying a failure.
+	 * @param throwable the failure.
+	 * @return the delay, or {@code null} if the provider did not say.
+	 */
+	public static Duration getRetryAfter(Throwable throwable) {
+		if (throwable instanceof TransientAiException transientException) {
+			return transientException.getRetryAfter();
+		}
+		if (throwable instanceof WebClientResponseException responseException) {
+			return getRetryAfter(responseException.getHeaders());
+		}
+		return null;
+	}
+
+	/**
+	 * Parses the {@code Retry-After} header, in seconds or as an HTTP date.
+	 * @param headers the response headers.
+	 * @return the delay, or {@code null} if the header is missing or invalid.
+	 */
+	public static Duration getRetryAfter(HttpHeaders headers) {
+		String retryAfter = headers.getFirst(HttpHeaders.RETRY_AFTER);
+		if (!StringUtils.hasText(retryAfter)) {
+			return null;
+		}
+		try {
+			return Duration.ofSeconds(Long.parseLong(retryAfter.trim()));
+		}
+		catch (NumberFormatException ex) {
+			// Not delay seconds, an HTTP date.
+		}
+		try {
+			Duration delay = Duration.between(ZonedDateTime.now(),
+					ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME));
+			return delay.isNegative() ? Duration.ZERO : delay;
+		}
+		catch (DateTimeParseException ex) {
+			logger.warn("Invalid Retry-After header: {}", retryAfter);
+			return null;
+		}
+	}
+
 }
@@ -15,6 +15,8 @@
  */
 package org.springframework.ai.retry;
 
+import java.time.Duration;
+
 /**
  * Root of the hierarchy of Model access exceptions that are considered transient - where
  * a previously failed operation might be able to succeed when the operation is retried
@@ -25,12 +27,33 @@ package org.springframework.ai.retry;
  */
 public class TransientAiException extends RuntimeException {
 
+	private final Duration retryAfter;
+
 	public TransientAiException(String message) {
-		super(message);
+		this(message, (Duration) null);
 	}
 
 	public TransientAiException(String message, Throwable cause) {
 		super(message, cause);
+		this.retryAfter = null;
+	}
+
+	/**
+	 * @param message the detail message.
+	 * @param retryAfter how long the provider asked to wait before retrying, for example
+	 * from the {@code Retry-After} header of a {@code 429} response. May be {@code null}.
+	 */
+	public TransientAiException(String message, Duration retryAfter) {
+		super(message);
+		this.retryAfter = retryAfter;
+	}
+
+	/**
+	 * @return how long the provider asked to wait before retrying, or {@code null} if it
+	 * did not say.
+	 */
+	public Duration getRetryAfter() {
+		return this.retryAfter;
 	}
 
 }
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.retry.circuitbreaker;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Circuit breaker of one provider endpoint. After {@code failureThreshold} consecutive
+ * failures the circuit opens and requests fail fast with a
+ * {@link CircuitBreakerOpenException} instead of waiting for a provider that is down.
+ * Once {@code openDuration} has passed, a single trial request is let through: the
+ * circuit closes if it succeeds and opens again if it fails.
+ *
+ * @since 1.0.0
+ * @see CircuitBreakerRegistry
+ */
+public class CircuitBreaker {
+
+	private static final Logger logger = LoggerFactory.getLogger(CircuitBreaker.class);
+
+	public enum State {
+
+		/**
+		 * Requests are sent.
+		 */
+		CLOSED,
+
+		/**
+		 * Requests are rejected.
+		 */
+		OPEN,
+
+		/**
+		 * A trial request is in flight, other requests are rejected.
+		 */
+		HALF_OPEN
+
+	}
+
+	private final String name;
+
+	private final int failureThreshold;
+
+	private final Duration openDuration;
+
+	private final LongSupplier nanoClock;
+
+	private State state = State.CLOSED;
+
+	private int consecutiveFailures;
+
+	private long stateChangedAt;
+
+	public CircuitBreaker(String name, int failureThreshold, Duration openDuration) {
+		this(name, failureThreshold, openDuration, System::nanoTime);
+	}
+
+	CircuitBreaker(String name, int failureThreshold, Duration openDuration, LongSupplier nanoClock) {
+		this.name = name;
+		this.failureThreshold = failureThreshold;
+		this.openDuration = openDuration;
+		this.nanoClock = nanoClock;
+	}
+
+	/**
+	 * Checks that a request may be sent.
+	 * @throws CircuitBreakerOpenException if the circuit is open.
+	 */
+	public synchronized void acquirePermission() {
+		if (this.state == State.CLOSED) {
+			return;
+		}
+		long now = this.nanoClock.getAsLong();
+		long elapsed = now - this.stateChangedAt;
+		// A trial that never completed, for example a cancelled one, does not keep the
+		// circuit half open forever.
+		if (elapsed < this.openDuration.toNanos()) {
+			throw new CircuitBreakerOpenException("Circuit breaker of %s is %s, retry in %s".formatted(this.name,
+					this.state, this.openDuration.minusNanos(elapsed)));
+		}
+		transitionTo(State.HALF_OPEN, now);
+	}
+
+	/**
+	 * Records a successful request, closing the circuit.
+	 */
+	public synchronized void onSuccess() {
+		this.consecutiveFailures = 0;
+		if (this.state != State.CLOSED) {
+			transitionTo(State.CLOSED, this.nanoClock.getAsLong());
+		}
+	}
+
+	/**
+	 * Records a failed request, opening the circuit after too many failures or a failed
+	 * trial.
+	 */
+	public synchronized void onFailure() {
+		this.consecutiveFailures++;
+		if (this.state == State.HALF_OPEN
+				|| (this.state == State.CLOSED && this.consecutiveFailures >= this.failureThreshold)) {
+			transitionTo(State.OPEN, this.nanoClock.getAsLong());
+		}
+	}
+
+	public synchronized State getState() {
+		return this.state;
+	}
+
+	public String getName() {
+		return this.name;
+	}
+
+	private void transitionTo(State state, long now) {
+		if (this.state != state) {
+			logger.warn("Circuit breaker of {} changed from {} to {}", this.name, this.state, state);
+		}
+		this.state = state;
+		this.stateChangedAt = now;
+	}
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.retry.circuitbreaker;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * {@link ClientHttpRequestInterceptor} guarding the requests of a
+ * {@link org.springframework.web.client.RestClient} with the circuit breaker of their
+ * endpoint. I/O errors and {@code 5xx} responses count as failures.
+ *
+ * @since 1.0.0
+ */
+public class CircuitBreakerClientHttpRequestInterceptor implements ClientHttpRequestInterceptor {
+
+	private final CircuitBreakerRegistry circuitBreakerRegistry;
+
+	public CircuitBreakerClientHttpRequestInterceptor(CircuitBreakerRegistry circuitBreakerRegistry) {
+		this.circuitBreakerRegistry = circuitBreakerRegistry;
+	}
+
+	@Override
+	public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+			throws IOException {
+		CircuitBreaker circuitBreaker = this.circuitBreakerRegistry.getCircuitBreaker(request.getURI());
+		circuitBreaker.acquirePermission();
+		ClientHttpResponse response;
+		try {
+			response = execution.execute(request, body);
+		}
+		catch (IOException | RuntimeException ex) {
+			circuitBreaker.onFailure();
+			throw ex;
+		}
+		if (response.getStatusCode().is5xxServerError()) {
+			circuitBreaker.onFailure();
+		}
+		else {
+			circuitBreaker.onSuccess();
+		}
+		return response;
+	}
+
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.retry.circuitbreaker;
+
+import reactor.core.publisher.Mono;
+
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+
+/**
+ * {@link ExchangeFilterFunction} guarding the requests of a
+ * {@link org.springframework.web.reactive.function.client.WebClient} with the circuit
+ * breaker of their endpoint. Exchange errors and {@code 5xx} responses count as
+ * failures.
+ *
+ * @since 1.0.0
+ */
+public class CircuitBreakerExchangeFilterFunction implements ExchangeFilterFunction {
+
+	private final CircuitBreakerRegistry circuitBreakerRegistry;
+
+	public CircuitBreakerExchangeFilterFunction(CircuitBreakerRegistry circuitBreakerRegistry) {
+		this.circuitBreakerRegistry = circuitBreakerRegistry;
+	}
+
+	@Override
+	public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+		return Mono.defer(() -> {
+			CircuitBreaker circuitBreaker = this.circuitBreakerRegistry.getCircuitBreaker(request.url());
+			circuitBreaker.acquirePermission();
+			return next.exchange(request).doOnNext(response -> {
+				if (response.statusCode().is5xxServerError()) {
+					circuitBreaker.onFailure();
+				}
+				else {
+					circuitBreaker.onSuccess();
+				}
+			}).doOnError(ex -> circuitBreaker.onFailure());
+		});
+	}
+
+}
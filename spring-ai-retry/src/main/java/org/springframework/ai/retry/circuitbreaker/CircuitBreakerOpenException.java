@@ -0,0 +1,33 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.retry.circuitbreaker;
+
+import org.springframework.ai.retry.NonTransientAiException;
+
+/**
+ * Thrown when a request is rejected by an open {@link CircuitBreaker}. It is not
+ * transient, so that the caller fails fast instead of retrying against a provider that
+ * is down.
+ *
+ * @since 1.0.0
+ */
+public class CircuitBreakerOpenException extends NonTransientAiException {
+
+	public CircuitBreakerOpenException(String message) {
+		super(message);
+	}
+
+}
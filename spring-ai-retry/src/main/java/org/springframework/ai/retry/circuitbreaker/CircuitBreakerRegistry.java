@@ -0,0 +1,62 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.retry.circuitbreaker;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.util.Assert;
+
+/**
+ * Holds one {@link CircuitBreaker} per provider endpoint, identified by the scheme,
+ * host, port and path of the request URI.
+ *
+ * @since 1.0.0
+ * @see CircuitBreakerClientHttpRequestInterceptor
+ * @see CircuitBreakerExchangeFilterFunction
+ */
+public class CircuitBreakerRegistry {
+
+	private final Map<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+
+	private final int failureThreshold;
+
+	private final Duration openDuration;
+
+	/**
+	 * @param failureThreshold the consecutive failures that open a circuit.
+	 * @param openDuration how long a circuit stays open before a trial request.
+	 */
+	public CircuitBreakerRegistry(int failureThreshold, Duration openDuration) {
+		Assert.isTrue(failureThreshold > 0, "failureThreshold must be positive");
+		Assert.isTrue(openDuration != null && !openDuration.isNegative(), "openDuration must not be negative");
+		this.failureThreshold = failureThreshold;
+		this.openDuration = openDuration;
+	}
+
+	/**
+	 * @param uri the URI of a request.
+	 * @return the circuit breaker of the endpoint of the request.
+	 */
+	public CircuitBreaker getCircuitBreaker(URI uri) {
+		String endpoint = uri.getScheme() + "://" + uri.getRawAuthority() + uri.getRawPath();
+		return this.circuitBreakers.computeIfAbsent(endpoint,
+				name -> new CircuitBreaker(name, this.failureThreshold, this.openDuration));
+	}
+
+}
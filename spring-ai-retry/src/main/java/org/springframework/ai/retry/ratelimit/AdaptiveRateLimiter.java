@@ -0,0 +1,350 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.retry.ratelimit;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import com.knuddels.jtokkit.Encodings;
+import com.knuddels.jtokkit.api.Encoding;
+import com.knuddels.jtokkit.api.EncodingType;
+import reactor.core.publisher.Mono;
+
+import org.springframework.ai.chat.metadata.RateLimit;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Client side rate limiter for the requests of one API key. Each model has a request
+ * and a token bucket, so that requests wait for capacity instead of being rejected by
+ * the provider with a {@code 429} status.
+ *
+ * <p>
+ * The limits are usually unknown up front: a bucket is unlimited until a response
+ * reports the {@link RateLimit} of the API key, after which its capacity, remaining
+ * permits and refill rate follow the values reported by every response. Initial limits
+ * can be configured for the first requests.
+ *
+ * <p>
+ * A request acquires a {@link Permit} for its estimated token cost before it is sent,
+ * waiting up to {@link Builder#withMaxWait(Duration) maxWait} for capacity, and releases
+ * it with the rate limit and the token usage of the response. Requests that would wait
+ * longer are rejected with a {@link RateLimitExceededException} without being sent.
+ *
+ * @since 1.0.0
+ * @see RateLimiterRegistry
+ */
+public class AdaptiveRateLimiter {
+
+	private static final Encoding ENCODING = Encodings.newLazyEncodingRegistry()
+		.getEncoding(EncodingType.CL100K_BASE);
+
+	private static final Duration DEFAULT_WINDOW = Duration.ofMinutes(1);
+
+	private final long requestsPerMinute;
+
+	private final long tokensPerMinute;
+
+	private final Duration maxWait;
+
+	private final LongSupplier nanoClock;
+
+	private final Map<String, ModelLimits> models = new ConcurrentHashMap<>();
+
+	protected AdaptiveRateLimiter(long requestsPerMinute, long tokensPerMinute, Duration maxWait,
+			LongSupplier nanoClock) {
+		this.requestsPerMinute = requestsPerMinute;
+		this.tokensPerMinute = tokensPerMinute;
+		this.maxWait = maxWait;
+		this.nanoClock = nanoClock;
+	}
+
+	/**
+	 * Estimates the number of tokens of a text, as counted by the rate limits of the
+	 * provider.
+	 * @param text the text, may be {@code null}.
+	 * @return the estimated number of tokens.
+	 */
+	public static long estimateTokens(String text) {
+		return StringUtils.hasLength(text) ? ENCODING.countTokens(text) : 0;
+	}
+
+	/**
+	 * Acquires a permit for one request of the given model, blocking until the request
+	 * and token buckets have capacity.
+	 * @param model the model of the request, may be {@code null}.
+	 * @param tokens the estimated number of tokens of the request, including the
+	 * requested completion tokens.
+	 * @return the permit, to be released when the response is received.
+	 * @throws RateLimitExceededException if the wait would exceed the maximum wait.
+	 */
+	public Permit acquire(String model, long tokens) {
+		Permit permit = reserve(model, tokens);
+		if (permit.delay().isZero()) {
+			return permit;
+		}
+		try {
+			TimeUnit.NANOSECONDS.sleep(permit.delay().toNanos());
+			return permit;
+		}
+		catch (InterruptedException ex) {
+			permit.release(null, null);
+			Thread.currentThread().interrupt();
+			throw new RateLimitExceededException("Interrupted while waiting for the rate limit of " + model, ex);
+		}
+	}
+
+	/**
+	 * Acquires a permit for one request of the given model, delaying the returned
+	 * {@link Mono} until the request and token buckets have capacity.
+	 * @param model the model of the request, may be {@code null}.
+	 * @param tokens the estimated number of tokens of the request.
+	 * @return a {@link Mono} of the permit, to be released when the response is
+	 * received. Fails with a {@link RateLimitExceededException} if the wait would exceed
+	 * the maximum wait.
+	 */
+	public Mono<Permit> acquireReactive(String model, long tokens) {
+		return Mono.defer(() -> {
+			Permit permit = reserve(model, tokens);
+			if (permit.delay().isZero()) {
+				return Mono.just(permit);
+			}
+			return Mono.delay(permit.delay()).thenReturn(permit).doOnCancel(() -> permit.release(null, null));
+		});
+	}
+
+	private Permit reserve(String model, long tokens) {
+		Assert.isTrue(tokens >= 0, "tokens must not be negative");
+		ModelLimits limits = this.models.computeIfAbsent(String.valueOf(model), key -> new ModelLimits());
+		synchronized (limits) {
+			long now = this.nanoClock.getAsLong();
+			limits.requests.refill(now);
+			limits.tokens.refill(now);
+			long delayNanos = Math.max(limits.requests.nanosUntilAvailable(1),
+					limits.tokens.nanosUntilAvailable(tokens));
+			if (delayNanos > this.maxWait.toNanos()) {
+				throw new RateLimitExceededException("Rate limit of %s exhausted, the next request is possible in %s"
+					.formatted(model, Duration.ofNanos(delayNanos)));
+			}
+			limits.requests.take(1);
+			limits.tokens.take(tokens);
+			limits.inFlightTokens += tokens;
+			limits.inFlightRequests++;
+			return new Permit(limits, tokens, Duration.ofNanos(delayNanos));
+		}
+	}
+
+	/**
+	 * A request admitted by the rate limiter.
+	 */
+	public final class Permit {
+
+		private final ModelLimits limits;
+
+		private final long estimatedTokens;
+
+		private final Duration delay;
+
+		private boolean released;
+
+		private Permit(ModelLimits limits, long estimatedTokens, Duration delay) {
+			this.limits = limits;
+			this.estimatedTokens = estimatedTokens;
+			this.delay = delay;
+		}
+
+		/**
+		 * @return how long the request waited for capacity.
+		 */
+		public Duration delay() {
+			return this.delay;
+		}
+
+		/**
+		 * Releases the permit once the response is received and updates the buckets of
+		 * the model. Releasing a permit more than once has no effect.
+		 * @param rateLimit the rate limit reported by the response, may be {@code null}.
+		 * @param usedTokens the tokens used by the request, may be {@code null}. Used to
+		 * correct the estimate when the response reports no rate limit.
+		 */
+		public void release(RateLimit rateLimit, Long usedTokens) {
+			ModelLimits limits = this.limits;
+			synchronized (limits) {
+				if (this.released) {
+					return;
+				}
+				this.released = true;
+				limits.inFlightTokens -= this.estimatedTokens;
+				limits.inFlightRequests--;
+
+				long now = AdaptiveRateLimiter.this.nanoClock.getAsLong();
+				limits.requests.refill(now);
+				limits.tokens.refill(now);
+				boolean synced = false;
+				if (rateLimit != null) {
+					synced = limits.requests.sync(rateLimit.getRequestsLimit(), rateLimit.getRequestsRemaining(),
+							rateLimit.getRequestsReset(), limits.inFlightRequests);
+					synced |= limits.tokens.sync(rateLimit.getTokensLimit(), rateLimit.getTokensRemaining(),
+							rateLimit.getTokensReset(), limits.inFlightTokens);
+				}
+				if (!synced && usedTokens != null) {
+					limits.tokens.take(usedTokens - this.estimatedTokens);
+				}
+			}
+		}
+
+	}
+
+	private final class ModelLimits {
+
+		private final Bucket requests = new Bucket(AdaptiveRateLimiter.this.requestsPerMinute);
+
+		private final Bucket tokens = new Bucket(AdaptiveRateLimiter.this.tokensPerMinute);
+
+		private long inFlightRequests;
+
+		private long inFlightTokens;
+
+	}
+
+	/**
+	 * Token bucket refilled continuously, as the providers do. A bucket without a
+	 * capacity is unlimited.
+	 */
+	private final class Bucket {
+
+		private double capacity;
+
+		private double available;
+
+		private double refillPerNano;
+
+		private long refilledAt;
+
+		Bucket(long perMinute) {
+			this.refilledAt = AdaptiveRateLimiter.this.nanoClock.getAsLong();
+			if (perMinute > 0) {
+				this.capacity = perMinute;
+				this.available = perMinute;
+				this.refillPerNano = (double) perMinute / DEFAULT_WINDOW.toNanos();
+			}
+		}
+
+		void refill(long now) {
+			if (this.capacity > 0 && now > this.refilledAt) {
+				this.available = Math.min(this.capacity, this.available + (now - this.refilledAt) * this.refillPerNano);
+			}
+			this.refilledAt = now;
+		}
+
+		long nanosUntilAvailable(long permits) {
+			if (this.capacity <= 0) {
+				return 0;
+			}
+			// A request larger than the capacity waits for a full bucket.
+			double missing = Math.min(permits, this.capacity) - this.available;
+			return (missing > 0) ? (long) Math.ceil(missing / this.refillPerNano) : 0;
+		}
+
+		void take(long permits) {
+			if (this.capacity > 0) {
+				this.available = Math.min(this.capacity, this.available - permits);
+			}
+		}
+
+		boolean sync(Long limit, Long remaining, Duration reset, long inFlight) {
+			if (limit == null || limit <= 0 || remaining == null) {
+				return false;
+			}
+			this.capacity = limit;
+			// The provider refills the used permits within the reset duration.
+			long used = limit - remaining;
+			if (used > 0 && reset != null && !reset.isZero() && !reset.isNegative()) {
+				this.refillPerNano = (double) used / reset.toNanos();
+			}
+			else if (this.refillPerNano <= 0) {
+				this.refillPerNano = (double) limit / DEFAULT_WINDOW.toNanos();
+			}
+			// Requests still in flight are not yet deducted from the remaining permits.
+			this.available = Math.min(this.capacity, remaining - inFlight);
+			return true;
+		}
+
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	public static class Builder {
+
+		private long requestsPerMinute;
+
+		private long tokensPerMinute;
+
+		private Duration maxWait = Duration.ofSeconds(30);
+
+		private LongSupplier nanoClock = System::nanoTime;
+
+		/**
+		 * @param requestsPerMinute the requests per minute assumed until a response
+		 * reports the rate limit, {@code 0} for unlimited.
+		 * @return this builder.
+		 */
+		public Builder withRequestsPerMinute(long requestsPerMinute) {
+			Assert.isTrue(requestsPerMinute >= 0, "requestsPerMinute must not be negative");
+			this.requestsPerMinute = requestsPerMinute;
+			return this;
+		}
+
+		/**
+		 * @param tokensPerMinute the tokens per minute assumed until a response reports
+		 * the rate limit, {@code 0} for unlimited.
+		 * @return this builder.
+		 */
+		public Builder withTokensPerMinute(long tokensPerMinute) {
+			Assert.isTrue(tokensPerMinute >= 0, "tokensPerMinute must not be negative");
+			this.tokensPerMinute = tokensPerMinute;
+			return this;
+		}
+
+		/**
+		 * @param maxWait the longest a request waits for capacity before it is rejected,
+		 * {@link Duration#ZERO} to reject requests instead of queuing them.
+		 * @return this builder.
+		 */
+		public Builder withMaxWait(Duration maxWait) {
+			Assert.isTrue(maxWait != null && !maxWait.isNegative(), "maxWait must not be negative");
+			this.maxWait = maxWait;
+			return this;
+		}
+
+		Builder withNanoClock(LongSupplier nanoClock) {
+			this.nanoClock = nanoClock;
+			return this;
+		}
+
+		public AdaptiveRateLimiter build() {
+			return new AdaptiveRateLimiter(this.requestsPerMinute, this.tokensPerMinute, this.maxWait,
+					this.nanoClock);
+		}
+
+	}
+
+}
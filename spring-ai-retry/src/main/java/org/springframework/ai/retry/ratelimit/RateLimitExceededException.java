@@ -0,0 +1,40 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.retry.ratelimit;
+
+import org.springframework.ai.retry.NonTransientAiException;
+
+/**
+ * Thrown when a request is rejected by an {@link AdaptiveRateLimiter} before it is sent,
+ * because the rate limit of the API key would not allow it within the maximum wait.
+ * <p>
+ * It is not transient: the request already waited as long as allowed, and a retry would
+ * queue it again behind the same limit. A {@code FailoverChatClient} still fails over to
+ * its other clients.
+ *
+ * @since 1.0.0
+ */
+public class RateLimitExceededException extends NonTransientAiException {
+
+	public RateLimitExceededException(String message) {
+		super(message);
+	}
+
+	public RateLimitExceededException(String message, Throwable cause) {
+		super(message, cause);
+	}
+
+}
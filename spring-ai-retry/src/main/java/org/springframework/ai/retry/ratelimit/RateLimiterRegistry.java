@@ -0,0 +1,57 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.retry.ratelimit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.util.Assert;
+
+/**
+ * Shares one {@link AdaptiveRateLimiter} per API key, so that the chat, embedding and
+ * image clients of an account draw from the same rate limits.
+ *
+ * @since 1.0.0
+ */
+public class RateLimiterRegistry {
+
+	private final Map<String, AdaptiveRateLimiter> rateLimiters = new ConcurrentHashMap<>();
+
+	private final Supplier<AdaptiveRateLimiter> rateLimiterFactory;
+
+	public RateLimiterRegistry() {
+		this(() -> AdaptiveRateLimiter.builder().build());
+	}
+
+	/**
+	 * @param rateLimiterFactory creates the rate limiter of an API key on first use.
+	 */
+	public RateLimiterRegistry(Supplier<AdaptiveRateLimiter> rateLimiterFactory) {
+		Assert.notNull(rateLimiterFactory, "rateLimiterFactory must not be null");
+		this.rateLimiterFactory = rateLimiterFactory;
+	}
+
+	/**
+	 * @param baseUrl the base URL of the provider API.
+	 * @param apiKey the API key.
+	 * @return the rate limiter shared by the clients of the API key.
+	 */
+	public AdaptiveRateLimiter getRateLimiter(String baseUrl, String apiKey) {
+		return this.rateLimiters.computeIfAbsent(baseUrl + " " + apiKey, key -> this.rateLimiterFactory.get());
+	}
+
+}
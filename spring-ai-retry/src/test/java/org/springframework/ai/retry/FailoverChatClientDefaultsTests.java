@@ -0,0 +1,84 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.retry;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ai.chat.ChatClient;
+import org.springframework.ai.chat.ChatResponse;
+import org.springframework.ai.chat.FailoverChatClient;
+import org.springframework.ai.chat.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.retry.circuitbreaker.CircuitBreakerOpenException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit Tests for the errors that {@link FailoverChatClient} fails over on by default,
+ * which it matches by name.
+ */
+public class FailoverChatClientDefaultsTests {
+
+	private final Prompt prompt = new Prompt("Hello");
+
+	private final AtomicInteger standbyCalls = new AtomicInteger();
+
+	private final ChatClient standby = prompt -> {
+		this.standbyCalls.incrementAndGet();
+		return new ChatResponse(List.of(new Generation("standby")));
+	};
+
+	@Test
+	public void failsOverOnTransientAiExceptionSubclasses() {
+		FailoverChatClient client = FailoverChatClient.builder().withClient("primary", prompt -> {
+			throw new ProviderOverloadedException();
+		}).withClient("standby", this.standby, 0).build();
+
+		assertThat(client.call(this.prompt).getResult().getOutput().getContent()).isEqualTo("standby");
+	}
+
+	@Test
+	public void failsOverOnOpenCircuitBreakers() {
+		FailoverChatClient client = FailoverChatClient.builder().withClient("primary", prompt -> {
+			throw new CircuitBreakerOpenException("Circuit breaker is open");
+		}).withClient("standby", this.standby, 0).build();
+
+		assertThat(client.call(this.prompt).getResult().getOutput().getContent()).isEqualTo("standby");
+	}
+
+	@Test
+	public void doesNotFailOverOnNonTransientAiExceptions() {
+		FailoverChatClient client = FailoverChatClient.builder().withClient("primary", prompt -> {
+			throw new NonTransientAiException("Invalid API key");
+		}).withClient("standby", this.standby, 0).build();
+
+		assertThatThrownBy(() -> client.call(this.prompt)).isInstanceOf(NonTransientAiException.class);
+		assertThat(this.standbyCalls).hasValue(0);
+	}
+
+	static class ProviderOverloadedException extends TransientAiException {
+
+		ProviderOverloadedException() {
+			super("Overloaded");
+		}
+
+	}
+
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.retry;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit Tests for {@link JitteredBackOffPolicy}.
+ */
+public class JitteredBackOffPolicyTests {
+
+	private final JitteredBackOffPolicy backOffPolicy = new JitteredBackOffPolicy(Duration.ofSeconds(1), 2,
+			Duration.ofSeconds(10));
+
+	@Test
+	public void backOffGrowsExponentiallyWithJitter() {
+		for (int i = 0; i < 100; i++) {
+			assertThat(this.backOffPolicy.backOff(1, null)).isEqualTo(Duration.ofSeconds(1));
+			assertThat(this.backOffPolicy.backOff(3, null)).isBetween(Duration.ofSeconds(1), Duration.ofSeconds(4));
+			assertThat(this.backOffPolicy.backOff(10, null)).isBetween(Duration.ofSeconds(1), Duration.ofSeconds(10));
+		}
+	}
+
+	@Test
+	public void retryAfterTakesPrecedence() {
+		assertThat(this.backOffPolicy.backOff(1, new TransientAiException("Rate limited", Duration.ofSeconds(7))))
+			.isEqualTo(Duration.ofSeconds(7));
+		assertThat(this.backOffPolicy.backOff(1, new TransientAiException("Rate limited", Duration.ofMinutes(5))))
+			.isEqualTo(Duration.ofSeconds(10));
+	}
+
+}
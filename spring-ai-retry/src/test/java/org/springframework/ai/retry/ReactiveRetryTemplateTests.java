@@ -0,0 +1,82 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.retry;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit Tests for {@link ReactiveRetryTemplate}.
+ */
+public class ReactiveRetryTemplateTests {
+
+	private final ReactiveRetryTemplate retryTemplate = new ReactiveRetryTemplate(3,
+			new JitteredBackOffPolicy(Duration.ofMillis(1), 2, Duration.ofMillis(10)));
+
+	private final AtomicInteger attempts = new AtomicInteger();
+
+	@Test
+	public void retriesTransientFailures() {
+		Flux<String> stream = Flux.defer(() -> (this.attempts.incrementAndGet() < 3)
+				? Flux.error(new TransientAiException("Transient Error")) : Flux.just("a", "b"));
+
+		assertThat(this.retryTemplate.execute(stream).collectList().block()).containsExactly("a", "b");
+		assertThat(this.attempts).hasValue(3);
+	}
+
+	@Test
+	public void givesUpAfterMaxAttempts() {
+		Mono<String> call = Mono.defer(() -> {
+			this.attempts.incrementAndGet();
+			return Mono.error(new TransientAiException("Transient Error"));
+		});
+
+		assertThatThrownBy(() -> this.retryTemplate.execute(call).block()).isInstanceOf(TransientAiException.class);
+		assertThat(this.attempts).hasValue(3);
+	}
+
+	@Test
+	public void doesNotRetryNonTransientFailures() {
+		Mono<String> call = Mono.defer(() -> {
+			this.attempts.incrementAndGet();
+			return Mono.error(new NonTransientAiException("Non Transient Error"));
+		});
+
+		assertThatThrownBy(() -> this.retryTemplate.execute(call).block())
+			.isInstanceOf(NonTransientAiException.class);
+		assertThat(this.attempts).hasValue(1);
+	}
+
+	@Test
+	public void doesNotRetryStartedStreams() {
+		Flux<String> stream = Flux.defer(() -> {
+			this.attempts.incrementAndGet();
+			return Flux.concat(Flux.just("a"), Flux.error(new TransientAiException("Transient Error")));
+		});
+
+		assertThatThrownBy(() -> this.retryTemplate.execute(stream).collectList().block())
+			.isInstanceOf(TransientAiException.class);
+		assertThat(this.attempts).hasValue(1);
+	}
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.retry;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit Tests for the error classification of {@link RetryUtils}.
+ */
+public class RetryUtilsTests {
+
+	private static final String RATE_LIMIT_BODY = """
+			{"error": {"message": "Rate limit reached for requests", "type": "requests", "code": "rate_limit_exceeded"}}
+			""";
+
+	private static final String INSUFFICIENT_QUOTA_BODY = """
+			{"error": {"message": "You exceeded your current quota", "type": "insufficient_quota",
+			"code": "insufficient_quota"}}
+			""";
+
+	@Test
+	public void rateLimitedResponsesAreTransient() {
+		MockClientHttpResponse response = new MockClientHttpResponse(RATE_LIMIT_BODY.getBytes(StandardCharsets.UTF_8),
+				HttpStatus.TOO_MANY_REQUESTS);
+		response.getHeaders().set(HttpHeaders.RETRY_AFTER, "20");
+
+		assertThatThrownBy(() -> RetryUtils.DEFAULT_RESPONSE_ERROR_HANDLER.handleError(response))
+			.isInstanceOfSatisfying(TransientAiException.class,
+					ex -> assertThat(ex.getRetryAfter()).isEqualTo(Duration.ofSeconds(20)));
+	}
+
+	@Test
+	public void exceededQuotaResponsesAreNotTransient() {
+		MockClientHttpResponse response = new MockClientHttpResponse(
+				INSUFFICIENT_QUOTA_BODY.getBytes(StandardCharsets.UTF_8), HttpStatus.TOO_MANY_REQUESTS);
+
+		assertThatThrownBy(() -> RetryUtils.DEFAULT_RESPONSE_ERROR_HANDLER.handleError(response))
+			.isInstanceOf(NonTransientAiException.class)
+			.hasMessageContaining("insufficient_quota");
+	}
+
+	@Test
+	public void otherClientErrorsAreNotTransient() {
+		MockClientHttpResponse response = new MockClientHttpResponse(
+				"Incorrect API key provided".getBytes(StandardCharsets.UTF_8), HttpStatus.UNAUTHORIZED);
+
+		assertThatThrownBy(() -> RetryUtils.DEFAULT_RESPONSE_ERROR_HANDLER.handleError(response))
+			.isInstanceOf(NonTransientAiException.class);
+	}
+
+	@Test
+	public void exceededQuotaStreamingFailuresAreNotTransient() {
+		assertThat(RetryUtils.isTransient(webClientResponseException(HttpStatus.TOO_MANY_REQUESTS, RATE_LIMIT_BODY)))
+			.isTrue();
+		assertThat(RetryUtils
+			.isTransient(webClientResponseException(HttpStatus.TOO_MANY_REQUESTS, INSUFFICIENT_QUOTA_BODY)))
+			.isFalse();
+		assertThat(RetryUtils.isTransient(webClientResponseException(HttpStatus.SERVICE_UNAVAILABLE, "")))
+			.isTrue();
+	}
+
+	private static WebClientResponseException webClientResponseException(HttpStatus status, String body) {
+		return WebClientResponseException.create(status.value(), status.getReasonPhrase(), HttpHeaders.EMPTY,
+				body.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+	}
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.retry.circuitbreaker;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ai.retry.circuitbreaker.CircuitBreaker.State;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit Tests for {@link CircuitBreaker}.
+ */
+public class CircuitBreakerTests {
+
+	private final AtomicLong nanoTime = new AtomicLong();
+
+	private final CircuitBreaker circuitBreaker = new CircuitBreaker("api", 3, Duration.ofSeconds(30),
+			this.nanoTime::get);
+
+	@Test
+	public void opensAfterConsecutiveFailures() {
+		this.circuitBreaker.onFailure();
+		this.circuitBreaker.onFailure();
+		this.circuitBreaker.onSuccess();
+		this.circuitBreaker.onFailure();
+		this.circuitBreaker.onFailure();
+		assertThat(this.circuitBreaker.getState()).isEqualTo(State.CLOSED);
+		this.circuitBreaker.acquirePermission();
+
+		this.circuitBreaker.onFailure();
+		assertThat(this.circuitBreaker.getState()).isEqualTo(State.OPEN);
+		assertThatThrownBy(this.circuitBreaker::acquirePermission).isInstanceOf(CircuitBreakerOpenException.class);
+	}
+
+	@Test
+	public void closesAfterSuccessfulTrial() {
+		open();
+
+		this.nanoTime.addAndGet(Duration.ofSeconds(30).toNanos());
+		this.circuitBreaker.acquirePermission();
+		assertThat(this.circuitBreaker.getState()).isEqualTo(State.HALF_OPEN);
+		assertThatThrownBy(this.circuitBreaker::acquirePermission).isInstanceOf(CircuitBreakerOpenException.class);
+
+		this.circuitBreaker.onSuccess();
+		assertThat(this.circuitBreaker.getState()).isEqualTo(State.CLOSED);
+		this.circuitBreaker.acquirePermission();
+	}
+
+	@Test
+	public void reopensAfterFailedTrial() {
+		open();
+
+		this.nanoTime.addAndGet(Duration.ofSeconds(30).toNanos());
+		this.circuitBreaker.acquirePermission();
+		this.circuitBreaker.onFailure();
+		assertThat(this.circuitBreaker.getState()).isEqualTo(State.OPEN);
+		assertThatThrownBy(this.circuitBreaker::acquirePermission).isInstanceOf(CircuitBreakerOpenException.class);
+	}
+
+	private void open() {
+		for (int i = 0; i < 3; i++) {
+			this.circuitBreaker.onFailure();
+		}
+		assertThat(this.circuitBreaker.getState()).isEqualTo(State.OPEN);
+	}
+
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.retry.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ai.chat.metadata.RateLimit;
+import org.springframework.ai.retry.RetryUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit Tests for {@link AdaptiveRateLimiter}.
+ */
+public class AdaptiveRateLimiterTests {
+
+	private final AtomicLong nanoTime = new AtomicLong();
+
+	@Test
+	public void unlimitedUntilTheRateLimitIsReported() {
+		AdaptiveRateLimiter rateLimiter = rateLimiter(Duration.ZERO);
+
+		for (int i = 0; i < 100; i++) {
+			rateLimiter.acquire("model", 10_000).release(null, null);
+		}
+	}
+
+	@Test
+	public void shedsRequestsOnceTheReportedTokensAreUsed() {
+		AdaptiveRateLimiter rateLimiter = rateLimiter(Duration.ZERO);
+
+		// 1000 tokens per minute, 100 left: a full refill takes 54 seconds.
+		rateLimiter.acquire("model", 0).release(rateLimit(1000L, 100L, Duration.ofSeconds(54)), null);
+
+		rateLimiter.acquire("model", 100);
+		assertThatThrownBy(() -> rateLimiter.acquire("model", 100)).isInstanceOf(RateLimitExceededException.class);
+
+		// Other models have their own limits.
+		rateLimiter.acquire("other-model", 100);
+
+		// 900 tokens are refilled in 54 seconds, 100 in 6 seconds.
+		this.nanoTime.addAndGet(Duration.ofSeconds(7).toNanos());
+		rateLimiter.acquire("model", 100);
+	}
+
+	@Test
+	public void shedRequestsAreNotRetried() {
+		AdaptiveRateLimiter rateLimiter = rateLimiter(Duration.ZERO);
+		rateLimiter.acquire("model", 0).release(rateLimit(1000L, 0L, Duration.ofSeconds(60)), null);
+
+		AtomicInteger attempts = new AtomicInteger();
+		assertThatThrownBy(() -> RetryUtils.DEFAULT_RETRY_TEMPLATE.execute(ctx -> {
+			attempts.incrementAndGet();
+			return rateLimiter.acquire("model", 100);
+		})).isInstanceOf(RateLimitExceededException.class);
+		assertThat(attempts).hasValue(1);
+	}
+
+	@Test
+	public void waitsForCapacityWithinTheMaximumWait() {
+		AdaptiveRateLimiter rateLimiter = rateLimiter(Duration.ofMinutes(1));
+		rateLimiter.acquire("model", 0).release(rateLimit(1000L, 0L, Duration.ofMillis(60)), null);
+
+		AdaptiveRateLimiter.Permit permit = rateLimiter.acquireReactive("model", 100).block();
+
+		assertThat(permit.delay().toMillis()).isEqualTo(6);
+	}
+
+	@Test
+	public void usedTokensCorrectTheEstimate() {
+		AdaptiveRateLimiter rateLimiter = AdaptiveRateLimiter.builder()
+			.withTokensPerMinute(1000)
+			.withMaxWait(Duration.ZERO)
+			.withNanoClock(this.nanoTime::get)
+			.build();
+
+		// The request was estimated at 1000 tokens but used only 200.
+		rateLimiter.acquire("model", 1000).release(null, 200L);
+
+		rateLimiter.acquire("model", 800);
+		assertThatThrownBy(() -> rateLimiter.acquire("model", 1)).isInstanceOf(RateLimitExceededException.class);
+	}
+
+	@Test
+	public void requestsInFlightAreDeductedFromTheReportedRemaining() {
+		AdaptiveRateLimiter rateLimiter = rateLimiter(Duration.ZERO);
+		rateLimiter.acquire("model", 0).release(rateLimit(1000L, 1000L, null), null);
+
+		AdaptiveRateLimiter.Permit first = rateLimiter.acquire("model", 400);
+		AdaptiveRateLimiter.Permit second = rateLimiter.acquire("model", 400);
+
+		// The first response does not account for the second request yet.
+		first.release(rateLimit(1000L, 600L, null), null);
+
+		assertThatThrownBy(() -> rateLimiter.acquire("model", 300)).isInstanceOf(RateLimitExceededException.class);
+		second.release(rateLimit(1000L, 200L, null), null);
+		rateLimiter.acquire("model", 200);
+	}
+
+	@Test
+	public void estimatesTokens() {
+		assertThat(AdaptiveRateLimiter.estimateTokens(null)).isZero();
+		assertThat(AdaptiveRateLimiter.estimateTokens("Tell me a joke about cats")).isBetween(4L, 8L);
+	}
+
+	private AdaptiveRateLimiter rateLimiter(Duration maxWait) {
+		return AdaptiveRateLimiter.builder().withMaxWait(maxWait).withNanoClock(this.nanoTime::get).build();
+	}
+
+	private static RateLimit rateLimit(Long tokensLimit, Long tokensRemaining, Duration tokensReset) {
+		return new RateLimit() {
+
+			@Override
+			public Long getRequestsLimit() {
+				return null;
+			}
+
+			@Override
+			public Long getRequestsRemaining() {
+				return null;
+			}
+
+			@Override
+			public Duration getRequestsReset() {
+				return null;
+			}
+
+			@Override
+			public Long getTokensLimit() {
+				return tokensLimit;
+			}
+
+			@Override
+			public Long getTokensRemaining() {
+				return tokensRemaining;
+			}
+
+			@Override
+			public Duration getTokensReset() {
+				return tokensReset;
+			}
+
+		};
+	}
+
+}
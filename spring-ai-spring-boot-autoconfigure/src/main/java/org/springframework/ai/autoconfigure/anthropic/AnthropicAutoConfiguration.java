@@ -19,14 +19,20 @@ import java.util.List;
 
 import org.springframework.ai.anthropic.AnthropicChatClient;
 import org.springframework.ai.anthropic.api.AnthropicApi;
+import org.springframework.ai.autoconfigure.http.SpringAiHttpClientAutoConfiguration;
+import org.springframework.ai.autoconfigure.http.SpringAiHttpTransport;
 import org.springframework.ai.autoconfigure.retry.SpringAiRetryAutoConfiguration;
 import org.springframework.ai.model.function.FunctionCallback;
 import org.springframework.ai.model.function.FunctionCallbackContext;
+import org.springframework.ai.retry.ReactiveRetryTemplate;
+import org.springframework.ai.retry.ratelimit.RateLimiterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.web.client.RestClientAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.function.client.WebClientAutoConfiguration;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
@@ -34,12 +40,14 @@ import org.springframework.retry.support.RetryTemplate;
 import org.springframework.util.CollectionUtils;
 import org.springframework.web.client.ResponseErrorHandler;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.reactive.function.client.WebClient;
 
 /**
  * @author Christian Tzolov
  * @since 1.0.0
  */
-@AutoConfiguration(after = { RestClientAutoConfiguration.class, SpringAiRetryAutoConfiguration.class })
+@AutoConfiguration(after = { RestClientAutoConfiguration.class, WebClientAutoConfiguration.class,
+		SpringAiHttpClientAutoConfiguration.class, SpringAiRetryAutoConfiguration.class })
 @EnableConfigurationProperties({ AnthropicChatProperties.class, AnthropicConnectionProperties.class })
 @ConditionalOnClass(AnthropicApi.class)
 @ConditionalOnProperty(prefix = AnthropicChatProperties.CONFIG_PREFIX, name = "enabled", havingValue = "true",
@@ -49,24 +57,33 @@ public class AnthropicAutoConfiguration {
 	@Bean
 	@ConditionalOnMissingBean
 	public AnthropicApi anthropicApi(AnthropicConnectionProperties connectionProperties,
-			RestClient.Builder restClientBuilder, ResponseErrorHandler responseErrorHandler) {
+			RestClient.Builder restClientBuilder, ObjectProvider<WebClient.Builder> webClientBuilderProvider,
+			ObjectProvider<SpringAiHttpTransport> httpTransport, ResponseErrorHandler responseErrorHandler) {
+
+		WebClient.Builder webClientBuilder = webClientBuilderProvider.getIfAvailable(WebClient::builder);
+		httpTransport.ifAvailable(transport -> transport.customize(restClientBuilder, webClientBuilder));
 
 		return new AnthropicApi(connectionProperties.getBaseUrl(), connectionProperties.getApiKey(),
-				connectionProperties.getVersion(), restClientBuilder, responseErrorHandler);
+				connectionProperties.getVersion(), restClientBuilder, webClientBuilder, responseErrorHandler);
 	}
 
 	@Bean
 	@ConditionalOnMissingBean
 	public AnthropicChatClient anthropicChatClient(AnthropicApi anthropicApi, AnthropicChatProperties chatProperties,
-			RetryTemplate retryTemplate, FunctionCallbackContext functionCallbackContext,
-			List<FunctionCallback> toolFunctionCallbacks) {
+			RetryTemplate retryTemplate, ReactiveRetryTemplate reactiveRetryTemplate,
+			FunctionCallbackContext functionCallbackContext, List<FunctionCallback> toolFunctionCallbacks,
+			AnthropicConnectionProperties connectionProperties,
+			ObjectProvider<RateLimiterRegistry> rateLimiterRegistry) {
 
 		if (!CollectionUtils.isEmpty(toolFunctionCallbacks)) {
 			chatProperties.getOptions().getFunctionCallbacks().addAll(toolFunctionCallbacks);
 		}
 
+		RateLimiterRegistry registry = rateLimiterRegistry.getIfAvailable();
 		return new AnthropicChatClient(anthropicApi, chatProperties.getOptions(), retryTemplate,
-				functionCallbackContext);
+				functionCallbackContext, reactiveRetryTemplate, (registry != null)
+						? registry.getRateLimiter(connectionProperties.getBaseUrl(), connectionProperties.getApiKey())
+						: null);
 	}
 
 	@Bean
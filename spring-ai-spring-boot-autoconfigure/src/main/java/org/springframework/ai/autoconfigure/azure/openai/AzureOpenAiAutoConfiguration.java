@@ -17,6 +17,7 @@ package org.springframework.ai.autoconfigure.azure.openai;
 
 import java.util.List;
 
+import com.azure.ai.openai.OpenAIAsyncClient;
 import com.azure.ai.openai.OpenAIClient;
 import com.azure.ai.openai.OpenAIClientBuilder;
 import com.azure.core.credential.AzureKeyCredential;
@@ -26,6 +27,7 @@ import org.springframework.ai.azure.openai.AzureOpenAiChatClient;
 import org.springframework.ai.azure.openai.AzureOpenAiEmbeddingClient;
 import org.springframework.ai.model.function.FunctionCallback;
 import org.springframework.ai.model.function.FunctionCallbackContext;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -55,19 +57,30 @@ public class AzureOpenAiAutoConfiguration {
 			.buildClient();
 	}
 
+	@Bean
+	@ConditionalOnMissingBean
+	@ConditionalOnProperty(prefix = AzureOpenAiConnectionProperties.CONFIG_PREFIX, name = { "api-key", "endpoint" })
+	public OpenAIAsyncClient openAIAsyncClient(AzureOpenAiConnectionProperties connectionProperties) {
+
+		return new OpenAIClientBuilder().endpoint(connectionProperties.getEndpoint())
+			.credential(new AzureKeyCredential(connectionProperties.getApiKey()))
+			.clientOptions(new ClientOptions().setApplicationId("spring-ai"))
+			.buildAsyncClient();
+	}
+
 	@Bean
 	@ConditionalOnProperty(prefix = AzureOpenAiChatProperties.CONFIG_PREFIX, name = "enabled", havingValue = "true",
 			matchIfMissing = true)
 	public AzureOpenAiChatClient azureOpenAiChatClient(OpenAIClient openAIClient,
-			AzureOpenAiChatProperties chatProperties, List<FunctionCallback> toolFunctionCallbacks,
-			FunctionCallbackContext functionCallbackContext) {
+			ObjectProvider<OpenAIAsyncClient> openAIAsyncClient, AzureOpenAiChatProperties chatProperties,
+			List<FunctionCallback> toolFunctionCallbacks, FunctionCallbackContext functionCallbackContext) {
 
 		if (!CollectionUtils.isEmpty(toolFunctionCallbacks)) {
 			chatProperties.getOptions().getFunctionCallbacks().addAll(toolFunctionCallbacks);
 		}
 
 		AzureOpenAiChatClient azureOpenAiChatClient = new AzureOpenAiChatClient(openAIClient,
-				chatProperties.getOptions(), functionCallbackContext);
+				openAIAsyncClient.getIfAvailable(), chatProperties.getOptions(), functionCallbackContext);
 
 		return azureOpenAiChatClient;
 	}
@@ -76,9 +89,9 @@ public class AzureOpenAiAutoConfiguration {
 	@ConditionalOnProperty(prefix = AzureOpenAiEmbeddingProperties.CONFIG_PREFIX, name = "enabled",
 			havingValue = "true", matchIfMissing = true)
 	public AzureOpenAiEmbeddingClient azureOpenAiEmbeddingClient(OpenAIClient openAIClient,
-			AzureOpenAiEmbeddingProperties embeddingProperties) {
-		return new AzureOpenAiEmbeddingClient(openAIClient, embeddingProperties.getMetadataMode(),
-				embeddingProperties.getOptions());
+			ObjectProvider<OpenAIAsyncClient> openAIAsyncClient, AzureOpenAiEmbeddingProperties embeddingProperties) {
+		return new AzureOpenAiEmbeddingClient(openAIClient, openAIAsyncClient.getIfAvailable(),
+				embeddingProperties.getMetadataMode(), embeddingProperties.getOptions());
 	}
 
 	@Bean
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.autoconfigure.http;
+
+import org.springframework.ai.autoconfigure.http.SpringAiHttpClientProperties.Connector;
+import org.springframework.ai.autoconfigure.retry.SpringAiRetryAutoConfiguration;
+import org.springframework.ai.retry.circuitbreaker.CircuitBreakerRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * Auto-configuration of the {@link SpringAiHttpTransport} applied to the
+ * {@link RestClient} and {@link WebClient} of the model APIs.
+ */
+@AutoConfiguration(after = SpringAiRetryAutoConfiguration.class)
+@ConditionalOnClass({ RestClient.class, WebClient.class })
+@ConditionalOnProperty(prefix = SpringAiHttpClientProperties.CONFIG_PREFIX, name = "enabled", havingValue = "true",
+		matchIfMissing = true)
+@EnableConfigurationProperties(SpringAiHttpClientProperties.class)
+public class SpringAiHttpClientAutoConfiguration {
+
+	@Bean
+	@ConditionalOnMissingBean
+	public SpringAiHttpTransport springAiHttpTransport(SpringAiHttpClientProperties properties,
+			ObjectProvider<CircuitBreakerRegistry> circuitBreakerRegistry) {
+		Connector connector = (properties.getConnector() != null) ? properties.getConnector()
+				: detectConnector(getClass().getClassLoader());
+		SpringAiHttpTransport transport = SpringAiHttpTransport.create(connector, properties);
+		transport.setCircuitBreakerRegistry(circuitBreakerRegistry.getIfAvailable());
+		return transport;
+	}
+
+	static Connector detectConnector(ClassLoader classLoader) {
+		if (ClassUtils.isPresent("reactor.netty.http.client.HttpClient", classLoader)) {
+			return Connector.REACTOR_NETTY;
+		}
+		if (ClassUtils.isPresent("org.apache.hc.client5.http.impl.async.HttpAsyncClients", classLoader)
+				&& ClassUtils.isPresent("org.apache.hc.core5.reactive.ReactiveResponseConsumer", classLoader)) {
+			return Connector.HTTP_COMPONENTS;
+		}
+		return Connector.JDK;
+	}
+
+}
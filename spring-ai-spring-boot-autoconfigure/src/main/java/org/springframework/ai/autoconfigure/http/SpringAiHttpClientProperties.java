@@ -0,0 +1,193 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.autoconfigure.http;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration of the HTTP transport shared by the {@code RestClient} and
+ * {@code WebClient} of the model APIs.
+ */
+@ConfigurationProperties(SpringAiHttpClientProperties.CONFIG_PREFIX)
+public class SpringAiHttpClientProperties {
+
+	public static final String CONFIG_PREFIX = "spring.ai.http-client";
+
+	/**
+	 * The HTTP client library.
+	 */
+	public enum Connector {
+
+		/**
+		 * Reactor Netty, requires {@code io.projectreactor.netty:reactor-netty-http}.
+		 */
+		REACTOR_NETTY,
+
+		/**
+		 * The JDK {@code java.net.http.HttpClient}.
+		 */
+		JDK,
+
+		/**
+		 * Apache HttpComponents 5, requires
+		 * {@code org.apache.httpcomponents.client5:httpclient5} and
+		 * {@code org.apache.httpcomponents.core5:httpcore5-reactive}.
+		 */
+		HTTP_COMPONENTS
+
+	}
+
+	/**
+	 * Enable the shared HTTP transport. When disabled, the model APIs use the
+	 * {@code RestClient.Builder} and {@code WebClient.Builder} of the application as is.
+	 */
+	private boolean enabled = true;
+
+	/**
+	 * The HTTP client library. Detected from the classpath by default, in the order
+	 * Reactor Netty, Apache HttpComponents, JDK.
+	 */
+	private Connector connector;
+
+	/**
+	 * Maximum number of pooled connections per host. Not supported by the JDK client.
+	 */
+	private int maxConnectionsPerHost = 100;
+
+	/**
+	 * Maximum number of pooled connections over all hosts. Only supported by Apache
+	 * HttpComponents: Reactor Netty limits each host separately, and the JDK client does
+	 * not pool a fixed number of connections.
+	 */
+	private int maxConnections = 500;
+
+	/**
+	 * Negotiate HTTP/2 with the servers that support it. Supported by the JDK client and
+	 * by Apache HttpComponents for the streaming requests.
+	 */
+	private boolean http2 = true;
+
+	/**
+	 * How long an idle connection is kept in the pool. Not supported by the JDK client,
+	 * which is configured with the jdk.httpclient.keepalive.timeout system property.
+	 */
+	private Duration keepAlive = Duration.ofSeconds(30);
+
+	/**
+	 * Connection timeout.
+	 */
+	private Duration connectTimeout = Duration.ofSeconds(10);
+
+	/**
+	 * Maximum time without data while reading a response. Non streaming completions send
+	 * nothing until the whole completion is generated. Not supported by the JDK client,
+	 * which only bounds the wait for the response headers, with the response timeout.
+	 */
+	private Duration readTimeout = Duration.ofMinutes(5);
+
+	/**
+	 * Maximum time to wait for the response status and headers.
+	 */
+	private Duration responseTimeout = Duration.ofMinutes(5);
+
+	/**
+	 * Run the JDK client on virtual threads. Requires Java 21.
+	 */
+	private boolean virtualThreads = false;
+
+	public boolean isEnabled() {
+		return this.enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public Connector getConnector() {
+		return this.connector;
+	}
+
+	public void setConnector(Connector connector) {
+		this.connector = connector;
+	}
+
+	public int getMaxConnectionsPerHost() {
+		return this.maxConnectionsPerHost;
+	}
+
+	public void setMaxConnectionsPerHost(int maxConnectionsPerHost) {
+		this.maxConnectionsPerHost = maxConnectionsPerHost;
+	}
+
+	public int getMaxConnections() {
+		return this.maxConnections;
+	}
+
+	public void setMaxConnections(int maxConnections) {
+		this.maxConnections = maxConnections;
+	}
+
+	public boolean isHttp2() {
+		return this.http2;
+	}
+
+	public void setHttp2(boolean http2) {
+		this.http2 = http2;
+	}
+
+	public Duration getKeepAlive() {
+		return this.keepAlive;
+	}
+
+	public void setKeepAlive(Duration keepAlive) {
+		this.keepAlive = keepAlive;
+	}
+
+	public Duration getConnectTimeout() {
+		return this.connectTimeout;
+	}
+
+	public void setConnectTimeout(Duration connectTimeout) {
+		this.connectTimeout = connectTimeout;
+	}
+
+	public Duration getReadTimeout() {
+		return this.readTimeout;
+	}
+
+	public void setReadTimeout(Duration readTimeout) {
+		this.readTimeout = readTimeout;
+	}
+
+	public Duration getResponseTimeout() {
+		return this.responseTimeout;
+	}
+
+	public void setResponseTimeout(Duration responseTimeout) {
+		this.responseTimeout = responseTimeout;
+	}
+
+	public boolean isVirtualThreads() {
+		return this.virtualThreads;
+	}
+
+	public void setVirtualThreads(boolean virtualThreads) {
+		this.virtualThreads = virtualThreads;
+	}
+
+}
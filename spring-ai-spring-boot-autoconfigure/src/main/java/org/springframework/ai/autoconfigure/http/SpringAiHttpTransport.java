@@ -0,0 +1,251 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.autoconfigure.http;
+
+import java.time.Duration;
+import java.util.List;
+
+import io.netty.channel.ChannelOption;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.config.TlsConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import reactor.netty.resources.ConnectionProvider;
+
+import org.springframework.ai.autoconfigure.http.SpringAiHttpClientProperties.Connector;
+import org.springframework.ai.retry.circuitbreaker.CircuitBreakerClientHttpRequestInterceptor;
+import org.springframework.ai.retry.circuitbreaker.CircuitBreakerExchangeFilterFunction;
+import org.springframework.ai.retry.circuitbreaker.CircuitBreakerRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.http.client.ReactorNettyClientRequestFactory;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.HttpComponentsClientHttpConnector;
+import org.springframework.http.client.reactive.JdkClientHttpConnector;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * The HTTP transport shared by the model APIs. The blocking {@link RestClient} and the
+ * streaming {@link WebClient} of every API are configured with the same client library,
+ * connection pool and timeouts. With Reactor Netty and the JDK client, both use a single
+ * client instance, and therefore a single connection pool.
+ *
+ * @since 1.0.0
+ */
+public class SpringAiHttpTransport implements DisposableBean {
+
+	private final ClientHttpRequestFactory requestFactory;
+
+	private final ClientHttpConnector connector;
+
+	private final Duration responseTimeout;
+
+	private final List<AutoCloseable> resources;
+
+	private CircuitBreakerRegistry circuitBreakerRegistry;
+
+	public SpringAiHttpTransport(ClientHttpRequestFactory requestFactory, ClientHttpConnector connector,
+			Duration responseTimeout, List<AutoCloseable> resources) {
+		this.requestFactory = requestFactory;
+		this.connector = connector;
+		this.responseTimeout = responseTimeout;
+		this.resources = resources;
+	}
+
+	/**
+	 * Creates the transport for the given client library.
+	 * @param connector the HTTP client library.
+	 * @param properties the transport configuration.
+	 * @return the transport.
+	 */
+	public static SpringAiHttpTransport create(Connector connector, SpringAiHttpClientProperties properties) {
+		return switch (connector) {
+			case REACTOR_NETTY -> ReactorNettyTransport.create(properties);
+			case HTTP_COMPONENTS -> HttpComponentsTransport.create(properties);
+			case JDK -> JdkTransport.create(properties);
+		};
+	}
+
+	/**
+	 * Guards the requests of the customized builders with circuit breakers.
+	 * @param circuitBreakerRegistry the circuit breakers of the provider endpoints.
+	 */
+	public void setCircuitBreakerRegistry(CircuitBreakerRegistry circuitBreakerRegistry) {
+		this.circuitBreakerRegistry = circuitBreakerRegistry;
+	}
+
+	/**
+	 * Applies the transport to the builders of a model API.
+	 * @param restClientBuilder the builder of the blocking client.
+	 * @param webClientBuilder the builder of the streaming client.
+	 */
+	public void customize(RestClient.Builder restClientBuilder, WebClient.Builder webClientBuilder) {
+		customize(restClientBuilder);
+		customize(webClientBuilder);
+	}
+
+	/**
+	 * Applies the transport to the builder of a blocking client.
+	 * @param restClientBuilder the builder.
+	 */
+	public void customize(RestClient.Builder restClientBuilder) {
+		restClientBuilder.requestFactory(this.requestFactory);
+		if (this.circuitBreakerRegistry != null) {
+			restClientBuilder
+				.requestInterceptor(new CircuitBreakerClientHttpRequestInterceptor(this.circuitBreakerRegistry));
+		}
+	}
+
+	/**
+	 * Applies the transport to the builder of a streaming client.
+	 * @param webClientBuilder the builder.
+	 */
+	public void customize(WebClient.Builder webClientBuilder) {
+		webClientBuilder.clientConnector(this.connector);
+		if (this.responseTimeout != null) {
+			// Only the exchange, up to the response headers, is timed: streamed bodies
+			// are bounded by the read timeout.
+			webClientBuilder.filter((request, next) -> next.exchange(request).timeout(this.responseTimeout));
+		}
+		if (this.circuitBreakerRegistry != null) {
+			webClientBuilder.filter(new CircuitBreakerExchangeFilterFunction(this.circuitBreakerRegistry));
+		}
+	}
+
+	@Override
+	public void destroy() throws Exception {
+		for (AutoCloseable resource : this.resources) {
+			resource.close();
+		}
+	}
+
+	private static final class ReactorNettyTransport {
+
+		static SpringAiHttpTransport create(SpringAiHttpClientProperties properties) {
+			ConnectionProvider connectionProvider = ConnectionProvider.builder("spring-ai")
+				.maxConnections(properties.getMaxConnectionsPerHost())
+				.maxIdleTime(properties.getKeepAlive())
+				.evictInBackground(properties.getKeepAlive())
+				.build();
+
+			reactor.netty.http.client.HttpClient httpClient = reactor.netty.http.client.HttpClient
+				.create(connectionProvider)
+				.keepAlive(true)
+				.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis());
+			if (properties.getReadTimeout() != null) {
+				httpClient = httpClient.responseTimeout(properties.getReadTimeout());
+			}
+
+			ReactorNettyClientRequestFactory requestFactory = new ReactorNettyClientRequestFactory(httpClient);
+			requestFactory.setConnectTimeout(properties.getConnectTimeout());
+			if (properties.getReadTimeout() != null) {
+				requestFactory.setReadTimeout(properties.getReadTimeout());
+			}
+			if (properties.getResponseTimeout() != null) {
+				requestFactory.setExchangeTimeout(properties.getResponseTimeout());
+			}
+
+			return new SpringAiHttpTransport(requestFactory, new ReactorClientHttpConnector(httpClient),
+					properties.getResponseTimeout(), List.of(connectionProvider::dispose));
+		}
+
+	}
+
+	private static final class HttpComponentsTransport {
+
+		static SpringAiHttpTransport create(SpringAiHttpClientProperties properties) {
+			ConnectionConfig.Builder connectionConfig = ConnectionConfig.custom()
+				.setConnectTimeout(Timeout.of(properties.getConnectTimeout()));
+			if (properties.getReadTimeout() != null) {
+				connectionConfig.setSocketTimeout(Timeout.of(properties.getReadTimeout()));
+			}
+			RequestConfig.Builder requestConfig = RequestConfig.custom();
+			if (properties.getResponseTimeout() != null) {
+				requestConfig.setResponseTimeout(Timeout.of(properties.getResponseTimeout()));
+			}
+			TimeValue keepAlive = TimeValue.of(properties.getKeepAlive());
+			int maxTotal = properties.getMaxConnections();
+
+			CloseableHttpClient httpClient = HttpClients.custom()
+				.setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+					.setMaxConnPerRoute(properties.getMaxConnectionsPerHost())
+					.setMaxConnTotal(maxTotal)
+					.setDefaultConnectionConfig(connectionConfig.build())
+					.build())
+				.setDefaultRequestConfig(requestConfig.build())
+				.evictIdleConnections(keepAlive)
+				.build();
+
+			CloseableHttpAsyncClient asyncClient = HttpAsyncClients.custom()
+				.setConnectionManager(PoolingAsyncClientConnectionManagerBuilder.create()
+					.setMaxConnPerRoute(properties.getMaxConnectionsPerHost())
+					.setMaxConnTotal(maxTotal)
+					.setDefaultConnectionConfig(connectionConfig.build())
+					.setDefaultTlsConfig(TlsConfig.custom()
+						.setVersionPolicy(
+								properties.isHttp2() ? HttpVersionPolicy.NEGOTIATE : HttpVersionPolicy.FORCE_HTTP_1)
+						.build())
+					.build())
+				.setDefaultRequestConfig(requestConfig.build())
+				.evictIdleConnections(keepAlive)
+				.build();
+
+			return new SpringAiHttpTransport(new HttpComponentsClientHttpRequestFactory(httpClient),
+					new HttpComponentsClientHttpConnector(asyncClient), properties.getResponseTimeout(),
+					List.of(httpClient, asyncClient));
+		}
+
+	}
+
+	private static final class JdkTransport {
+
+		static SpringAiHttpTransport create(SpringAiHttpClientProperties properties) {
+			java.net.http.HttpClient.Builder builder = java.net.http.HttpClient.newBuilder()
+				.connectTimeout(properties.getConnectTimeout())
+				.version(properties.isHttp2() ? java.net.http.HttpClient.Version.HTTP_2
+						: java.net.http.HttpClient.Version.HTTP_1_1);
+			if (properties.isVirtualThreads()) {
+				builder.executor(new VirtualThreadTaskExecutor("spring-ai-http-"));
+			}
+			java.net.http.HttpClient httpClient = builder.build();
+
+			JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+			if (properties.getResponseTimeout() != null) {
+				// The JDK client only bounds the wait for the response headers, so the
+				// read timeout has no equivalent and is not applied.
+				requestFactory.setReadTimeout(properties.getResponseTimeout());
+			}
+
+			return new SpringAiHttpTransport(requestFactory, new JdkClientHttpConnector(httpClient),
+					properties.getResponseTimeout(), List.of());
+		}
+
+	}
+
+}
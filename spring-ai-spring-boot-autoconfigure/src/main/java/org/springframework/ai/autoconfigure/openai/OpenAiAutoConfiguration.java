@@ -17,6 +17,8 @@ package org.springframework.ai.autoconfigure.openai;
 
 import java.util.List;
 
+import org.springframework.ai.autoconfigure.http.SpringAiHttpClientAutoConfiguration;
+import org.springframework.ai.autoconfigure.http.SpringAiHttpTransport;
 import org.springframework.ai.autoconfigure.retry.SpringAiRetryAutoConfiguration;
 import org.springframework.ai.model.function.FunctionCallback;
 import org.springframework.ai.model.function.FunctionCallbackContext;
@@ -28,11 +30,16 @@ import org.springframework.ai.openai.OpenAiAudioSpeechClient;
 import org.springframework.ai.openai.api.OpenAiApi;
 import org.springframework.ai.openai.api.OpenAiAudioApi;
 import org.springframework.ai.openai.api.OpenAiImageApi;
+import org.springframework.ai.retry.ReactiveRetryTemplate;
+import org.springframework.ai.retry.ratelimit.AdaptiveRateLimiter;
+import org.springframework.ai.retry.ratelimit.RateLimiterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.web.client.RestClientAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.function.client.WebClientAutoConfiguration;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
@@ -42,11 +49,13 @@ import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 import org.springframework.web.client.ResponseErrorHandler;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.reactive.function.client.WebClient;
 
 /**
  * @author Christian Tzolov
  */
-@AutoConfiguration(after = { RestClientAutoConfiguration.class, SpringAiRetryAutoConfiguration.class })
+@AutoConfiguration(after = { RestClientAutoConfiguration.class, WebClientAutoConfiguration.class,
+		SpringAiHttpClientAutoConfiguration.class, SpringAiRetryAutoConfiguration.class })
 @ConditionalOnClass(OpenAiApi.class)
 @EnableConfigurationProperties({ OpenAiConnectionProperties.class, OpenAiChatProperties.class,
 		OpenAiEmbeddingProperties.class, OpenAiImageProperties.class, OpenAiAudioTranscriptionProperties.class,
@@ -59,17 +68,26 @@ public class OpenAiAutoConfiguration {
 			matchIfMissing = true)
 	public OpenAiChatClient openAiChatClient(OpenAiConnectionProperties commonProperties,
 			OpenAiChatProperties chatProperties, RestClient.Builder restClientBuilder,
-			List<FunctionCallback> toolFunctionCallbacks, FunctionCallbackContext functionCallbackContext,
-			RetryTemplate retryTemplate, ResponseErrorHandler responseErrorHandler) {
+			ObjectProvider<WebClient.Builder> webClientBuilderProvider,
+			ObjectProvider<SpringAiHttpTransport> httpTransport, List<FunctionCallback> toolFunctionCallbacks,
+			FunctionCallbackContext functionCallbackContext, RetryTemplate retryTemplate,
+			ReactiveRetryTemplate reactiveRetryTemplate, ResponseErrorHandler responseErrorHandler,
+			ObjectProvider<RateLimiterRegistry> rateLimiterRegistry) {
+
+		WebClient.Builder webClientBuilder = webClientBuilderProvider.getIfAvailable(WebClient::builder);
+		httpTransport.ifAvailable(transport -> transport.customize(restClientBuilder, webClientBuilder));
 
 		var openAiApi = openAiApi(chatProperties.getBaseUrl(), commonProperties.getBaseUrl(),
-				chatProperties.getApiKey(), commonProperties.getApiKey(), restClientBuilder, responseErrorHandler);
+				chatProperties.getApiKey(), commonProperties.getApiKey(), restClientBuilder, webClientBuilder,
+				responseErrorHandler);
 
 		if (!CollectionUtils.isEmpty(toolFunctionCallbacks)) {
 			chatProperties.getOptions().getFunctionCallbacks().addAll(toolFunctionCallbacks);
 		}
 
-		return new OpenAiChatClient(openAiApi, chatProperties.getOptions(), functionCallbackContext, retryTemplate);
+		return new OpenAiChatClient(openAiApi, chatProperties.getOptions(), functionCallbackContext, retryTemplate,
+				reactiveRetryTemplate, rateLimiter(rateLimiterRegistry, chatProperties.getBaseUrl(),
+						commonProperties.getBaseUrl(), chatProperties.getApiKey(), commonProperties.getApiKey()));
 	}
 
 	@Bean
@@ -78,17 +96,26 @@ public class OpenAiAutoConfiguration {
 			matchIfMissing = true)
 	public OpenAiEmbeddingClient openAiEmbeddingClient(OpenAiConnectionProperties commonProperties,
 			OpenAiEmbeddingProperties embeddingProperties, RestClient.Builder restClientBuilder,
-			RetryTemplate retryTemplate, ResponseErrorHandler responseErrorHandler) {
+			ObjectProvider<WebClient.Builder> webClientBuilderProvider,
+			ObjectProvider<SpringAiHttpTransport> httpTransport, RetryTemplate retryTemplate,
+			ResponseErrorHandler responseErrorHandler, ObjectProvider<RateLimiterRegistry> rateLimiterRegistry) {
+
+		WebClient.Builder webClientBuilder = webClientBuilderProvider.getIfAvailable(WebClient::builder);
+		httpTransport.ifAvailable(transport -> transport.customize(restClientBuilder, webClientBuilder));
 
 		var openAiApi = openAiApi(embeddingProperties.getBaseUrl(), commonProperties.getBaseUrl(),
-				embeddingProperties.getApiKey(), commonProperties.getApiKey(), restClientBuilder, responseErrorHandler);
+				embeddingProperties.getApiKey(), commonProperties.getApiKey(), restClientBuilder, webClientBuilder,
+				responseErrorHandler);
 
 		return new OpenAiEmbeddingClient(openAiApi, embeddingProperties.getMetadataMode(),
-				embeddingProperties.getOptions(), retryTemplate);
+				embeddingProperties.getOptions(), retryTemplate,
+				rateLimiter(rateLimiterRegistry, embeddingProperties.getBaseUrl(), commonProperties.getBaseUrl(),
+						embeddingProperties.getApiKey(), commonProperties.getApiKey()));
 	}
 
 	private OpenAiApi openAiApi(String baseUrl, String commonBaseUrl, String apiKey, String commonApiKey,
-			RestClient.Builder restClientBuilder, ResponseErrorHandler responseErrorHandler) {
+			RestClient.Builder restClientBuilder, WebClient.Builder webClientBuilder,
+			ResponseErrorHandler responseErrorHandler) {
 
 		String resolvedBaseUrl = StringUtils.hasText(baseUrl) ? baseUrl : commonBaseUrl;
 		Assert.hasText(resolvedBaseUrl, "OpenAI base URL must be set");
@@ -96,7 +123,22 @@ public class OpenAiAutoConfiguration {
 		String resolvedApiKey = StringUtils.hasText(apiKey) ? apiKey : commonApiKey;
 		Assert.hasText(resolvedApiKey, "OpenAI API key must be set");
 
-		return new OpenAiApi(resolvedBaseUrl, resolvedApiKey, restClientBuilder, responseErrorHandler);
+		return new OpenAiApi(resolvedBaseUrl, resolvedApiKey, restClientBuilder, webClientBuilder,
+				responseErrorHandler);
+	}
+
+	/**
+	 * The rate limiter shared by the clients of an API key, or {@code null} if rate
+	 * limiting is disabled.
+	 */
+	private static AdaptiveRateLimiter rateLimiter(ObjectProvider<RateLimiterRegistry> rateLimiterRegistry,
+			String baseUrl, String commonBaseUrl, String apiKey, String commonApiKey) {
+		RateLimiterRegistry registry = rateLimiterRegistry.getIfAvailable();
+		if (registry == null) {
+			return null;
+		}
+		return registry.getRateLimiter(StringUtils.hasText(baseUrl) ? baseUrl : commonBaseUrl,
+				StringUtils.hasText(apiKey) ? apiKey : commonApiKey);
 	}
 
 	@Bean
@@ -104,8 +146,9 @@ public class OpenAiAutoConfiguration {
 	@ConditionalOnProperty(prefix = OpenAiImageProperties.CONFIG_PREFIX, name = "enabled", havingValue = "true",
 			matchIfMissing = true)
 	public OpenAiImageClient openAiImageClient(OpenAiConnectionProperties commonProperties,
-			OpenAiImageProperties imageProperties, RestClient.Builder restClientBuilder, RetryTemplate retryTemplate,
-			ResponseErrorHandler responseErrorHandler) {
+			OpenAiImageProperties imageProperties, RestClient.Builder restClientBuilder,
+			ObjectProvider<SpringAiHttpTransport> httpTransport, RetryTemplate retryTemplate,
+			ResponseErrorHandler responseErrorHandler, ObjectProvider<RateLimiterRegistry> rateLimiterRegistry) {
 
 		String apiKey = StringUtils.hasText(imageProperties.getApiKey()) ? imageProperties.getApiKey()
 				: commonProperties.getApiKey();
@@ -116,15 +159,20 @@ public class OpenAiAutoConfiguration {
 		Assert.hasText(apiKey, "OpenAI API key must be set");
 		Assert.hasText(baseUrl, "OpenAI base URL must be set");
 
+		httpTransport.ifAvailable(transport -> transport.customize(restClientBuilder));
+
 		var openAiImageApi = new OpenAiImageApi(baseUrl, apiKey, restClientBuilder, responseErrorHandler);
 
-		return new OpenAiImageClient(openAiImageApi, imageProperties.getOptions(), retryTemplate);
+		return new OpenAiImageClient(openAiImageApi, imageProperties.getOptions(), retryTemplate,
+				rateLimiter(rateLimiterRegistry, baseUrl, baseUrl, apiKey, apiKey));
 	}
 
 	@Bean
 	@ConditionalOnMissingBean
 	public OpenAiAudioTranscriptionClient openAiAudioTranscriptionClient(OpenAiConnectionProperties commonProperties,
-			OpenAiAudioTranscriptionProperties transcriptionProperties, RetryTemplate retryTemplate,
+			OpenAiAudioTranscriptionProperties transcriptionProperties, RestClient.Builder restClientBuilder,
+			ObjectProvider<WebClient.Builder> webClientBuilderProvider,
+			ObjectProvider<SpringAiHttpTransport> httpTransport, RetryTemplate retryTemplate,
 			ResponseErrorHandler responseErrorHandler) {
 
 		String apiKey = StringUtils.hasText(transcriptionProperties.getApiKey()) ? transcriptionProperties.getApiKey()
@@ -136,7 +184,11 @@ public class OpenAiAutoConfiguration {
 		Assert.hasText(apiKey, "OpenAI API key must be set");
 		Assert.hasText(baseUrl, "OpenAI base URL must be set");
 
-		var openAiAudioApi = new OpenAiAudioApi(baseUrl, apiKey, RestClient.builder(), responseErrorHandler);
+		WebClient.Builder webClientBuilder = webClientBuilderProvider.getIfAvailable(WebClient::builder);
+		httpTransport.ifAvailable(transport -> transport.customize(restClientBuilder, webClientBuilder));
+
+		var openAiAudioApi = new OpenAiAudioApi(baseUrl, apiKey, restClientBuilder, webClientBuilder,
+				responseErrorHandler);
 
 		OpenAiAudioTranscriptionClient openAiChatClient = new OpenAiAudioTranscriptionClient(openAiAudioApi,
 				transcriptionProperties.getOptions(), retryTemplate);
@@ -147,7 +199,9 @@ public class OpenAiAutoConfiguration {
 	@Bean
 	@ConditionalOnMissingBean
 	public OpenAiAudioSpeechClient openAiAudioSpeechClient(OpenAiConnectionProperties commonProperties,
-			OpenAiAudioSpeechProperties speechProperties, ResponseErrorHandler responseErrorHandler) {
+			OpenAiAudioSpeechProperties speechProperties, RestClient.Builder restClientBuilder,
+			ObjectProvider<WebClient.Builder> webClientBuilderProvider,
+			ObjectProvider<SpringAiHttpTransport> httpTransport, ResponseErrorHandler responseErrorHandler) {
 
 		String apiKey = StringUtils.hasText(speechProperties.getApiKey()) ? speechProperties.getApiKey()
 				: commonProperties.getApiKey();
@@ -158,7 +212,11 @@ public class OpenAiAutoConfiguration {
 		Assert.hasText(apiKey, "OpenAI API key must be set");
 		Assert.hasText(baseUrl, "OpenAI base URL must be set");
 
-		var openAiAudioApi = new OpenAiAudioApi(baseUrl, apiKey, RestClient.builder(), responseErrorHandler);
+		WebClient.Builder webClientBuilder = webClientBuilderProvider.getIfAvailable(WebClient::builder);
+		httpTransport.ifAvailable(transport -> transport.customize(restClientBuilder, webClientBuilder));
+
+		var openAiAudioApi = new OpenAiAudioApi(baseUrl, apiKey, restClientBuilder, webClientBuilder,
+				responseErrorHandler);
 
 		OpenAiAudioSpeechClient openAiSpeechClient = new OpenAiAudioSpeechClient(openAiAudioApi,
 				speechProperties.getOptions());
@@ -21,13 +21,21 @@ import java.nio.charset.StandardCharsets;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.springframework.ai.retry.JitteredBackOffPolicy;
 import org.springframework.ai.retry.NonTransientAiException;
+import org.springframework.ai.retry.ReactiveRetryTemplate;
+import org.springframework.ai.retry.RetryUtils;
 import org.springframework.ai.retry.TransientAiException;
+import org.springframework.ai.retry.circuitbreaker.CircuitBreakerRegistry;
+import org.springframework.ai.retry.ratelimit.AdaptiveRateLimiter;
+import org.springframework.ai.retry.ratelimit.RateLimiterRegistry;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.lang.NonNull;
 import org.springframework.retry.RetryCallback;
@@ -53,9 +61,8 @@ public class SpringAiRetryAutoConfiguration {
 	public RetryTemplate retryTemplate(SpringAiRetryProperties properties) {
 		return RetryTemplate.builder()
 			.maxAttempts(properties.getMaxAttempts())
-			.retryOn(NonTransientAiException.class)
-			.exponentialBackoff(properties.getBackoff().getInitialInterval(), properties.getBackoff().getMultiplier(),
-					properties.getBackoff().getMaxInterval())
+			.retryOn(TransientAiException.class)
+			.customBackoff(backOffPolicy(properties))
 			.withListener(new RetryListener() {
 				@Override
 				public <T extends Object, E extends Throwable> void onError(RetryContext context,
@@ -66,6 +73,17 @@ public class SpringAiRetryAutoConfiguration {
 			.build();
 	}
 
+	@Bean
+	@ConditionalOnMissingBean
+	public ReactiveRetryTemplate reactiveRetryTemplate(SpringAiRetryProperties properties) {
+		return new ReactiveRetryTemplate(properties.getMaxAttempts(), backOffPolicy(properties));
+	}
+
+	private static JitteredBackOffPolicy backOffPolicy(SpringAiRetryProperties properties) {
+		return new JitteredBackOffPolicy(properties.getBackoff().getInitialInterval(),
+				properties.getBackoff().getMultiplier(), properties.getBackoff().getMaxInterval());
+	}
+
 	@Bean
 	@ConditionalOnMissingBean
 	public ResponseErrorHandler responseErrorHandler(SpringAiRetryProperties properties) {
@@ -83,9 +101,22 @@ public class SpringAiRetryAutoConfiguration {
 					String error = StreamUtils.copyToString(response.getBody(), StandardCharsets.UTF_8);
 					String message = String.format("%s - %s", response.getStatusCode().value(), error);
 
+					// An exceeded quota is not resolved by retrying, although reported
+					// with the rate limit status code.
+					if (RetryUtils.isQuotaExceeded(response.getStatusCode().value(), error)) {
+						throw new NonTransientAiException(message);
+					}
+
 					// Explicitly configured transient codes
 					if (properties.getOnHttpCodes().contains(response.getStatusCode().value())) {
-						throw new TransientAiException(message);
+						throw new TransientAiException(message, RetryUtils.getRetryAfter(response.getHeaders()));
+					}
+
+					// Rate limited requests are retried after the Retry-After delay,
+					// unless explicitly excluded.
+					if (response.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value()
+							&& !properties.getExcludeOnHttpCodes().contains(response.getStatusCode().value())) {
+						throw new TransientAiException(message, RetryUtils.getRetryAfter(response.getHeaders()));
 					}
 
 					// onClientErrors - If true, do not throw a NonTransientAiException,
@@ -100,10 +131,32 @@ public class SpringAiRetryAutoConfiguration {
 							&& properties.getExcludeOnHttpCodes().contains(response.getStatusCode().value())) {
 						throw new NonTransientAiException(message);
 					}
-					throw new TransientAiException(message);
+					throw new TransientAiException(message, RetryUtils.getRetryAfter(response.getHeaders()));
 				}
 			}
 		};
 	}
 
+	@Bean
+	@ConditionalOnMissingBean
+	@ConditionalOnProperty(prefix = SpringAiRetryProperties.CONFIG_PREFIX + ".circuit-breaker", name = "enabled",
+			havingValue = "true")
+	public CircuitBreakerRegistry circuitBreakerRegistry(SpringAiRetryProperties properties) {
+		return new CircuitBreakerRegistry(properties.getCircuitBreaker().getFailureThreshold(),
+				properties.getCircuitBreaker().getOpenDuration());
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	@ConditionalOnProperty(prefix = SpringAiRetryProperties.CONFIG_PREFIX + ".rate-limit", name = "enabled",
+			havingValue = "true")
+	public RateLimiterRegistry rateLimiterRegistry(SpringAiRetryProperties properties) {
+		SpringAiRetryProperties.RateLimit rateLimit = properties.getRateLimit();
+		return new RateLimiterRegistry(() -> AdaptiveRateLimiter.builder()
+			.withRequestsPerMinute(rateLimit.getRequestsPerMinute())
+			.withTokensPerMinute(rateLimit.getTokensPerMinute())
+			.withMaxWait(rateLimit.getMaxWait())
+			.build());
+	}
+
 }
@@ -59,6 +59,18 @@ public class SpringAiRetryProperties {
 	 */
 	private List<Integer> onHttpCodes = new ArrayList<>();
 
+	/**
+	 * Client side rate limiting properties.
+	 */
+	@NestedConfigurationProperty
+	private RateLimit rateLimit = new RateLimit();
+
+	/**
+	 * Circuit breaker properties.
+	 */
+	@NestedConfigurationProperty
+	private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
 	/**
 	 * Exponential Backoff properties.
 	 */
@@ -105,6 +117,115 @@ public class SpringAiRetryProperties {
 
 	}
 
+	/**
+	 * Client side rate limiting properties.
+	 */
+	public static class RateLimit {
+
+		/**
+		 * Whether to limit the requests of each API key to the rate limits reported by
+		 * the provider.
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * Requests per minute assumed until a response reports the rate limit. 0 for
+		 * unlimited.
+		 */
+		private long requestsPerMinute = 0;
+
+		/**
+		 * Tokens per minute assumed until a response reports the rate limit. 0 for
+		 * unlimited.
+		 */
+		private long tokensPerMinute = 0;
+
+		/**
+		 * Maximum time a request waits for the rate limit before it is rejected.
+		 */
+		private Duration maxWait = Duration.ofSeconds(30);
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public long getRequestsPerMinute() {
+			return this.requestsPerMinute;
+		}
+
+		public void setRequestsPerMinute(long requestsPerMinute) {
+			this.requestsPerMinute = requestsPerMinute;
+		}
+
+		public long getTokensPerMinute() {
+			return this.tokensPerMinute;
+		}
+
+		public void setTokensPerMinute(long tokensPerMinute) {
+			this.tokensPerMinute = tokensPerMinute;
+		}
+
+		public Duration getMaxWait() {
+			return this.maxWait;
+		}
+
+		public void setMaxWait(Duration maxWait) {
+			this.maxWait = maxWait;
+		}
+
+	}
+
+	/**
+	 * Circuit breaker properties.
+	 */
+	public static class CircuitBreaker {
+
+		/**
+		 * Whether to fail fast, without retrying, the requests to a provider endpoint
+		 * that keeps failing.
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * Consecutive I/O errors or 5xx responses of an endpoint that open its circuit.
+		 */
+		private int failureThreshold = 5;
+
+		/**
+		 * How long a circuit stays open before a trial request is let through.
+		 */
+		private Duration openDuration = Duration.ofSeconds(30);
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public int getFailureThreshold() {
+			return this.failureThreshold;
+		}
+
+		public void setFailureThreshold(int failureThreshold) {
+			this.failureThreshold = failureThreshold;
+		}
+
+		public Duration getOpenDuration() {
+			return this.openDuration;
+		}
+
+		public void setOpenDuration(Duration openDuration) {
+			this.openDuration = openDuration;
+		}
+
+	}
+
 	public int getMaxAttempts() {
 		return this.maxAttempts;
 	}
@@ -117,6 +238,14 @@ public class SpringAiRetryProperties {
 		return this.backoff;
 	}
 
+	public RateLimit getRateLimit() {
+		return this.rateLimit;
+	}
+
+	public CircuitBreaker getCircuitBreaker() {
+		return this.circuitBreaker;
+	}
+
 	public List<Integer> getExcludeOnHttpCodes() {
 		return this.excludeOnHttpCodes;
 	}
@@ -15,12 +15,16 @@
  */
 package org.springframework.ai.autoconfigure.vectorstore.azure;
 
+import java.util.List;
+
 import com.azure.core.credential.AzureKeyCredential;
+import com.azure.search.documents.indexes.SearchIndexAsyncClient;
 import com.azure.search.documents.indexes.SearchIndexClient;
 import com.azure.search.documents.indexes.SearchIndexClientBuilder;
 
 import org.springframework.ai.embedding.EmbeddingClient;
 import org.springframework.ai.vectorstore.azure.AzureVectorStore;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -47,12 +51,26 @@ public class AzureVectorStoreAutoConfiguration {
 
 	@Bean
 	@ConditionalOnMissingBean
-	public AzureVectorStore vectorStore(SearchIndexClient searchIndexClient, EmbeddingClient embeddingClient,
+	public SearchIndexAsyncClient searchIndexAsyncClient(AzureVectorStoreProperties properties) {
+		return new SearchIndexClientBuilder().endpoint(properties.getUrl())
+			.credential(new AzureKeyCredential(properties.getApiKey()))
+			.buildAsyncClient();
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	public AzureVectorStore vectorStore(SearchIndexClient searchIndexClient,
+			ObjectProvider<SearchIndexAsyncClient> searchIndexAsyncClient, EmbeddingClient embeddingClient,
 			AzureVectorStoreProperties properties) {
 
-		var vectorStore = new AzureVectorStore(searchIndexClient, embeddingClient);
+		var vectorStore = new AzureVectorStore(searchIndexClient, searchIndexAsyncClient.getIfAvailable(),
+				embeddingClient, List.of());
 
 		vectorStore.setIndexName(properties.getIndexName());
+		vectorStore.setUploadBatchSize(properties.getUploadBatchSize());
+		vectorStore.setMaxUploadBatchBytes(properties.getMaxUploadBatchBytes());
+		vectorStore.setUploadConcurrency(properties.getUploadConcurrency());
+		vectorStore.setMaxUploadRetries(properties.getMaxUploadRetries());
 
 		if (properties.getDefaultTopK() >= 0) {
 			vectorStore.setDefaultTopK(properties.getDefaultTopK());
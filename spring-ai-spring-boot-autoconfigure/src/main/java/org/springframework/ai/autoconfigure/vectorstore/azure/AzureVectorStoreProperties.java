@@ -36,6 +36,14 @@ public class AzureVectorStoreProperties {
 
 	private double defaultSimilarityThreshold = -1;
 
+	private int uploadBatchSize = AzureVectorStore.DEFAULT_UPLOAD_BATCH_SIZE;
+
+	private long maxUploadBatchBytes = AzureVectorStore.DEFAULT_MAX_UPLOAD_BATCH_BYTES;
+
+	private int uploadConcurrency = AzureVectorStore.DEFAULT_UPLOAD_CONCURRENCY;
+
+	private int maxUploadRetries = AzureVectorStore.DEFAULT_MAX_UPLOAD_RETRIES;
+
 	public String getUrl() {
 		return url;
 	}
@@ -76,4 +84,36 @@ public class AzureVectorStoreProperties {
 		this.defaultSimilarityThreshold = defaultSimilarityThreshold;
 	}
 
+	public int getUploadBatchSize() {
+		return uploadBatchSize;
+	}
+
+	public void setUploadBatchSize(int uploadBatchSize) {
+		this.uploadBatchSize = uploadBatchSize;
+	}
+
+	public long getMaxUploadBatchBytes() {
+		return maxUploadBatchBytes;
+	}
+
+	public void setMaxUploadBatchBytes(long maxUploadBatchBytes) {
+		this.maxUploadBatchBytes = maxUploadBatchBytes;
+	}
+
+	public int getUploadConcurrency() {
+		return uploadConcurrency;
+	}
+
+	public void setUploadConcurrency(int uploadConcurrency) {
+		this.uploadConcurrency = uploadConcurrency;
+	}
+
+	public int getMaxUploadRetries() {
+		return maxUploadRetries;
+	}
+
+	public void setMaxUploadRetries(int maxUploadRetries) {
+		this.maxUploadRetries = maxUploadRetries;
+	}
+
 }
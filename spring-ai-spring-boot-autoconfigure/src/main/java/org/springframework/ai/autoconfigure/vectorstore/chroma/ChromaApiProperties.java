@@ -15,6 +15,9 @@
  */
 package org.springframework.ai.autoconfigure.vectorstore.chroma;
 
+import java.time.Duration;
+
+import org.springframework.ai.chroma.ChromaApi.ConnectionPoolOptions;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -35,6 +38,21 @@ public class ChromaApiProperties {
 
 	private String password;
 
+	/**
+	 * Maximum number of pooled connections used by the reactive client.
+	 */
+	private int maxConnections = ConnectionPoolOptions.DEFAULT.maxConnections();
+
+	/**
+	 * Time after which an idle pooled connection is closed.
+	 */
+	private Duration maxIdleTime = ConnectionPoolOptions.DEFAULT.maxIdleTime();
+
+	/**
+	 * Maximum time a request waits for a free pooled connection.
+	 */
+	private Duration pendingAcquireTimeout = ConnectionPoolOptions.DEFAULT.pendingAcquireTimeout();
+
 	public String getHost() {
 		return host;
 	}
@@ -75,4 +93,28 @@ public class ChromaApiProperties {
 		this.password = password;
 	}
 
+	public int getMaxConnections() {
+		return this.maxConnections;
+	}
+
+	public void setMaxConnections(int maxConnections) {
+		this.maxConnections = maxConnections;
+	}
+
+	public Duration getMaxIdleTime() {
+		return this.maxIdleTime;
+	}
+
+	public void setMaxIdleTime(Duration maxIdleTime) {
+		this.maxIdleTime = maxIdleTime;
+	}
+
+	public Duration getPendingAcquireTimeout() {
+		return this.pendingAcquireTimeout;
+	}
+
+	public void setPendingAcquireTimeout(Duration pendingAcquireTimeout) {
+		this.pendingAcquireTimeout = pendingAcquireTimeout;
+	}
+
 }
@@ -18,6 +18,7 @@ package org.springframework.ai.autoconfigure.vectorstore.chroma;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import org.springframework.ai.chroma.ChromaApi;
+import org.springframework.ai.chroma.ChromaApi.ConnectionPoolOptions;
 import org.springframework.ai.embedding.EmbeddingClient;
 import org.springframework.ai.vectorstore.ChromaVectorStore;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
@@ -49,14 +50,17 @@ public class ChromaVectorStoreAutoConfiguration {
 		return new RestTemplate();
 	}
 
-	@Bean
+	@Bean(destroyMethod = "close")
 	@ConditionalOnMissingBean
 	public ChromaApi chromaApi(ChromaApiProperties apiProperties, RestTemplate restTemplate,
 			ChromaConnectionDetails connectionDetails) {
 
 		String chromaUrl = String.format("%s:%s", connectionDetails.getHost(), connectionDetails.getPort());
 
-		var chromaApi = new ChromaApi(chromaUrl, restTemplate, new ObjectMapper());
+		var connectionPoolOptions = new ConnectionPoolOptions(apiProperties.getMaxConnections(),
+				apiProperties.getMaxIdleTime(), apiProperties.getPendingAcquireTimeout());
+
+		var chromaApi = new ChromaApi(chromaUrl, restTemplate, connectionPoolOptions, new ObjectMapper());
 
 		if (StringUtils.hasText(apiProperties.getKeyToken())) {
 			chromaApi.withKeyToken(apiProperties.getKeyToken());
@@ -72,7 +76,10 @@ public class ChromaVectorStoreAutoConfiguration {
 	@ConditionalOnMissingBean
 	public ChromaVectorStore vectorStore(EmbeddingClient embeddingClient, ChromaApi chromaApi,
 			ChromaVectorStoreProperties storeProperties) {
-		return new ChromaVectorStore(embeddingClient, chromaApi, storeProperties.getCollectionName());
+		var vectorStore = new ChromaVectorStore(embeddingClient, chromaApi, storeProperties.getCollectionName());
+		vectorStore.setUpsertBatchSize(storeProperties.getUpsertBatchSize());
+		vectorStore.setUpsertConcurrency(storeProperties.getUpsertConcurrency());
+		return vectorStore;
 	}
 
 	private static class PropertiesChromaConnectionDetails implements ChromaConnectionDetails {
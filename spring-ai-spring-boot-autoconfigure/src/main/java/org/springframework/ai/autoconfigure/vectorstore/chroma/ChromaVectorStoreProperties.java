@@ -28,6 +28,10 @@ public class ChromaVectorStoreProperties {
 
 	private String collectionName = ChromaVectorStore.DEFAULT_COLLECTION_NAME;
 
+	private int upsertBatchSize = ChromaVectorStore.DEFAULT_UPSERT_BATCH_SIZE;
+
+	private int upsertConcurrency = ChromaVectorStore.DEFAULT_UPSERT_CONCURRENCY;
+
 	public String getCollectionName() {
 		return collectionName;
 	}
@@ -36,4 +40,20 @@ public class ChromaVectorStoreProperties {
 		this.collectionName = collectionName;
 	}
 
+	public int getUpsertBatchSize() {
+		return upsertBatchSize;
+	}
+
+	public void setUpsertBatchSize(int upsertBatchSize) {
+		this.upsertBatchSize = upsertBatchSize;
+	}
+
+	public int getUpsertConcurrency() {
+		return upsertConcurrency;
+	}
+
+	public void setUpsertConcurrency(int upsertConcurrency) {
+		this.upsertConcurrency = upsertConcurrency;
+	}
+
 }
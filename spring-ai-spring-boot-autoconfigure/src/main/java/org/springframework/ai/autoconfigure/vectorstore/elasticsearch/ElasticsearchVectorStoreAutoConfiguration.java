@@ -40,10 +40,13 @@ class ElasticsearchVectorStoreAutoConfiguration {
 	@ConditionalOnMissingBean
 	ElasticsearchVectorStore vectorStore(ElasticsearchVectorStoreProperties properties, RestClient restClient,
 			EmbeddingClient embeddingClient) {
-		if (StringUtils.hasText(properties.getIndexName())) {
-			return new ElasticsearchVectorStore(properties.getIndexName(), restClient, embeddingClient);
-		}
-		return new ElasticsearchVectorStore(restClient, embeddingClient);
+		ElasticsearchVectorStore vectorStore = StringUtils.hasText(properties.getIndexName())
+				? new ElasticsearchVectorStore(properties.getIndexName(), restClient, embeddingClient)
+				: new ElasticsearchVectorStore(restClient, embeddingClient);
+		return vectorStore.withSearchMode(properties.getSearchMode())
+			.withNumCandidates(properties.getNumCandidates())
+			.withEmbeddingDimensions(properties.getDimensions())
+			.withVectorIndexType(properties.getVectorIndexType());
 	}
 
 }
@@ -15,6 +15,9 @@
  */
 package org.springframework.ai.autoconfigure.vectorstore.elasticsearch;
 
+import org.springframework.ai.vectorstore.ElasticsearchVectorStore;
+import org.springframework.ai.vectorstore.ElasticsearchVectorStore.SearchMode;
+import org.springframework.ai.vectorstore.ElasticsearchVectorStore.VectorIndexType;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -26,6 +29,27 @@ public class ElasticsearchVectorStoreProperties {
 
 	private String indexName;
 
+	/**
+	 * Similarity search strategy: brute force script scoring or approximate kNN search.
+	 */
+	private SearchMode searchMode = SearchMode.SCRIPT_SCORE;
+
+	/**
+	 * Number of nearest neighbor candidates considered per shard by the kNN search.
+	 */
+	private int numCandidates = ElasticsearchVectorStore.DEFAULT_NUM_CANDIDATES;
+
+	/**
+	 * Dimensions of the embedding field, used when the index mapping is created.
+	 */
+	private int dimensions = ElasticsearchVectorStore.DEFAULT_EMBEDDING_DIMENSIONS;
+
+	/**
+	 * Index options type of the embedding field (HNSW or INT8_HNSW), used when the index
+	 * mapping is created.
+	 */
+	private VectorIndexType vectorIndexType = VectorIndexType.HNSW;
+
 	public String getIndexName() {
 		return this.indexName;
 	}
@@ -34,4 +58,36 @@ public class ElasticsearchVectorStoreProperties {
 		this.indexName = indexName;
 	}
 
+	public SearchMode getSearchMode() {
+		return this.searchMode;
+	}
+
+	public void setSearchMode(SearchMode searchMode) {
+		this.searchMode = searchMode;
+	}
+
+	public int getNumCandidates() {
+		return this.numCandidates;
+	}
+
+	public void setNumCandidates(int numCandidates) {
+		this.numCandidates = numCandidates;
+	}
+
+	public int getDimensions() {
+		return this.dimensions;
+	}
+
+	public void setDimensions(int dimensions) {
+		this.dimensions = dimensions;
+	}
+
+	public VectorIndexType getVectorIndexType() {
+		return this.vectorIndexType;
+	}
+
+	public void setVectorIndexType(VectorIndexType vectorIndexType) {
+		this.vectorIndexType = vectorIndexType;
+	}
+
 }
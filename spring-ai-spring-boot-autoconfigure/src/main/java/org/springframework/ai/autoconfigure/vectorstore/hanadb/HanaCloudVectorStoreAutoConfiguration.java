@@ -47,6 +47,7 @@ public class HanaCloudVectorStoreAutoConfiguration {
 				HanaCloudVectorStoreConfig.builder()
 					.tableName(properties.getTableName())
 					.topK(properties.getTopK())
+					.batchSize(properties.getBatchSize())
 					.build());
 	}
 
@@ -15,6 +15,7 @@
  */
 package org.springframework.ai.autoconfigure.vectorstore.hanadb;
 
+import org.springframework.ai.vectorstore.HanaCloudVectorStoreConfig;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -30,6 +31,8 @@ public class HanaCloudVectorStoreProperties {
 
 	private int topK;
 
+	private int batchSize = HanaCloudVectorStoreConfig.DEFAULT_BATCH_SIZE;
+
 	public String getTableName() {
 		return tableName;
 	}
@@ -46,4 +49,12 @@ public class HanaCloudVectorStoreProperties {
 		this.topK = topK;
 	}
 
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	public void setBatchSize(int batchSize) {
+		this.batchSize = batchSize;
+	}
+
 }
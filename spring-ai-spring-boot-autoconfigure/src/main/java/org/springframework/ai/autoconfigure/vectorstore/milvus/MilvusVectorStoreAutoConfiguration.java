@@ -18,6 +18,7 @@ package org.springframework.ai.autoconfigure.vectorstore.milvus;
 import java.util.concurrent.TimeUnit;
 
 import io.milvus.client.MilvusServiceClient;
+import io.milvus.common.clientenum.ConsistencyLevelEnum;
 import io.milvus.param.ConnectParam;
 import io.milvus.param.IndexType;
 import io.milvus.param.MetricType;
@@ -60,6 +61,12 @@ public class MilvusVectorStoreAutoConfiguration {
 			.withMetricType(MetricType.valueOf(properties.getMetricType().name()))
 			.withIndexParameters(properties.getIndexParameters())
 			.withEmbeddingDimension(properties.getEmbeddingDimension())
+			.withConsistencyLevel(ConsistencyLevelEnum.valueOf(properties.getConsistencyLevel().name()))
+			.withFlushPolicy(properties.getFlushPolicy())
+			.withFlushRowThreshold(properties.getFlushRowThreshold())
+			.withFlushInterval(properties.getFlushInterval())
+			.withInsertBatchSize(properties.getInsertBatchSize())
+			.withMaxConcurrentInserts(properties.getMaxConcurrentInserts())
 			.build();
 
 		return new MilvusVectorStore(milvusClient, embeddingClient, config);
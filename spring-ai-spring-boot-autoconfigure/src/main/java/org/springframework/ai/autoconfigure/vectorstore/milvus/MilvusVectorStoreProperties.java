@@ -15,7 +15,10 @@
  */
 package org.springframework.ai.autoconfigure.vectorstore.milvus;
 
+import java.time.Duration;
+
 import org.springframework.ai.vectorstore.MilvusVectorStore;
+import org.springframework.ai.vectorstore.MilvusVectorStore.FlushPolicy;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.util.Assert;
 
@@ -57,6 +60,44 @@ public class MilvusVectorStoreProperties {
 	 */
 	private String indexParameters = "{\"nlist\":1024}";
 
+	/**
+	 * The default consistency level used by the similarity searches.
+	 */
+	private MilvusConsistencyLevel consistencyLevel = MilvusConsistencyLevel.STRONG;
+
+	/**
+	 * Defines when the inserted data is explicitly flushed.
+	 */
+	private FlushPolicy flushPolicy = FlushPolicy.EVERY_INSERT;
+
+	/**
+	 * Number of unflushed rows that triggers a flush, used by the ROW_COUNT flush
+	 * policy.
+	 */
+	private long flushRowThreshold = MilvusVectorStore.DEFAULT_FLUSH_ROW_THRESHOLD;
+
+	/**
+	 * Flush period, used by the INTERVAL flush policy.
+	 */
+	private Duration flushInterval = MilvusVectorStore.DEFAULT_FLUSH_INTERVAL;
+
+	/**
+	 * Maximum number of documents sent in a single insert request.
+	 */
+	private int insertBatchSize = MilvusVectorStore.DEFAULT_INSERT_BATCH_SIZE;
+
+	/**
+	 * Maximum number of insert requests in flight when documents are added
+	 * asynchronously.
+	 */
+	private int maxConcurrentInserts = MilvusVectorStore.DEFAULT_MAX_CONCURRENT_INSERTS;
+
+	public enum MilvusConsistencyLevel {
+
+		STRONG, SESSION, BOUNDED, EVENTUALLY;
+
+	}
+
 	public enum MilvusMetricType {
 
 		/**
@@ -147,4 +188,58 @@ public class MilvusVectorStoreProperties {
 		this.indexParameters = indexParameters;
 	}
 
+	public MilvusConsistencyLevel getConsistencyLevel() {
+		return consistencyLevel;
+	}
+
+	public void setConsistencyLevel(MilvusConsistencyLevel consistencyLevel) {
+		Assert.notNull(consistencyLevel, "Consistency level can not be null");
+		this.consistencyLevel = consistencyLevel;
+	}
+
+	public FlushPolicy getFlushPolicy() {
+		return flushPolicy;
+	}
+
+	public void setFlushPolicy(FlushPolicy flushPolicy) {
+		Assert.notNull(flushPolicy, "Flush policy can not be null");
+		this.flushPolicy = flushPolicy;
+	}
+
+	public long getFlushRowThreshold() {
+		return flushRowThreshold;
+	}
+
+	public void setFlushRowThreshold(long flushRowThreshold) {
+		Assert.isTrue(flushRowThreshold > 0, "Flush row threshold should be a positive value.");
+		this.flushRowThreshold = flushRowThreshold;
+	}
+
+	public Duration getFlushInterval() {
+		return flushInterval;
+	}
+
+	public void setFlushInterval(Duration flushInterval) {
+		Assert.notNull(flushInterval, "Flush interval can not be null");
+		this.flushInterval = flushInterval;
+	}
+
+	public int getInsertBatchSize() {
+		return insertBatchSize;
+	}
+
+	public void setInsertBatchSize(int insertBatchSize) {
+		Assert.isTrue(insertBatchSize > 0, "Insert batch size should be a positive value.");
+		this.insertBatchSize = insertBatchSize;
+	}
+
+	public int getMaxConcurrentInserts() {
+		return maxConcurrentInserts;
+	}
+
+	public void setMaxConcurrentInserts(int maxConcurrentInserts) {
+		Assert.isTrue(maxConcurrentInserts > 0, "Max concurrent inserts should be a positive value.");
+		this.maxConcurrentInserts = maxConcurrentInserts;
+	}
+
 }
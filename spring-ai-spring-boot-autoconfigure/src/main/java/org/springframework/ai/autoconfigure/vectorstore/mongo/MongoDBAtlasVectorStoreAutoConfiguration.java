@@ -17,6 +17,7 @@ package org.springframework.ai.autoconfigure.vectorstore.mongo;
 
 import org.springframework.ai.embedding.EmbeddingClient;
 import org.springframework.ai.vectorstore.MongoDBAtlasVectorStore;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -24,6 +25,7 @@ import org.springframework.boot.autoconfigure.data.mongo.MongoDataAutoConfigurat
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
 import org.springframework.util.StringUtils;
 
 /**
@@ -38,7 +40,8 @@ public class MongoDBAtlasVectorStoreAutoConfiguration {
 
 	@Bean
 	@ConditionalOnMissingBean
-	MongoDBAtlasVectorStore vectorStore(MongoTemplate mongoTemplate, EmbeddingClient embeddingClient,
+	MongoDBAtlasVectorStore vectorStore(MongoTemplate mongoTemplate,
+			ObjectProvider<ReactiveMongoTemplate> reactiveMongoTemplate, EmbeddingClient embeddingClient,
 			MongoDBAtlasVectorStoreProperties properties) {
 
 		var builder = MongoDBAtlasVectorStore.MongoDBVectorStoreConfig.builder();
@@ -52,9 +55,13 @@ public class MongoDBAtlasVectorStoreAutoConfiguration {
 		if (StringUtils.hasText(properties.getIndexName())) {
 			builder.withVectorIndexName(properties.getIndexName());
 		}
+		if (properties.getBatchSize() != null) {
+			builder.withBatchSize(properties.getBatchSize());
+		}
 		MongoDBAtlasVectorStore.MongoDBVectorStoreConfig config = builder.build();
 
-		return new MongoDBAtlasVectorStore(mongoTemplate, embeddingClient, config);
+		return new MongoDBAtlasVectorStore(mongoTemplate, reactiveMongoTemplate.getIfAvailable(), embeddingClient,
+				config);
 	}
 
 }
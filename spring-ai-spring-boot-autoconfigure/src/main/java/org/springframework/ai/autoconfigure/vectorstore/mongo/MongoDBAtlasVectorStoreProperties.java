@@ -42,6 +42,12 @@ public class MongoDBAtlasVectorStoreProperties {
 	 */
 	private String indexName;
 
+	/**
+	 * The number of documents embedded and written in a single bulk operation. Defaults
+	 * to 500.
+	 */
+	private Integer batchSize;
+
 	public String getCollectionName() {
 		return this.collectionName;
 	}
@@ -66,4 +72,12 @@ public class MongoDBAtlasVectorStoreProperties {
 		this.indexName = indexName;
 	}
 
+	public Integer getBatchSize() {
+		return this.batchSize;
+	}
+
+	public void setBatchSize(Integer batchSize) {
+		this.batchSize = batchSize;
+	}
+
 }
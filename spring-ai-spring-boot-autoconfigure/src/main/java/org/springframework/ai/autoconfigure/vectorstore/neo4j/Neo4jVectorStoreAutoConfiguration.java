@@ -47,6 +47,9 @@ public class Neo4jVectorStoreAutoConfiguration {
 			.withIndexName(properties.getIndexName())
 			.withIdProperty(properties.getIdProperty())
 			.withConstraintName(properties.getConstraintName())
+			.withWriteBatchSize(properties.getWriteBatchSize())
+			.withWriteConcurrency(properties.getWriteConcurrency())
+			.withSearchAccessMode(properties.getSearchAccessMode())
 			.build();
 
 		return new Neo4jVectorStore(driver, embeddingClient, config);
@@ -15,6 +15,8 @@
  */
 package org.springframework.ai.autoconfigure.vectorstore.neo4j;
 
+import org.neo4j.driver.AccessMode;
+
 import org.springframework.ai.vectorstore.Neo4jVectorStore;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -42,6 +44,12 @@ public class Neo4jVectorStoreProperties {
 
 	private String constraintName = Neo4jVectorStore.DEFAULT_CONSTRAINT_NAME;
 
+	private int writeBatchSize = Neo4jVectorStore.DEFAULT_WRITE_BATCH_SIZE;
+
+	private int writeConcurrency = Neo4jVectorStore.DEFAULT_WRITE_CONCURRENCY;
+
+	private AccessMode searchAccessMode = AccessMode.WRITE;
+
 	public String getDatabaseName() {
 		return this.databaseName;
 	}
@@ -106,4 +114,28 @@ public class Neo4jVectorStoreProperties {
 		this.constraintName = constraintName;
 	}
 
+	public int getWriteBatchSize() {
+		return this.writeBatchSize;
+	}
+
+	public void setWriteBatchSize(int writeBatchSize) {
+		this.writeBatchSize = writeBatchSize;
+	}
+
+	public int getWriteConcurrency() {
+		return this.writeConcurrency;
+	}
+
+	public void setWriteConcurrency(int writeConcurrency) {
+		this.writeConcurrency = writeConcurrency;
+	}
+
+	public AccessMode getSearchAccessMode() {
+		return this.searchAccessMode;
+	}
+
+	public void setSearchAccessMode(AccessMode searchAccessMode) {
+		this.searchAccessMode = searchAccessMode;
+	}
+
 }
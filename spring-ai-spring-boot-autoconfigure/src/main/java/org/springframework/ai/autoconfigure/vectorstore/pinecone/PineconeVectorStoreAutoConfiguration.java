@@ -43,6 +43,9 @@ public class PineconeVectorStoreAutoConfiguration {
 			.withIndexName(properties.getIndexName())
 			.withNamespace(properties.getNamespace())
 			.withServerSideTimeout(properties.getServerSideTimeout())
+			.withUpsertBatchSize(properties.getUpsertBatchSize())
+			.withUpsertConcurrency(properties.getUpsertConcurrency())
+			.withMaxUpsertRequestBytes(properties.getMaxUpsertRequestBytes())
 			.build();
 
 		return new PineconeVectorStore(config, embeddingClient);
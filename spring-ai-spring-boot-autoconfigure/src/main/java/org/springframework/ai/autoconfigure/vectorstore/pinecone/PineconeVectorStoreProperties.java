@@ -17,6 +17,7 @@ package org.springframework.ai.autoconfigure.vectorstore.pinecone;
 
 import java.time.Duration;
 
+import org.springframework.ai.vectorstore.PineconeVectorStore;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -39,6 +40,12 @@ public class PineconeVectorStoreProperties {
 
 	private Duration serverSideTimeout = Duration.ofSeconds(20);
 
+	private int upsertBatchSize = 100;
+
+	private int upsertConcurrency = 4;
+
+	private int maxUpsertRequestBytes = PineconeVectorStore.DEFAULT_MAX_UPSERT_REQUEST_BYTES;
+
 	public String getApiKey() {
 		return this.apiKey;
 	}
@@ -87,4 +94,28 @@ public class PineconeVectorStoreProperties {
 		this.serverSideTimeout = serverSideTimeout;
 	}
 
+	public int getUpsertBatchSize() {
+		return this.upsertBatchSize;
+	}
+
+	public void setUpsertBatchSize(int upsertBatchSize) {
+		this.upsertBatchSize = upsertBatchSize;
+	}
+
+	public int getUpsertConcurrency() {
+		return this.upsertConcurrency;
+	}
+
+	public void setUpsertConcurrency(int upsertConcurrency) {
+		this.upsertConcurrency = upsertConcurrency;
+	}
+
+	public int getMaxUpsertRequestBytes() {
+		return this.maxUpsertRequestBytes;
+	}
+
+	public void setMaxUpsertRequestBytes(int maxUpsertRequestBytes) {
+		this.maxUpsertRequestBytes = maxUpsertRequestBytes;
+	}
+
 }
@@ -51,6 +51,9 @@ public class QdrantVectorStoreAutoConfiguration {
 			.withPort(connectionDetails.getPort())
 			.withTls(properties.isUseTls())
 			.withApiKey(properties.getApiKey())
+			.withUpsertBatchSize(properties.getUpsertBatchSize())
+			.withMaxConcurrentUpserts(properties.getMaxConcurrentUpserts())
+			.withUpsertWait(properties.isUpsertWait())
 			.build();
 
 		return new QdrantVectorStore(config, embeddingClient);
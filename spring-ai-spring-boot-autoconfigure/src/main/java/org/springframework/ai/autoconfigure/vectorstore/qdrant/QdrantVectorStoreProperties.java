@@ -15,6 +15,7 @@
  */
 package org.springframework.ai.autoconfigure.vectorstore.qdrant;
 
+import org.springframework.ai.vectorstore.qdrant.QdrantVectorStore;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -51,6 +52,22 @@ public class QdrantVectorStoreProperties {
 	 */
 	private String apiKey = null;
 
+	/**
+	 * The maximum number of points sent in a single upsert request.
+	 */
+	private int upsertBatchSize = QdrantVectorStore.DEFAULT_UPSERT_BATCH_SIZE;
+
+	/**
+	 * The maximum number of upsert requests in flight.
+	 */
+	private int maxConcurrentUpserts = QdrantVectorStore.DEFAULT_MAX_CONCURRENT_UPSERTS;
+
+	/**
+	 * Whether the upserts wait for the changes to be applied. When false, the upserts are
+	 * confirmed as soon as Qdrant acknowledges them.
+	 */
+	private boolean upsertWait = true;
+
 	public String getCollectionName() {
 		return this.collectionName;
 	}
@@ -91,4 +108,28 @@ public class QdrantVectorStoreProperties {
 		this.apiKey = apiKey;
 	}
 
+	public int getUpsertBatchSize() {
+		return this.upsertBatchSize;
+	}
+
+	public void setUpsertBatchSize(int upsertBatchSize) {
+		this.upsertBatchSize = upsertBatchSize;
+	}
+
+	public int getMaxConcurrentUpserts() {
+		return this.maxConcurrentUpserts;
+	}
+
+	public void setMaxConcurrentUpserts(int maxConcurrentUpserts) {
+		this.maxConcurrentUpserts = maxConcurrentUpserts;
+	}
+
+	public boolean isUpsertWait() {
+		return this.upsertWait;
+	}
+
+	public void setUpsertWait(boolean upsertWait) {
+		this.upsertWait = upsertWait;
+	}
+
 }
@@ -56,7 +56,10 @@ public class WeaviateVectorStoreAutoConfiguration {
 				.stream()
 				.map(e -> new MetadataField(e.getKey(), e.getValue()))
 				.toList())
-			.withConsistencyLevel(properties.getConsistencyLevel());
+			.withConsistencyLevel(properties.getConsistencyLevel())
+			.withIncludeVectorInSearchResults(properties.isIncludeVectorInSearchResults())
+			.withBatchSize(properties.getBatchSize())
+			.withBatchConcurrency(properties.getBatchConcurrency());
 
 		return new WeaviateVectorStore(configBuilder.build(), embeddingClient);
 	}
@@ -47,6 +47,21 @@ public class WeaviateVectorStoreProperties {
 
 	private Map<String, String> headers = Map.of();
 
+	/**
+	 * Whether the similarity search results include the document embeddings.
+	 */
+	private boolean includeVectorInSearchResults = false;
+
+	/**
+	 * Maximum number of objects sent in a single batch request.
+	 */
+	private int batchSize = 100;
+
+	/**
+	 * Maximum number of batch requests sent concurrently.
+	 */
+	private int batchConcurrency = 4;
+
 	public void setScheme(String scheme) {
 		this.scheme = scheme;
 	}
@@ -103,4 +118,28 @@ public class WeaviateVectorStoreProperties {
 		this.filterField = filterMetadataFields;
 	}
 
+	public boolean isIncludeVectorInSearchResults() {
+		return includeVectorInSearchResults;
+	}
+
+	public void setIncludeVectorInSearchResults(boolean includeVectorInSearchResults) {
+		this.includeVectorInSearchResults = includeVectorInSearchResults;
+	}
+
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	public void setBatchSize(int batchSize) {
+		this.batchSize = batchSize;
+	}
+
+	public int getBatchConcurrency() {
+		return batchConcurrency;
+	}
+
+	public void setBatchConcurrency(int batchConcurrency) {
+		this.batchConcurrency = batchConcurrency;
+	}
+
 }
@@ -15,16 +15,21 @@
  */
 package org.springframework.ai.autoconfigure.watsonxai;
 
+import org.springframework.ai.autoconfigure.http.SpringAiHttpClientAutoConfiguration;
+import org.springframework.ai.autoconfigure.http.SpringAiHttpTransport;
 import org.springframework.ai.watsonx.WatsonxAiChatClient;
 import org.springframework.ai.watsonx.api.WatsonxAiApi;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.web.client.RestClientAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.function.client.WebClientAutoConfiguration;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.reactive.function.client.WebClient;
 
 /**
  * WatsonX.ai autoconfiguration class.
@@ -34,7 +39,8 @@ import org.springframework.web.client.RestClient;
  * @author Christian Tzolov
  * @since 1.0.0
  */
-@AutoConfiguration(after = RestClientAutoConfiguration.class)
+@AutoConfiguration(after = { RestClientAutoConfiguration.class, WebClientAutoConfiguration.class,
+		SpringAiHttpClientAutoConfiguration.class })
 @ConditionalOnClass(WatsonxAiApi.class)
 @EnableConfigurationProperties({ WatsonxAiConnectionProperties.class, WatsonxAiChatProperties.class })
 @ConditionalOnProperty(prefix = WatsonxAiChatProperties.CONFIG_PREFIX, name = "enabled", havingValue = "true",
@@ -43,9 +49,13 @@ public class WatsonxAiAutoConfiguration {
 
 	@Bean
 	@ConditionalOnMissingBean
-	public WatsonxAiApi watsonxApi(WatsonxAiConnectionProperties properties, RestClient.Builder restClientBuilder) {
+	public WatsonxAiApi watsonxApi(WatsonxAiConnectionProperties properties, RestClient.Builder restClientBuilder,
+			ObjectProvider<WebClient.Builder> webClientBuilderProvider,
+			ObjectProvider<SpringAiHttpTransport> httpTransport) {
+		WebClient.Builder webClientBuilder = webClientBuilderProvider.getIfAvailable(WebClient::builder);
+		httpTransport.ifAvailable(transport -> transport.customize(restClientBuilder, webClientBuilder));
 		return new WatsonxAiApi(properties.getBaseUrl(), properties.getStreamEndpoint(), properties.getTextEndpoint(),
-				properties.getProjectId(), properties.getIAMToken(), restClientBuilder);
+				properties.getProjectId(), properties.getIAMToken(), restClientBuilder, webClientBuilder);
 	}
 
 	@Bean
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.autoconfigure.http;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ai.autoconfigure.http.SpringAiHttpClientProperties.Connector;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit Tests for {@link SpringAiHttpClientAutoConfiguration}.
+ */
+public class SpringAiHttpClientAutoConfigurationTests {
+
+	private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+		.withConfiguration(AutoConfigurations.of(SpringAiHttpClientAutoConfiguration.class));
+
+	@Test
+	public void defaultProperties() {
+		this.contextRunner.run(context -> {
+			var properties = context.getBean(SpringAiHttpClientProperties.class);
+
+			assertThat(properties.getConnector()).isNull();
+			assertThat(properties.getMaxConnectionsPerHost()).isEqualTo(100);
+			assertThat(properties.getMaxConnections()).isEqualTo(500);
+			assertThat(properties.isHttp2()).isTrue();
+			assertThat(properties.getConnectTimeout().toSeconds()).isEqualTo(10);
+			assertThat(properties.getResponseTimeout().toMinutes()).isEqualTo(5);
+			assertThat(context).hasSingleBean(SpringAiHttpTransport.class);
+		});
+	}
+
+	@Test
+	public void customProperties() {
+		this.contextRunner.withPropertyValues(
+		// @formatter:off
+				"spring.ai.http-client.connector=jdk",
+				"spring.ai.http-client.max-connections-per-host=20",
+				"spring.ai.http-client.max-connections=50",
+				"spring.ai.http-client.http2=false",
+				"spring.ai.http-client.connect-timeout=2s",
+				"spring.ai.http-client.response-timeout=30s")
+				// @formatter:on
+			.run(context -> {
+				var properties = context.getBean(SpringAiHttpClientProperties.class);
+
+				assertThat(properties.getConnector()).isEqualTo(Connector.JDK);
+				assertThat(properties.getMaxConnectionsPerHost()).isEqualTo(20);
+				assertThat(properties.getMaxConnections()).isEqualTo(50);
+				assertThat(properties.isHttp2()).isFalse();
+				assertThat(properties.getConnectTimeout().toSeconds()).isEqualTo(2);
+				assertThat(properties.getResponseTimeout().toSeconds()).isEqualTo(30);
+				assertThat(context).hasSingleBean(SpringAiHttpTransport.class);
+			});
+	}
+
+	@Test
+	public void disabled() {
+		this.contextRunner.withPropertyValues("spring.ai.http-client.enabled=false")
+			.run(context -> assertThat(context).doesNotHaveBean(SpringAiHttpTransport.class));
+	}
+
+	@Test
+	public void detectsReactorNettyFirst() {
+		assertThat(SpringAiHttpClientAutoConfiguration.detectConnector(getClass().getClassLoader()))
+			.isEqualTo(Connector.REACTOR_NETTY);
+	}
+
+}
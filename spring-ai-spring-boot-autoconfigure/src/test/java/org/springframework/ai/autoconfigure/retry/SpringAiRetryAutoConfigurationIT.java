@@ -15,15 +15,24 @@
  */
 package org.springframework.ai.autoconfigure.retry;
 
+import java.nio.charset.StandardCharsets;
+
 import org.junit.jupiter.api.Test;
 
+import org.springframework.ai.retry.NonTransientAiException;
+import org.springframework.ai.retry.ReactiveRetryTemplate;
+import org.springframework.ai.retry.TransientAiException;
+import org.springframework.ai.retry.circuitbreaker.CircuitBreakerRegistry;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.autoconfigure.web.client.RestClientAutoConfiguration;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.MockClientHttpResponse;
 import org.springframework.retry.support.RetryTemplate;
 import org.springframework.web.client.ResponseErrorHandler;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * @author Christian Tzolov
@@ -38,7 +47,33 @@ public class SpringAiRetryAutoConfigurationIT {
 		this.contextRunner.run((context) -> {
 			assertThat(context).hasSingleBean(RetryTemplate.class);
 			assertThat(context).hasSingleBean(ResponseErrorHandler.class);
+			assertThat(context).hasSingleBean(ReactiveRetryTemplate.class);
+			assertThat(context).doesNotHaveBean(CircuitBreakerRegistry.class);
 		});
 	}
 
+	@Test
+	void testCircuitBreakerAutoConfiguration() {
+		this.contextRunner.withPropertyValues("spring.ai.retry.circuit-breaker.enabled=true")
+			.run((context) -> assertThat(context).hasSingleBean(CircuitBreakerRegistry.class));
+	}
+
+	@Test
+	void testExceededQuotaIsNotRetried() {
+		this.contextRunner.withPropertyValues("spring.ai.retry.on-http-codes=429").run((context) -> {
+			ResponseErrorHandler errorHandler = context.getBean(ResponseErrorHandler.class);
+
+			assertThatThrownBy(() -> errorHandler.handleError(response("""
+					{"error": {"message": "Rate limit reached", "code": "rate_limit_exceeded"}}""")))
+				.isInstanceOf(TransientAiException.class);
+			assertThatThrownBy(() -> errorHandler.handleError(response("""
+					{"error": {"message": "You exceeded your current quota", "code": "insufficient_quota"}}""")))
+				.isInstanceOf(NonTransientAiException.class);
+		});
+	}
+
+	private static MockClientHttpResponse response(String body) {
+		return new MockClientHttpResponse(body.getBytes(StandardCharsets.UTF_8), HttpStatus.TOO_MANY_REQUESTS);
+	}
+
 }
@@ -44,6 +44,9 @@ public class SpringAiRetryPropertiesTests {
 				assertThat(retryProperties.getBackoff().getInitialInterval().toMillis()).isEqualTo(2000);
 				assertThat(retryProperties.getBackoff().getMultiplier()).isEqualTo(5);
 				assertThat(retryProperties.getBackoff().getMaxInterval().toMillis()).isEqualTo(3 * 60000);
+				assertThat(retryProperties.getCircuitBreaker().isEnabled()).isFalse();
+				assertThat(retryProperties.getCircuitBreaker().getFailureThreshold()).isEqualTo(5);
+				assertThat(retryProperties.getCircuitBreaker().getOpenDuration().toSeconds()).isEqualTo(30);
 			});
 	}
 
@@ -58,7 +61,10 @@ public class SpringAiRetryPropertiesTests {
 				"spring.ai.retry.on-http-codes=429",
 				"spring.ai.retry.backoff.initial-interval=1000",
 				"spring.ai.retry.backoff.multiplier=2",
-				"spring.ai.retry.backoff.max-interval=60000" )
+				"spring.ai.retry.backoff.max-interval=60000",
+				"spring.ai.retry.circuit-breaker.enabled=true",
+				"spring.ai.retry.circuit-breaker.failure-threshold=3",
+				"spring.ai.retry.circuit-breaker.open-duration=10s" )
 				// @formatter:on
 			.withConfiguration(AutoConfigurations.of(SpringAiRetryAutoConfiguration.class))
 			.run(context -> {
@@ -71,6 +77,9 @@ public class SpringAiRetryPropertiesTests {
 				assertThat(retryProperties.getBackoff().getInitialInterval().toMillis()).isEqualTo(1000);
 				assertThat(retryProperties.getBackoff().getMultiplier()).isEqualTo(2);
 				assertThat(retryProperties.getBackoff().getMaxInterval().toMillis()).isEqualTo(60000);
+				assertThat(retryProperties.getCircuitBreaker().isEnabled()).isTrue();
+				assertThat(retryProperties.getCircuitBreaker().getFailureThreshold()).isEqualTo(3);
+				assertThat(retryProperties.getCircuitBreaker().getOpenDuration().toSeconds()).isEqualTo(10);
 			});
 	}
 
@@ -15,18 +15,26 @@
  */
 package org.springframework.ai.vectorstore.azure;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
-import com.alibaba.fastjson2.JSONObject;
+import com.alibaba.fastjson2.JSON;
 import com.alibaba.fastjson2.TypeReference;
+import com.azure.core.exception.HttpResponseException;
+import com.azure.core.http.rest.Response;
 import com.azure.core.util.Context;
+import com.azure.search.documents.SearchAsyncClient;
 import com.azure.search.documents.SearchClient;
 import com.azure.search.documents.SearchDocument;
+import com.azure.search.documents.indexes.SearchIndexAsyncClient;
 import com.azure.search.documents.indexes.SearchIndexClient;
 import com.azure.search.documents.indexes.models.HnswAlgorithmConfiguration;
 import com.azure.search.documents.indexes.models.HnswParameters;
@@ -36,16 +44,24 @@ import com.azure.search.documents.indexes.models.SearchIndex;
 import com.azure.search.documents.indexes.models.VectorSearch;
 import com.azure.search.documents.indexes.models.VectorSearchAlgorithmMetric;
 import com.azure.search.documents.indexes.models.VectorSearchProfile;
+import com.azure.search.documents.models.IndexDocumentsOptions;
 import com.azure.search.documents.models.IndexDocumentsResult;
 import com.azure.search.documents.models.IndexingResult;
 import com.azure.search.documents.models.SearchOptions;
+import com.azure.search.documents.models.SearchResult;
 import com.azure.search.documents.models.VectorSearchOptions;
 import com.azure.search.documents.models.VectorizedQuery;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
 
 import org.springframework.ai.document.Document;
 import org.springframework.ai.embedding.EmbeddingClient;
+import org.springframework.ai.vectorstore.QueryEmbeddings;
+import org.springframework.ai.vectorstore.ReactiveVectorStore;
 import org.springframework.ai.vectorstore.SearchRequest;
 import org.springframework.ai.vectorstore.VectorStore;
 import org.springframework.ai.vectorstore.filter.FilterExpressionConverter;
@@ -64,7 +80,7 @@ import org.springframework.util.StringUtils;
  * @author Xiangyang Yu
  * @author Christian Tzolov
  */
-public class AzureVectorStore implements VectorStore, InitializingBean {
+public class AzureVectorStore implements VectorStore, ReactiveVectorStore, InitializingBean {
 
 	private static final Logger logger = LoggerFactory.getLogger(AzureVectorStore.class);
 
@@ -90,12 +106,39 @@ public class AzureVectorStore implements VectorStore, InitializingBean {
 
 	private static final String METADATA_FIELD_PREFIX = "meta_";
 
+	/**
+	 * Maximum number of documents the service accepts in a single indexing request.
+	 */
+	public static final int DEFAULT_UPLOAD_BATCH_SIZE = 1000;
+
+	/**
+	 * Maximum payload size the service accepts for a single indexing request. The batch
+	 * sizes are estimated, so a margin is kept below the 16 MB service limit.
+	 */
+	public static final long DEFAULT_MAX_UPLOAD_BATCH_BYTES = 14L * 1024 * 1024;
+
+	public static final int DEFAULT_UPLOAD_CONCURRENCY = 4;
+
+	public static final int DEFAULT_MAX_UPLOAD_RETRIES = 3;
+
+	/**
+	 * Indexing status codes reported for individual documents that may succeed when
+	 * retried.
+	 */
+	private static final Set<Integer> RETRYABLE_STATUS_CODES = Set.of(409, 422, 429, 503);
+
+	private static final Duration RETRY_BACKOFF = Duration.ofMillis(500);
+
 	private final SearchIndexClient searchIndexClient;
 
+	private final SearchIndexAsyncClient searchIndexAsyncClient;
+
 	private final EmbeddingClient embeddingClient;
 
 	private SearchClient searchClient;
 
+	private SearchAsyncClient searchAsyncClient;
+
 	private final FilterExpressionConverter filterExpressionConverter;
 
 	private int defaultTopK = DEFAULT_TOP_K;
@@ -104,6 +147,14 @@ public class AzureVectorStore implements VectorStore, InitializingBean {
 
 	private String indexName = DEFAULT_INDEX_NAME;
 
+	private int uploadBatchSize = DEFAULT_UPLOAD_BATCH_SIZE;
+
+	private long maxUploadBatchBytes = DEFAULT_MAX_UPLOAD_BATCH_BYTES;
+
+	private int uploadConcurrency = DEFAULT_UPLOAD_CONCURRENCY;
+
+	private int maxUploadRetries = DEFAULT_MAX_UPLOAD_RETRIES;
+
 	/**
 	 * List of metadata fields (as field name and type) that can be used in similarity
 	 * search query filter expressions. The {@link Document#getMetadata()} can contain
@@ -162,12 +213,30 @@ public class AzureVectorStore implements VectorStore, InitializingBean {
 	 */
 	public AzureVectorStore(SearchIndexClient searchIndexClient, EmbeddingClient embeddingClient,
 			List<MetadataField> filterMetadataFields) {
+		this(searchIndexClient, null, embeddingClient, filterMetadataFields);
+	}
+
+	/**
+	 * Constructs a new AzureCognitiveSearchVectorStore.
+	 * @param searchIndexClient A pre-configured Azure {@link SearchIndexClient} that CRUD
+	 * for Azure search indexes and factory for {@link SearchClient}.
+	 * @param searchIndexAsyncClient An optional Azure {@link SearchIndexAsyncClient}
+	 * used as factory for the {@link SearchAsyncClient} that uploads and searches the
+	 * documents without blocking. When {@code null}, the blocking {@link SearchClient}
+	 * is used on a bounded elastic scheduler instead.
+	 * @param embeddingClient The client for embedding operations.
+	 * @param filterMetadataFields List of metadata fields (as field name and type) that
+	 * can be used in similarity search query filter expressions.
+	 */
+	public AzureVectorStore(SearchIndexClient searchIndexClient, SearchIndexAsyncClient searchIndexAsyncClient,
+			EmbeddingClient embeddingClient, List<MetadataField> filterMetadataFields) {
 
 		Assert.notNull(embeddingClient, "The embedding client can not be null.");
 		Assert.notNull(searchIndexClient, "The search index client can not be null.");
 		Assert.notNull(filterMetadataFields, "The filterMetadataFields can not be null.");
 
 		this.searchIndexClient = searchIndexClient;
+		this.searchIndexAsyncClient = searchIndexAsyncClient;
 		this.embeddingClient = embeddingClient;
 		this.filterMetadataFields = filterMetadataFields;
 		this.filterExpressionConverter = new AzureAiSearchFilterExpressionConverter(filterMetadataFields);
@@ -202,21 +271,86 @@ public class AzureVectorStore implements VectorStore, InitializingBean {
 		this.defaultSimilarityThreshold = similarityThreshold;
 	}
 
+	/**
+	 * Sets the maximum number of documents sent in a single indexing request.
+	 * @param uploadBatchSize The maximum number of documents per request, at most 1000.
+	 */
+	public void setUploadBatchSize(int uploadBatchSize) {
+		Assert.isTrue(uploadBatchSize > 0 && uploadBatchSize <= DEFAULT_UPLOAD_BATCH_SIZE,
+				"The upload batch size must be in range [1:1000].");
+		this.uploadBatchSize = uploadBatchSize;
+	}
+
+	/**
+	 * Sets the maximum estimated payload size of a single indexing request.
+	 * @param maxUploadBatchBytes The maximum payload size in bytes.
+	 */
+	public void setMaxUploadBatchBytes(long maxUploadBatchBytes) {
+		Assert.isTrue(maxUploadBatchBytes > 0, "The max upload batch bytes should be positive value.");
+		this.maxUploadBatchBytes = maxUploadBatchBytes;
+	}
+
+	/**
+	 * Sets the maximum number of indexing requests sent concurrently.
+	 * @param uploadConcurrency The maximum number of concurrent indexing requests.
+	 */
+	public void setUploadConcurrency(int uploadConcurrency) {
+		Assert.isTrue(uploadConcurrency > 0, "The upload concurrency should be positive value.");
+		this.uploadConcurrency = uploadConcurrency;
+	}
+
+	/**
+	 * Sets how many times the documents that failed with a transient error are
+	 * uploaded again.
+	 * @param maxUploadRetries The maximum number of retries per indexing request.
+	 */
+	public void setMaxUploadRetries(int maxUploadRetries) {
+		Assert.isTrue(maxUploadRetries >= 0, "The max upload retries should not be negative.");
+		this.maxUploadRetries = maxUploadRetries;
+	}
+
 	@Override
 	public void add(List<Document> documents) {
+		addReactive(documents).block();
+	}
+
+	/**
+	 * Embeds and uploads the documents. The documents are split into indexing requests
+	 * that respect the service limits on document count and payload size, and up to
+	 * {@code uploadConcurrency} requests are sent in parallel. Documents rejected with a
+	 * transient error are uploaded again up to {@code maxUploadRetries} times.
+	 * @param documents The documents to upload.
+	 * @return A {@link Mono} that completes once all documents are uploaded.
+	 */
+	@Override
+	public Mono<Void> addReactive(List<Document> documents) {
 
 		Assert.notNull(documents, "The document list should not be null.");
 		if (CollectionUtils.isEmpty(documents)) {
-			return; // nothing to do;
+			return Mono.empty(); // nothing to do;
 		}
 
-		final var searchDocuments = documents.stream().map(document -> {
-			final var embeddings = this.embeddingClient.embed(document);
+		return Flux.fromIterable(documents)
+			.buffer(this.uploadBatchSize)
+			.concatMap(batch -> Mono.fromCallable(() -> toSearchDocuments(batch))
+				.subscribeOn(Schedulers.boundedElastic())
+				.flatMapIterable(this::splitBySize))
+			.flatMap(this::uploadBatch, this.uploadConcurrency)
+			.then();
+	}
+
+	private List<SearchDocument> toSearchDocuments(List<Document> documents) {
+
+		List<List<Double>> embeddings = this.embeddingClient.embedDocuments(documents);
+
+		List<SearchDocument> searchDocuments = new ArrayList<>(documents.size());
+		for (int i = 0; i < documents.size(); i++) {
+			Document document = documents.get(i);
 			SearchDocument searchDocument = new SearchDocument();
 			searchDocument.put(ID_FIELD_NAME, document.getId());
-			searchDocument.put(EMBEDDING_FIELD_NAME, embeddings);
+			searchDocument.put(EMBEDDING_FIELD_NAME, embeddings.get(i));
 			searchDocument.put(CONTENT_FIELD_NAME, document.getContent());
-			searchDocument.put(METADATA_FIELD_NAME, new JSONObject(document.getMetadata()).toJSONString());
+			searchDocument.put(METADATA_FIELD_NAME, JSON.toJSONString(document.getMetadata()));
 
 			// Add the filterable metadata fields as top level fields, allowing filler
 			// expressions on them.
@@ -225,16 +359,124 @@ public class AzureVectorStore implements VectorStore, InitializingBean {
 					searchDocument.put(METADATA_FIELD_PREFIX + mf.name(), document.getMetadata().get(mf.name()));
 				}
 			}
+			searchDocuments.add(searchDocument);
+		}
+		return searchDocuments;
+	}
 
-			return searchDocument;
-		}).toList();
-
-		IndexDocumentsResult result = this.searchClient.uploadDocuments(searchDocuments);
+	/**
+	 * Splits the documents into batches whose estimated payload stays below
+	 * {@code maxUploadBatchBytes}.
+	 */
+	private List<List<SearchDocument>> splitBySize(List<SearchDocument> searchDocuments) {
+
+		List<List<SearchDocument>> batches = new ArrayList<>();
+		List<SearchDocument> batch = new ArrayList<>();
+		long batchBytes = 0;
+		for (SearchDocument searchDocument : searchDocuments) {
+			long documentBytes = estimateSize(searchDocument);
+			if (!batch.isEmpty() && batchBytes + documentBytes > this.maxUploadBatchBytes) {
+				batches.add(batch);
+				batch = new ArrayList<>();
+				batchBytes = 0;
+			}
+			batch.add(searchDocument);
+			batchBytes += documentBytes;
+		}
+		if (!batch.isEmpty()) {
+			batches.add(batch);
+		}
+		return batches;
+	}
 
-		for (IndexingResult indexingResult : result.getResults()) {
-			Assert.isTrue(indexingResult.isSucceeded(),
-					String.format("Document with key %s did not upload successfully", indexingResult.getKey()));
+	private static long estimateSize(SearchDocument searchDocument) {
+		// JSON member names, quotes and the indexing action add a fixed overhead.
+		long size = 128;
+		for (Map.Entry<String, Object> entry : searchDocument.entrySet()) {
+			size += entry.getKey().length() + 8;
+			if (entry.getValue() instanceof List<?> list) {
+				// A float serializes to at most ~16 characters including the separator.
+				size += list.size() * 16L;
+			}
+			else if (entry.getValue() != null) {
+				size += entry.getValue().toString().getBytes(StandardCharsets.UTF_8).length;
+			}
 		}
+		return size;
+	}
+
+	private Mono<Void> uploadBatch(List<SearchDocument> searchDocuments) {
+
+		return uploadWithRetries(searchDocuments, 0).flatMap(failures -> {
+			if (failures.isEmpty()) {
+				return Mono.empty();
+			}
+			return Mono.error(new IllegalStateException(String.format(
+					"Documents with keys %s did not upload successfully: %s",
+					failures.stream().map(IndexingResult::getKey).toList(),
+					failures.stream().map(IndexingResult::getErrorMessage).distinct().toList())));
+		});
+	}
+
+	/**
+	 * Uploads the documents and retries the ones that failed with a retryable status
+	 * code, even when other documents of the batch failed permanently.
+	 * @return the results of the documents that failed permanently, followed by the ones
+	 * still failing once the retries are exhausted.
+	 */
+	private Mono<List<IndexingResult>> uploadWithRetries(List<SearchDocument> searchDocuments, int attempt) {
+
+		return uploadDocuments(searchDocuments).flatMap(result -> {
+
+			List<IndexingResult> failures = result.getResults()
+				.stream()
+				.filter(indexingResult -> !indexingResult.isSucceeded())
+				.toList();
+
+			Set<String> retryableKeys = failures.stream()
+				.filter(failure -> RETRYABLE_STATUS_CODES.contains(failure.getStatusCode()))
+				.map(IndexingResult::getKey)
+				.collect(Collectors.toSet());
+
+			if (retryableKeys.isEmpty() || attempt >= this.maxUploadRetries) {
+				return Mono.just(failures);
+			}
+
+			List<IndexingResult> permanentFailures = failures.stream()
+				.filter(failure -> !retryableKeys.contains(failure.getKey()))
+				.toList();
+			List<SearchDocument> retries = searchDocuments.stream()
+				.filter(searchDocument -> retryableKeys.contains(searchDocument.get(ID_FIELD_NAME)))
+				.toList();
+
+			logger.debug("Retrying upload of {} documents, attempt {}", retries.size(), attempt + 1);
+
+			return Mono.delay(RETRY_BACKOFF.multipliedBy(1L << attempt))
+				.then(uploadWithRetries(retries, attempt + 1))
+				.map(stillFailing -> {
+					List<IndexingResult> remaining = new ArrayList<>(permanentFailures);
+					remaining.addAll(stillFailing);
+					return remaining;
+				});
+		});
+	}
+
+	private Mono<IndexDocumentsResult> uploadDocuments(List<SearchDocument> searchDocuments) {
+
+		// Report the per document failures instead of throwing, so they can be retried.
+		IndexDocumentsOptions options = new IndexDocumentsOptions().setThrowOnAnyError(false);
+
+		Mono<IndexDocumentsResult> upload = (this.searchAsyncClient != null)
+				? this.searchAsyncClient.uploadDocumentsWithResponse(searchDocuments, options).map(Response::getValue)
+				: Mono.fromCallable(() -> this.searchClient
+					.uploadDocumentsWithResponse(searchDocuments, options, Context.NONE)
+					.getValue()).subscribeOn(Schedulers.boundedElastic());
+
+		// Throttled or unavailable service rejects the whole request.
+		return upload.retryWhen(Retry.backoff(this.maxUploadRetries, RETRY_BACKOFF)
+			.filter(ex -> ex instanceof HttpResponseException hre && hre.getResponse() != null
+					&& RETRYABLE_STATUS_CODES.contains(hre.getResponse().getStatusCode()))
+			.onRetryExhaustedThrow((spec, signal) -> signal.failure()));
 	}
 
 	@Override
@@ -265,6 +507,34 @@ public class AzureVectorStore implements VectorStore, InitializingBean {
 		return Optional.of(resSuccess);
 	}
 
+	/**
+	 * Non-blocking variant of {@link #delete(List)}, using the {@link SearchAsyncClient}
+	 * when available.
+	 * @param documentIds The ids of the documents to delete.
+	 * @return Whether all the documents were deleted.
+	 */
+	@Override
+	public Mono<Boolean> deleteReactive(List<String> documentIds) {
+
+		Assert.notNull(documentIds, "The document ID list should not be null.");
+		if (CollectionUtils.isEmpty(documentIds)) {
+			return Mono.just(true); // nothing to do;
+		}
+
+		final var searchDocumentIds = documentIds.stream().map(documentId -> {
+			SearchDocument searchDocument = new SearchDocument();
+			searchDocument.put(ID_FIELD_NAME, documentId);
+			return searchDocument;
+		}).toList();
+
+		Mono<IndexDocumentsResult> results = (this.searchAsyncClient != null)
+				? this.searchAsyncClient.deleteDocuments(searchDocumentIds)
+				: Mono.fromCallable(() -> this.searchClient.deleteDocuments(searchDocumentIds))
+					.subscribeOn(Schedulers.boundedElastic());
+
+		return results.map(result -> result.getResults().stream().allMatch(IndexingResult::isSucceeded));
+	}
+
 	@Override
 	public List<Document> similaritySearch(String query) {
 		return this.similaritySearch(SearchRequest.query(query)
@@ -277,9 +547,41 @@ public class AzureVectorStore implements VectorStore, InitializingBean {
 
 		Assert.notNull(request, "The search request must not be null.");
 
-		var searchEmbedding = toFloatList(embeddingClient.embed(request.getQuery()));
+		var searchOptions = toSearchOptions(request, QueryEmbeddings.embed(this.embeddingClient, request));
 
-		final var vectorQuery = new VectorizedQuery(searchEmbedding).setKNearestNeighborsCount(request.getTopK())
+		final var searchResults = this.searchClient.search(null, searchOptions, Context.NONE);
+
+		return searchResults.stream()
+			.filter(result -> result.getScore() >= request.getSimilarityThreshold())
+			.map(this::toDocument)
+			.collect(Collectors.toList());
+	}
+
+	/**
+	 * Non-blocking variant of {@link #similaritySearch(SearchRequest)}. The query is
+	 * embedded on a bounded elastic scheduler and the search is executed with the
+	 * {@link SearchAsyncClient} when available.
+	 * @param request The search request.
+	 * @return The similar documents.
+	 */
+	@Override
+	public Flux<Document> similaritySearchReactive(SearchRequest request) {
+
+		Assert.notNull(request, "The search request must not be null.");
+
+		return Mono.fromCallable(() -> toSearchOptions(request, QueryEmbeddings.embed(this.embeddingClient, request)))
+			.subscribeOn(Schedulers.boundedElastic())
+			.flatMapMany(searchOptions -> (this.searchAsyncClient != null)
+					? this.searchAsyncClient.search(null, searchOptions)
+					: Flux.defer(() -> Flux.fromIterable(this.searchClient.search(null, searchOptions, Context.NONE)))
+						.subscribeOn(Schedulers.boundedElastic()))
+			.filter(result -> result.getScore() >= request.getSimilarityThreshold())
+			.map(this::toDocument);
+	}
+
+	private SearchOptions toSearchOptions(SearchRequest request, List<Double> embedding) {
+
+		final var vectorQuery = new VectorizedQuery(toFloatList(embedding)).setKNearestNeighborsCount(request.getTopK())
 			// Set the fields to compare the vector against. This is a comma-delimited
 			// list of field names.
 			.setFields(EMBEDDING_FIELD_NAME);
@@ -292,27 +594,23 @@ public class AzureVectorStore implements VectorStore, InitializingBean {
 			searchOptions.setFilter(oDataFilter);
 		}
 
-		final var searchResults = searchClient.search(null, searchOptions, Context.NONE);
-
-		return searchResults.stream()
-			.filter(result -> result.getScore() >= request.getSimilarityThreshold())
-			.map(result -> {
+		return searchOptions;
+	}
 
-				final AzureSearchDocument entry = result.getDocument(AzureSearchDocument.class);
+	private Document toDocument(SearchResult result) {
 
-				Map<String, Object> metadata = (StringUtils.hasText(entry.metadata()))
-						? JSONObject.parseObject(entry.metadata(), new TypeReference<Map<String, Object>>() {
-						}) : Map.of();
+		final AzureSearchDocument entry = result.getDocument(AzureSearchDocument.class);
 
-				metadata.put(DISTANCE_METADATA_FIELD_NAME, 1 - (float) result.getScore());
+		Map<String, Object> metadata = (StringUtils.hasText(entry.metadata()))
+				? JSON.parseObject(entry.metadata(), new TypeReference<Map<String, Object>>() {
+				}) : new HashMap<>();
 
-				final Document doc = new Document(entry.id(), entry.content(), metadata);
-				doc.setEmbedding(entry.embedding());
+		metadata.put(DISTANCE_METADATA_FIELD_NAME, 1 - (float) result.getScore());
 
-				return doc;
+		final Document doc = new Document(entry.id(), entry.content(), metadata);
+		doc.setEmbedding(entry.embedding());
 
-			})
-			.collect(Collectors.toList());
+		return doc;
 	}
 
 	private List<Float> toFloatList(List<Double> doubleList) {
@@ -370,6 +668,10 @@ public class AzureVectorStore implements VectorStore, InitializingBean {
 		logger.info("Created search index: " + index.getName());
 
 		this.searchClient = this.searchIndexClient.getSearchClient(this.indexName);
+
+		if (this.searchIndexAsyncClient != null) {
+			this.searchAsyncClient = this.searchIndexAsyncClient.getSearchAsyncClient(this.indexName);
+		}
 	}
 
 }
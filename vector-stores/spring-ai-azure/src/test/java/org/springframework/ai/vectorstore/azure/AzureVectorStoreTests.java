@@ -0,0 +1,251 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.vectorstore.azure;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.azure.core.exception.HttpResponseException;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.http.rest.SimpleResponse;
+import com.azure.core.util.Context;
+import com.azure.search.documents.SearchClient;
+import com.azure.search.documents.SearchDocument;
+import com.azure.search.documents.indexes.SearchIndexClient;
+import com.azure.search.documents.indexes.models.SearchIndex;
+import com.azure.search.documents.models.IndexDocumentsOptions;
+import com.azure.search.documents.models.IndexDocumentsResult;
+import com.azure.search.documents.models.IndexingResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit Tests for the batched uploads of {@link AzureVectorStore}.
+ */
+class AzureVectorStoreTests {
+
+	private final SearchIndexClient searchIndexClient = mock(SearchIndexClient.class);
+
+	private final SearchClient searchClient = mock(SearchClient.class);
+
+	private final EmbeddingClient embeddingClient = mock(EmbeddingClient.class);
+
+	private final List<List<String>> uploads = new CopyOnWriteArrayList<>();
+
+	/**
+	 * Status codes reported for the keys of the next uploads, all other documents
+	 * succeed.
+	 */
+	private final Map<String, List<Integer>> failures = new ConcurrentHashMap<>();
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+
+	private final AtomicInteger maxInFlight = new AtomicInteger();
+
+	private volatile long uploadDelayMillis;
+
+	private AzureVectorStore vectorStore;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		when(this.embeddingClient.dimensions()).thenReturn(2);
+		when(this.embeddingClient.embedDocuments(anyList())).thenAnswer(invocation -> {
+			List<Document> documents = invocation.getArgument(0);
+			return documents.stream().map(document -> List.of(0.1, 0.2)).toList();
+		});
+		when(this.searchIndexClient.createOrUpdateIndex(any(SearchIndex.class)))
+			.thenAnswer(invocation -> invocation.getArgument(0));
+		when(this.searchIndexClient.getSearchClient(anyString())).thenReturn(this.searchClient);
+		when(this.searchClient.uploadDocumentsWithResponse(any(), any(IndexDocumentsOptions.class), any(Context.class)))
+			.thenAnswer(invocation -> upload(invocation.getArgument(0)));
+
+		this.vectorStore = new AzureVectorStore(this.searchIndexClient, this.embeddingClient);
+		this.vectorStore.afterPropertiesSet();
+	}
+
+	private SimpleResponse<IndexDocumentsResult> upload(Iterable<SearchDocument> searchDocuments)
+			throws InterruptedException {
+		int current = this.inFlight.incrementAndGet();
+		this.maxInFlight.accumulateAndGet(current, Math::max);
+		try {
+			if (this.uploadDelayMillis > 0) {
+				Thread.sleep(this.uploadDelayMillis);
+			}
+			List<String> keys = new ArrayList<>();
+			List<IndexingResult> results = new ArrayList<>();
+			for (SearchDocument searchDocument : searchDocuments) {
+				String key = (String) searchDocument.get("id");
+				keys.add(key);
+				List<Integer> statusCodes = this.failures.getOrDefault(key, List.of());
+				int statusCode = statusCodes.isEmpty() ? 200 : statusCodes.get(0);
+				if (!statusCodes.isEmpty()) {
+					this.failures.put(key, statusCodes.subList(1, statusCodes.size()));
+				}
+				results.add(indexingResult(key, statusCode));
+			}
+			this.uploads.add(keys);
+			IndexDocumentsResult result = mock(IndexDocumentsResult.class);
+			when(result.getResults()).thenReturn(results);
+			return new SimpleResponse<>(null, 200, null, result);
+		}
+		finally {
+			this.inFlight.decrementAndGet();
+		}
+	}
+
+	@Test
+	void addSplitsTheDocumentsIntoRequestsOfAtMost1000Documents() {
+		this.vectorStore.add(documents(2500, "content"));
+
+		assertThat(this.uploads).extracting(List::size).containsExactlyInAnyOrder(1000, 1000, 500);
+		verify(this.embeddingClient, times(3)).embedDocuments(anyList());
+	}
+
+	@Test
+	void addSplitsTheDocumentsIntoRequestsBelow16Megabytes() {
+		// Three documents of 5 MB only fit into two requests.
+		this.vectorStore.add(documents(3, "x".repeat(5 * 1024 * 1024)));
+
+		assertThat(this.uploads).extracting(List::size).containsExactlyInAnyOrder(2, 1);
+		verify(this.embeddingClient, times(1)).embedDocuments(anyList());
+	}
+
+	@Test
+	void addSplitsByTheConfiguredBatchSizeAndPayloadSize() {
+		this.vectorStore.setUploadBatchSize(3);
+		this.vectorStore.setMaxUploadBatchBytes(2500);
+
+		this.vectorStore.add(documents(5, "x".repeat(1000)));
+
+		assertThat(this.uploads).extracting(List::size).containsExactlyInAnyOrder(2, 1, 2);
+		verify(this.embeddingClient, times(2)).embedDocuments(anyList());
+	}
+
+	@Test
+	void addBoundsTheRequestsInFlight() {
+		this.vectorStore.setUploadBatchSize(1);
+		this.vectorStore.setUploadConcurrency(2);
+		this.uploadDelayMillis = 100;
+
+		this.vectorStore.add(documents(6, "content"));
+
+		assertThat(this.uploads).hasSize(6);
+		assertThat(this.maxInFlight).hasValue(2);
+	}
+
+	@Test
+	void addRetriesOnlyTheDocumentsThatFailedTransiently() {
+		this.failures.put("1", List.of(503));
+		this.failures.put("3", List.of(429, 409));
+
+		this.vectorStore.add(documents(5, "content"));
+
+		assertThat(this.uploads).containsExactly(List.of("0", "1", "2", "3", "4"), List.of("1", "3"), List.of("3"));
+	}
+
+	@Test
+	void addRetriesTheTransientFailuresBeforeReportingThePermanentOnes() {
+		this.failures.put("1", List.of(503));
+		this.failures.put("2", List.of(400));
+
+		assertThatThrownBy(() -> this.vectorStore.add(documents(3, "content")))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessageContaining("keys [2]")
+			.hasMessageContaining("Failed with 400")
+			.hasMessageNotContaining("Failed with 503");
+		assertThat(this.uploads).containsExactly(List.of("0", "1", "2"), List.of("1"));
+	}
+
+	@Test
+	void addReportsThePermanentFailuresTogetherWithTheExhaustedRetries() {
+		this.vectorStore.setMaxUploadRetries(1);
+		this.failures.put("1", List.of(503, 503));
+		this.failures.put("2", List.of(400));
+
+		assertThatThrownBy(() -> this.vectorStore.add(documents(3, "content")))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessageContaining("keys [2, 1]")
+			.hasMessageContaining("Failed with 400")
+			.hasMessageContaining("Failed with 503");
+		assertThat(this.uploads).containsExactly(List.of("0", "1", "2"), List.of("1"));
+	}
+
+	@Test
+	void addFailsOnceTheRetriesAreExhausted() {
+		this.vectorStore.setMaxUploadRetries(1);
+		this.failures.put("0", List.of(503, 503, 503));
+
+		assertThatThrownBy(() -> this.vectorStore.add(documents(2, "content")))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessageContaining("[0]");
+		assertThat(this.uploads).containsExactly(List.of("0", "1"), List.of("0"));
+	}
+
+	@Test
+	void addRetriesThrottledRequests() {
+		HttpResponse throttled = mock(HttpResponse.class);
+		when(throttled.getStatusCode()).thenReturn(429);
+		AtomicInteger attempts = new AtomicInteger();
+		doAnswer(invocation -> {
+			if (attempts.getAndIncrement() == 0) {
+				throw new HttpResponseException("Too many requests", throttled);
+			}
+			return upload(invocation.getArgument(0));
+		}).when(this.searchClient)
+			.uploadDocumentsWithResponse(any(), any(IndexDocumentsOptions.class), any(Context.class));
+
+		this.vectorStore.add(documents(2, "content"));
+
+		assertThat(attempts).hasValue(2);
+		assertThat(this.uploads).containsExactly(List.of("0", "1"));
+	}
+
+	private static IndexingResult indexingResult(String key, int statusCode) {
+		IndexingResult indexingResult = mock(IndexingResult.class);
+		when(indexingResult.getKey()).thenReturn(key);
+		when(indexingResult.getStatusCode()).thenReturn(statusCode);
+		when(indexingResult.isSucceeded()).thenReturn(statusCode == 200);
+		when(indexingResult.getErrorMessage()).thenReturn(statusCode == 200 ? null : "Failed with " + statusCode);
+		return indexingResult;
+	}
+
+	private static List<Document> documents(int count, String content) {
+		List<Document> documents = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			documents.add(new Document(String.valueOf(i), content, Map.of("index", i)));
+		}
+		return documents;
+	}
+
+}
@@ -206,7 +206,7 @@ public final class CassandraVectorStore implements VectorStore, InitializingBean
 	@Override
 	public List<Document> similaritySearch(SearchRequest request) {
 		Preconditions.checkArgument(request.getTopK() <= 1000);
-		var embedding = this.embeddingClient.embed(request.getQuery()).stream().map(Double::floatValue).toList();
+		var embedding = QueryEmbeddings.embed(this.embeddingClient, request).stream().map(Double::floatValue).toList();
 		CqlVector<Float> cqlVector = CqlVector.newInstance(embedding);
 
 		String whereClause = "";
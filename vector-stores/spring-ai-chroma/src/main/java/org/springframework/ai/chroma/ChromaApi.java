@@ -15,6 +15,7 @@
  */
 package org.springframework.ai.chroma;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -25,44 +26,144 @@ import java.util.regex.Pattern;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 import org.springframework.ai.chroma.ChromaApi.QueryRequest.Include;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.http.client.support.BasicAuthenticationInterceptor;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
 
 /**
  * Single-class Chroma API implementation based on the (unofficial) Chroma REST API.
  *
  * @author Christian Tzolov
  */
-public class ChromaApi {
+public class ChromaApi implements AutoCloseable {
 
 	// Regular expression pattern that looks for a message inside the ValueError(...).
 	private static Pattern VALUE_ERROR_PATTERN = Pattern.compile("ValueError\\('([^']*)'\\)");
 
+	// Query responses include the embeddings and easily exceed the default 256KB.
+	private static final int MAX_IN_MEMORY_SIZE = 16 * 1024 * 1024;
+
 	private final String baseUrl;
 
 	private final RestTemplate restTemplate;
 
+	private final WebClient webClient;
+
+	// The connection pool created by this instance, if any, released by close().
+	private final ConnectionProvider connectionProvider;
+
 	private final ObjectMapper objectMapper;
 
 	private String keyToken;
 
+	private String basicAuthUsername;
+
+	private String basicAuthPassword;
+
 	public ChromaApi(String baseUrl, RestTemplate restTemplate) {
 		this(baseUrl, restTemplate, new ObjectMapper());
 	}
 
 	public ChromaApi(String baseUrl, RestTemplate restTemplate, ObjectMapper objectMapper) {
+		this(baseUrl, restTemplate, ConnectionPoolOptions.DEFAULT, objectMapper);
+	}
+
+	/**
+	 * Create a new ChromaApi instance whose reactive methods use a dedicated, keep-alive
+	 * connection pool. The pool is released by {@link #close()}.
+	 * @param baseUrl Chroma server URL.
+	 * @param restTemplate The client used by the blocking methods.
+	 * @param connectionPoolOptions The connection pool settings of the reactive client.
+	 * @param objectMapper The JSON mapper.
+	 */
+	public ChromaApi(String baseUrl, RestTemplate restTemplate, ConnectionPoolOptions connectionPoolOptions,
+			ObjectMapper objectMapper) {
+		this(baseUrl, restTemplate, createConnectionProvider(connectionPoolOptions), objectMapper);
+	}
+
+	/**
+	 * Create a new ChromaApi instance.
+	 * @param baseUrl Chroma server URL.
+	 * @param restTemplate The client used by the blocking methods.
+	 * @param webClientBuilder The builder for the client used by the reactive methods.
+	 * The resources of its connector are not released by {@link #close()}.
+	 * @param objectMapper The JSON mapper.
+	 */
+	public ChromaApi(String baseUrl, RestTemplate restTemplate, WebClient.Builder webClientBuilder,
+			ObjectMapper objectMapper) {
+		this(baseUrl, restTemplate, webClientBuilder, null, objectMapper);
+	}
+
+	private ChromaApi(String baseUrl, RestTemplate restTemplate, ConnectionProvider connectionProvider,
+			ObjectMapper objectMapper) {
+		this(baseUrl, restTemplate, webClientBuilder(connectionProvider), connectionProvider, objectMapper);
+	}
+
+	private ChromaApi(String baseUrl, RestTemplate restTemplate, WebClient.Builder webClientBuilder,
+			ConnectionProvider connectionProvider, ObjectMapper objectMapper) {
 		this.baseUrl = baseUrl;
 		this.restTemplate = restTemplate;
+		this.connectionProvider = connectionProvider;
 		this.objectMapper = objectMapper;
+		this.webClient = webClientBuilder.codecs(configurer -> {
+			configurer.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+			configurer.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+			configurer.defaultCodecs().maxInMemorySize(MAX_IN_MEMORY_SIZE);
+		}).build();
+	}
+
+	/**
+	 * Connection pool settings for the reactive client.
+	 *
+	 * @param maxConnections Maximum number of connections kept open to the server.
+	 * @param maxIdleTime Time after which an idle, kept-alive connection is closed.
+	 * @param pendingAcquireTimeout Maximum time a request waits for a free connection.
+	 */
+	public record ConnectionPoolOptions(int maxConnections, Duration maxIdleTime, Duration pendingAcquireTimeout) {
+
+		public static final ConnectionPoolOptions DEFAULT = new ConnectionPoolOptions(50, Duration.ofSeconds(30),
+				Duration.ofSeconds(45));
+
+	}
+
+	private static ConnectionProvider createConnectionProvider(ConnectionPoolOptions options) {
+		return ConnectionProvider.builder("chroma")
+			.maxConnections(options.maxConnections())
+			.maxIdleTime(options.maxIdleTime())
+			.pendingAcquireTimeout(options.pendingAcquireTimeout())
+			.build();
+	}
+
+	private static WebClient.Builder webClientBuilder(ConnectionProvider connectionProvider) {
+		HttpClient httpClient = HttpClient.create(connectionProvider).keepAlive(true);
+		return WebClient.builder().clientConnector(new ReactorClientHttpConnector(httpClient));
+	}
+
+	/**
+	 * Release the connection pool of the reactive client, if it was created by this
+	 * instance.
+	 */
+	@Override
+	public void close() {
+		if (this.connectionProvider != null) {
+			this.connectionProvider.dispose();
+		}
 	}
 
 	/**
@@ -82,7 +183,9 @@ public class ChromaApi {
 	 * @param password Credentials password.
 	 */
 	public ChromaApi withBasicAuthCredentials(String username, String password) {
-		this.restTemplate.getInterceptors().add(new BasicAuthenticationInterceptor(username, username));
+		this.restTemplate.getInterceptors().add(new BasicAuthenticationInterceptor(username, password));
+		this.basicAuthUsername = username;
+		this.basicAuthPassword = password;
 		return this;
 	}
 
@@ -323,6 +426,24 @@ public class ChromaApi {
 			.getBody();
 	}
 
+	/**
+	 * Reactive variant of {@link #upsertEmbeddings(String, AddEmbeddingsRequest)}.
+	 * @param collectionId The collection id.
+	 * @param embedding The embeddings to upsert.
+	 * @return A {@link Mono} that completes when the embeddings are stored.
+	 */
+	public Mono<Void> upsertEmbeddingsReactive(String collectionId, AddEmbeddingsRequest embedding) {
+
+		return this.webClient.post()
+			.uri(this.baseUrl + "/api/v1/collections/{collection_id}/upsert", collectionId)
+			.headers(this::addAuthHeaders)
+			.contentType(MediaType.APPLICATION_JSON)
+			.bodyValue(embedding)
+			.retrieve()
+			.toBodilessEntity()
+			.then();
+	}
+
 	public List<String> deleteEmbeddings(String collectionId, DeleteEmbeddingsRequest deleteRequest) {
 
 		return this.restTemplate
@@ -331,6 +452,24 @@ public class ChromaApi {
 			.getBody();
 	}
 
+	/**
+	 * Reactive variant of {@link #deleteEmbeddings(String, DeleteEmbeddingsRequest)}.
+	 * @param collectionId The collection id.
+	 * @param deleteRequest The delete request.
+	 * @return The ids of the deleted embeddings.
+	 */
+	public Mono<List<String>> deleteEmbeddingsReactive(String collectionId, DeleteEmbeddingsRequest deleteRequest) {
+
+		return this.webClient.post()
+			.uri(this.baseUrl + "/api/v1/collections/{collection_id}/delete", collectionId)
+			.headers(this::addAuthHeaders)
+			.contentType(MediaType.APPLICATION_JSON)
+			.bodyValue(deleteRequest)
+			.retrieve()
+			.bodyToMono(new ParameterizedTypeReference<List<String>>() {
+			});
+	}
+
 	public Long countEmbeddings(String collectionId) {
 
 		return this.restTemplate
@@ -347,6 +486,23 @@ public class ChromaApi {
 			.getBody();
 	}
 
+	/**
+	 * Reactive variant of {@link #queryCollection(String, QueryRequest)}.
+	 * @param collectionId The collection id.
+	 * @param queryRequest The query request.
+	 * @return The query response.
+	 */
+	public Mono<QueryResponse> queryCollectionReactive(String collectionId, QueryRequest queryRequest) {
+
+		return this.webClient.post()
+			.uri(this.baseUrl + "/api/v1/collections/{collection_id}/query", collectionId)
+			.headers(this::addAuthHeaders)
+			.contentType(MediaType.APPLICATION_JSON)
+			.bodyValue(queryRequest)
+			.retrieve()
+			.bodyToMono(QueryResponse.class);
+	}
+
 	public GetEmbeddingResponse getEmbeddings(String collectionId, GetEmbeddingsRequest getEmbeddingsRequest) {
 
 		return this.restTemplate
@@ -378,6 +534,15 @@ public class ChromaApi {
 		return headers;
 	}
 
+	private void addAuthHeaders(HttpHeaders headers) {
+		if (StringUtils.hasText(this.keyToken)) {
+			headers.setBearerAuth(this.keyToken);
+		}
+		else if (StringUtils.hasText(this.basicAuthUsername)) {
+			headers.setBasicAuth(this.basicAuthUsername, this.basicAuthPassword);
+		}
+	}
+
 	private String getValueErrorMessage(String logString) {
 		if (!StringUtils.hasText(logString)) {
 			return "";
@@ -20,11 +20,17 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import org.springframework.ai.chroma.ChromaApi;
 import org.springframework.ai.chroma.ChromaApi.AddEmbeddingsRequest;
 import org.springframework.ai.chroma.ChromaApi.DeleteEmbeddingsRequest;
 import org.springframework.ai.chroma.ChromaApi.Embedding;
+import org.springframework.ai.chroma.ChromaApi.QueryResponse;
 import org.springframework.ai.document.Document;
 import org.springframework.ai.embedding.EmbeddingClient;
 import org.springframework.ai.vectorstore.filter.FilterExpressionConverter;
@@ -41,7 +47,7 @@ import org.springframework.util.StringUtils;
  * for embedding calculations. For more information about how it does this, see the
  * official <a href="https://www.trychroma.com/">Chroma website</a>.
  */
-public class ChromaVectorStore implements VectorStore, InitializingBean {
+public class ChromaVectorStore implements VectorStore, ReactiveVectorStore, InitializingBean {
 
 	public static final String DISTANCE_FIELD_NAME = "distance";
 
@@ -51,6 +57,10 @@ public class ChromaVectorStore implements VectorStore, InitializingBean {
 
 	public static final int DEFAULT_TOP_K = 4;
 
+	public static final int DEFAULT_UPSERT_BATCH_SIZE = 500;
+
+	public static final int DEFAULT_UPSERT_CONCURRENCY = 4;
+
 	private final EmbeddingClient embeddingClient;
 
 	private final ChromaApi chromaApi;
@@ -61,6 +71,10 @@ public class ChromaVectorStore implements VectorStore, InitializingBean {
 
 	private String collectionId;
 
+	private int upsertBatchSize = DEFAULT_UPSERT_BATCH_SIZE;
+
+	private int upsertConcurrency = DEFAULT_UPSERT_CONCURRENCY;
+
 	public ChromaVectorStore(EmbeddingClient embeddingClient, ChromaApi chromaApi) {
 		this(embeddingClient, chromaApi, DEFAULT_COLLECTION_NAME);
 	}
@@ -77,28 +91,84 @@ public class ChromaVectorStore implements VectorStore, InitializingBean {
 		this.filterExpressionConverter = filterExpressionConverter;
 	}
 
+	/**
+	 * Set the maximum number of documents sent in a single upsert request.
+	 * @param upsertBatchSize the upsert batch size.
+	 */
+	public void setUpsertBatchSize(int upsertBatchSize) {
+		Assert.isTrue(upsertBatchSize > 0, "Upsert batch size must be greater than zero.");
+		this.upsertBatchSize = upsertBatchSize;
+	}
+
+	/**
+	 * Set the maximum number of upsert requests sent concurrently.
+	 * @param upsertConcurrency the upsert concurrency.
+	 */
+	public void setUpsertConcurrency(int upsertConcurrency) {
+		Assert.isTrue(upsertConcurrency > 0, "Upsert concurrency must be greater than zero.");
+		this.upsertConcurrency = upsertConcurrency;
+	}
+
+	/**
+	 * Embed and upsert the documents in batches of {@code upsertBatchSize}, with up to
+	 * {@code upsertConcurrency} requests in flight. The requests are sent with the
+	 * {@link org.springframework.web.client.RestTemplate RestTemplate} of the
+	 * {@link ChromaApi}.
+	 * @param documents the documents to add.
+	 */
 	@Override
 	public void add(List<Document> documents) {
+		upsertInBatches(documents, request -> Mono
+			.fromRunnable(() -> this.chromaApi.upsertEmbeddings(this.collectionId, request)))
+			.block();
+	}
+
+	/**
+	 * Reactive variant of {@link #add(List)}. The requests are sent with the
+	 * {@link org.springframework.web.reactive.function.client.WebClient WebClient} of
+	 * the {@link ChromaApi}.
+	 * @param documents the documents to add.
+	 * @return a {@link Mono} that completes when all documents are stored.
+	 */
+	@Override
+	public Mono<Void> addReactive(List<Document> documents) {
+		return upsertInBatches(documents,
+				request -> this.chromaApi.upsertEmbeddingsReactive(this.collectionId, request));
+	}
+
+	private Mono<Void> upsertInBatches(List<Document> documents, Function<AddEmbeddingsRequest, Mono<Void>> upsert) {
 		Assert.notNull(documents, "Documents must not be null");
 		if (CollectionUtils.isEmpty(documents)) {
-			return;
+			return Mono.empty();
 		}
 
-		List<String> ids = new ArrayList<>();
-		List<Map<String, Object>> metadatas = new ArrayList<>();
-		List<String> contents = new ArrayList<>();
-		List<float[]> embeddings = new ArrayList<>();
+		return Flux.fromIterable(documents)
+			.buffer(this.upsertBatchSize)
+			.flatMap(batch -> Mono.fromCallable(() -> toAddEmbeddingsRequest(batch))
+				.subscribeOn(Schedulers.boundedElastic())
+				.flatMap(upsert), this.upsertConcurrency)
+			.then();
+	}
+
+	private AddEmbeddingsRequest toAddEmbeddingsRequest(List<Document> documents) {
+
+		List<String> ids = new ArrayList<>(documents.size());
+		List<Map<String, Object>> metadatas = new ArrayList<>(documents.size());
+		List<String> contents = new ArrayList<>(documents.size());
+		List<float[]> embeddings = new ArrayList<>(documents.size());
 
-		for (Document document : documents) {
+		List<List<Double>> documentEmbeddings = this.embeddingClient.embedDocuments(documents);
+
+		for (int i = 0; i < documents.size(); i++) {
+			Document document = documents.get(i);
 			ids.add(document.getId());
 			metadatas.add(document.getMetadata());
 			contents.add(document.getContent());
-			document.setEmbedding(this.embeddingClient.embed(document));
+			document.setEmbedding(documentEmbeddings.get(i));
 			embeddings.add(JsonUtils.toFloatArray(document.getEmbedding()));
 		}
 
-		this.chromaApi.upsertEmbeddings(this.collectionId,
-				new AddEmbeddingsRequest(ids, embeddings, metadatas, contents));
+		return new AddEmbeddingsRequest(ids, embeddings, metadatas, contents);
 	}
 
 	@Override
@@ -109,8 +179,33 @@ public class ChromaVectorStore implements VectorStore, InitializingBean {
 		return Optional.of(deletedIds.size() == idList.size());
 	}
 
+	@Override
+	public Mono<Boolean> deleteReactive(List<String> idList) {
+		Assert.notNull(idList, "Document id list must not be null");
+		return this.chromaApi.deleteEmbeddingsReactive(this.collectionId, new DeleteEmbeddingsRequest(idList))
+			.map(deletedIds -> deletedIds.size() == idList.size());
+	}
+
 	@Override
 	public List<Document> similaritySearch(SearchRequest request) {
+		var queryRequest = toQueryRequest(request);
+		return toDocuments(this.chromaApi.queryCollection(this.collectionId, queryRequest), request);
+	}
+
+	/**
+	 * Non-blocking variant of {@link #similaritySearch(SearchRequest)}.
+	 * @param request the search request.
+	 * @return the similar documents.
+	 */
+	@Override
+	public Flux<Document> similaritySearchReactive(SearchRequest request) {
+		return Mono.fromCallable(() -> toQueryRequest(request))
+			.subscribeOn(Schedulers.boundedElastic())
+			.flatMap(queryRequest -> this.chromaApi.queryCollectionReactive(this.collectionId, queryRequest))
+			.flatMapIterable(queryResponse -> toDocuments(queryResponse, request));
+	}
+
+	private ChromaApi.QueryRequest toQueryRequest(SearchRequest request) {
 
 		String nativeFilterExpression = (request.getFilterExpression() != null)
 				? this.filterExpressionConverter.convertExpression(request.getFilterExpression()) : "";
@@ -118,11 +213,14 @@ public class ChromaVectorStore implements VectorStore, InitializingBean {
 		String query = request.getQuery();
 		Assert.notNull(query, "Query string must not be null");
 
-		List<Double> embedding = this.embeddingClient.embed(query);
+		List<Double> embedding = QueryEmbeddings.embed(this.embeddingClient, request);
 		Map<String, Object> where = (StringUtils.hasText(nativeFilterExpression))
 				? JsonUtils.jsonToMap(nativeFilterExpression) : Map.of();
-		var queryRequest = new ChromaApi.QueryRequest(JsonUtils.toFloatList(embedding), request.getTopK(), where);
-		var queryResponse = this.chromaApi.queryCollection(this.collectionId, queryRequest);
+		return new ChromaApi.QueryRequest(JsonUtils.toFloatList(embedding), request.getTopK(), where);
+	}
+
+	private List<Document> toDocuments(QueryResponse queryResponse, SearchRequest request) {
+
 		var embeddings = this.chromaApi.toEmbeddingResponseList(queryResponse);
 
 		List<Document> responseDocuments = new ArrayList<>();
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.chroma;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import reactor.netty.resources.ConnectionProvider;
+
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit Tests for the connection pool of the {@link ChromaApi} reactive client.
+ */
+class ChromaApiTests {
+
+	@Test
+	void closeReleasesTheConnectionPoolOfTheInstance() {
+		ChromaApi chromaApi = new ChromaApi("http://localhost:8000", new RestTemplate());
+		ConnectionProvider connectionProvider = (ConnectionProvider) ReflectionTestUtils.getField(chromaApi,
+				"connectionProvider");
+		assertThat(connectionProvider.isDisposed()).isFalse();
+
+		chromaApi.close();
+
+		assertThat(connectionProvider.isDisposed()).isTrue();
+	}
+
+	@Test
+	void closeLeavesAProvidedWebClientUntouched() {
+		ChromaApi chromaApi = new ChromaApi("http://localhost:8000", new RestTemplate(), WebClient.builder(),
+				new ObjectMapper());
+
+		chromaApi.close();
+
+		assertThat(ReflectionTestUtils.getField(chromaApi, "connectionProvider")).isNull();
+	}
+
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.vectorstore;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import org.springframework.ai.chroma.ChromaApi;
+import org.springframework.ai.chroma.ChromaApi.AddEmbeddingsRequest;
+import org.springframework.ai.chroma.ChromaApi.Collection;
+import org.springframework.ai.chroma.ChromaApi.QueryRequest;
+import org.springframework.ai.chroma.ChromaApi.QueryResponse;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit Tests for the batched upserts and the reactive search of
+ * {@link ChromaVectorStore}.
+ */
+class ChromaVectorStoreTests {
+
+	private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+	private final ChromaApi chromaApi = mock(ChromaApi.class);
+
+	private final EmbeddingClient embeddingClient = mock(EmbeddingClient.class);
+
+	private final List<AddEmbeddingsRequest> upserts = new CopyOnWriteArrayList<>();
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+
+	private final AtomicInteger maxInFlight = new AtomicInteger();
+
+	private ChromaVectorStore vectorStore;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		when(this.embeddingClient.embed(any(String.class))).thenReturn(List.of(0.5, 0.6));
+		when(this.embeddingClient.embedDocuments(anyList())).thenAnswer(invocation -> {
+			List<Document> documents = invocation.getArgument(0);
+			return documents.stream().map(document -> List.of(0.1, 0.2)).toList();
+		});
+		when(this.chromaApi.getCollection(anyString()))
+			.thenReturn(new Collection("collection-id", ChromaVectorStore.DEFAULT_COLLECTION_NAME, Map.of()));
+		doAnswer(invocation -> {
+			this.upserts.add(invocation.getArgument(1));
+			this.maxInFlight.accumulateAndGet(this.inFlight.incrementAndGet(), Math::max);
+			try {
+				Thread.sleep(50);
+			}
+			finally {
+				this.inFlight.decrementAndGet();
+			}
+			return null;
+		}).when(this.chromaApi).upsertEmbeddings(anyString(), any(AddEmbeddingsRequest.class));
+		when(this.chromaApi.upsertEmbeddingsReactive(anyString(), any(AddEmbeddingsRequest.class)))
+			.thenAnswer(invocation -> Mono.defer(() -> {
+				this.upserts.add(invocation.getArgument(1));
+				this.maxInFlight.accumulateAndGet(this.inFlight.incrementAndGet(), Math::max);
+				return Mono.delay(Duration.ofMillis(50)).then();
+			}).doFinally(signal -> this.inFlight.decrementAndGet()));
+
+		this.vectorStore = new ChromaVectorStore(this.embeddingClient, this.chromaApi);
+		this.vectorStore.afterPropertiesSet();
+	}
+
+	@Test
+	void addUpsertsTheDocumentsInBatches() {
+		this.vectorStore.setUpsertBatchSize(2);
+		List<Document> documents = documents(5);
+
+		this.vectorStore.add(documents);
+
+		assertThat(this.upserts).extracting(upsert -> upsert.ids().size()).containsExactlyInAnyOrder(2, 2, 1);
+		assertThat(this.upserts).flatExtracting(AddEmbeddingsRequest::ids)
+			.containsExactlyInAnyOrder("0", "1", "2", "3", "4");
+		assertThat(this.upserts).flatExtracting(AddEmbeddingsRequest::documents)
+			.containsExactlyInAnyOrder("content 0", "content 1", "content 2", "content 3", "content 4");
+		assertThat(this.upserts).flatExtracting(AddEmbeddingsRequest::embeddings)
+			.allSatisfy(embedding -> assertThat(embedding).containsExactly(0.1f, 0.2f));
+		verify(this.chromaApi, times(3)).upsertEmbeddings(eq("collection-id"), any(AddEmbeddingsRequest.class));
+		verify(this.chromaApi, never()).upsertEmbeddingsReactive(anyString(), any(AddEmbeddingsRequest.class));
+		verify(this.embeddingClient, times(3)).embedDocuments(anyList());
+		assertThat(documents).allSatisfy(document -> assertThat(document.getEmbedding()).containsExactly(0.1, 0.2));
+	}
+
+	@Test
+	void addReactiveUpsertsTheDocumentsInBatches() {
+		this.vectorStore.setUpsertBatchSize(2);
+
+		this.vectorStore.addReactive(documents(5)).block(TIMEOUT);
+
+		assertThat(this.upserts).extracting(upsert -> upsert.ids().size()).containsExactlyInAnyOrder(2, 2, 1);
+		verify(this.chromaApi, times(3)).upsertEmbeddingsReactive(eq("collection-id"), any(AddEmbeddingsRequest.class));
+		verify(this.chromaApi, never()).upsertEmbeddings(anyString(), any(AddEmbeddingsRequest.class));
+	}
+
+	@Test
+	void addBoundsTheUpsertsInFlight() {
+		this.vectorStore.setUpsertBatchSize(1);
+		this.vectorStore.setUpsertConcurrency(2);
+
+		this.vectorStore.add(documents(6));
+
+		assertThat(this.upserts).hasSize(6);
+		assertThat(this.maxInFlight).hasValue(2);
+	}
+
+	@Test
+	void addReactiveBoundsTheUpsertsInFlight() {
+		this.vectorStore.setUpsertBatchSize(1);
+		this.vectorStore.setUpsertConcurrency(2);
+
+		this.vectorStore.addReactive(documents(6)).block(TIMEOUT);
+
+		assertThat(this.upserts).hasSize(6);
+		assertThat(this.maxInFlight).hasValue(2);
+	}
+
+	@Test
+	void addFailsWhenAnUpsertFails() {
+		doThrow(new IllegalStateException("Upsert failed")).when(this.chromaApi)
+			.upsertEmbeddings(anyString(), any(AddEmbeddingsRequest.class));
+
+		assertThatThrownBy(() -> this.vectorStore.add(documents(3))).hasMessage("Upsert failed");
+	}
+
+	@Test
+	void addReactiveFailsWhenAnUpsertFails() {
+		when(this.chromaApi.upsertEmbeddingsReactive(anyString(), any(AddEmbeddingsRequest.class)))
+			.thenReturn(Mono.error(new IllegalStateException("Upsert failed")));
+
+		assertThatThrownBy(() -> this.vectorStore.addReactive(documents(3)).block(TIMEOUT))
+			.hasMessage("Upsert failed");
+	}
+
+	@Test
+	void addWithoutDocumentsDoesNotUpsert() {
+		this.vectorStore.add(List.of());
+
+		verify(this.chromaApi, never()).upsertEmbeddings(anyString(), any(AddEmbeddingsRequest.class));
+		verify(this.chromaApi, never()).upsertEmbeddingsReactive(anyString(), any(AddEmbeddingsRequest.class));
+	}
+
+	@Test
+	void similaritySearchReactiveFiltersAndMapsTheResults() {
+		doCallRealMethod().when(this.chromaApi).toEmbeddingResponseList(any());
+		Map<String, Object> metadata = new HashMap<>();
+		metadata.put("year", 2024);
+		when(this.chromaApi.queryCollectionReactive(eq("collection-id"), any(QueryRequest.class)))
+			.thenReturn(Mono.just(new QueryResponse(List.of(List.of("1", "2")),
+					List.of(List.of(List.of(0.1f, 0.2f), List.of(0.3f, 0.4f))), List.of(List.of("first", "second")),
+					List.of(List.of(metadata, new HashMap<>())),
+					List.of(List.of(0.1, 0.7)))));
+
+		List<Document> documents = this.vectorStore
+			.similaritySearchReactive(SearchRequest.query("query").withTopK(3).withSimilarityThreshold(0.5))
+			.collectList()
+			.block(TIMEOUT);
+
+		assertThat(documents).hasSize(1);
+		Document document = documents.get(0);
+		assertThat(document.getId()).isEqualTo("1");
+		assertThat(document.getContent()).isEqualTo("first");
+		assertThat(document.getMetadata()).containsEntry("year", 2024).containsEntry("distance", 0.1f);
+		verify(this.chromaApi).queryCollectionReactive(eq("collection-id"),
+				eq(new QueryRequest(List.of(0.5f, 0.6f), 3, Map.of())));
+	}
+
+	private static List<Document> documents(int count) {
+		List<Document> documents = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			documents.add(new Document(String.valueOf(i), "content " + i, Map.of("index", i)));
+		}
+		return documents;
+	}
+
+}
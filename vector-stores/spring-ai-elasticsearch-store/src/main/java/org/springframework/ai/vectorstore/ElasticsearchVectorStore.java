@@ -16,15 +16,20 @@
 package org.springframework.ai.vectorstore;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.KnnQuery;
 import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 import co.elastic.clients.elasticsearch.core.BulkRequest;
 import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.MsearchRequest;
+import co.elastic.clients.elasticsearch.core.MsearchResponse;
+import co.elastic.clients.elasticsearch.core.msearch.MultiSearchResponseItem;
 import co.elastic.clients.elasticsearch.core.search.Hit;
 import co.elastic.clients.elasticsearch.indices.CreateIndexResponse;
 import co.elastic.clients.json.JsonData;
 import co.elastic.clients.json.jackson.JacksonJsonpMapper;
 import co.elastic.clients.transport.endpoints.BooleanResponse;
 import co.elastic.clients.transport.rest_client.RestClientTransport;
+import co.elastic.clients.util.ObjectBuilder;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.elasticsearch.client.RestClient;
@@ -39,6 +44,7 @@ import org.springframework.util.Assert;
 
 import java.io.IOException;
 import java.io.StringReader;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -57,6 +63,54 @@ public class ElasticsearchVectorStore implements VectorStore, InitializingBean {
 
 	private static final String INDEX_NAME = "spring-ai-document-index";
 
+	public static final int DEFAULT_EMBEDDING_DIMENSIONS = 1536;
+
+	public static final int DEFAULT_NUM_CANDIDATES = 100;
+
+	/**
+	 * The strategy used to compute the similarity search.
+	 */
+	public enum SearchMode {
+
+		/**
+		 * Brute force {@code script_score} query computing the similarity function over
+		 * every document matching the filter.
+		 */
+		SCRIPT_SCORE,
+		/**
+		 * Approximate kNN search over the indexed (HNSW) {@code dense_vector} field, using
+		 * the top-level {@code knn} search option with filter pushdown.
+		 */
+		KNN
+
+	}
+
+	/**
+	 * The index options of the {@code dense_vector} embedding field.
+	 */
+	public enum VectorIndexType {
+
+		/**
+		 * HNSW graph over float vectors.
+		 */
+		HNSW("hnsw"),
+		/**
+		 * HNSW graph over int8 scalar quantized vectors.
+		 */
+		INT8_HNSW("int8_hnsw");
+
+		private final String value;
+
+		VectorIndexType(String value) {
+			this.value = value;
+		}
+
+		public String getValue() {
+			return this.value;
+		}
+
+	}
+
 	private final EmbeddingClient embeddingClient;
 
 	private final ElasticsearchClient elasticsearchClient;
@@ -67,6 +121,14 @@ public class ElasticsearchVectorStore implements VectorStore, InitializingBean {
 
 	private String similarityFunction;
 
+	private SearchMode searchMode = SearchMode.SCRIPT_SCORE;
+
+	private int numCandidates = DEFAULT_NUM_CANDIDATES;
+
+	private int embeddingDimensions = DEFAULT_EMBEDDING_DIMENSIONS;
+
+	private VectorIndexType vectorIndexType = VectorIndexType.HNSW;
+
 	public ElasticsearchVectorStore(RestClient restClient, EmbeddingClient embeddingClient) {
 		this(INDEX_NAME, restClient, embeddingClient);
 	}
@@ -89,6 +151,49 @@ public class ElasticsearchVectorStore implements VectorStore, InitializingBean {
 		return this;
 	}
 
+	public ElasticsearchVectorStore withSearchMode(SearchMode searchMode) {
+		Assert.notNull(searchMode, "The search mode must not be null.");
+		this.searchMode = searchMode;
+		return this;
+	}
+
+	/**
+	 * Number of nearest neighbor candidates considered per shard by the {@link SearchMode#KNN}
+	 * search. Raised to the requested topK if lower.
+	 * @param numCandidates the number of candidates.
+	 * @return this vector store.
+	 */
+	public ElasticsearchVectorStore withNumCandidates(int numCandidates) {
+		Assert.isTrue(numCandidates > 0, "The number of candidates must be positive.");
+		this.numCandidates = numCandidates;
+		return this;
+	}
+
+	/**
+	 * Dimensions of the {@code dense_vector} embedding field, used when the index mapping
+	 * is created.
+	 * @param embeddingDimensions the embedding dimensions.
+	 * @return this vector store.
+	 */
+	public ElasticsearchVectorStore withEmbeddingDimensions(int embeddingDimensions) {
+		Assert.isTrue(embeddingDimensions > 0, "The embedding dimensions must be positive.");
+		this.embeddingDimensions = embeddingDimensions;
+		return this;
+	}
+
+	/**
+	 * Index options of the {@code dense_vector} embedding field, used when the index
+	 * mapping is created. Use {@link VectorIndexType#INT8_HNSW} for int8 quantized
+	 * vectors.
+	 * @param vectorIndexType the vector index type.
+	 * @return this vector store.
+	 */
+	public ElasticsearchVectorStore withVectorIndexType(VectorIndexType vectorIndexType) {
+		Assert.notNull(vectorIndexType, "The vector index type must not be null.");
+		this.vectorIndexType = vectorIndexType;
+		return this;
+	}
+
 	@Override
 	public void add(List<Document> documents) {
 		BulkRequest.Builder builkRequestBuilder = new BulkRequest.Builder();
@@ -123,13 +228,16 @@ public class ElasticsearchVectorStore implements VectorStore, InitializingBean {
 	@Override
 	public List<Document> similaritySearch(SearchRequest searchRequest) {
 		Assert.notNull(searchRequest, "The search request must not be null.");
-		return similaritySearch(this.embeddingClient.embed(searchRequest.getQuery()), searchRequest.getTopK(),
+		return similaritySearch(QueryEmbeddings.embed(this.embeddingClient, searchRequest), searchRequest.getTopK(),
 				Double.valueOf(searchRequest.getSimilarityThreshold()).floatValue(),
 				searchRequest.getFilterExpression());
 	}
 
 	public List<Document> similaritySearch(List<Double> embedding, int topK, double similarityThreshold,
 			Filter.Expression filterExpression) {
+		if (this.searchMode == SearchMode.KNN) {
+			return knnSimilaritySearch(embedding, topK, similarityThreshold, filterExpression);
+		}
 		return similaritySearch(new co.elastic.clients.elasticsearch.core.SearchRequest.Builder()
 			.query(getElasticsearchSimilarityQuery(embedding, filterExpression))
 			.size(topK)
@@ -137,6 +245,67 @@ public class ElasticsearchVectorStore implements VectorStore, InitializingBean {
 			.build());
 	}
 
+	/**
+	 * Performs the similarity searches in a single multi search request. All query texts
+	 * are embedded with a single embedding call.
+	 * @param searchRequests The search requests.
+	 * @return For each request, in order, the list of documents similar to its query.
+	 */
+	@Override
+	public List<List<Document>> similaritySearch(List<SearchRequest> searchRequests) {
+		Assert.notNull(searchRequests, "The search requests must not be null.");
+		if (searchRequests.isEmpty()) {
+			return List.of();
+		}
+
+		List<List<Double>> embeddings = QueryEmbeddings.embed(this.embeddingClient, searchRequests);
+
+		MsearchRequest.Builder msearchRequestBuilder = new MsearchRequest.Builder().index(this.index);
+		for (int i = 0; i < searchRequests.size(); i++) {
+			SearchRequest searchRequest = searchRequests.get(i);
+			List<Double> embedding = embeddings.get(i);
+			msearchRequestBuilder.searches(item -> item.header(header -> header).body(body -> {
+				if (this.searchMode == SearchMode.KNN) {
+					return body
+						.knn(knnBuilder -> knnQuery(knnBuilder, embedding, searchRequest.getTopK(),
+								searchRequest.getFilterExpression()))
+						.size(searchRequest.getTopK());
+				}
+				return body
+					.query(getElasticsearchSimilarityQuery(embedding, searchRequest.getFilterExpression()))
+					.size(searchRequest.getTopK())
+					.minScore(searchRequest.getSimilarityThreshold());
+			}));
+		}
+
+		MsearchResponse<Document> msearchResponse;
+		try {
+			msearchResponse = this.elasticsearchClient.msearch(msearchRequestBuilder.build(), Document.class);
+		}
+		catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+
+		List<List<Document>> results = new ArrayList<>(searchRequests.size());
+		for (int i = 0; i < searchRequests.size(); i++) {
+			MultiSearchResponseItem<Document> item = msearchResponse.responses().get(i);
+			if (item.isFailure()) {
+				throw new RuntimeException("Search failed: " + item.failure().error().reason());
+			}
+			double similarityThreshold = searchRequests.get(i).getSimilarityThreshold();
+			results.add(item.result()
+				.hits()
+				.hits()
+				.stream()
+				.map(this::toDocument)
+				// the knn search has no min score, filter as in knnSimilaritySearch
+				.filter(document -> this.searchMode != SearchMode.KNN
+						|| 1 - (float) document.getMetadata().get("distance") >= similarityThreshold)
+				.toList());
+		}
+		return results;
+	}
+
 	private Query getElasticsearchSimilarityQuery(List<Double> embedding, Filter.Expression filterExpression) {
 		return Query.of(queryBuilder -> queryBuilder.scriptScore(scriptScoreQueryBuilder -> scriptScoreQueryBuilder
 			.query(queryBuilder2 -> queryBuilder2.queryString(queryStringQuerybuilder -> queryStringQuerybuilder
@@ -146,6 +315,33 @@ public class ElasticsearchVectorStore implements VectorStore, InitializingBean {
 					.params("query_vector", JsonData.of(embedding))))));
 	}
 
+	private List<Document> knnSimilaritySearch(List<Double> embedding, int topK, double similarityThreshold,
+			Filter.Expression filterExpression) {
+		var searchRequest = new co.elastic.clients.elasticsearch.core.SearchRequest.Builder().index(this.index)
+			.knn(knnBuilder -> knnQuery(knnBuilder, embedding, topK, filterExpression))
+			.size(topK)
+			.build();
+		// the knn score for cosine similarity is already normalized to (1 + cosine) / 2
+		return similaritySearch(searchRequest).stream()
+			.filter(document -> 1 - (float) document.getMetadata().get("distance") >= similarityThreshold)
+			.toList();
+	}
+
+	private ObjectBuilder<KnnQuery> knnQuery(KnnQuery.Builder knnBuilder, List<Double> embedding, int topK,
+			Filter.Expression filterExpression) {
+		List<Float> queryVector = embedding.stream().map(Double::floatValue).toList();
+		knnBuilder.field("embedding")
+			.queryVector(queryVector)
+			.k(topK)
+			.numCandidates(Math.max(this.numCandidates, topK));
+		if (!Objects.isNull(filterExpression)) {
+			String queryString = getElasticsearchQueryString(filterExpression);
+			knnBuilder.filter(Query.of(queryBuilder -> queryBuilder
+				.queryString(queryStringQuerybuilder -> queryStringQuerybuilder.query(queryString))));
+		}
+		return knnBuilder;
+	}
+
 	private String getElasticsearchQueryString(Filter.Expression filterExpression) {
 		return Objects.isNull(filterExpression) ? "*"
 				: this.filterExpressionConverter.convertExpression(filterExpression);
@@ -202,13 +398,16 @@ public class ElasticsearchVectorStore implements VectorStore, InitializingBean {
 					      "properties": {
 					          "embedding": {
 					              "type": "dense_vector",
-					              "dims": 1536,
+					              "dims": %d,
 					              "index": true,
-					              "similarity": "cosine"
+					              "similarity": "cosine",
+					              "index_options": {
+					                  "type": "%s"
+					              }
 					          }
 					      }
 					  }
-					""");
+					""".formatted(this.embeddingDimensions, this.vectorIndexType.getValue()));
 		}
 	}
 
@@ -0,0 +1,231 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.vectorstore;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.HttpHost;
+import org.elasticsearch.client.RestClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingClient;
+import org.springframework.ai.vectorstore.ElasticsearchVectorStore.SearchMode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit Tests for the search requests built by {@link ElasticsearchVectorStore}, against
+ * a stub HTTP server.
+ */
+class ElasticsearchVectorStoreTests {
+
+	private static final float[] QUERY_EMBEDDING = { 0.1f, 0.2f, 0.3f };
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private final BlockingQueue<RecordedRequest> requests = new LinkedBlockingQueue<>();
+
+	private HttpServer server;
+
+	private RestClient restClient;
+
+	private volatile String responseBody;
+
+	private ElasticsearchVectorStore vectorStore;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		this.server.createContext("/", exchange -> {
+			String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+			this.requests.add(new RecordedRequest(exchange.getRequestURI().getPath(), body));
+			byte[] response = this.responseBody.getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.getResponseHeaders().add("X-Elastic-Product", "Elasticsearch");
+			exchange.sendResponseHeaders(200, response.length);
+			try (OutputStream outputStream = exchange.getResponseBody()) {
+				outputStream.write(response);
+			}
+		});
+		this.server.start();
+		this.restClient = RestClient.builder(new HttpHost("localhost", this.server.getAddress().getPort())).build();
+		this.vectorStore = new ElasticsearchVectorStore("documents", this.restClient, mock(EmbeddingClient.class));
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		this.restClient.close();
+		this.server.stop(0);
+	}
+
+	@Test
+	void scriptScoreIsTheDefaultSearchMode() throws Exception {
+		this.responseBody = searchResponse(0.9);
+
+		this.vectorStore.similaritySearch(request().withTopK(5).withSimilarityThreshold(0.5));
+
+		RecordedRequest recorded = takeRequest();
+		assertThat(recorded.path()).isEqualTo("/documents/_search");
+		JsonNode body = recorded.json();
+		assertThat(body.has("knn")).isFalse();
+		assertThat(body.at("/query/script_score/query/query_string/query").asText()).isEqualTo("*");
+		assertThat(body.at("/query/script_score/script/params/query_vector")).hasSize(3);
+		assertThat(body.get("size").asInt()).isEqualTo(5);
+		assertThat(body.get("min_score").asDouble()).isEqualTo(0.5);
+	}
+
+	@Test
+	void knnSearchPushesTheFilterDown() throws Exception {
+		this.vectorStore.withSearchMode(SearchMode.KNN).withNumCandidates(50);
+		this.responseBody = searchResponse(0.9);
+		SearchRequest request = request().withTopK(5).withFilterExpression("country == 'NL'");
+
+		this.vectorStore.similaritySearch(request);
+
+		RecordedRequest recorded = takeRequest();
+		assertThat(recorded.path()).isEqualTo("/documents/_search");
+		JsonNode body = recorded.json();
+		assertThat(body.has("query")).isFalse();
+		assertThat(body.has("min_score")).isFalse();
+		assertThat(body.at("/knn/field").asText()).isEqualTo("embedding");
+		assertThat(body.at("/knn/k").asInt()).isEqualTo(5);
+		assertThat(body.at("/knn/num_candidates").asInt()).isEqualTo(50);
+		assertThat(body.at("/knn/query_vector")).hasSize(3);
+		assertThat(body.at("/knn/query_vector/0").floatValue()).isEqualTo(0.1f);
+		assertThat(body.at("/knn/filter/query_string/query").asText())
+			.isEqualTo(new ElasticsearchAiSearchFilterExpressionConverter()
+				.convertExpression(request.getFilterExpression()));
+		assertThat(body.get("size").asInt()).isEqualTo(5);
+	}
+
+	@Test
+	void knnSearchHasNoFilterWithoutFilterExpression() throws Exception {
+		this.vectorStore.withSearchMode(SearchMode.KNN);
+		this.responseBody = searchResponse(0.9);
+
+		this.vectorStore.similaritySearch(request().withTopK(5));
+
+		assertThat(takeRequest().json().at("/knn").has("filter")).isFalse();
+	}
+
+	@Test
+	void knnSearchConsidersAtLeastTopKCandidates() throws Exception {
+		this.vectorStore.withSearchMode(SearchMode.KNN).withNumCandidates(50);
+		this.responseBody = searchResponse(0.9);
+
+		this.vectorStore.similaritySearch(request().withTopK(200));
+
+		JsonNode knn = takeRequest().json().get("knn");
+		assertThat(knn.get("k").asInt()).isEqualTo(200);
+		assertThat(knn.get("num_candidates").asInt()).isEqualTo(200);
+	}
+
+	@Test
+	void knnSearchAppliesTheSimilarityThreshold() {
+		this.vectorStore.withSearchMode(SearchMode.KNN);
+		this.responseBody = searchResponse(0.9, 0.4);
+
+		List<Document> documents = this.vectorStore.similaritySearch(request().withSimilarityThreshold(0.5));
+
+		assertThat(documents).extracting(Document::getContent).containsExactly("content 0");
+	}
+
+	@Test
+	void knnMultiSearchSendsOneKnnSearchPerRequest() throws Exception {
+		this.vectorStore.withSearchMode(SearchMode.KNN).withNumCandidates(50);
+		this.responseBody = """
+				{"took": 1, "responses": [%s, %s]}""".formatted(multiSearchItem(0.9), multiSearchItem(0.8, 0.3));
+
+		List<List<Document>> results = this.vectorStore.similaritySearch(
+				List.of(request().withTopK(3), request().withTopK(4).withSimilarityThreshold(0.5)));
+
+		RecordedRequest recorded = takeRequest();
+		assertThat(recorded.path()).isEqualTo("/documents/_msearch");
+		List<JsonNode> lines = recorded.body().lines().map(this::readTree).toList();
+		assertThat(lines).hasSize(4);
+		assertThat(lines.get(1).at("/knn/k").asInt()).isEqualTo(3);
+		assertThat(lines.get(1).at("/knn/num_candidates").asInt()).isEqualTo(50);
+		assertThat(lines.get(3).at("/knn/k").asInt()).isEqualTo(4);
+		assertThat(lines.get(3).get("size").asInt()).isEqualTo(4);
+		assertThat(results).hasSize(2);
+		assertThat(results.get(0)).hasSize(1);
+		assertThat(results.get(1)).extracting(Document::getContent).containsExactly("content 0");
+	}
+
+	private static SearchRequest request() {
+		return SearchRequest.query("query").withQueryEmbedding(QUERY_EMBEDDING);
+	}
+
+	private RecordedRequest takeRequest() throws InterruptedException {
+		RecordedRequest recorded = this.requests.poll(5, TimeUnit.SECONDS);
+		assertThat(recorded).isNotNull();
+		return recorded;
+	}
+
+	private JsonNode readTree(String json) {
+		try {
+			return this.objectMapper.readTree(json);
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private static String searchResponse(double... scores) {
+		StringBuilder hits = new StringBuilder();
+		for (int i = 0; i < scores.length; i++) {
+			if (i > 0) {
+				hits.append(',');
+			}
+			hits.append("""
+					{"_index": "documents", "_id": "%d", "_score": %s,
+						"_source": {"id": "%1$d", "content": "content %1$d", "metadata": {"index": %1$d}}}"""
+				.formatted(i, scores[i]));
+		}
+		return """
+				{"took": 1, "timed_out": false,
+					"_shards": {"total": 1, "successful": 1, "skipped": 0, "failed": 0},
+					"hits": {"total": {"value": %d, "relation": "eq"}, "max_score": null, "hits": [%s]}}"""
+			.formatted(scores.length, hits);
+	}
+
+	private static String multiSearchItem(double... scores) {
+		return "{\"status\": 200, " + searchResponse(scores).substring(1);
+	}
+
+	private record RecordedRequest(String path, String body) {
+
+		JsonNode json() throws IOException {
+			return new ObjectMapper().readTree(this.body);
+		}
+
+	}
+
+}
@@ -18,6 +18,7 @@ package org.springframework.ai.vectorstore;
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -34,12 +35,17 @@ import org.springframework.ai.document.Document;
 import org.springframework.ai.embedding.EmbeddingClient;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
 import org.springframework.util.Assert;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientException;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.util.annotation.NonNull;
 
 /**
@@ -48,7 +54,7 @@ import reactor.util.annotation.NonNull;
  *
  * @author Geet Rawat
  */
-public class GemFireVectorStore implements VectorStore {
+public class GemFireVectorStore implements VectorStore, ReactiveVectorStore {
 
 	public static final String QUERY = "/query";
 
@@ -58,6 +64,8 @@ public class GemFireVectorStore implements VectorStore {
 
 	private static final String EMBEDDINGS = "/embeddings";
 
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
 	private final WebClient client;
 
 	private final EmbeddingClient embeddingClient;
@@ -68,6 +76,10 @@ public class GemFireVectorStore implements VectorStore {
 
 	private final String documentField;
 
+	private final int uploadBatchSize;
+
+	private final int uploadConcurrency;
+
 	public static final class GemFireVectorStoreConfig {
 
 		private final WebClient client;
@@ -80,6 +92,10 @@ public class GemFireVectorStore implements VectorStore {
 
 		private final String documentField;
 
+		private final int uploadBatchSize;
+
+		private final int uploadConcurrency;
+
 		public static Builder builder() {
 			return new Builder();
 		}
@@ -89,10 +105,19 @@ public class GemFireVectorStore implements VectorStore {
 				.build(builder.sslEnabled ? "s" : "", builder.host, builder.port)
 				.toString();
 			this.index = builder.index;
-			this.client = WebClient.create(base);
+			// The JSON payloads are streamed by the codecs, sharing a single ObjectMapper.
+			this.client = WebClient.builder()
+				.baseUrl(base)
+				.codecs(configurer -> {
+					configurer.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(OBJECT_MAPPER));
+					configurer.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(OBJECT_MAPPER));
+				})
+				.build();
 			this.topKPerBucket = builder.topKPerBucket;
 			this.topK = builder.topK;
 			this.documentField = builder.documentField;
+			this.uploadBatchSize = builder.uploadBatchSize;
+			this.uploadConcurrency = builder.uploadConcurrency;
 		}
 
 		public static class Builder {
@@ -115,6 +140,10 @@ public class GemFireVectorStore implements VectorStore {
 
 			private String documentField = DEFAULT_DOCUMENT_FIELD;
 
+			private int uploadBatchSize = DEFAULT_UPLOAD_BATCH_SIZE;
+
+			private int uploadConcurrency = DEFAULT_UPLOAD_CONCURRENCY;
+
 			public Builder withHost(String host) {
 				Assert.hasText(host, "host must have a value");
 				this.host = host;
@@ -168,6 +197,18 @@ public class GemFireVectorStore implements VectorStore {
 				return this;
 			}
 
+			public Builder withUploadBatchSize(int uploadBatchSize) {
+				Assert.isTrue(uploadBatchSize > 0, "uploadBatchSize must be positive");
+				this.uploadBatchSize = uploadBatchSize;
+				return this;
+			}
+
+			public Builder withUploadConcurrency(int uploadConcurrency) {
+				Assert.isTrue(uploadConcurrency > 0, "uploadConcurrency must be positive");
+				this.uploadConcurrency = uploadConcurrency;
+				return this;
+			}
+
 			public GemFireVectorStoreConfig build() {
 				return new GemFireVectorStoreConfig(this);
 			}
@@ -186,6 +227,10 @@ public class GemFireVectorStore implements VectorStore {
 
 	private static final String DEFAULT_DOCUMENT_FIELD = "document";
 
+	private static final int DEFAULT_UPLOAD_BATCH_SIZE = 100;
+
+	private static final int DEFAULT_UPLOAD_CONCURRENCY = 4;
+
 	public String indexName;
 
 	public void setIndexName(String indexName) {
@@ -200,6 +245,8 @@ public class GemFireVectorStore implements VectorStore {
 		this.topKPerBucket = config.topKPerBucket;
 		this.topK = config.topK;
 		this.documentField = config.documentField;
+		this.uploadBatchSize = config.uploadBatchSize;
+		this.uploadConcurrency = config.uploadConcurrency;
 	}
 
 	private static final class CreateRequest {
@@ -415,65 +462,102 @@ public class GemFireVectorStore implements VectorStore {
 
 	@Override
 	public void add(List<Document> documents) {
-		UploadRequest upload = new UploadRequest(documents.stream().map(document -> {
-			// Compute and assign an embedding to the document.
-			document.setEmbedding(this.embeddingClient.embed(document));
-			List<Float> floatVector = document.getEmbedding().stream().map(Double::floatValue).toList();
-			return new UploadRequest.Embedding(document.getId(), floatVector, documentField, document.getContent(),
-					document.getMetadata());
-		}).toList());
+		addReactive(documents).block();
+	}
 
-		ObjectMapper objectMapper = new ObjectMapper();
-		String embeddingsJson = null;
-		try {
-			String embeddingString = objectMapper.writeValueAsString(upload);
-			embeddingsJson = embeddingString.substring("{\"embeddings\":".length());
-		}
-		catch (JsonProcessingException e) {
-			throw new RuntimeException(String.format("Embedding JSON parsing error: %s", e.getMessage()));
+	/**
+	 * Non-blocking variant of {@link #add(List)}. The documents are embedded and uploaded
+	 * in chunks of the configured upload batch size, with up to the configured upload
+	 * concurrency chunks in flight. Each chunk is serialised by the WebClient codecs
+	 * straight into the request body.
+	 * @param documents the documents to upload.
+	 * @return a {@link Mono} completing when all the chunks are uploaded.
+	 */
+	@Override
+	public Mono<Void> addReactive(List<Document> documents) {
+		List<List<Document>> chunks = new ArrayList<>();
+		for (int i = 0; i < documents.size(); i += uploadBatchSize) {
+			chunks.add(documents.subList(i, Math.min(i + uploadBatchSize, documents.size())));
+		}
+		return Flux.fromIterable(chunks)
+			.flatMap(chunk -> Mono.fromCallable(() -> toEmbeddings(chunk))
+				.subscribeOn(Schedulers.boundedElastic())
+				.flatMap(embeddings -> client.post()
+					.uri("/" + indexName + EMBEDDINGS)
+					.contentType(MediaType.APPLICATION_JSON)
+					.bodyValue(embeddings)
+					.retrieve()
+					.bodyToMono(Void.class)), uploadConcurrency)
+			.onErrorMap(WebClientException.class, this::handleHttpClientException)
+			.then();
+	}
+
+	private List<UploadRequest.Embedding> toEmbeddings(List<Document> documents) {
+		// Compute and assign the embeddings to the documents.
+		List<List<Double>> embeddings = this.embeddingClient.embedDocuments(documents);
+		List<UploadRequest.Embedding> uploadEmbeddings = new ArrayList<>(documents.size());
+		for (int i = 0; i < documents.size(); i++) {
+			Document document = documents.get(i);
+			document.setEmbedding(embeddings.get(i));
+			List<Float> floatVector = document.getEmbedding().stream().map(Double::floatValue).toList();
+			uploadEmbeddings.add(new UploadRequest.Embedding(document.getId(), floatVector, documentField,
+					document.getContent(), document.getMetadata()));
 		}
+		return uploadEmbeddings;
+	}
 
-		client.post()
+	@Override
+	public Optional<Boolean> delete(List<String> idList) {
+		return Optional.of(deleteReactive(idList).block());
+	}
+
+	/**
+	 * Non-blocking variant of {@link #delete(List)}.
+	 * @param idList list of document ids for which documents will be removed.
+	 * @return a {@link Mono} emitting whether the deletion succeeded.
+	 */
+	@Override
+	public Mono<Boolean> deleteReactive(List<String> idList) {
+		return client.method(HttpMethod.DELETE)
 			.uri("/" + indexName + EMBEDDINGS)
-			.contentType(MediaType.APPLICATION_JSON)
-			.bodyValue(embeddingsJson)
+			.body(BodyInserters.fromValue(idList))
 			.retrieve()
 			.bodyToMono(Void.class)
-			.onErrorMap(WebClientException.class, this::handleHttpClientException)
-			.block();
+			.thenReturn(true)
+			.onErrorResume(e -> {
+				logger.warn("Error removing embedding: " + e);
+				return Mono.just(false);
+			});
 	}
 
 	@Override
-	public Optional<Boolean> delete(List<String> idList) {
-		try {
-			client.method(HttpMethod.DELETE)
-				.uri("/" + indexName + EMBEDDINGS)
-				.body(BodyInserters.fromValue(idList))
-				.retrieve()
-				.bodyToMono(Void.class)
-				.block();
-		}
-		catch (Exception e) {
-			logger.warn("Error removing embedding: " + e);
-			return Optional.of(false);
-		}
-		return Optional.of(true);
+	public List<Document> similaritySearch(SearchRequest request) {
+		return similaritySearchReactive(request).collectList().block();
 	}
 
+	/**
+	 * Non-blocking variant of {@link #similaritySearch(SearchRequest)}. The query
+	 * embedding is computed on the bounded elastic scheduler.
+	 * @param request the search request.
+	 * @return a {@link Flux} of the matching documents.
+	 */
 	@Override
-	public List<Document> similaritySearch(SearchRequest request) {
+	public Flux<Document> similaritySearchReactive(SearchRequest request) {
 		if (request.hasFilterExpression()) {
-			throw new UnsupportedOperationException("Gemfire does not support metadata filter expressions yet.");
-		}
-		List<Double> vector = this.embeddingClient.embed(request.getQuery());
-		List<Float> floatVector = vector.stream().map(Double::floatValue).toList();
-
-		return client.post()
-			.uri("/" + indexName + QUERY)
-			.contentType(MediaType.APPLICATION_JSON)
-			.bodyValue(new QueryRequest(floatVector, request.getTopK(), topKPerBucket, true))
-			.retrieve()
-			.bodyToFlux(QueryResponse.class)
+			return Flux.error(
+					new UnsupportedOperationException("Gemfire does not support metadata filter expressions yet."));
+		}
+		return Mono.fromCallable(() -> QueryEmbeddings.embed(this.embeddingClient, request))
+			.subscribeOn(Schedulers.boundedElastic())
+			.flatMapMany(vector -> {
+				List<Float> floatVector = vector.stream().map(Double::floatValue).toList();
+				return client.post()
+					.uri("/" + indexName + QUERY)
+					.contentType(MediaType.APPLICATION_JSON)
+					.bodyValue(new QueryRequest(floatVector, request.getTopK(), topKPerBucket, true))
+					.retrieve()
+					.bodyToFlux(QueryResponse.class);
+			})
 			.filter(r -> r.score >= request.getSimilarityThreshold())
 			.map(r -> {
 				Map<String, Object> metadata = r.metadata;
@@ -481,15 +565,12 @@ public class GemFireVectorStore implements VectorStore {
 				String content = (String) metadata.remove(documentField);
 				return new Document(r.key, content, metadata);
 			})
-			.collectList()
-			.onErrorMap(WebClientException.class, this::handleHttpClientException)
-			.block();
+			.onErrorMap(WebClientException.class, this::handleHttpClientException);
 	}
 
 	public void createIndex(String indexName) throws JsonProcessingException {
 		CreateRequest createRequest = new CreateRequest(indexName);
-		ObjectMapper objectMapper = new ObjectMapper();
-		String index = objectMapper.writeValueAsString(createRequest);
+		String index = OBJECT_MAPPER.writeValueAsString(createRequest);
 		client.post()
 			.contentType(MediaType.APPLICATION_JSON)
 			.bodyValue(index)
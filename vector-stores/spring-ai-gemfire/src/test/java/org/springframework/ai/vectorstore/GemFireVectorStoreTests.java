@@ -0,0 +1,249 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.vectorstore;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingClient;
+import org.springframework.ai.vectorstore.GemFireVectorStore.GemFireVectorStoreConfig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit Tests for the chunked uploads and the reactive operations of
+ * {@link GemFireVectorStore}, against a stub HTTP server.
+ */
+class GemFireVectorStoreTests {
+
+	private static final String EMBEDDINGS_PATH = "/gemfire-vectordb/v1/indexes/test-index/embeddings";
+
+	private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private final ConcurrentLinkedQueue<RecordedRequest> requests = new ConcurrentLinkedQueue<>();
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+
+	private final AtomicInteger maxInFlight = new AtomicInteger();
+
+	private final ExecutorService serverExecutor = Executors.newCachedThreadPool();
+
+	private final EmbeddingClient embeddingClient = mock(EmbeddingClient.class);
+
+	private HttpServer server;
+
+	private volatile int responseStatus = 200;
+
+	private volatile String responseBody;
+
+	private volatile long responseDelayMillis;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		this.server.createContext("/", this::handle);
+		this.server.setExecutor(this.serverExecutor);
+		this.server.start();
+
+		when(this.embeddingClient.embed(any(String.class))).thenReturn(List.of(0.1, 0.2));
+		when(this.embeddingClient.embedDocuments(anyList())).thenAnswer(invocation -> {
+			List<Document> documents = invocation.getArgument(0);
+			return documents.stream().map(document -> List.of(0.1, 0.2)).toList();
+		});
+	}
+
+	@AfterEach
+	void tearDown() {
+		this.server.stop(0);
+		this.serverExecutor.shutdownNow();
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		int current = this.inFlight.incrementAndGet();
+		this.maxInFlight.accumulateAndGet(current, Math::max);
+		try {
+			String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+			this.requests.add(new RecordedRequest(exchange.getRequestMethod(), exchange.getRequestURI().getPath(),
+					this.objectMapper.readTree(body)));
+			if (this.responseDelayMillis > 0) {
+				Thread.sleep(this.responseDelayMillis);
+			}
+			if (this.responseBody == null) {
+				exchange.sendResponseHeaders(this.responseStatus, -1);
+				return;
+			}
+			byte[] response = this.responseBody.getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.sendResponseHeaders(this.responseStatus, response.length);
+			try (OutputStream outputStream = exchange.getResponseBody()) {
+				outputStream.write(response);
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+		finally {
+			this.inFlight.decrementAndGet();
+			exchange.close();
+		}
+	}
+
+	@Test
+	void addUploadsTheDocumentsInChunks() {
+		GemFireVectorStore vectorStore = vectorStore(2, 4);
+
+		vectorStore.add(documents(5));
+
+		assertThat(this.requests).hasSize(3)
+			.allSatisfy(request -> assertThat(request.path()).isEqualTo(EMBEDDINGS_PATH));
+		List<String> keys = new ArrayList<>();
+		for (RecordedRequest request : this.requests) {
+			assertThat(request.method()).isEqualTo("POST");
+			assertThat(request.body().size()).isBetween(1, 2);
+			request.body().forEach(embedding -> {
+				keys.add(embedding.get("key").asText());
+				assertThat(embedding.get("vector")).hasSize(2);
+				assertThat(embedding.at("/metadata/document").asText()).startsWith("content ");
+			});
+		}
+		assertThat(keys).containsExactlyInAnyOrder("0", "1", "2", "3", "4");
+		verify(this.embeddingClient, times(3)).embedDocuments(anyList());
+	}
+
+	@Test
+	void addBoundsTheUploadsInFlight() {
+		GemFireVectorStore vectorStore = vectorStore(1, 2);
+		this.responseDelayMillis = 100;
+
+		vectorStore.addReactive(documents(6)).block(TIMEOUT);
+
+		assertThat(this.requests).hasSize(6);
+		assertThat(this.maxInFlight).hasValue(2);
+	}
+
+	@Test
+	void addReportsBadRequests() {
+		GemFireVectorStore vectorStore = vectorStore(2, 4);
+		this.responseStatus = 400;
+
+		assertThatThrownBy(() -> vectorStore.add(documents(1))).hasMessageContaining("Bad Request");
+	}
+
+	@Test
+	void searchFiltersAndMapsTheResults() {
+		GemFireVectorStore vectorStore = vectorStore(2, 4);
+		this.responseBody = """
+				[{"key": "1", "score": 0.9, "metadata": {"document": "first", "year": 2024}},
+				 {"key": "2", "score": 0.4, "metadata": {"document": "second"}}]""";
+
+		List<Document> documents = vectorStore
+			.similaritySearchReactive(SearchRequest.query("query").withTopK(3).withSimilarityThreshold(0.5))
+			.collectList()
+			.block(TIMEOUT);
+
+		assertThat(documents).hasSize(1);
+		Document document = documents.get(0);
+		assertThat(document.getId()).isEqualTo("1");
+		assertThat(document.getContent()).isEqualTo("first");
+		assertThat(document.getMetadata()).containsEntry("year", 2024).doesNotContainKey("document");
+		assertThat((float) document.getMetadata().get("distance")).isCloseTo(0.1f, within(1e-6f));
+
+		RecordedRequest request = this.requests.poll();
+		assertThat(request.path()).isEqualTo("/gemfire-vectordb/v1/indexes/test-index/query");
+		assertThat(request.body().get("top-k").asInt()).isEqualTo(3);
+		assertThat(request.body().get("k-per-bucket").asInt()).isEqualTo(10);
+		assertThat(request.body().get("include-metadata").asBoolean()).isTrue();
+		assertThat(request.body().get("vector")).hasSize(2);
+	}
+
+	@Test
+	void searchRejectsFilterExpressions() {
+		GemFireVectorStore vectorStore = vectorStore(2, 4);
+
+		assertThatThrownBy(() -> vectorStore
+			.similaritySearchReactive(SearchRequest.query("query").withFilterExpression("year == 2024"))
+			.blockLast(TIMEOUT)).isInstanceOf(UnsupportedOperationException.class);
+		assertThat(this.requests).isEmpty();
+	}
+
+	@Test
+	void deleteReportsFailures() {
+		GemFireVectorStore vectorStore = vectorStore(2, 4);
+
+		assertThat(vectorStore.deleteReactive(List.of("1", "2")).block(TIMEOUT)).isTrue();
+		RecordedRequest request = this.requests.poll();
+		assertThat(request.method()).isEqualTo("DELETE");
+		assertThat(request.path()).isEqualTo(EMBEDDINGS_PATH);
+		assertThat(request.body()).hasSize(2);
+
+		this.responseStatus = 500;
+		assertThat(vectorStore.deleteReactive(List.of("1")).block(TIMEOUT)).isFalse();
+	}
+
+	private GemFireVectorStore vectorStore(int uploadBatchSize, int uploadConcurrency) {
+		GemFireVectorStoreConfig config = GemFireVectorStoreConfig.builder()
+			.withHost("localhost")
+			.withPort(this.server.getAddress().getPort())
+			.withIndex("test-index")
+			.withUploadBatchSize(uploadBatchSize)
+			.withUploadConcurrency(uploadConcurrency)
+			.build();
+		GemFireVectorStore vectorStore = new GemFireVectorStore(config, this.embeddingClient);
+		vectorStore.setIndexName("test-index");
+		return vectorStore;
+	}
+
+	private static List<Document> documents(int count) {
+		List<Document> documents = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			documents.add(new Document(String.valueOf(i), "content " + i, Map.of("index", i)));
+		}
+		return documents;
+	}
+
+	private record RecordedRequest(String method, String path, JsonNode body) {
+	}
+
+}
@@ -20,7 +20,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.ai.document.Document;
 import org.springframework.ai.embedding.EmbeddingClient;
+import org.springframework.ai.vectorstore.HanaVectorRepository.VectorRow;
+import org.springframework.ai.vectorstore.filter.FilterExpressionConverter;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -68,6 +71,8 @@ public class HanaCloudVectorStore implements VectorStore {
 
 	private final HanaCloudVectorStoreConfig config;
 
+	private final FilterExpressionConverter filterExpressionConverter = new HanaFilterExpressionConverter();
+
 	public HanaCloudVectorStore(HanaVectorRepository<? extends HanaVectorEntity> repository,
 			EmbeddingClient embeddingClient, HanaCloudVectorStoreConfig config) {
 		this.repository = repository;
@@ -77,15 +82,21 @@ public class HanaCloudVectorStore implements VectorStore {
 
 	@Override
 	public void add(List<Document> documents) {
-		int count = 1;
-		for (Document document : documents) {
-			logger.info("[{}/{}] Calling EmbeddingClient for document id = {}", count++, documents.size(),
-					document.getId());
-			String content = document.getContent().replaceAll("\\s+", " ");
-			String embedding = getEmbedding(document);
-			repository.save(config.getTableName(), document.getId(), embedding, content);
+		int batchSize = config.getBatchSize();
+		for (int i = 0; i < documents.size(); i += batchSize) {
+			List<Document> batch = documents.subList(i, Math.min(i + batchSize, documents.size()));
+			logger.info("[{}/{}] Calling EmbeddingClient for {} documents", i + batch.size(), documents.size(),
+					batch.size());
+			List<List<Double>> embeddings = this.embeddingClient.embedDocuments(batch);
+			List<VectorRow> rows = new ArrayList<>(batch.size());
+			for (int j = 0; j < batch.size(); j++) {
+				Document document = batch.get(j);
+				String content = document.getContent().replaceAll("\\s+", " ");
+				rows.add(new VectorRow(document.getId(), toFloatArray(embeddings.get(j)), content));
+			}
+			repository.saveAll(config.getTableName(), rows);
 		}
-		logger.info("Embeddings saved in HanaCloudVectorStore for {} documents", count - 1);
+		logger.info("Embeddings saved in HanaCloudVectorStore for {} documents", documents.size());
 	}
 
 	@Override
@@ -108,14 +119,12 @@ public class HanaCloudVectorStore implements VectorStore {
 
 	@Override
 	public List<Document> similaritySearch(SearchRequest request) {
-		if (request.hasFilterExpression()) {
-			throw new UnsupportedOperationException(
-					"SAPHanaVectorEngine does not support metadata filter expressions yet.");
-		}
+		String filterCondition = request.hasFilterExpression()
+				? this.filterExpressionConverter.convertExpression(request.getFilterExpression()) : "";
 
-		String queryEmbedding = getEmbedding(request);
+		float[] queryEmbedding = toFloatArray(QueryEmbeddings.embed(this.embeddingClient, request));
 		List<? extends HanaVectorEntity> searchResult = repository.cosineSimilaritySearch(config.getTableName(),
-				request.getTopK(), queryEmbedding);
+				request.getTopK(), queryEmbedding, filterCondition);
 		logger.info("Hana cosine-similarity for query={}, with topK={} returned {} results", request.getQuery(),
 				request.getTopK(), searchResult.size());
 
@@ -129,17 +138,12 @@ public class HanaCloudVectorStore implements VectorStore {
 		}).collect(Collectors.toList());
 	}
 
-	private String getEmbedding(SearchRequest searchRequest) {
-		return "[" + this.embeddingClient.embed(searchRequest.getQuery())
-			.stream()
-			.map(String::valueOf)
-			.collect(Collectors.joining(", ")) + "]";
-	}
-
-	private String getEmbedding(Document document) {
-		return "["
-				+ this.embeddingClient.embed(document).stream().map(String::valueOf).collect(Collectors.joining(", "))
-				+ "]";
+	private static float[] toFloatArray(List<Double> embedding) {
+		float[] floats = new float[embedding.size()];
+		for (int i = 0; i < embedding.size(); i++) {
+			floats[i] = embedding.get(i).floatValue();
+		}
+		return floats;
 	}
 
 }
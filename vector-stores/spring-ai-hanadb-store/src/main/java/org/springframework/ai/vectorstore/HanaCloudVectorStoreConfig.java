@@ -15,16 +15,22 @@
  */
 package org.springframework.ai.vectorstore;
 
+import org.springframework.util.Assert;
+
 /**
  * @author Rahul Mittal
  * @since 1.0.0
  */
 public class HanaCloudVectorStoreConfig {
 
+	public static final int DEFAULT_BATCH_SIZE = 100;
+
 	private String tableName;
 
 	private int topK;
 
+	private int batchSize;
+
 	private HanaCloudVectorStoreConfig() {
 	}
 
@@ -40,12 +46,18 @@ public class HanaCloudVectorStoreConfig {
 		return topK;
 	}
 
+	public int getBatchSize() {
+		return batchSize;
+	}
+
 	public static class HanaCloudVectorStoreConfigBuilder {
 
 		private String tableName;
 
 		private int topK;
 
+		private int batchSize = DEFAULT_BATCH_SIZE;
+
 		public HanaCloudVectorStoreConfigBuilder tableName(String tableName) {
 			this.tableName = tableName;
 			return this;
@@ -56,10 +68,20 @@ public class HanaCloudVectorStoreConfig {
 			return this;
 		}
 
+		/**
+		 * Number of documents embedded and inserted per batch.
+		 */
+		public HanaCloudVectorStoreConfigBuilder batchSize(int batchSize) {
+			Assert.isTrue(batchSize > 0, "Batch size must be positive");
+			this.batchSize = batchSize;
+			return this;
+		}
+
 		public HanaCloudVectorStoreConfig build() {
 			HanaCloudVectorStoreConfig config = new HanaCloudVectorStoreConfig();
 			config.tableName = tableName;
 			config.topK = topK;
+			config.batchSize = batchSize;
 			return config;
 		}
 
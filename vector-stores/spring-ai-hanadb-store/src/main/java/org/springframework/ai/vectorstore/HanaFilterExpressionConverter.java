@@ -0,0 +1,113 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.vectorstore;
+
+import java.util.regex.Pattern;
+
+import org.springframework.ai.vectorstore.filter.Filter;
+import org.springframework.ai.vectorstore.filter.Filter.Expression;
+import org.springframework.ai.vectorstore.filter.Filter.Group;
+import org.springframework.ai.vectorstore.filter.Filter.Key;
+import org.springframework.ai.vectorstore.filter.converter.AbstractFilterExpressionConverter;
+
+/**
+ * Converts {@link Expression} into a SAP HANA SQL condition. The filter keys are mapped
+ * to the columns of the vector table: a key is either a plain identifier, such as
+ * {@code country}, or a quoted identifier, such as {@code "country code"}. Other keys are
+ * rejected, since the condition is part of the SQL statement. String values are written
+ * as SQL string literals, numbers and booleans as is.
+ *
+ * @since 1.0.0
+ */
+public class HanaFilterExpressionConverter extends AbstractFilterExpressionConverter {
+
+	private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_][A-Za-z0-9_#$]*");
+
+	@Override
+	protected void doExpression(Expression expression, StringBuilder context) {
+		this.convertOperand(expression.left(), context);
+		context.append(getOperationSymbol(expression));
+		this.convertOperand(expression.right(), context);
+	}
+
+	private String getOperationSymbol(Expression exp) {
+		return switch (exp.type()) {
+			case AND -> " AND ";
+			case OR -> " OR ";
+			case EQ -> " = ";
+			case NE -> " != ";
+			case LT -> " < ";
+			case LTE -> " <= ";
+			case GT -> " > ";
+			case GTE -> " >= ";
+			case IN -> " IN ";
+			case NIN -> " NOT IN ";
+			default -> throw new RuntimeException("Not supported expression type: " + exp.type());
+		};
+	}
+
+	@Override
+	protected void doKey(Key key, StringBuilder context) {
+		String identifier = key.key().trim();
+		if (identifier.length() > 2 && hasOuterQuotes(identifier)) {
+			String name = removeOuterQuotes(identifier);
+			context.append("\"").append(name.replace("\"", "\"\"")).append("\"");
+		}
+		else if (IDENTIFIER.matcher(identifier).matches()) {
+			context.append(identifier);
+		}
+		else {
+			throw new IllegalArgumentException("Filter key " + key.key()
+					+ " is not a column name. Quote the column names that are not plain identifiers.");
+		}
+	}
+
+	@Override
+	protected void doSingleValue(Object value, StringBuilder context) {
+		if (value instanceof Number || value instanceof Boolean) {
+			context.append(value);
+		}
+		else {
+			context.append("'").append(String.valueOf(value).replace("'", "''")).append("'");
+		}
+	}
+
+	@Override
+	protected void doStartValueRange(Filter.Value listValue, StringBuilder context) {
+		context.append("(");
+	}
+
+	@Override
+	protected void doEndValueRange(Filter.Value listValue, StringBuilder context) {
+		context.append(")");
+	}
+
+	@Override
+	protected void doAddValueRangeSpitter(Filter.Value listValue, StringBuilder context) {
+		context.append(", ");
+	}
+
+	@Override
+	protected void doStartGroup(Group group, StringBuilder context) {
+		context.append("(");
+	}
+
+	@Override
+	protected void doEndGroup(Group group, StringBuilder context) {
+		context.append(")");
+	}
+
+}
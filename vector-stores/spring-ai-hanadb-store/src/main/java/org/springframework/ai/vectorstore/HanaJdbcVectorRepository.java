@@ -0,0 +1,117 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.vectorstore;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link HanaVectorRepository} implementation based on plain JDBC. The vectors are bound
+ * as binary {@code REAL_VECTOR} parameters ({@code float[]}) rather than formatted as
+ * text, and {@link #saveAll(String, List)} inserts the rows with JDBC batch statements.
+ * The table is expected to have the {@code _ID}, {@code EMBEDDING} and {@code CONTENT}
+ * columns.
+ *
+ * @param <T> the entity type the search results are mapped to.
+ * @since 1.0.0
+ */
+public class HanaJdbcVectorRepository<T extends HanaVectorEntity> implements HanaVectorRepository<T> {
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final RowMapper<T> rowMapper;
+
+	private final int batchSize;
+
+	public HanaJdbcVectorRepository(JdbcTemplate jdbcTemplate, RowMapper<T> rowMapper) {
+		this(jdbcTemplate, rowMapper, HanaCloudVectorStoreConfig.DEFAULT_BATCH_SIZE);
+	}
+
+	public HanaJdbcVectorRepository(JdbcTemplate jdbcTemplate, RowMapper<T> rowMapper, int batchSize) {
+		Assert.notNull(jdbcTemplate, "JdbcTemplate must not be null");
+		Assert.notNull(rowMapper, "RowMapper must not be null");
+		Assert.isTrue(batchSize > 0, "Batch size must be positive");
+		this.jdbcTemplate = jdbcTemplate;
+		this.rowMapper = rowMapper;
+		this.batchSize = batchSize;
+	}
+
+	@Override
+	public void save(String tableName, String id, String embedding, String content) {
+		String sql = String.format("""
+				INSERT INTO %s (_ID, EMBEDDING, CONTENT)
+				VALUES(?, TO_REAL_VECTOR(?), ?)
+				""", tableName);
+		this.jdbcTemplate.update(sql, id, embedding, content);
+	}
+
+	@Override
+	public void saveAll(String tableName, List<VectorRow> rows) {
+		String sql = String.format("""
+				INSERT INTO %s (_ID, EMBEDDING, CONTENT)
+				VALUES(?, ?, ?)
+				""", tableName);
+		this.jdbcTemplate.batchUpdate(sql, rows, this.batchSize, (ps, row) -> {
+			ps.setString(1, row.id());
+			ps.setObject(2, row.embedding());
+			ps.setString(3, row.content());
+		});
+	}
+
+	@Override
+	public int deleteEmbeddingsById(String tableName, List<String> idList) {
+		if (idList.isEmpty()) {
+			return 0;
+		}
+		String sql = String.format("""
+				DELETE FROM %s WHERE _ID IN (%s)
+				""", tableName, String.join(", ", Collections.nCopies(idList.size(), "?")));
+		return this.jdbcTemplate.update(sql, idList.toArray());
+	}
+
+	@Override
+	public int deleteAllEmbeddings(String tableName) {
+		return this.jdbcTemplate.update(String.format("""
+				DELETE FROM %s
+				""", tableName));
+	}
+
+	@Override
+	public List<T> cosineSimilaritySearch(String tableName, int topK, String queryEmbedding) {
+		String sql = String.format("""
+				SELECT TOP %d * FROM %s
+				ORDER BY COSINE_SIMILARITY(EMBEDDING, TO_REAL_VECTOR(?)) DESC
+				""", topK, tableName);
+		return this.jdbcTemplate.query(sql, this.rowMapper, queryEmbedding);
+	}
+
+	@Override
+	public List<T> cosineSimilaritySearch(String tableName, int topK, float[] queryEmbedding,
+			String filterCondition) {
+		String where = StringUtils.hasText(filterCondition) ? "WHERE " + filterCondition : "";
+		String sql = String.format("""
+				SELECT TOP %d * FROM %s %s
+				ORDER BY COSINE_SIMILARITY(EMBEDDING, ?) DESC
+				""", topK, tableName, where);
+		return this.jdbcTemplate.query(sql, this.rowMapper, new Object[] { queryEmbedding });
+	}
+
+}
@@ -17,6 +17,8 @@ package org.springframework.ai.vectorstore;
 
 import java.util.List;
 
+import org.springframework.util.StringUtils;
+
 /**
  * @author Rahul Mittal
  * @since 1.0.0
@@ -31,4 +33,60 @@ public interface HanaVectorRepository<T extends HanaVectorEntity> {
 
 	List<T> cosineSimilaritySearch(String tableName, int topK, String queryEmbedding);
 
+	/**
+	 * Saves a batch of rows. The default implementation falls back to one
+	 * {@link #save(String, String, String, String)} call per row, with the vector
+	 * formatted as text. Override to insert the batch with a single JDBC batch statement
+	 * binding the vectors as {@code REAL_VECTOR} parameters.
+	 * @param tableName the table to insert into.
+	 * @param rows the rows to insert.
+	 */
+	default void saveAll(String tableName, List<VectorRow> rows) {
+		for (VectorRow row : rows) {
+			save(tableName, row.id(), toVectorString(row.embedding()), row.content());
+		}
+	}
+
+	/**
+	 * Cosine similarity search with a binary query vector and an optional SQL filter
+	 * condition. The default implementation falls back to
+	 * {@link #cosineSimilaritySearch(String, int, String)} and does not support filters.
+	 * @param tableName the table to search.
+	 * @param topK the number of results to return.
+	 * @param queryEmbedding the query vector.
+	 * @param filterCondition SQL condition restricting the searched rows, as created by
+	 * {@link HanaFilterExpressionConverter}. It is part of the SQL statement and must not
+	 * contain untrusted text. Can be empty.
+	 * @return the topK most similar rows.
+	 */
+	default List<T> cosineSimilaritySearch(String tableName, int topK, float[] queryEmbedding,
+			String filterCondition) {
+		if (StringUtils.hasText(filterCondition)) {
+			throw new UnsupportedOperationException(
+					"This HanaVectorRepository does not support metadata filter expressions.");
+		}
+		return cosineSimilaritySearch(tableName, topK, toVectorString(queryEmbedding));
+	}
+
+	private static String toVectorString(float[] embedding) {
+		StringBuilder vector = new StringBuilder("[");
+		for (int i = 0; i < embedding.length; i++) {
+			if (i > 0) {
+				vector.append(", ");
+			}
+			vector.append(embedding[i]);
+		}
+		return vector.append("]").toString();
+	}
+
+	/**
+	 * A row of the vector table.
+	 *
+	 * @param id the document id.
+	 * @param embedding the document embedding.
+	 * @param content the document content.
+	 */
+	record VectorRow(String id, float[] embedding, String content) {
+	}
+
 }
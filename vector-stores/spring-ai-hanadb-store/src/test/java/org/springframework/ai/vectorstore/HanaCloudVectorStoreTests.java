@@ -0,0 +1,119 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.vectorstore;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingClient;
+import org.springframework.ai.vectorstore.HanaVectorRepository.VectorRow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit Tests for the batched inserts of {@link HanaCloudVectorStore}.
+ */
+class HanaCloudVectorStoreTests {
+
+	@SuppressWarnings("unchecked")
+	private final HanaVectorRepository<HanaVectorEntity> repository = mock(HanaVectorRepository.class);
+
+	private final EmbeddingClient embeddingClient = mock(EmbeddingClient.class);
+
+	@BeforeEach
+	void setUp() {
+		when(this.embeddingClient.embedDocuments(anyList())).thenAnswer(invocation -> {
+			List<Document> documents = invocation.getArgument(0);
+			return documents.stream().map(document -> List.of(0.1, 0.2)).toList();
+		});
+	}
+
+	@Test
+	void addEmbedsAndInsertsTheDocumentsInBatches() {
+		HanaCloudVectorStore vectorStore = vectorStore(2);
+
+		vectorStore.add(documents(5));
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<VectorRow>> rows = ArgumentCaptor.forClass(List.class);
+		verify(this.repository, times(3)).saveAll(eq("CRICKET_WORLD_CUP"), rows.capture());
+		assertThat(rows.getAllValues()).extracting(List::size).containsExactly(2, 2, 1);
+		assertThat(rows.getAllValues()).flatExtracting(batch -> batch.stream().map(VectorRow::id).toList())
+			.containsExactly("0", "1", "2", "3", "4");
+		assertThat(rows.getAllValues()).flatExtracting(batch -> batch)
+			.allSatisfy(row -> assertThat(row.embedding()).containsExactly(0.1f, 0.2f));
+		verify(this.embeddingClient, times(3)).embedDocuments(anyList());
+	}
+
+	@Test
+	void addCollapsesTheWhitespaceOfTheContent() {
+		HanaCloudVectorStore vectorStore = vectorStore(10);
+
+		vectorStore.add(List.of(new Document("1", "first\n\n  line", Map.of())));
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<VectorRow>> rows = ArgumentCaptor.forClass(List.class);
+		verify(this.repository).saveAll(eq("CRICKET_WORLD_CUP"), rows.capture());
+		assertThat(rows.getValue()).extracting(VectorRow::content).containsExactly("first line");
+	}
+
+	@Test
+	void addWithoutDocumentsDoesNotInsert() {
+		vectorStore(2).add(List.of());
+
+		verify(this.repository, never()).saveAll(eq("CRICKET_WORLD_CUP"), anyList());
+	}
+
+	@Test
+	void batchSizeMustBePositive() {
+		assertThatThrownBy(() -> HanaCloudVectorStoreConfig.builder().batchSize(0))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> HanaCloudVectorStoreConfig.builder().batchSize(-1))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private HanaCloudVectorStore vectorStore(int batchSize) {
+		HanaCloudVectorStoreConfig config = HanaCloudVectorStoreConfig.builder()
+			.tableName("CRICKET_WORLD_CUP")
+			.topK(5)
+			.batchSize(batchSize)
+			.build();
+		return new HanaCloudVectorStore(this.repository, this.embeddingClient, config);
+	}
+
+	private static List<Document> documents(int count) {
+		List<Document> documents = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			documents.add(new Document(String.valueOf(i), "content " + i, Map.of()));
+		}
+		return documents;
+	}
+
+}
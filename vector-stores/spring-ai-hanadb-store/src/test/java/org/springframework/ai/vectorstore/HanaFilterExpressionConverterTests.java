@@ -0,0 +1,117 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.vectorstore;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ai.vectorstore.filter.Filter.Expression;
+import org.springframework.ai.vectorstore.filter.Filter.Group;
+import org.springframework.ai.vectorstore.filter.Filter.Key;
+import org.springframework.ai.vectorstore.filter.Filter.Value;
+import org.springframework.ai.vectorstore.filter.FilterExpressionConverter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.ai.vectorstore.filter.Filter.ExpressionType.AND;
+import static org.springframework.ai.vectorstore.filter.Filter.ExpressionType.EQ;
+import static org.springframework.ai.vectorstore.filter.Filter.ExpressionType.GTE;
+import static org.springframework.ai.vectorstore.filter.Filter.ExpressionType.IN;
+import static org.springframework.ai.vectorstore.filter.Filter.ExpressionType.NE;
+import static org.springframework.ai.vectorstore.filter.Filter.ExpressionType.NIN;
+import static org.springframework.ai.vectorstore.filter.Filter.ExpressionType.OR;
+
+public class HanaFilterExpressionConverterTests {
+
+	FilterExpressionConverter converter = new HanaFilterExpressionConverter();
+
+	@Test
+	public void testEQ() {
+		// country == "BG"
+		String vectorExpr = converter.convertExpression(new Expression(EQ, new Key("country"), new Value("BG")));
+		assertThat(vectorExpr).isEqualTo("country = 'BG'");
+	}
+
+	@Test
+	public void tesEqAndGte() {
+		// genre == "drama" AND year >= 2020
+		String vectorExpr = converter
+			.convertExpression(new Expression(AND, new Expression(EQ, new Key("genre"), new Value("drama")),
+					new Expression(GTE, new Key("year"), new Value(2020))));
+		assertThat(vectorExpr).isEqualTo("genre = 'drama' AND year >= 2020");
+	}
+
+	@Test
+	public void tesIn() {
+		// genre in ["comedy", "documentary", "drama"]
+		String vectorExpr = converter.convertExpression(
+				new Expression(IN, new Key("genre"), new Value(List.of("comedy", "documentary", "drama"))));
+		assertThat(vectorExpr).isEqualTo("genre IN ('comedy', 'documentary', 'drama')");
+	}
+
+	@Test
+	public void testNe() {
+		// year >= 2020 OR country == "BG" AND city != "Sofia"
+		String vectorExpr = converter
+			.convertExpression(new Expression(OR, new Expression(GTE, new Key("year"), new Value(2020)),
+					new Expression(AND, new Expression(EQ, new Key("country"), new Value("BG")),
+							new Expression(NE, new Key("city"), new Value("Sofia")))));
+		assertThat(vectorExpr).isEqualTo("year >= 2020 OR country = 'BG' AND city != 'Sofia'");
+	}
+
+	@Test
+	public void testGroup() {
+		// (year >= 2020 OR country == "BG") AND city NIN ["Sofia", "Plovdiv"]
+		String vectorExpr = converter.convertExpression(new Expression(AND,
+				new Group(new Expression(OR, new Expression(GTE, new Key("year"), new Value(2020)),
+						new Expression(EQ, new Key("country"), new Value("BG")))),
+				new Expression(NIN, new Key("city"), new Value(List.of("Sofia", "Plovdiv")))));
+		assertThat(vectorExpr).isEqualTo("(year >= 2020 OR country = 'BG') AND city NOT IN ('Sofia', 'Plovdiv')");
+	}
+
+	@Test
+	public void testQuotedValuesAndIdentifiers() {
+		String vectorExpr = converter
+			.convertExpression(new Expression(EQ, new Key("\"country code\""), new Value("O'Neil")));
+		assertThat(vectorExpr).isEqualTo("\"country code\" = 'O''Neil'");
+	}
+
+	@Test
+	public void testQuotesInQuotedIdentifiersAreEscaped() {
+		String vectorExpr = converter
+			.convertExpression(new Expression(EQ, new Key("\"x\" = 1 OR \"y\""), new Value("BG")));
+		assertThat(vectorExpr).isEqualTo("\"x\"\" = 1 OR \"\"y\" = 'BG'");
+	}
+
+	@Test
+	public void testKeysThatAreNotIdentifiersAreRejected() {
+		for (String key : List.of("1 = 1 OR country", "country; DROP TABLE CRICKET_WORLD_CUP", "country--", "\"\"",
+				"")) {
+			assertThatThrownBy(() -> converter.convertExpression(new Expression(EQ, new Key(key), new Value("BG"))))
+				.isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+
+	@Test
+	public void testOnlyNumbersAndBooleansAreWrittenAsIs() {
+		String vectorExpr = converter.convertExpression(new Expression(AND,
+				new Expression(EQ, new Key("active"), new Value(true)),
+				new Expression(EQ, new Key("title"), new Value(new StringBuilder("x' OR 'a' = 'a")))));
+		assertThat(vectorExpr).isEqualTo("active = true AND title = 'x'' OR ''a'' = ''a'");
+	}
+
+}
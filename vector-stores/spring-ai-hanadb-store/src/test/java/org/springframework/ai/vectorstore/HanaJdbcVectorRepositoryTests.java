@@ -0,0 +1,98 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.vectorstore;
+
+import java.sql.PreparedStatement;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.springframework.ai.vectorstore.HanaVectorRepository.VectorRow;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit Tests for the JDBC batch inserts of {@link HanaJdbcVectorRepository}.
+ */
+class HanaJdbcVectorRepositoryTests {
+
+	private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+	@SuppressWarnings("unchecked")
+	private final RowMapper<HanaVectorEntity> rowMapper = mock(RowMapper.class);
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void saveAllBindsTheVectorsAsRealVectorParameters() throws Exception {
+		HanaJdbcVectorRepository<HanaVectorEntity> repository = new HanaJdbcVectorRepository<>(this.jdbcTemplate,
+				this.rowMapper, 50);
+		List<VectorRow> rows = List.of(new VectorRow("1", new float[] { 0.1f, 0.2f }, "first"),
+				new VectorRow("2", new float[] { 0.3f, 0.4f }, "second"));
+
+		repository.saveAll("CRICKET_WORLD_CUP", rows);
+
+		ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+		ArgumentCaptor<Collection<VectorRow>> batch = ArgumentCaptor.forClass(Collection.class);
+		ArgumentCaptor<ParameterizedPreparedStatementSetter<VectorRow>> setter = ArgumentCaptor
+			.forClass(ParameterizedPreparedStatementSetter.class);
+		verify(this.jdbcTemplate).batchUpdate(sql.capture(), batch.capture(), eq(50), setter.capture());
+		assertThat(sql.getValue()).contains("INSERT INTO CRICKET_WORLD_CUP (_ID, EMBEDDING, CONTENT)")
+			.contains("VALUES(?, ?, ?)")
+			.doesNotContain("TO_REAL_VECTOR");
+		assertThat(batch.getValue()).containsExactlyElementsOf(rows);
+
+		for (VectorRow row : rows) {
+			PreparedStatement ps = mock(PreparedStatement.class);
+			setter.getValue().setValues(ps, row);
+			verify(ps).setString(1, row.id());
+			verify(ps).setObject(2, row.embedding());
+			verify(ps).setString(3, row.content());
+		}
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void saveAllUsesTheDefaultBatchSizeOfTheStore() {
+		HanaJdbcVectorRepository<HanaVectorEntity> repository = new HanaJdbcVectorRepository<>(this.jdbcTemplate,
+				this.rowMapper);
+
+		repository.saveAll("CRICKET_WORLD_CUP", List.of(new VectorRow("1", new float[] { 0.1f }, "first")));
+
+		ArgumentCaptor<Integer> batchSize = ArgumentCaptor.forClass(Integer.class);
+		verify(this.jdbcTemplate).batchUpdate(eq("""
+				INSERT INTO CRICKET_WORLD_CUP (_ID, EMBEDDING, CONTENT)
+				VALUES(?, ?, ?)
+				"""), any(Collection.class), batchSize.capture(), any(ParameterizedPreparedStatementSetter.class));
+		assertThat(batchSize.getValue()).isEqualTo(HanaCloudVectorStoreConfig.DEFAULT_BATCH_SIZE);
+	}
+
+	@Test
+	void batchSizeMustBePositive() {
+		assertThatThrownBy(() -> new HanaJdbcVectorRepository<>(this.jdbcTemplate, this.rowMapper, 0))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+}
@@ -15,13 +15,27 @@
  */
 package org.springframework.ai.vectorstore;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import com.alibaba.fastjson.JSONObject;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import io.milvus.client.MilvusServiceClient;
 import io.milvus.common.clientenum.ConsistencyLevelEnum;
 import io.milvus.grpc.DataType;
@@ -50,11 +64,15 @@ import io.milvus.response.QueryResultsWrapper.RowRecord;
 import io.milvus.response.SearchResultsWrapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import org.springframework.ai.document.Document;
 import org.springframework.ai.embedding.EmbeddingClient;
 import org.springframework.ai.vectorstore.filter.FilterExpressionConverter;
 import org.springframework.ai.vectorstore.filter.converter.MilvusFilterExpressionConverter;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
@@ -62,7 +80,7 @@ import org.springframework.util.StringUtils;
 /**
  * @author Christian Tzolov
  */
-public class MilvusVectorStore implements VectorStore, InitializingBean {
+public class MilvusVectorStore implements VectorStore, ReactiveVectorStore, InitializingBean, DisposableBean {
 
 	private static final Logger logger = LoggerFactory.getLogger(MilvusVectorStore.class);
 
@@ -74,6 +92,14 @@ public class MilvusVectorStore implements VectorStore, InitializingBean {
 
 	public static final String DEFAULT_COLLECTION_NAME = "vector_store";
 
+	public static final int DEFAULT_INSERT_BATCH_SIZE = 1000;
+
+	public static final int DEFAULT_MAX_CONCURRENT_INSERTS = 4;
+
+	public static final long DEFAULT_FLUSH_ROW_THRESHOLD = 10_000;
+
+	public static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofSeconds(10);
+
 	public static final String DOC_ID_FIELD_NAME = "doc_id";
 
 	public static final String CONTENT_FIELD_NAME = "content";
@@ -96,6 +122,42 @@ public class MilvusVectorStore implements VectorStore, InitializingBean {
 
 	private final MilvusVectorStoreConfig config;
 
+	/**
+	 * Number of inserted rows that have not been explicitly flushed yet.
+	 */
+	private final AtomicLong unflushedRows = new AtomicLong();
+
+	/**
+	 * Runs the periodic flushes and the flushes triggered by asynchronous inserts, so
+	 * that the blocking flush calls do not run on the gRPC threads.
+	 */
+	private final ScheduledExecutorService flushScheduler;
+
+	/**
+	 * Defines when the store explicitly flushes (seals) the inserted segments.
+	 */
+	public enum FlushPolicy {
+
+		/**
+		 * Flush after every insert call. Produces many small segments for frequent small
+		 * inserts.
+		 */
+		EVERY_INSERT,
+		/**
+		 * Flush once the number of unflushed rows reaches the configured threshold.
+		 */
+		ROW_COUNT,
+		/**
+		 * Flush periodically, at the configured interval, if there are unflushed rows.
+		 */
+		INTERVAL,
+		/**
+		 * Never flush explicitly and rely on the Milvus automatic segment sealing.
+		 */
+		NEVER
+
+	}
+
 	/**
 	 * Configuration for the Milvus vector store.
 	 */
@@ -113,6 +175,18 @@ public class MilvusVectorStore implements VectorStore, InitializingBean {
 
 		private final String indexParameters;
 
+		private final ConsistencyLevelEnum consistencyLevel;
+
+		private final FlushPolicy flushPolicy;
+
+		private final long flushRowThreshold;
+
+		private final Duration flushInterval;
+
+		private final int insertBatchSize;
+
+		private final int maxConcurrentInserts;
+
 		/**
 		 * Start building a new configuration.
 		 * @return The entry point for creating a new configuration.
@@ -137,6 +211,12 @@ public class MilvusVectorStore implements VectorStore, InitializingBean {
 			this.indexType = builder.indexType;
 			this.metricType = builder.metricType;
 			this.indexParameters = builder.indexParameters;
+			this.consistencyLevel = builder.consistencyLevel;
+			this.flushPolicy = builder.flushPolicy;
+			this.flushRowThreshold = builder.flushRowThreshold;
+			this.flushInterval = builder.flushInterval;
+			this.maxConcurrentInserts = builder.maxConcurrentInserts;
+			this.insertBatchSize = builder.insertBatchSize;
 		}
 
 		public static class Builder {
@@ -153,6 +233,18 @@ public class MilvusVectorStore implements VectorStore, InitializingBean {
 
 			private String indexParameters = "{\"nlist\":1024}";
 
+			private ConsistencyLevelEnum consistencyLevel = ConsistencyLevelEnum.STRONG;
+
+			private FlushPolicy flushPolicy = FlushPolicy.EVERY_INSERT;
+
+			private long flushRowThreshold = DEFAULT_FLUSH_ROW_THRESHOLD;
+
+			private Duration flushInterval = DEFAULT_FLUSH_INTERVAL;
+
+			private int insertBatchSize = DEFAULT_INSERT_BATCH_SIZE;
+
+			private int maxConcurrentInserts = DEFAULT_MAX_CONCURRENT_INSERTS;
+
 			private Builder() {
 			}
 
@@ -231,6 +323,80 @@ public class MilvusVectorStore implements VectorStore, InitializingBean {
 				return this;
 			}
 
+			/**
+			 * Configures the default consistency level used by the similarity searches.
+			 * Defaults to {@link ConsistencyLevelEnum#STRONG}.
+			 * @param consistencyLevel the consistency level to use
+			 * @return this builder
+			 */
+			public Builder withConsistencyLevel(ConsistencyLevelEnum consistencyLevel) {
+				Assert.notNull(consistencyLevel, "Consistency level must not be null");
+				this.consistencyLevel = consistencyLevel;
+				return this;
+			}
+
+			/**
+			 * Configures when the inserted data is explicitly flushed. Defaults to
+			 * {@link FlushPolicy#EVERY_INSERT}.
+			 * @param flushPolicy the flush policy to use
+			 * @return this builder
+			 */
+			public Builder withFlushPolicy(FlushPolicy flushPolicy) {
+				Assert.notNull(flushPolicy, "Flush policy must not be null");
+				this.flushPolicy = flushPolicy;
+				return this;
+			}
+
+			/**
+			 * Configures the number of unflushed rows that triggers a flush when the
+			 * {@link FlushPolicy#ROW_COUNT} policy is used.
+			 * @param flushRowThreshold the row threshold
+			 * @return this builder
+			 */
+			public Builder withFlushRowThreshold(long flushRowThreshold) {
+				Assert.isTrue(flushRowThreshold > 0, "Flush row threshold must be positive");
+				this.flushRowThreshold = flushRowThreshold;
+				return this;
+			}
+
+			/**
+			 * Configures the flush period used by the {@link FlushPolicy#INTERVAL}
+			 * policy.
+			 * @param flushInterval the flush interval
+			 * @return this builder
+			 */
+			public Builder withFlushInterval(Duration flushInterval) {
+				Assert.notNull(flushInterval, "Flush interval must not be null");
+				Assert.isTrue(!flushInterval.isNegative() && !flushInterval.isZero(),
+						"Flush interval must be positive");
+				this.flushInterval = flushInterval;
+				return this;
+			}
+
+			/**
+			 * Configures the maximum number of documents sent in a single insert request.
+			 * Larger document lists are split into chunks of this size.
+			 * @param insertBatchSize the insert batch size
+			 * @return this builder
+			 */
+			public Builder withInsertBatchSize(int insertBatchSize) {
+				Assert.isTrue(insertBatchSize > 0, "Insert batch size must be positive");
+				this.insertBatchSize = insertBatchSize;
+				return this;
+			}
+
+			/**
+			 * Configures the maximum number of insert requests in flight during
+			 * {@link MilvusVectorStore#addAsync(List)}. Defaults to 4.
+			 * @param maxConcurrentInserts the maximum number of concurrent inserts
+			 * @return this builder
+			 */
+			public Builder withMaxConcurrentInserts(int maxConcurrentInserts) {
+				Assert.isTrue(maxConcurrentInserts > 0, "Max concurrent inserts must be positive");
+				this.maxConcurrentInserts = maxConcurrentInserts;
+				return this;
+			}
+
 			/**
 			 * {@return the immutable configuration}
 			 */
@@ -255,6 +421,11 @@ public class MilvusVectorStore implements VectorStore, InitializingBean {
 		this.milvusClient = milvusClient;
 		this.embeddingClient = embeddingClient;
 		this.config = config;
+		this.flushScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "milvus-flush-" + this.config.collectionName);
+			thread.setDaemon(true);
+			return thread;
+		});
 	}
 
 	@Override
@@ -262,6 +433,65 @@ public class MilvusVectorStore implements VectorStore, InitializingBean {
 
 		Assert.notNull(documents, "Documents must not be null");
 
+		for (List<Document> chunk : chunks(documents)) {
+			R<MutationResult> status = this.milvusClient.insert(createInsertParam(chunk));
+			if (status.getException() != null) {
+				throw new RuntimeException("Failed to insert:", status.getException());
+			}
+			this.onRowsInserted(chunk.size());
+		}
+	}
+
+	/**
+	 * Asynchronously adds the documents to the vector store. The documents are split into
+	 * chunks of the configured insert batch size and the chunks are inserted concurrently
+	 * using the Milvus asynchronous client API, with at most the configured
+	 * {@link MilvusVectorStoreConfig.Builder#withMaxConcurrentInserts(int) maximum} of
+	 * inserts in flight. The embeddings are computed on the calling thread, which waits
+	 * while that maximum is reached. The flushes required by the flush policy run on the
+	 * flush thread of the store.
+	 * @param documents the documents to store.
+	 * @return future completed once all chunks are inserted, and flushed if the flush
+	 * policy requires it, or completed exceptionally if any of the inserts fails.
+	 */
+	public CompletableFuture<Void> addAsync(List<Document> documents) {
+
+		Assert.notNull(documents, "Documents must not be null");
+
+		Semaphore inFlight = new Semaphore(this.config.maxConcurrentInserts);
+		List<CompletableFuture<Void>> futures = new ArrayList<>();
+		try {
+			for (List<Document> chunk : chunks(documents)) {
+				InsertParam insertParam = createInsertParam(chunk);
+				inFlight.acquire();
+				CompletableFuture<R<MutationResult>> insert = toCompletableFuture(
+						this.milvusClient.insertAsync(insertParam));
+				insert.whenComplete((status, ex) -> inFlight.release());
+				futures.add(insert.thenAcceptAsync(status -> {
+					if (status.getException() != null) {
+						throw new RuntimeException("Failed to insert:", status.getException());
+					}
+					this.onRowsInserted(chunk.size());
+				}, this.flushScheduler));
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			futures.add(CompletableFuture.failedFuture(ex));
+		}
+		return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+	}
+
+	private List<List<Document>> chunks(List<Document> documents) {
+		List<List<Document>> chunks = new ArrayList<>();
+		for (int i = 0; i < documents.size(); i += this.config.insertBatchSize) {
+			chunks.add(documents.subList(i, Math.min(i + this.config.insertBatchSize, documents.size())));
+		}
+		return chunks;
+	}
+
+	private InsertParam createInsertParam(List<Document> documents) {
+
 		List<String> docIdArray = new ArrayList<>();
 		List<String> contentArray = new ArrayList<>();
 		List<JSONObject> metadataArray = new ArrayList<>();
@@ -284,76 +514,262 @@ public class MilvusVectorStore implements VectorStore, InitializingBean {
 		fields.add(new InsertParam.Field(METADATA_FIELD_NAME, metadataArray));
 		fields.add(new InsertParam.Field(EMBEDDING_FIELD_NAME, embeddingArray));
 
-		InsertParam insertParam = InsertParam.newBuilder()
+		return InsertParam.newBuilder()
 			.withDatabaseName(this.config.databaseName)
 			.withCollectionName(this.config.collectionName)
 			.withFields(fields)
 			.build();
+	}
 
-		R<MutationResult> status = this.milvusClient.insert(insertParam);
-		if (status.getException() != null) {
-			throw new RuntimeException("Failed to insert:", status.getException());
+	private void onRowsInserted(long rowCount) {
+		long pendingRows = this.unflushedRows.addAndGet(rowCount);
+		switch (this.config.flushPolicy) {
+			case EVERY_INSERT -> this.flush();
+			case ROW_COUNT -> {
+				if (pendingRows >= this.config.flushRowThreshold) {
+					this.flush();
+				}
+			}
+			default -> {
+				// INTERVAL is handled by the flush scheduler, NEVER relies on the Milvus
+				// automatic segment sealing.
+			}
 		}
-		this.milvusClient.flush(FlushParam.newBuilder()
+	}
+
+	/**
+	 * Explicitly flushes (seals) the segments with the data inserted so far. The rows
+	 * inserted while the flush runs, and the rows of a failed flush, stay counted as
+	 * unflushed.
+	 */
+	public void flush() {
+		long flushedRows = this.unflushedRows.get();
+		var status = this.milvusClient.flush(FlushParam.newBuilder()
 			.withDatabaseName(this.config.databaseName)
 			.addCollectionName(this.config.collectionName)
 			.build());
+		if (status.getException() != null) {
+			logger.warn("Failed to flush collection: " + this.config.collectionName, status.getException());
+			return;
+		}
+		this.unflushedRows.addAndGet(-flushedRows);
+	}
+
+	/**
+	 * {@return the number of inserted rows that have not been explicitly flushed yet}
+	 */
+	long getUnflushedRows() {
+		return this.unflushedRows.get();
+	}
+
+	private static <T> CompletableFuture<T> toCompletableFuture(ListenableFuture<T> listenableFuture) {
+		CompletableFuture<T> completableFuture = new CompletableFuture<>();
+		Futures.addCallback(listenableFuture, new FutureCallback<T>() {
+
+			@Override
+			public void onSuccess(T result) {
+				completableFuture.complete(result);
+			}
+
+			@Override
+			public void onFailure(Throwable t) {
+				completableFuture.completeExceptionally(t);
+			}
+
+		}, MoreExecutors.directExecutor());
+		return completableFuture;
 	}
 
 	@Override
 	public Optional<Boolean> delete(List<String> idList) {
 		Assert.notNull(idList, "Document id list must not be null");
 
+		R<MutationResult> status = this.milvusClient.delete(createDeleteParam(idList));
+
+		return Optional.of(isDeleted(status, idList));
+	}
+
+	private DeleteParam createDeleteParam(List<String> idList) {
 		String deleteExpression = String.format("%s in [%s]", DOC_ID_FIELD_NAME,
 				idList.stream().map(id -> "'" + id + "'").collect(Collectors.joining(",")));
 
-		R<MutationResult> status = this.milvusClient.delete(DeleteParam.newBuilder()
+		return DeleteParam.newBuilder()
 			.withCollectionName(this.config.collectionName)
 			.withExpr(deleteExpression)
-			.build());
+			.build();
+	}
 
+	private boolean isDeleted(R<MutationResult> status, List<String> idList) {
 		long deleteCount = status.getData().getDeleteCnt();
 		if (deleteCount != idList.size()) {
 			logger.warn(String.format("Deleted only %s entries from requested %s ", deleteCount, idList.size()));
 		}
 
-		return Optional.of(status.getStatus() == Status.Success.getCode());
+		return status.getStatus() == Status.Success.getCode();
 	}
 
 	@Override
 	public List<Document> similaritySearch(SearchRequest request) {
+		return this.similaritySearch(request, this.config.consistencyLevel);
+	}
+
+	/**
+	 * Non-blocking variant of {@link #add(List)} built on {@link #addAsync(List)}. The
+	 * documents are embedded on the bounded elastic scheduler.
+	 * @param documents the documents to add.
+	 * @return a {@link Mono} that completes once all chunks have been inserted.
+	 */
+	@Override
+	public Mono<Void> addReactive(List<Document> documents) {
+		return Mono.fromFuture(() -> addAsync(documents)).subscribeOn(Schedulers.boundedElastic());
+	}
+
+	/**
+	 * Non-blocking variant of {@link #delete(List)} using the Milvus asynchronous client
+	 * API.
+	 * @param idList the ids of the documents to delete.
+	 * @return whether the delete succeeded.
+	 */
+	@Override
+	public Mono<Boolean> deleteReactive(List<String> idList) {
+		Assert.notNull(idList, "Document id list must not be null");
+
+		return Mono.fromFuture(() -> toCompletableFuture(this.milvusClient.deleteAsync(createDeleteParam(idList))))
+			.map(status -> isDeleted(status, idList));
+	}
+
+	/**
+	 * Non-blocking variant of {@link #similaritySearch(SearchRequest)}. The query is
+	 * embedded on the bounded elastic scheduler and the search is sent with the Milvus
+	 * asynchronous client API.
+	 * @param request the search request.
+	 * @return the documents that match the query request conditions.
+	 */
+	@Override
+	public Flux<Document> similaritySearchReactive(SearchRequest request) {
+
+		String nativeFilterExpressions = (request.getFilterExpression() != null)
+				? this.filterExpressionConverter.convertExpression(request.getFilterExpression()) : "";
+
+		Assert.notNull(request.getQuery(), "Query string must not be null");
+
+		return Mono.fromCallable(() -> QueryEmbeddings.embed(this.embeddingClient, request))
+			.subscribeOn(Schedulers.boundedElastic())
+			.flatMap(embedding -> Mono.fromFuture(toCompletableFuture(
+					this.milvusClient.searchAsync(createSearchParam(request.getTopK(), nativeFilterExpressions,
+							List.of(toFloatList(embedding)), this.config.consistencyLevel)))))
+			.flatMapIterable(respSearch -> toDocuments(toSearchResults(respSearch).getRowRecords(0),
+					request.getSimilarityThreshold()));
+	}
+
+	/**
+	 * Retrieves documents by query embedding similarity, using the given consistency
+	 * level instead of the configured default.
+	 * @param request the search request.
+	 * @param consistencyLevel the consistency level to use for this query.
+	 * @return Returns documents th match the query request conditions.
+	 */
+	public List<Document> similaritySearch(SearchRequest request, ConsistencyLevelEnum consistencyLevel) {
+
+		Assert.notNull(consistencyLevel, "Consistency level must not be null");
 
 		String nativeFilterExpressions = (request.getFilterExpression() != null)
 				? this.filterExpressionConverter.convertExpression(request.getFilterExpression()) : "";
 
 		Assert.notNull(request.getQuery(), "Query string must not be null");
 
-		List<Double> embedding = this.embeddingClient.embed(request.getQuery());
+		List<Double> embedding = QueryEmbeddings.embed(this.embeddingClient, request);
+
+		SearchResultsWrapper wrapperSearch = search(request.getTopK(), nativeFilterExpressions,
+				List.of(toFloatList(embedding)), consistencyLevel);
+
+		return toDocuments(wrapperSearch.getRowRecords(0), request.getSimilarityThreshold());
+	}
+
+	/**
+	 * Performs the similarity searches with a single embedding call and multi-vector
+	 * Milvus searches. Milvus applies one topK and filter expression to all the vectors
+	 * of a search, so the requests are grouped by these and every group is sent as one
+	 * search.
+	 * @param requests The search requests.
+	 * @return For each request, in order, the list of documents similar to its query.
+	 */
+	@Override
+	public List<List<Document>> similaritySearch(List<SearchRequest> requests) {
+
+		if (requests.isEmpty()) {
+			return List.of();
+		}
+
+		requests.forEach(request -> Assert.notNull(request.getQuery(), "Query string must not be null"));
+
+		List<List<Double>> embeddings = QueryEmbeddings.embed(this.embeddingClient, requests);
+
+		Map<SearchGroup, List<Integer>> groups = new LinkedHashMap<>();
+		for (int i = 0; i < requests.size(); i++) {
+			SearchRequest request = requests.get(i);
+			String nativeFilterExpressions = (request.getFilterExpression() != null)
+					? this.filterExpressionConverter.convertExpression(request.getFilterExpression()) : "";
+			groups.computeIfAbsent(new SearchGroup(request.getTopK(), nativeFilterExpressions), k -> new ArrayList<>())
+				.add(i);
+		}
+
+		List<List<Document>> results = new ArrayList<>(Collections.nCopies(requests.size(), List.of()));
+
+		groups.forEach((group, indexes) -> {
+			List<List<Float>> vectors = indexes.stream().map(i -> toFloatList(embeddings.get(i))).toList();
+			SearchResultsWrapper wrapperSearch = search(group.topK(), group.filterExpression(), vectors,
+					this.config.consistencyLevel);
+			for (int j = 0; j < indexes.size(); j++) {
+				int index = indexes.get(j);
+				results.set(index,
+						toDocuments(wrapperSearch.getRowRecords(j), requests.get(index).getSimilarityThreshold()));
+			}
+		});
+
+		return results;
+	}
+
+	private record SearchGroup(int topK, String filterExpression) {
+	}
+
+	private SearchResultsWrapper search(int topK, String nativeFilterExpressions, List<List<Float>> vectors,
+			ConsistencyLevelEnum consistencyLevel) {
+
+		return toSearchResults(
+				milvusClient.search(createSearchParam(topK, nativeFilterExpressions, vectors, consistencyLevel)));
+	}
+
+	private SearchParam createSearchParam(int topK, String nativeFilterExpressions, List<List<Float>> vectors,
+			ConsistencyLevelEnum consistencyLevel) {
 
 		var searchParamBuilder = SearchParam.newBuilder()
 			.withCollectionName(this.config.collectionName)
-			.withConsistencyLevel(ConsistencyLevelEnum.STRONG)
+			.withConsistencyLevel(consistencyLevel)
 			.withMetricType(this.config.metricType)
 			.withOutFields(SEARCH_OUTPUT_FIELDS)
-			.withTopK(request.getTopK())
-			.withVectors(List.of(toFloatList(embedding)))
+			.withTopK(topK)
+			.withVectors(vectors)
 			.withVectorFieldName(EMBEDDING_FIELD_NAME);
 
 		if (StringUtils.hasText(nativeFilterExpressions)) {
 			searchParamBuilder.withExpr(nativeFilterExpressions);
 		}
 
-		R<SearchResults> respSearch = milvusClient.search(searchParamBuilder.build());
+		return searchParamBuilder.build();
+	}
 
+	private SearchResultsWrapper toSearchResults(R<SearchResults> respSearch) {
 		if (respSearch.getException() != null) {
 			throw new RuntimeException("Search failed!", respSearch.getException());
 		}
 
-		SearchResultsWrapper wrapperSearch = new SearchResultsWrapper(respSearch.getData().getResults());
+		return new SearchResultsWrapper(respSearch.getData().getResults());
+	}
 
-		return wrapperSearch.getRowRecords(0)
-			.stream()
-			.filter(rowRecord -> getResultSimilarity(rowRecord) >= request.getSimilarityThreshold())
+	private List<Document> toDocuments(List<RowRecord> rowRecords, double similarityThreshold) {
+		return rowRecords.stream()
+			.filter(rowRecord -> getResultSimilarity(rowRecord) >= similarityThreshold)
 			.map(rowRecord -> {
 				String docId = (String) rowRecord.get(DOC_ID_FIELD_NAME);
 				String content = (String) rowRecord.get(CONTENT_FIELD_NAME);
@@ -381,6 +797,29 @@ public class MilvusVectorStore implements VectorStore, InitializingBean {
 	@Override
 	public void afterPropertiesSet() throws Exception {
 		this.createCollection();
+
+		if (this.config.flushPolicy == FlushPolicy.INTERVAL) {
+			long intervalMs = this.config.flushInterval.toMillis();
+			this.flushScheduler.scheduleWithFixedDelay(() -> {
+				try {
+					if (this.unflushedRows.get() > 0) {
+						this.flush();
+					}
+				}
+				catch (Exception e) {
+					logger.warn("Scheduled flush failed", e);
+				}
+			}, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	@Override
+	public void destroy() throws Exception {
+		this.flushScheduler.shutdown();
+		this.flushScheduler.awaitTermination(this.config.flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+		if (this.config.flushPolicy != FlushPolicy.NEVER && this.unflushedRows.get() > 0) {
+			this.flush();
+		}
 	}
 
 	void releaseCollection() {
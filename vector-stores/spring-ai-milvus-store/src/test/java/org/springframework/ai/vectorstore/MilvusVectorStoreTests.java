@@ -0,0 +1,219 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.vectorstore;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.google.common.util.concurrent.SettableFuture;
+import io.milvus.client.MilvusServiceClient;
+import io.milvus.grpc.FlushResponse;
+import io.milvus.grpc.MutationResult;
+import io.milvus.param.R;
+import io.milvus.param.collection.FlushParam;
+import io.milvus.param.dml.InsertParam;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingClient;
+import org.springframework.ai.vectorstore.MilvusVectorStore.FlushPolicy;
+import org.springframework.ai.vectorstore.MilvusVectorStore.MilvusVectorStoreConfig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit Tests for the insert and flush paths of {@link MilvusVectorStore}.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class MilvusVectorStoreTests {
+
+	@Mock
+	private EmbeddingClient embeddingClient;
+
+	@Mock
+	private MilvusServiceClient milvusClient;
+
+	private final List<SettableFuture<R<MutationResult>>> inserts = new ArrayList<>();
+
+	private final List<InsertParam> insertParams = new ArrayList<>();
+
+	private MilvusVectorStore vectorStore;
+
+	@BeforeEach
+	void setUp() {
+		when(this.embeddingClient.embed(any(Document.class))).thenReturn(List.of(0.1, 0.2));
+		when(this.milvusClient.insert(any(InsertParam.class)))
+			.thenReturn(R.success(MutationResult.getDefaultInstance()));
+		when(this.milvusClient.insertAsync(any(InsertParam.class))).thenAnswer(invocation -> {
+			SettableFuture<R<MutationResult>> insert = SettableFuture.create();
+			synchronized (this.inserts) {
+				this.insertParams.add(invocation.getArgument(0));
+				this.inserts.add(insert);
+			}
+			return insert;
+		});
+		when(this.milvusClient.flush(any(FlushParam.class))).thenReturn(R.success(FlushResponse.getDefaultInstance()));
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		if (this.vectorStore != null) {
+			this.vectorStore.destroy();
+		}
+	}
+
+	@Test
+	void insertsInChunks() {
+		this.vectorStore = vectorStore(FlushPolicy.NEVER, 2, 4);
+
+		this.vectorStore.add(documents(5));
+
+		verify(this.milvusClient, times(3)).insert(any(InsertParam.class));
+		verify(this.milvusClient, never()).flush(any(FlushParam.class));
+		assertThat(this.vectorStore.getUnflushedRows()).isEqualTo(5);
+	}
+
+	@Test
+	void flushesAsyncInsertsOffTheCallbackThread() throws Exception {
+		this.vectorStore = vectorStore(FlushPolicy.EVERY_INSERT, 2, 4);
+		AtomicReference<Thread> flushThread = new AtomicReference<>();
+		when(this.milvusClient.flush(any(FlushParam.class))).thenAnswer(invocation -> {
+			flushThread.set(Thread.currentThread());
+			return R.success(FlushResponse.getDefaultInstance());
+		});
+
+		CompletableFuture<Void> added = this.vectorStore.addAsync(documents(3));
+		assertThat(this.insertParams).hasSize(2);
+		assertThat(this.insertParams.get(0).getRowCount()).isEqualTo(2);
+		assertThat(this.insertParams.get(1).getRowCount()).isEqualTo(1);
+
+		AtomicReference<Thread> callbackThread = new AtomicReference<>();
+		Thread completer = new Thread(() -> {
+			callbackThread.set(Thread.currentThread());
+			this.inserts.forEach(insert -> insert.set(R.success(MutationResult.getDefaultInstance())));
+		});
+		completer.start();
+		completer.join();
+
+		added.get(5, TimeUnit.SECONDS);
+		verify(this.milvusClient, times(2)).flush(any(FlushParam.class));
+		assertThat(flushThread.get()).isNotSameAs(callbackThread.get());
+		assertThat(flushThread.get().getName()).startsWith("milvus-flush-");
+		assertThat(this.vectorStore.getUnflushedRows()).isZero();
+	}
+
+	@Test
+	void boundsTheInsertsInFlight() throws Exception {
+		this.vectorStore = vectorStore(FlushPolicy.NEVER, 1, 2);
+
+		CompletableFuture<CompletableFuture<Void>> added = CompletableFuture
+			.supplyAsync(() -> this.vectorStore.addAsync(documents(5)));
+
+		verify(this.milvusClient, timeout(5000).times(2)).insertAsync(any(InsertParam.class));
+		Thread.sleep(100);
+		verify(this.milvusClient, times(2)).insertAsync(any(InsertParam.class));
+
+		for (int completed = 0; completed < 5; completed++) {
+			verify(this.milvusClient, timeout(5000).times(Math.min(completed + 2, 5)))
+				.insertAsync(any(InsertParam.class));
+			synchronized (this.inserts) {
+				this.inserts.get(completed).set(R.success(MutationResult.getDefaultInstance()));
+			}
+		}
+
+		added.get(5, TimeUnit.SECONDS).get(5, TimeUnit.SECONDS);
+		assertThat(this.vectorStore.getUnflushedRows()).isEqualTo(5);
+	}
+
+	@Test
+	void failsWhenAnAsyncInsertFails() {
+		this.vectorStore = vectorStore(FlushPolicy.EVERY_INSERT, 2, 4);
+
+		CompletableFuture<Void> added = this.vectorStore.addAsync(documents(2));
+		this.inserts.get(0).set(R.failed(new IllegalStateException("Insert failed")));
+
+		assertThat(added).failsWithin(5, TimeUnit.SECONDS);
+		verify(this.milvusClient, never()).flush(any(FlushParam.class));
+		assertThat(this.vectorStore.getUnflushedRows()).isZero();
+	}
+
+	@Test
+	void keepsTheRowsOfFailedFlushes() {
+		this.vectorStore = vectorStore(FlushPolicy.NEVER, 10, 4);
+		this.vectorStore.add(documents(3));
+
+		when(this.milvusClient.flush(any(FlushParam.class)))
+			.thenReturn(R.failed(new IllegalStateException("Flush failed")));
+		this.vectorStore.flush();
+		assertThat(this.vectorStore.getUnflushedRows()).isEqualTo(3);
+
+		when(this.milvusClient.flush(any(FlushParam.class))).thenReturn(R.success(FlushResponse.getDefaultInstance()));
+		this.vectorStore.flush();
+		assertThat(this.vectorStore.getUnflushedRows()).isZero();
+	}
+
+	@Test
+	void keepsTheRowsInsertedDuringAFlush() {
+		this.vectorStore = vectorStore(FlushPolicy.NEVER, 10, 4);
+		this.vectorStore.add(documents(3));
+
+		when(this.milvusClient.flush(any(FlushParam.class))).thenAnswer(invocation -> {
+			// Rows inserted concurrently are not covered by this flush.
+			this.vectorStore.add(documents(2));
+			return R.success(FlushResponse.getDefaultInstance());
+		});
+		this.vectorStore.flush();
+
+		assertThat(this.vectorStore.getUnflushedRows()).isEqualTo(2);
+	}
+
+	private MilvusVectorStore vectorStore(FlushPolicy flushPolicy, int insertBatchSize, int maxConcurrentInserts) {
+		MilvusVectorStoreConfig config = MilvusVectorStoreConfig.builder()
+			.withEmbeddingDimension(2)
+			.withFlushPolicy(flushPolicy)
+			.withInsertBatchSize(insertBatchSize)
+			.withMaxConcurrentInserts(maxConcurrentInserts)
+			.build();
+		return new MilvusVectorStore(this.milvusClient, this.embeddingClient, config);
+	}
+
+	private static List<Document> documents(int count) {
+		List<Document> documents = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			documents.add(new Document("content " + i, Map.of("index", i)));
+		}
+		return documents;
+	}
+
+}
@@ -22,11 +22,19 @@ import java.util.Map;
 import java.util.Optional;
 
 import com.mongodb.BasicDBObject;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import org.springframework.ai.document.Document;
 import org.springframework.ai.embedding.EmbeddingClient;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.ReactiveBulkOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
@@ -38,7 +46,7 @@ import static org.springframework.data.mongodb.core.query.Criteria.where;
  * @author Chris Smith
  * @since 1.0.0
  */
-public class MongoDBAtlasVectorStore implements VectorStore, InitializingBean {
+public class MongoDBAtlasVectorStore implements VectorStore, ReactiveVectorStore, InitializingBean {
 
 	public static final String ID_FIELD_NAME = "_id";
 
@@ -56,8 +64,12 @@ public class MongoDBAtlasVectorStore implements VectorStore, InitializingBean {
 
 	private static final int DEFAULT_NUM_CANDIDATES = 200;
 
+	public static final int DEFAULT_BATCH_SIZE = 500;
+
 	private final MongoTemplate mongoTemplate;
 
+	private final ReactiveMongoTemplate reactiveMongoTemplate;
+
 	private final EmbeddingClient embeddingClient;
 
 	private final MongoDBVectorStoreConfig config;
@@ -70,7 +82,23 @@ public class MongoDBAtlasVectorStore implements VectorStore, InitializingBean {
 
 	public MongoDBAtlasVectorStore(MongoTemplate mongoTemplate, EmbeddingClient embeddingClient,
 			MongoDBVectorStoreConfig config) {
+		this(mongoTemplate, null, embeddingClient, config);
+	}
+
+	/**
+	 * Creates a vector store that also supports non-blocking ingest through
+	 * {@link #addReactive(List)}.
+	 * @param mongoTemplate the blocking template used by the {@link VectorStore}
+	 * operations.
+	 * @param reactiveMongoTemplate the reactive template used by
+	 * {@link #addReactive(List)}. Can be {@literal null}.
+	 * @param embeddingClient the embedding client.
+	 * @param config the vector store configuration.
+	 */
+	public MongoDBAtlasVectorStore(MongoTemplate mongoTemplate, ReactiveMongoTemplate reactiveMongoTemplate,
+			EmbeddingClient embeddingClient, MongoDBVectorStoreConfig config) {
 		this.mongoTemplate = mongoTemplate;
+		this.reactiveMongoTemplate = reactiveMongoTemplate;
 		this.embeddingClient = embeddingClient;
 		this.config = config;
 
@@ -128,11 +156,60 @@ public class MongoDBAtlasVectorStore implements VectorStore, InitializingBean {
 
 	@Override
 	public void add(List<Document> documents) {
-		for (Document document : documents) {
-			List<Double> embedding = this.embeddingClient.embed(document);
-			document.setEmbedding(embedding);
-			this.mongoTemplate.save(document, this.config.collectionName);
+		for (List<Document> batch : batches(documents)) {
+			embed(batch);
+			BulkOperations bulkOperations = this.mongoTemplate.bulkOps(BulkMode.UNORDERED,
+					this.config.collectionName);
+			for (Document document : batch) {
+				bulkOperations.replaceOne(new Query(where(ID_FIELD_NAME).is(document.getId())), document,
+						FindAndReplaceOptions.options().upsert());
+			}
+			bulkOperations.execute();
+		}
+	}
+
+	/**
+	 * Non-blocking variant of {@link #add(List)}. The documents are embedded and upserted
+	 * in batches of the configured batch size, with the (blocking) embedding calls
+	 * offloaded to the bounded elastic scheduler. Without a {@link ReactiveMongoTemplate}
+	 * the blocking {@link #add(List)} runs on the bounded elastic scheduler instead.
+	 * @param documents the documents to store.
+	 * @return a {@link Mono} completing when all the batches are written.
+	 */
+	@Override
+	public Mono<Void> addReactive(List<Document> documents) {
+		if (this.reactiveMongoTemplate == null) {
+			return Mono.fromRunnable(() -> add(documents)).subscribeOn(Schedulers.boundedElastic()).then();
 		}
+		return Flux.fromIterable(batches(documents))
+			.concatMap(batch -> Mono.fromCallable(() -> embed(batch))
+				.subscribeOn(Schedulers.boundedElastic())
+				.flatMap(embeddedBatch -> {
+					ReactiveBulkOperations bulkOperations = this.reactiveMongoTemplate.bulkOps(BulkMode.UNORDERED,
+							this.config.collectionName);
+					for (Document document : embeddedBatch) {
+						bulkOperations.replaceOne(new Query(where(ID_FIELD_NAME).is(document.getId())), document,
+								FindAndReplaceOptions.options().upsert());
+					}
+					return bulkOperations.execute();
+				}))
+			.then();
+	}
+
+	private List<List<Document>> batches(List<Document> documents) {
+		List<List<Document>> batches = new ArrayList<>();
+		for (int i = 0; i < documents.size(); i += this.config.batchSize) {
+			batches.add(documents.subList(i, Math.min(i + this.config.batchSize, documents.size())));
+		}
+		return batches;
+	}
+
+	private List<Document> embed(List<Document> batch) {
+		List<List<Double>> embeddings = this.embeddingClient.embedDocuments(batch);
+		for (int i = 0; i < batch.size(); i++) {
+			batch.get(i).setEmbedding(embeddings.get(i));
+		}
+		return batch;
 	}
 
 	@Override
@@ -145,6 +222,16 @@ public class MongoDBAtlasVectorStore implements VectorStore, InitializingBean {
 		return Optional.of(deleteCount == idList.size());
 	}
 
+	@Override
+	public Mono<Boolean> deleteReactive(List<String> idList) {
+		if (this.reactiveMongoTemplate == null) {
+			return Mono.fromCallable(() -> delete(idList).orElse(false)).subscribeOn(Schedulers.boundedElastic());
+		}
+		Query query = new Query(where(ID_FIELD_NAME).in(idList));
+		return this.reactiveMongoTemplate.remove(query, this.config.collectionName)
+			.map(deleteRes -> deleteRes.getDeletedCount() == idList.size());
+	}
+
 	@Override
 	public List<Document> similaritySearch(String query) {
 		return similaritySearch(SearchRequest.query(query));
@@ -152,26 +239,49 @@ public class MongoDBAtlasVectorStore implements VectorStore, InitializingBean {
 
 	@Override
 	public List<Document> similaritySearch(SearchRequest request) {
+		Aggregation aggregation = toAggregation(request, QueryEmbeddings.embed(this.embeddingClient, request));
+		return this.mongoTemplate.aggregate(aggregation, this.config.collectionName, BasicDBObject.class)
+			.getMappedResults()
+			.stream()
+			.map(this::mapBasicDbObject)
+			.toList();
+	}
+
+	/**
+	 * Non-blocking variant of {@link #similaritySearch(SearchRequest)}. The query is
+	 * embedded on the bounded elastic scheduler and the aggregation runs on the
+	 * {@link ReactiveMongoTemplate}, when one is configured.
+	 * @param request the search request.
+	 * @return the documents matching the request.
+	 */
+	@Override
+	public Flux<Document> similaritySearchReactive(SearchRequest request) {
+		if (this.reactiveMongoTemplate == null) {
+			return Mono.fromCallable(() -> similaritySearch(request))
+				.subscribeOn(Schedulers.boundedElastic())
+				.flatMapIterable(documents -> documents);
+		}
+		return Mono.fromCallable(() -> toAggregation(request, QueryEmbeddings.embed(this.embeddingClient, request)))
+			.subscribeOn(Schedulers.boundedElastic())
+			.flatMapMany(aggregation -> this.reactiveMongoTemplate.aggregate(aggregation, this.config.collectionName,
+					BasicDBObject.class))
+			.map(this::mapBasicDbObject);
+	}
+
+	private Aggregation toAggregation(SearchRequest request, List<Double> queryEmbedding) {
 
 		String nativeFilterExpressions = (request.getFilterExpression() != null)
 				? this.filterExpressionConverter.convertExpression(request.getFilterExpression()) : "";
 
-		List<Double> queryEmbedding = this.embeddingClient.embed(request.getQuery());
 		var vectorSearch = new VectorSearchAggregation(queryEmbedding, this.config.pathName, this.config.numCandidates,
 				this.config.vectorIndexName, request.getTopK(), nativeFilterExpressions);
 
-		Aggregation aggregation = Aggregation.newAggregation(vectorSearch,
+		return Aggregation.newAggregation(vectorSearch,
 				Aggregation.addFields()
 					.addField(SCORE_FIELD_NAME)
 					.withValueOfExpression("{\"$meta\":\"vectorSearchScore\"}")
 					.build(),
 				Aggregation.match(new Criteria(SCORE_FIELD_NAME).gte(request.getSimilarityThreshold())));
-
-		return this.mongoTemplate.aggregate(aggregation, this.config.collectionName, BasicDBObject.class)
-			.getMappedResults()
-			.stream()
-			.map(this::mapBasicDbObject)
-			.toList();
 	}
 
 	public static class MongoDBVectorStoreConfig {
@@ -186,12 +296,15 @@ public class MongoDBAtlasVectorStore implements VectorStore, InitializingBean {
 
 		private final int numCandidates;
 
+		private final int batchSize;
+
 		private MongoDBVectorStoreConfig(Builder builder) {
 			this.collectionName = builder.collectionName;
 			this.vectorIndexName = builder.vectorIndexName;
 			this.pathName = builder.pathName;
 			this.numCandidates = builder.numCandidates;
 			this.metadataFieldsToFilter = builder.metadataFieldsToFilter;
+			this.batchSize = builder.batchSize;
 		}
 
 		public static Builder builder() {
@@ -214,6 +327,8 @@ public class MongoDBAtlasVectorStore implements VectorStore, InitializingBean {
 
 			private List<String> metadataFieldsToFilter = Collections.emptyList();
 
+			private int batchSize = DEFAULT_BATCH_SIZE;
+
 			private Builder() {
 			}
 
@@ -262,6 +377,19 @@ public class MongoDBAtlasVectorStore implements VectorStore, InitializingBean {
 				return this;
 			}
 
+			/**
+			 * Configures the number of documents embedded and written in a single
+			 * unordered bulk operation.
+			 * @param batchSize the number of documents per bulk operation, must be
+			 * positive. Defaults to {@literal 500}.
+			 * @return this builder
+			 */
+			public Builder withBatchSize(int batchSize) {
+				Assert.isTrue(batchSize > 0, "Batch size must be positive");
+				this.batchSize = batchSize;
+				return this;
+			}
+
 			public MongoDBVectorStoreConfig build() {
 				return new MongoDBVectorStoreConfig(this);
 			}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.vectorstore;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.mongodb.BasicDBObject;
+import com.mongodb.bulk.BulkWriteResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingClient;
+import org.springframework.ai.vectorstore.MongoDBAtlasVectorStore.MongoDBVectorStoreConfig;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.ReactiveBulkOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MongoDBAtlasVectorStoreTest {
+
+	private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+
+	private final ReactiveMongoTemplate reactiveMongoTemplate = mock(ReactiveMongoTemplate.class);
+
+	private final EmbeddingClient embeddingClient = mock(EmbeddingClient.class);
+
+	private final List<List<Document>> bulkWrites = new ArrayList<>();
+
+	private final AtomicInteger executedBulkWrites = new AtomicInteger();
+
+	private final BulkWriteResult bulkWriteResult = mock(BulkWriteResult.class);
+
+	@BeforeEach
+	void setUp() {
+		when(this.embeddingClient.embedDocuments(anyList())).thenAnswer(invocation -> {
+			List<Document> documents = invocation.getArgument(0);
+			return documents.stream().map(document -> List.of(0.1, 0.2)).toList();
+		});
+		when(this.embeddingClient.embed(any(String.class))).thenReturn(List.of(0.1, 0.2));
+		when(this.mongoTemplate.bulkOps(BulkMode.UNORDERED, "vector_store"))
+			.thenAnswer(invocation -> bulkOperations());
+		when(this.reactiveMongoTemplate.bulkOps(BulkMode.UNORDERED, "vector_store"))
+			.thenAnswer(invocation -> reactiveBulkOperations());
+	}
+
+	@Test
+	void addUpsertsTheDocumentsInUnorderedBulkWritesOfTheBatchSize() {
+		MongoDBAtlasVectorStore vectorStore = new MongoDBAtlasVectorStore(this.mongoTemplate, this.embeddingClient,
+				MongoDBVectorStoreConfig.builder().withBatchSize(2).build());
+		List<Document> documents = documents(5);
+
+		vectorStore.add(documents);
+
+		assertThat(this.bulkWrites).extracting(List::size).containsExactly(2, 2, 1);
+		assertThat(this.bulkWrites).flatExtracting(batch -> batch).containsExactlyElementsOf(documents);
+		assertThat(this.executedBulkWrites).hasValue(3);
+		assertThat(documents).allSatisfy(document -> assertThat(document.getEmbedding()).containsExactly(0.1, 0.2));
+		verify(this.embeddingClient, times(3)).embedDocuments(anyList());
+	}
+
+	@Test
+	void addReactiveWritesTheBatchesOnTheReactiveTemplate() {
+		MongoDBAtlasVectorStore vectorStore = new MongoDBAtlasVectorStore(this.mongoTemplate,
+				this.reactiveMongoTemplate, this.embeddingClient,
+				MongoDBVectorStoreConfig.builder().withBatchSize(2).build());
+		List<Document> documents = documents(5);
+
+		vectorStore.addReactive(documents).block();
+
+		assertThat(this.bulkWrites).extracting(List::size).containsExactly(2, 2, 1);
+		assertThat(this.bulkWrites).flatExtracting(batch -> batch).containsExactlyElementsOf(documents);
+		assertThat(this.executedBulkWrites).hasValue(3);
+		verify(this.mongoTemplate, never()).bulkOps(any(BulkMode.class), any(String.class));
+	}
+
+	@Test
+	void addReactiveWithoutReactiveTemplateFallsBackToTheBlockingBulkWrites() {
+		MongoDBAtlasVectorStore vectorStore = new MongoDBAtlasVectorStore(this.mongoTemplate, this.embeddingClient,
+				MongoDBVectorStoreConfig.builder().withBatchSize(2).build());
+
+		vectorStore.addReactive(documents(3)).block();
+
+		assertThat(this.bulkWrites).extracting(List::size).containsExactly(2, 1);
+		assertThat(this.executedBulkWrites).hasValue(2);
+	}
+
+	@Test
+	void similaritySearchReactiveRunsTheAggregationOnTheReactiveTemplate() {
+		MongoDBAtlasVectorStore vectorStore = new MongoDBAtlasVectorStore(this.mongoTemplate,
+				this.reactiveMongoTemplate, this.embeddingClient, MongoDBVectorStoreConfig.defaultConfig());
+		when(this.reactiveMongoTemplate.aggregate(any(Aggregation.class), eq("vector_store"),
+				eq(BasicDBObject.class)))
+			.thenReturn(Flux.just(new BasicDBObject(Map.of("_id", "1", "content", "The Great Depression", "metadata",
+					Map.of("year", 1929), "embedding", List.of(0.1, 0.2)))));
+
+		List<Document> documents = vectorStore.similaritySearchReactive(SearchRequest.query("Great Depression"))
+			.collectList()
+			.block();
+
+		assertThat(documents).hasSize(1);
+		assertThat(documents.get(0).getId()).isEqualTo("1");
+		assertThat(documents.get(0).getContent()).isEqualTo("The Great Depression");
+		assertThat(documents.get(0).getMetadata()).containsEntry("year", 1929);
+		assertThat(documents.get(0).getEmbedding()).containsExactly(0.1, 0.2);
+		verify(this.embeddingClient).embed("Great Depression");
+		verify(this.mongoTemplate, never()).aggregate(any(Aggregation.class), any(String.class), any());
+	}
+
+	private BulkOperations bulkOperations() {
+		List<Document> batch = new ArrayList<>();
+		this.bulkWrites.add(batch);
+		BulkOperations bulkOperations = mock(BulkOperations.class);
+		when(bulkOperations.replaceOne(any(Query.class), any(), any(FindAndReplaceOptions.class)))
+			.thenAnswer(invocation -> {
+				batch.add(invocation.getArgument(1));
+				return bulkOperations;
+			});
+		when(bulkOperations.execute()).thenAnswer(invocation -> {
+			this.executedBulkWrites.incrementAndGet();
+			return this.bulkWriteResult;
+		});
+		return bulkOperations;
+	}
+
+	private ReactiveBulkOperations reactiveBulkOperations() {
+		List<Document> batch = new ArrayList<>();
+		this.bulkWrites.add(batch);
+		ReactiveBulkOperations bulkOperations = mock(ReactiveBulkOperations.class);
+		when(bulkOperations.replaceOne(any(Query.class), any(), any(FindAndReplaceOptions.class)))
+			.thenAnswer(invocation -> {
+				batch.add(invocation.getArgument(1));
+				return bulkOperations;
+			});
+		when(bulkOperations.execute()).thenReturn(Mono.fromCallable(() -> {
+			this.executedBulkWrites.incrementAndGet();
+			return this.bulkWriteResult;
+		}));
+		return bulkOperations;
+	}
+
+	private static List<Document> documents(int count) {
+		List<Document> documents = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			documents.add(new Document(String.valueOf(i), "content " + i, Map.of()));
+		}
+		return documents;
+	}
+
+}
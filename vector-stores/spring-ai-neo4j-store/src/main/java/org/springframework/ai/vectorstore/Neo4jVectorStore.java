@@ -16,26 +16,38 @@
 package org.springframework.ai.vectorstore;
 
 import org.neo4j.cypherdsl.support.schema_name.SchemaNames;
+import org.neo4j.driver.AccessMode;
 import org.neo4j.driver.Driver;
 import org.neo4j.driver.SessionConfig;
 import org.neo4j.driver.Values;
+import org.neo4j.driver.async.AsyncSession;
+import org.neo4j.driver.async.ResultCursor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import org.springframework.ai.document.Document;
 import org.springframework.ai.embedding.EmbeddingClient;
 import org.springframework.ai.vectorstore.filter.Neo4jVectorFilterExpressionConverter;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.util.Assert;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 /**
  * @author Gerrit Meier
  * @author Michael Simons
  */
-public class Neo4jVectorStore implements VectorStore, InitializingBean {
+public class Neo4jVectorStore implements VectorStore, ReactiveVectorStore, InitializingBean {
 
 	/**
 	 * An enum to configure the distance function used in the Neo4j vector index.
@@ -59,6 +71,8 @@ public class Neo4jVectorStore implements VectorStore, InitializingBean {
 
 		private final SessionConfig sessionConfig;
 
+		private final SessionConfig searchSessionConfig;
+
 		private final int embeddingDimension;
 
 		private final Neo4jDistanceType distanceType;
@@ -76,6 +90,10 @@ public class Neo4jVectorStore implements VectorStore, InitializingBean {
 
 		private final String constraintName;
 
+		private final int writeBatchSize;
+
+		private final int writeConcurrency;
+
 		/**
 		 * Start building a new configuration.
 		 * @return The entry point for creating a new configuration.
@@ -95,10 +113,11 @@ public class Neo4jVectorStore implements VectorStore, InitializingBean {
 
 		private Neo4jVectorStoreConfig(Builder builder) {
 
-			this.sessionConfig = Optional.ofNullable(builder.databaseName)
-				.filter(Predicate.not(String::isBlank))
-				.map(SessionConfig::forDatabase)
-				.orElseGet(SessionConfig::defaultConfig);
+			var databaseName = Optional.ofNullable(builder.databaseName).filter(Predicate.not(String::isBlank));
+			this.sessionConfig = databaseName.map(SessionConfig::forDatabase).orElseGet(SessionConfig::defaultConfig);
+			var searchSessionConfigBuilder = SessionConfig.builder().withDefaultAccessMode(builder.searchAccessMode);
+			databaseName.ifPresent(searchSessionConfigBuilder::withDatabase);
+			this.searchSessionConfig = searchSessionConfigBuilder.build();
 			this.embeddingDimension = builder.embeddingDimension;
 			this.distanceType = builder.distanceType;
 			this.embeddingProperty = SchemaNames.sanitize(builder.embeddingProperty).orElseThrow();
@@ -107,6 +126,8 @@ public class Neo4jVectorStore implements VectorStore, InitializingBean {
 			this.indexName = SchemaNames.sanitize(builder.indexName, true).orElseThrow();
 			this.constraintName = SchemaNames.sanitize(builder.constraintName).orElseThrow();
 			this.idProperty = SchemaNames.sanitize(builder.idProperty).orElseThrow();
+			this.writeBatchSize = builder.writeBatchSize;
+			this.writeConcurrency = builder.writeConcurrency;
 		}
 
 		public static class Builder {
@@ -127,6 +148,12 @@ public class Neo4jVectorStore implements VectorStore, InitializingBean {
 
 			private String constraintName = DEFAULT_CONSTRAINT_NAME;
 
+			private int writeBatchSize = DEFAULT_WRITE_BATCH_SIZE;
+
+			private int writeConcurrency = DEFAULT_WRITE_CONCURRENCY;
+
+			private AccessMode searchAccessMode = AccessMode.WRITE;
+
 			private Builder() {
 			}
 
@@ -242,6 +269,50 @@ public class Neo4jVectorStore implements VectorStore, InitializingBean {
 				return this;
 			}
 
+			/**
+			 * Configures the number of documents written per transaction. Defaults to
+			 * {@literal 1000}.
+			 * @param newWriteBatchSize The maximum number of rows per write transaction
+			 * @return this builder
+			 */
+			public Builder withWriteBatchSize(int newWriteBatchSize) {
+
+				Assert.isTrue(newWriteBatchSize > 0, "Write batch size must be greater than zero");
+
+				this.writeBatchSize = newWriteBatchSize;
+				return this;
+			}
+
+			/**
+			 * Configures the number of write transactions that run in parallel, each on
+			 * its own session. Defaults to {@literal 4}.
+			 * @param newWriteConcurrency The maximum number of concurrent write
+			 * transactions
+			 * @return this builder
+			 */
+			public Builder withWriteConcurrency(int newWriteConcurrency) {
+
+				Assert.isTrue(newWriteConcurrency > 0, "Write concurrency must be greater than zero");
+
+				this.writeConcurrency = newWriteConcurrency;
+				return this;
+			}
+
+			/**
+			 * Configures the access mode of the sessions used for similarity searches.
+			 * Defaults to {@link AccessMode#WRITE}. Use {@link AccessMode#READ} to route
+			 * the queries to the followers and read replicas of a cluster.
+			 * @param newSearchAccessMode The access mode, must not be {@literal null}
+			 * @return this builder
+			 */
+			public Builder withSearchAccessMode(AccessMode newSearchAccessMode) {
+
+				Assert.notNull(newSearchAccessMode, "Search access mode may not be null");
+
+				this.searchAccessMode = newSearchAccessMode;
+				return this;
+			}
+
 			/**
 			 * {@return the immutable configuration}
 			 */
@@ -266,6 +337,10 @@ public class Neo4jVectorStore implements VectorStore, InitializingBean {
 
 	public static final String DEFAULT_CONSTRAINT_NAME = DEFAULT_LABEL + "_unique_idx";
 
+	public static final int DEFAULT_WRITE_BATCH_SIZE = 1000;
+
+	public static final int DEFAULT_WRITE_CONCURRENCY = 4;
+
 	private final Neo4jVectorFilterExpressionConverter filterExpressionConverter = new Neo4jVectorFilterExpressionConverter();
 
 	private final Driver driver;
@@ -285,26 +360,81 @@ public class Neo4jVectorStore implements VectorStore, InitializingBean {
 		this.config = config;
 	}
 
+	/**
+	 * Adds the documents in chunks of {@code writeBatchSize} rows. Every chunk is
+	 * written in its own transaction, so a failure only rolls back the chunk it
+	 * happened in.
+	 * @param documents the documents to add
+	 */
 	@Override
 	public void add(List<Document> documents) {
 
-		var rows = documents.stream().map(this::documentToRecord).toList();
+		try {
+			addAsync(documents).join();
+		}
+		catch (CompletionException ex) {
+			if (ex.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw ex;
+		}
+	}
 
-		try (var session = this.driver.session()) {
-			var statement = """
-						UNWIND $rows AS row
-						MERGE (u:%s {%2$s: row.id})
-						ON CREATE
-							SET u += row.properties
-						ON MATCH
-							SET u = {}
-							SET u.%2$s = row.id,
-								u += row.properties
-						WITH row, u
-						CALL db.create.setNodeVectorProperty(u, $embeddingProperty, row.embedding)
-					""".formatted(this.config.label, this.config.idProperty);
-			session.run(statement, Map.of("rows", rows, "embeddingProperty", this.config.embeddingProperty)).consume();
+	/**
+	 * Adds the documents in chunks of {@code writeBatchSize} rows, writing up to
+	 * {@code writeConcurrency} chunks at the same time on separate asynchronous
+	 * sessions. The embeddings are computed on the calling thread.
+	 * @param documents the documents to add
+	 * @return a future that completes once all chunks have been written
+	 */
+	public CompletableFuture<Void> addAsync(List<Document> documents) {
+
+		var statement = """
+					UNWIND $rows AS row
+					MERGE (u:%s {%2$s: row.id})
+					ON CREATE
+						SET u += row.properties
+					ON MATCH
+						SET u = {}
+						SET u.%2$s = row.id,
+							u += row.properties
+					WITH row, u
+					CALL db.create.setNodeVectorProperty(u, $embeddingProperty, row.embedding)
+				""".formatted(this.config.label, this.config.idProperty);
+
+		var permits = new Semaphore(this.config.writeConcurrency);
+		var futures = new ArrayList<CompletableFuture<Void>>();
+		try {
+			for (int i = 0; i < documents.size(); i += this.config.writeBatchSize) {
+				var chunk = documents.subList(i, Math.min(i + this.config.writeBatchSize, documents.size()));
+				var rows = documentsToRecords(chunk);
+				permits.acquire();
+				var session = this.driver.session(AsyncSession.class, this.config.sessionConfig);
+				var future = session
+					.executeWriteAsync(tx -> tx
+						.runAsync(statement, Map.of("rows", rows, "embeddingProperty", this.config.embeddingProperty))
+						.thenCompose(ResultCursor::consumeAsync))
+					.handle((summary, error) -> session.closeAsync().thenApply(ignored -> error))
+					.thenCompose(closing -> closing)
+					.thenAccept(error -> {
+						if (error != null) {
+							throw (error instanceof CompletionException ce) ? ce : new CompletionException(error);
+						}
+					})
+					.toCompletableFuture()
+					.whenComplete((ignored, error) -> permits.release());
+				futures.add(future);
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			futures.add(CompletableFuture.failedFuture(ex));
 		}
+		catch (RuntimeException ex) {
+			futures.add(CompletableFuture.failedFuture(ex));
+		}
+
+		return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
 	}
 
 	@Override
@@ -312,41 +442,103 @@ public class Neo4jVectorStore implements VectorStore, InitializingBean {
 
 		try (var session = this.driver.session(this.config.sessionConfig)) {
 
-			var summary = session
-				.run("""
-						MATCH (n:%s) WHERE n.%s IN $ids
-						CALL { WITH n DETACH DELETE n } IN TRANSACTIONS OF $transactionSize ROWS
-						 """.formatted(this.config.label, this.config.idProperty),
-						Map.of("ids", idList, "transactionSize", 10_000))
-				.consume();
+			var summary = session.run(deleteStatement(), deleteParameters(idList)).consume();
 			return Optional.of(idList.size() == summary.counters().nodesDeleted());
 		}
 	}
 
 	@Override
 	public List<Document> similaritySearch(SearchRequest request) {
+		String query = searchQuery(request);
+
+		var embedding = QueryEmbeddings.embed(this.embeddingClient, request);
+		try (var session = this.driver.session(this.config.searchSessionConfig)) {
+			return session.run(query, searchParameters(request, embedding)).list(this::recordToDocument);
+		}
+	}
+
+	private String deleteStatement() {
+		return """
+				MATCH (n:%s) WHERE n.%s IN $ids
+				CALL { WITH n DETACH DELETE n } IN TRANSACTIONS OF $transactionSize ROWS
+				 """.formatted(this.config.label, this.config.idProperty);
+	}
+
+	private static Map<String, Object> deleteParameters(List<String> idList) {
+		return Map.of("ids", idList, "transactionSize", 10_000);
+	}
+
+	private String searchQuery(SearchRequest request) {
 		Assert.isTrue(request.getTopK() > 0, "The number of documents to returned must be greater than zero");
 		Assert.isTrue(request.getSimilarityThreshold() >= 0 && request.getSimilarityThreshold() <= 1,
 				"The similarity score is bounded between 0 and 1; least to most similar respectively.");
 
-		var embedding = Values.value(toFloatArray(this.embeddingClient.embed(request.getQuery())));
-		try (var session = this.driver.session(this.config.sessionConfig)) {
-			StringBuilder condition = new StringBuilder("score >= $threshold");
-			if (request.hasFilterExpression()) {
-				condition.append(" AND ")
-					.append(this.filterExpressionConverter.convertExpression(request.getFilterExpression()));
-			}
-			String query = """
-					CALL db.index.vector.queryNodes($indexName, $numberOfNearestNeighbours, $embeddingValue)
-					YIELD node, score
-					WHERE %s
-					RETURN node, score""".formatted(condition);
-
-			return session
-				.run(query, Map.of("indexName", this.config.indexNameNotSanitized, "numberOfNearestNeighbours",
-						request.getTopK(), "embeddingValue", embedding, "threshold", request.getSimilarityThreshold()))
-				.list(this::recordToDocument);
+		StringBuilder condition = new StringBuilder("score >= $threshold");
+		if (request.hasFilterExpression()) {
+			condition.append(" AND ")
+				.append(this.filterExpressionConverter.convertExpression(request.getFilterExpression()));
 		}
+		return """
+				CALL db.index.vector.queryNodes($indexName, $numberOfNearestNeighbours, $embeddingValue)
+				YIELD node, score
+				WHERE %s
+				RETURN node, score""".formatted(condition);
+	}
+
+	private Map<String, Object> searchParameters(SearchRequest request, List<Double> embedding) {
+		return Map.of("indexName", this.config.indexNameNotSanitized, "numberOfNearestNeighbours", request.getTopK(),
+				"embeddingValue", Values.value(toFloatArray(embedding)), "threshold",
+				request.getSimilarityThreshold());
+	}
+
+	/**
+	 * Non-blocking variant of {@link #add(List)} built on {@link #addAsync(List)}. The
+	 * documents are embedded on the bounded elastic scheduler.
+	 * @param documents the documents to add
+	 * @return a {@link Mono} that completes once all documents have been written
+	 */
+	@Override
+	public Mono<Void> addReactive(List<Document> documents) {
+		return Mono.fromFuture(() -> addAsync(documents)).subscribeOn(Schedulers.boundedElastic());
+	}
+
+	/**
+	 * Non-blocking variant of {@link #delete(List)} running on an asynchronous session.
+	 * @param idList the ids of the documents to delete
+	 * @return whether all the documents were deleted
+	 */
+	@Override
+	public Mono<Boolean> deleteReactive(List<String> idList) {
+		return withAsyncSession(this.config.sessionConfig,
+				session -> session.runAsync(deleteStatement(), deleteParameters(idList))
+					.thenCompose(ResultCursor::consumeAsync))
+			.map(summary -> idList.size() == summary.counters().nodesDeleted());
+	}
+
+	/**
+	 * Non-blocking variant of {@link #similaritySearch(SearchRequest)}. The query is
+	 * embedded on the bounded elastic scheduler and the search runs on an asynchronous
+	 * session.
+	 * @param request the search request
+	 * @return the documents that match the query request conditions
+	 */
+	@Override
+	public Flux<Document> similaritySearchReactive(SearchRequest request) {
+		String query = searchQuery(request);
+
+		return Mono.fromCallable(() -> QueryEmbeddings.embed(this.embeddingClient, request))
+			.subscribeOn(Schedulers.boundedElastic())
+			.flatMap(embedding -> withAsyncSession(this.config.searchSessionConfig,
+					session -> session.runAsync(query, searchParameters(request, embedding))
+						.thenCompose(cursor -> cursor.listAsync(this::recordToDocument))))
+			.flatMapIterable(documents -> documents);
+	}
+
+	private <T> Mono<T> withAsyncSession(SessionConfig sessionConfig,
+			Function<AsyncSession, CompletionStage<T>> work) {
+		return Mono.usingWhen(Mono.fromSupplier(() -> this.driver.session(AsyncSession.class, sessionConfig)),
+				session -> Mono.fromCompletionStage(() -> work.apply(session)),
+				session -> Mono.fromCompletionStage(session.closeAsync()));
 	}
 
 	@Override
@@ -372,8 +564,18 @@ public class Neo4jVectorStore implements VectorStore, InitializingBean {
 		}
 	}
 
-	private Map<String, Object> documentToRecord(Document document) {
-		var embedding = this.embeddingClient.embed(document);
+	private List<Map<String, Object>> documentsToRecords(List<Document> documents) {
+
+		var embeddings = this.embeddingClient.embedDocuments(documents);
+
+		var rows = new ArrayList<Map<String, Object>>(documents.size());
+		for (int i = 0; i < documents.size(); i++) {
+			rows.add(documentToRecord(documents.get(i), embeddings.get(i)));
+		}
+		return rows;
+	}
+
+	private Map<String, Object> documentToRecord(Document document, List<Double> embedding) {
 		document.setEmbedding(embedding);
 
 		var row = new HashMap<String, Object>();
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.vectorstore;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.SessionConfig;
+import org.neo4j.driver.async.AsyncSession;
+import org.neo4j.driver.async.AsyncTransactionCallback;
+import org.neo4j.driver.async.AsyncTransactionContext;
+import org.neo4j.driver.async.ResultCursor;
+import org.neo4j.driver.summary.ResultSummary;
+import org.neo4j.driver.summary.SummaryCounters;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingClient;
+import org.springframework.ai.vectorstore.Neo4jVectorStore.Neo4jVectorStoreConfig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit Tests for the chunked writes and the session handling of {@link Neo4jVectorStore}.
+ */
+class Neo4jVectorStoreTests {
+
+	private final Driver driver = mock(Driver.class);
+
+	private final EmbeddingClient embeddingClient = mock(EmbeddingClient.class);
+
+	private final ResultSummary summary = mock(ResultSummary.class);
+
+	private final ResultCursor cursor = mock(ResultCursor.class);
+
+	private final List<AsyncSession> sessions = new CopyOnWriteArrayList<>();
+
+	private final List<List<Map<String, Object>>> writtenChunks = new CopyOnWriteArrayList<>();
+
+	private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+	private Function<List<Map<String, Object>>, CompletionStage<ResultSummary>> writer = rows -> CompletableFuture
+		.completedFuture(this.summary);
+
+	private CompletionStage<ResultCursor> queryResult;
+
+	@BeforeEach
+	void setUp() {
+		when(this.driver.session(eq(AsyncSession.class), any(SessionConfig.class)))
+			.thenAnswer(invocation -> newSession());
+		when(this.embeddingClient.embedDocuments(anyList())).thenAnswer(invocation -> {
+			List<Document> documents = invocation.getArgument(0);
+			return documents.stream().map(document -> List.of(0.1, 0.2)).toList();
+		});
+		when(this.embeddingClient.embed(any(String.class))).thenReturn(List.of(0.1, 0.2));
+		when(this.cursor.consumeAsync()).thenReturn(CompletableFuture.completedFuture(this.summary));
+	}
+
+	@AfterEach
+	void tearDown() {
+		this.scheduler.shutdownNow();
+	}
+
+	@Test
+	void addWritesEveryChunkOnItsOwnSession() {
+		Neo4jVectorStore vectorStore = vectorStore(2, 4);
+
+		vectorStore.add(documents(5));
+
+		assertThat(this.writtenChunks).extracting(List::size).containsExactly(2, 2, 1);
+		assertThat(this.writtenChunks).flatExtracting(rows -> rows.stream().map(row -> row.get("id")).toList())
+			.containsExactly("0", "1", "2", "3", "4");
+		assertThat(this.sessions).hasSize(3);
+		assertSessionsClosed();
+		verify(this.embeddingClient, times(3)).embedDocuments(anyList());
+	}
+
+	@Test
+	void addPropagatesTheFailureOfOneChunkAndClosesEverySession() {
+		IllegalStateException failure = new IllegalStateException("chunk failed");
+		this.writer = rows -> rows.get(0).get("id").equals("2") ? CompletableFuture.failedFuture(failure)
+				: CompletableFuture.completedFuture(this.summary);
+		Neo4jVectorStore vectorStore = vectorStore(2, 4);
+
+		assertThatThrownBy(() -> vectorStore.add(documents(5))).isSameAs(failure);
+
+		assertThat(this.writtenChunks).hasSize(3);
+		assertSessionsClosed();
+	}
+
+	@Test
+	void addAsyncBoundsTheChunksWrittenAtTheSameTime() {
+		AtomicInteger inFlight = new AtomicInteger();
+		AtomicInteger maxInFlight = new AtomicInteger();
+		this.writer = rows -> {
+			maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+			CompletableFuture<ResultSummary> write = new CompletableFuture<>();
+			this.scheduler.schedule(() -> {
+				inFlight.decrementAndGet();
+				write.complete(this.summary);
+			}, 20, TimeUnit.MILLISECONDS);
+			return write;
+		};
+		Neo4jVectorStore vectorStore = vectorStore(1, 2);
+
+		vectorStore.addAsync(documents(6)).join();
+
+		assertThat(this.writtenChunks).hasSize(6);
+		assertThat(maxInFlight.get()).isEqualTo(2);
+		assertSessionsClosed();
+	}
+
+	@Test
+	void addReactiveClosesTheSessionsOfAllChunks() {
+		Neo4jVectorStore vectorStore = vectorStore(2, 4);
+
+		vectorStore.addReactive(documents(3)).block();
+
+		assertThat(this.writtenChunks).extracting(List::size).containsExactly(2, 1);
+		assertSessionsClosed();
+	}
+
+	@Test
+	void deleteReactiveClosesTheSession() {
+		SummaryCounters counters = mock(SummaryCounters.class);
+		when(counters.nodesDeleted()).thenReturn(2);
+		when(this.summary.counters()).thenReturn(counters);
+		this.queryResult = CompletableFuture.completedFuture(this.cursor);
+
+		assertThat(vectorStore(2, 4).deleteReactive(List.of("1", "2")).block()).isTrue();
+
+		assertThat(this.sessions).hasSize(1);
+		assertSessionsClosed();
+	}
+
+	@Test
+	void similaritySearchReactiveClosesTheSessionWhenTheQueryFails() {
+		IllegalStateException failure = new IllegalStateException("query failed");
+		this.queryResult = CompletableFuture.failedFuture(failure);
+
+		assertThatThrownBy(
+				() -> vectorStore(2, 4).similaritySearchReactive(SearchRequest.query("Spring")).collectList().block())
+			.isSameAs(failure);
+
+		assertThat(this.sessions).hasSize(1);
+		assertSessionsClosed();
+	}
+
+	@SuppressWarnings("unchecked")
+	private AsyncSession newSession() {
+		AsyncTransactionContext tx = mock(AsyncTransactionContext.class);
+		when(tx.runAsync(any(String.class), anyMap())).thenAnswer(invocation -> {
+			Map<String, Object> parameters = invocation.getArgument(1);
+			List<Map<String, Object>> rows = (List<Map<String, Object>>) parameters.get("rows");
+			this.writtenChunks.add(rows);
+			return this.writer.apply(rows).thenApply(summary -> this.cursor);
+		});
+
+		AsyncSession session = mock(AsyncSession.class);
+		when(session.executeWriteAsync(any(AsyncTransactionCallback.class))).thenAnswer(invocation -> {
+			AsyncTransactionCallback<CompletionStage<ResultSummary>> callback = invocation.getArgument(0);
+			return callback.execute(tx);
+		});
+		when(session.runAsync(any(String.class), anyMap())).thenAnswer(invocation -> this.queryResult);
+		when(session.closeAsync()).thenReturn(CompletableFuture.completedFuture(null));
+		this.sessions.add(session);
+		return session;
+	}
+
+	private void assertSessionsClosed() {
+		this.sessions.forEach(session -> verify(session).closeAsync());
+	}
+
+	private Neo4jVectorStore vectorStore(int writeBatchSize, int writeConcurrency) {
+		Neo4jVectorStoreConfig config = Neo4jVectorStoreConfig.builder()
+			.withWriteBatchSize(writeBatchSize)
+			.withWriteConcurrency(writeConcurrency)
+			.build();
+		return new Neo4jVectorStore(this.driver, this.embeddingClient, config);
+	}
+
+	private static List<Document> documents(int count) {
+		List<Document> documents = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			documents.add(new Document(String.valueOf(i), "content " + i, Map.of("index", i)));
+		}
+		return documents;
+	}
+
+}
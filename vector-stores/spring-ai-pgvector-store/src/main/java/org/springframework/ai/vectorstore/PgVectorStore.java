@@ -297,7 +297,7 @@ public class PgVectorStore implements VectorStore, InitializingBean {
 
 		double distance = 1 - request.getSimilarityThreshold();
 
-		PGvector queryEmbedding = getQueryEmbedding(request.getQuery());
+		PGvector queryEmbedding = new PGvector(toFloatArray(QueryEmbeddings.embed(this.embeddingClient, request)));
 
 		return this.jdbcTemplate.query(
 				String.format(this.getDistanceType().similaritySearchSqlTemplate, VECTOR_TABLE_NAME, jsonPathFilter),
@@ -16,11 +16,24 @@
 package org.springframework.ai.vectorstore;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-
-import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.ListValue;
+import com.google.protobuf.NullValue;
 import com.google.protobuf.Struct;
 import com.google.protobuf.Value;
 import com.google.protobuf.util.JsonFormat;
@@ -32,7 +45,11 @@ import io.pinecone.proto.DeleteRequest;
 import io.pinecone.proto.QueryRequest;
 import io.pinecone.proto.QueryResponse;
 import io.pinecone.proto.UpsertRequest;
+import io.pinecone.proto.UpsertResponse;
 import io.pinecone.proto.Vector;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import org.springframework.ai.document.Document;
 import org.springframework.ai.embedding.EmbeddingClient;
@@ -49,12 +66,17 @@ import org.springframework.util.StringUtils;
  * @author Christian Tzolov
  * @author Adam Bchouti
  */
-public class PineconeVectorStore implements VectorStore {
+public class PineconeVectorStore implements VectorStore, ReactiveVectorStore {
 
 	private static final String CONTENT_FIELD_NAME = "document_content";
 
 	private static final String DISTANCE_METADATA_FIELD_NAME = "distance";
 
+	/**
+	 * Pinecone rejects upsert requests larger than 2MB.
+	 */
+	public static final int DEFAULT_MAX_UPSERT_REQUEST_BYTES = 2 * 1024 * 1024;
+
 	public final FilterExpressionConverter filterExpressionConverter = new PineconeFilterExpressionConverter();
 
 	private final EmbeddingClient embeddingClient;
@@ -63,7 +85,11 @@ public class PineconeVectorStore implements VectorStore {
 
 	private final String pineconeNamespace;
 
-	private final ObjectMapper objectMapper;
+	private final int upsertBatchSize;
+
+	private final int upsertConcurrency;
+
+	private final int maxUpsertRequestBytes;
 
 	/**
 	 * Configuration class for the PineconeVectorStore.
@@ -78,6 +104,12 @@ public class PineconeVectorStore implements VectorStore {
 
 		private final PineconeClientConfig clientConfig;
 
+		private final int upsertBatchSize;
+
+		private final int upsertConcurrency;
+
+		private final int maxUpsertRequestBytes;
+
 		// private final int defaultSimilarityTopK;
 
 		/**
@@ -97,6 +129,9 @@ public class PineconeVectorStore implements VectorStore {
 				.withProjectName(builder.projectId)
 				.withApiKey(builder.apiKey)
 				.withServerSideTimeoutSec((int) builder.serverSideTimeout.toSeconds());
+			this.upsertBatchSize = builder.upsertBatchSize;
+			this.upsertConcurrency = builder.upsertConcurrency;
+			this.maxUpsertRequestBytes = builder.maxUpsertRequestBytes;
 		}
 
 		/**
@@ -133,6 +168,22 @@ public class PineconeVectorStore implements VectorStore {
 			 */
 			private Duration serverSideTimeout = Duration.ofSeconds(20);
 
+			/**
+			 * Maximum number of vectors per upsert request. Pinecone recommends batches of
+			 * up to 100 vectors.
+			 */
+			private int upsertBatchSize = 100;
+
+			/**
+			 * Maximum serialized size of an upsert request.
+			 */
+			private int maxUpsertRequestBytes = DEFAULT_MAX_UPSERT_REQUEST_BYTES;
+
+			/**
+			 * Maximum number of upsert requests in flight.
+			 */
+			private int upsertConcurrency = 4;
+
 			private Builder() {
 			}
 
@@ -197,6 +248,41 @@ public class PineconeVectorStore implements VectorStore {
 				return this;
 			}
 
+			/**
+			 * Maximum number of vectors per upsert request.
+			 * @param upsertBatchSize the upsert batch size.
+			 * @return this builder.
+			 */
+			public Builder withUpsertBatchSize(int upsertBatchSize) {
+				Assert.isTrue(upsertBatchSize > 0, "Upsert batch size must be positive");
+				this.upsertBatchSize = upsertBatchSize;
+				return this;
+			}
+
+			/**
+			 * Maximum number of upsert requests in flight.
+			 * @param upsertConcurrency the upsert concurrency.
+			 * @return this builder.
+			 */
+			public Builder withUpsertConcurrency(int upsertConcurrency) {
+				Assert.isTrue(upsertConcurrency > 0, "Upsert concurrency must be positive");
+				this.upsertConcurrency = upsertConcurrency;
+				return this;
+			}
+
+			/**
+			 * Maximum serialized size of an upsert request. Batches whose vectors exceed it
+			 * are split into several requests, a single larger vector is sent alone.
+			 * @param maxUpsertRequestBytes the maximum request size in bytes, at most 2MB.
+			 * @return this builder.
+			 */
+			public Builder withMaxUpsertRequestBytes(int maxUpsertRequestBytes) {
+				Assert.isTrue(maxUpsertRequestBytes > 0 && maxUpsertRequestBytes <= DEFAULT_MAX_UPSERT_REQUEST_BYTES,
+						"Max upsert request bytes must be positive and at most 2MB");
+				this.maxUpsertRequestBytes = maxUpsertRequestBytes;
+				return this;
+			}
+
 			/**
 			 * {@return the immutable configuration}
 			 */
@@ -214,39 +300,110 @@ public class PineconeVectorStore implements VectorStore {
 	 * @param embeddingClient The client for embedding operations.
 	 */
 	public PineconeVectorStore(PineconeVectorStoreConfig config, EmbeddingClient embeddingClient) {
+		this(config, connect(config), embeddingClient);
+	}
+
+	PineconeVectorStore(PineconeVectorStoreConfig config, PineconeConnection pineconeConnection,
+			EmbeddingClient embeddingClient) {
 		Assert.notNull(config, "PineconeVectorStoreConfig must not be null");
 		Assert.notNull(embeddingClient, "EmbeddingClient must not be null");
 
 		this.embeddingClient = embeddingClient;
 		this.pineconeNamespace = config.namespace;
-		this.pineconeConnection = new PineconeClient(config.clientConfig).connect(config.connectionConfig);
-		this.objectMapper = new ObjectMapper();
+		this.pineconeConnection = pineconeConnection;
+		this.upsertBatchSize = config.upsertBatchSize;
+		this.upsertConcurrency = config.upsertConcurrency;
+		this.maxUpsertRequestBytes = config.maxUpsertRequestBytes;
+	}
+
+	private static PineconeConnection connect(PineconeVectorStoreConfig config) {
+		Assert.notNull(config, "PineconeVectorStoreConfig must not be null");
+		return new PineconeClient(config.clientConfig).connect(config.connectionConfig);
 	}
 
 	/**
-	 * Adds a list of documents to the vector store based on the namespace.
+	 * Adds a list of documents to the vector store based on the namespace. The documents
+	 * are embedded in batches of the upsert batch size, and upserted in requests below
+	 * the maximum request size, dispatched concurrently on the future stub.
 	 * @param documents The list of documents to be added.
 	 * @param namespace The namespace to add the documents to
 	 */
 	public void add(List<Document> documents, String namespace) {
 
-		List<Vector> upsertVectors = documents.stream().map(document -> {
-			// Compute and assign an embedding to the document.
-			document.setEmbedding(this.embeddingClient.embed(document));
+		Semaphore inFlight = new Semaphore(this.upsertConcurrency);
+		List<ListenableFuture<UpsertResponse>> upserts = new ArrayList<>();
 
-			return Vector.newBuilder()
+		try {
+			for (List<Document> batch : toBatches(documents)) {
+				for (UpsertRequest upsertRequest : toUpsertRequests(batch, namespace)) {
+					inFlight.acquire();
+					ListenableFuture<UpsertResponse> upsert = this.pineconeConnection.getFutureStub()
+						.upsert(upsertRequest);
+					upsert.addListener(inFlight::release, MoreExecutors.directExecutor());
+					upserts.add(upsert);
+				}
+			}
+			Futures.allAsList(upserts).get();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(e);
+		}
+		catch (ExecutionException e) {
+			throw new RuntimeException(e.getCause());
+		}
+	}
+
+	private List<List<Document>> toBatches(List<Document> documents) {
+		List<List<Document>> batches = new ArrayList<>();
+		for (int i = 0; i < documents.size(); i += this.upsertBatchSize) {
+			batches.add(documents.subList(i, Math.min(i + this.upsertBatchSize, documents.size())));
+		}
+		return batches;
+	}
+
+	/**
+	 * Embeds the documents and splits their vectors into upsert requests whose serialized
+	 * size stays below {@code maxUpsertRequestBytes}.
+	 */
+	private List<UpsertRequest> toUpsertRequests(List<Document> documents, String namespace) {
+
+		long namespaceBytes = CodedOutputStream.computeStringSize(UpsertRequest.NAMESPACE_FIELD_NUMBER, namespace);
+
+		List<UpsertRequest> upsertRequests = new ArrayList<>();
+		UpsertRequest.Builder upsertRequest = UpsertRequest.newBuilder().setNamespace(namespace);
+		long requestBytes = namespaceBytes;
+		for (Vector vector : toVectors(documents)) {
+			long vectorBytes = CodedOutputStream.computeMessageSize(UpsertRequest.VECTORS_FIELD_NUMBER, vector);
+			if (upsertRequest.getVectorsCount() > 0 && requestBytes + vectorBytes > this.maxUpsertRequestBytes) {
+				upsertRequests.add(upsertRequest.build());
+				upsertRequest = UpsertRequest.newBuilder().setNamespace(namespace);
+				requestBytes = namespaceBytes;
+			}
+			upsertRequest.addVectors(vector);
+			requestBytes += vectorBytes;
+		}
+		if (upsertRequest.getVectorsCount() > 0) {
+			upsertRequests.add(upsertRequest.build());
+		}
+		return upsertRequests;
+	}
+
+	private List<Vector> toVectors(List<Document> documents) {
+		// Compute and assign the embeddings to the documents.
+		List<List<Double>> embeddings = this.embeddingClient.embedDocuments(documents);
+
+		List<Vector> vectors = new ArrayList<>(documents.size());
+		for (int i = 0; i < documents.size(); i++) {
+			Document document = documents.get(i);
+			document.setEmbedding(embeddings.get(i));
+			vectors.add(Vector.newBuilder()
 				.setId(document.getId())
 				.addAllValues(toFloatList(document.getEmbedding()))
 				.setMetadata(metadataToStruct(document))
-				.build();
-		}).toList();
-
-		UpsertRequest upsertRequest = UpsertRequest.newBuilder()
-			.addAllVectors(upsertVectors)
-			.setNamespace(namespace)
-			.build();
-
-		this.pineconeConnection.getBlockingStub().upsert(upsertRequest);
+				.build());
+		}
+		return vectors;
 	}
 
 	/**
@@ -264,17 +421,64 @@ public class PineconeVectorStore implements VectorStore {
 	 * @return The metadata as a Protobuf Struct.
 	 */
 	private Struct metadataToStruct(Document document) {
-		try {
+		var structBuilder = Struct.newBuilder();
+		document.getMetadata().forEach((key, value) -> structBuilder.putFields(key, toValue(value)));
+		structBuilder.putFields(CONTENT_FIELD_NAME, contentValue(document));
+		return structBuilder.build();
+	}
+
+	/**
+	 * Converts a metadata value to a Protobuf Value.
+	 * @param value The metadata value.
+	 * @return The Protobuf Value.
+	 */
+	static Value toValue(Object value) {
+		if (value == null) {
+			return Value.newBuilder().setNullValue(NullValue.NULL_VALUE).build();
+		}
+		if (value instanceof String text) {
+			return Value.newBuilder().setStringValue(text).build();
+		}
+		if (value instanceof Number number) {
+			return Value.newBuilder().setNumberValue(number.doubleValue()).build();
+		}
+		if (value instanceof Boolean bool) {
+			return Value.newBuilder().setBoolValue(bool).build();
+		}
+		if (value instanceof Map<?, ?> map) {
 			var structBuilder = Struct.newBuilder();
-			JsonFormat.parser()
-				.ignoringUnknownFields()
-				.merge(this.objectMapper.writeValueAsString(document.getMetadata()), structBuilder);
-			structBuilder.putFields(CONTENT_FIELD_NAME, contentValue(document));
-			return structBuilder.build();
+			map.forEach((key, entry) -> structBuilder.putFields(String.valueOf(key), toValue(entry)));
+			return Value.newBuilder().setStructValue(structBuilder).build();
 		}
-		catch (Exception e) {
-			throw new RuntimeException(e);
+		if (value instanceof Collection<?> collection) {
+			var listBuilder = ListValue.newBuilder();
+			collection.forEach(entry -> listBuilder.addValues(toValue(entry)));
+			return Value.newBuilder().setListValue(listBuilder).build();
 		}
+		return Value.newBuilder().setStringValue(String.valueOf(value)).build();
+	}
+
+	/**
+	 * Converts a Protobuf Value to a plain Java value.
+	 * @param value The Protobuf Value.
+	 * @return The Java value.
+	 */
+	static Object fromValue(Value value) {
+		return switch (value.getKindCase()) {
+			case STRING_VALUE -> value.getStringValue();
+			case NUMBER_VALUE -> value.getNumberValue();
+			case BOOL_VALUE -> value.getBoolValue();
+			case STRUCT_VALUE -> fromStruct(value.getStructValue());
+			case LIST_VALUE ->
+				value.getListValue().getValuesList().stream().map(PineconeVectorStore::fromValue).toList();
+			default -> null;
+		};
+	}
+
+	static Map<String, Object> fromStruct(Struct struct) {
+		Map<String, Object> map = new HashMap<>(struct.getFieldsCount());
+		struct.getFieldsMap().forEach((key, value) -> map.put(key, fromValue(value)));
+		return map;
 	}
 
 	/**
@@ -318,11 +522,173 @@ public class PineconeVectorStore implements VectorStore {
 
 	public List<Document> similaritySearch(SearchRequest request, String namespace) {
 
+		QueryResponse queryResponse = this.pineconeConnection.getBlockingStub()
+			.query(toQueryRequest(request, QueryEmbeddings.embed(this.embeddingClient, request), namespace));
+
+		return toDocuments(queryResponse, request);
+	}
+
+	/**
+	 * Asynchronous similarity search using the gRPC future stub. The query embedding is
+	 * computed on the calling thread.
+	 * @param request the search request.
+	 * @param namespace the namespace to search.
+	 * @return a future completed with the matching documents.
+	 */
+	public CompletableFuture<List<Document>> similaritySearchAsync(SearchRequest request, String namespace) {
+		return query(toQueryRequest(request, QueryEmbeddings.embed(this.embeddingClient, request), namespace), request);
+	}
+
+	/**
+	 * Asynchronous similarity search in the configured namespace.
+	 * @param request the search request.
+	 * @return a future completed with the matching documents.
+	 */
+	public CompletableFuture<List<Document>> similaritySearchAsync(SearchRequest request) {
+		return similaritySearchAsync(request, this.pineconeNamespace);
+	}
+
+	/**
+	 * Non-blocking variant of {@link #add(List)}. The batches are embedded on the bounded
+	 * elastic scheduler and upserted on the gRPC future stub, with at most the configured
+	 * upsert concurrency of requests in flight.
+	 * @param documents The list of documents to be added.
+	 * @return A {@link Mono} that completes once all batches are upserted.
+	 */
+	@Override
+	public Mono<Void> addReactive(List<Document> documents) {
+		return Flux.fromIterable(toBatches(documents))
+			.flatMap(batch -> Mono.fromCallable(() -> toUpsertRequests(batch, this.pineconeNamespace))
+				.subscribeOn(Schedulers.boundedElastic()), this.upsertConcurrency)
+			.flatMapIterable(upsertRequests -> upsertRequests)
+			.flatMap(upsertRequest -> toMono(() -> this.pineconeConnection.getFutureStub().upsert(upsertRequest)),
+					this.upsertConcurrency)
+			.then();
+	}
+
+	/**
+	 * Non-blocking variant of {@link #delete(List)} using the gRPC future stub.
+	 * @param documentIds The list of document IDs to be deleted.
+	 * @return Always {@code true}, the Pinecone delete API does not report a status.
+	 */
+	@Override
+	public Mono<Boolean> deleteReactive(List<String> documentIds) {
+		DeleteRequest deleteRequest = DeleteRequest.newBuilder()
+			.setNamespace(this.pineconeNamespace)
+			.addAllIds(documentIds)
+			.setDeleteAll(false)
+			.build();
+		return toMono(() -> this.pineconeConnection.getFutureStub().delete(deleteRequest)).thenReturn(true);
+	}
+
+	private static <T> Mono<T> toMono(Supplier<ListenableFuture<T>> futureSupplier) {
+		return Mono.create(sink -> {
+			ListenableFuture<T> future = futureSupplier.get();
+			sink.onCancel(() -> future.cancel(true));
+			Futures.addCallback(future, new FutureCallback<>() {
+
+				@Override
+				public void onSuccess(T result) {
+					sink.success(result);
+				}
+
+				@Override
+				public void onFailure(Throwable t) {
+					sink.error(t);
+				}
+
+			}, MoreExecutors.directExecutor());
+		});
+	}
+
+	/**
+	 * Non-blocking variant of {@link #similaritySearch(SearchRequest)}. The query is
+	 * embedded on the bounded elastic scheduler and sent on the gRPC future stub.
+	 * @param request the search request.
+	 * @return the matching documents.
+	 */
+	@Override
+	public Flux<Document> similaritySearchReactive(SearchRequest request) {
+		return Mono.fromFuture(() -> similaritySearchAsync(request))
+			.subscribeOn(Schedulers.boundedElastic())
+			.flatMapIterable(documents -> documents);
+	}
+
+	/**
+	 * Performs the similarity searches in the configured namespace. All query texts are
+	 * embedded with a single embedding call and the queries are sent concurrently.
+	 * @param requests the search requests.
+	 * @return for each request, in order, the list of documents similar to its query.
+	 */
+	@Override
+	public List<List<Document>> similaritySearch(List<SearchRequest> requests) {
+		return similaritySearch(requests, this.pineconeNamespace);
+	}
+
+	/**
+	 * Performs the similarity searches in the given namespace. All query texts are
+	 * embedded with a single embedding call and the queries are sent concurrently.
+	 * @param requests the search requests.
+	 * @param namespace the namespace to search.
+	 * @return for each request, in order, the list of documents similar to its query.
+	 */
+	public List<List<Document>> similaritySearch(List<SearchRequest> requests, String namespace) {
+
+		if (requests.isEmpty()) {
+			return List.of();
+		}
+
+		List<List<Double>> queryEmbeddings = QueryEmbeddings.embed(this.embeddingClient, requests);
+
+		List<CompletableFuture<List<Document>>> futures = new ArrayList<>(requests.size());
+		for (int i = 0; i < requests.size(); i++) {
+			SearchRequest request = requests.get(i);
+			futures.add(query(toQueryRequest(request, queryEmbeddings.get(i), namespace), request));
+		}
+
+		try {
+			CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get();
+			return futures.stream().map(CompletableFuture::join).toList();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(e);
+		}
+		catch (ExecutionException e) {
+			throw new RuntimeException(e.getCause());
+		}
+	}
+
+	private CompletableFuture<List<Document>> query(QueryRequest queryRequest, SearchRequest request) {
+
+		CompletableFuture<List<Document>> result = new CompletableFuture<>();
+		Futures.addCallback(this.pineconeConnection.getFutureStub().query(queryRequest),
+				new FutureCallback<QueryResponse>() {
+
+					@Override
+					public void onSuccess(QueryResponse queryResponse) {
+						try {
+							result.complete(toDocuments(queryResponse, request));
+						}
+						catch (Exception e) {
+							result.completeExceptionally(e);
+						}
+					}
+
+					@Override
+					public void onFailure(Throwable t) {
+						result.completeExceptionally(t);
+					}
+
+				}, MoreExecutors.directExecutor());
+		return result;
+	}
+
+	private QueryRequest toQueryRequest(SearchRequest request, List<Double> queryEmbedding, String namespace) {
+
 		String nativeExpressionFilters = (request.getFilterExpression() != null)
 				? this.filterExpressionConverter.convertExpression(request.getFilterExpression()) : "";
 
-		List<Double> queryEmbedding = this.embeddingClient.embed(request.getQuery());
-
 		var queryRequestBuilder = QueryRequest.newBuilder()
 			.addAllVector(toFloatList(queryEmbedding))
 			.setTopK(request.getTopK())
@@ -333,8 +699,10 @@ public class PineconeVectorStore implements VectorStore {
 			queryRequestBuilder.setFilter(metadataFiltersToStruct(nativeExpressionFilters));
 		}
 
-		QueryResponse queryResponse = this.pineconeConnection.getBlockingStub().query(queryRequestBuilder.build());
+		return queryRequestBuilder.build();
+	}
 
+	private List<Document> toDocuments(QueryResponse queryResponse, SearchRequest request) {
 		return queryResponse.getMatchesList()
 			.stream()
 			.filter(scoredVector -> scoredVector.getScore() >= request.getSimilarityThreshold())
@@ -372,15 +740,9 @@ public class PineconeVectorStore implements VectorStore {
 	 * @return The metadata as a map.
 	 */
 	private Map<String, Object> extractMetadata(Struct metadataStruct) {
-		try {
-			String json = JsonFormat.printer().print(metadataStruct);
-			Map<String, Object> metadata = this.objectMapper.readValue(json, Map.class);
-			metadata.remove(CONTENT_FIELD_NAME);
-			return metadata;
-		}
-		catch (Exception e) {
-			throw new RuntimeException(e);
-		}
+		Map<String, Object> metadata = fromStruct(metadataStruct);
+		metadata.remove(CONTENT_FIELD_NAME);
+		return metadata;
 	}
 
 	/**
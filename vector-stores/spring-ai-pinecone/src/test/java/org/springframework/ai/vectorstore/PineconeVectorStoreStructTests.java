@@ -0,0 +1,51 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.vectorstore;
+
+import java.util.List;
+import java.util.Map;
+
+import com.google.protobuf.Value;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PineconeVectorStoreStructTests {
+
+	@Test
+	public void scalarValues() {
+		assertThat(PineconeVectorStore.toValue("BG").getStringValue()).isEqualTo("BG");
+		assertThat(PineconeVectorStore.toValue(2020).getNumberValue()).isEqualTo(2020.0);
+		assertThat(PineconeVectorStore.toValue(true).getBoolValue()).isTrue();
+		assertThat(PineconeVectorStore.toValue(null).getKindCase()).isEqualTo(Value.KindCase.NULL_VALUE);
+	}
+
+	@Test
+	public void roundTrip() {
+		Map<String, Object> metadata = Map.of("country", "BG", "year", 2020, "isOpen", true, "tags",
+				List.of("a", "b"), "nested", Map.of("city", "Sofia"));
+
+		Value value = PineconeVectorStore.toValue(metadata);
+		Map<String, Object> converted = PineconeVectorStore.fromStruct(value.getStructValue());
+
+		assertThat(converted).containsEntry("country", "BG")
+			.containsEntry("year", 2020.0)
+			.containsEntry("isOpen", true)
+			.containsEntry("tags", List.of("a", "b"))
+			.containsEntry("nested", Map.of("city", "Sofia"));
+	}
+
+}
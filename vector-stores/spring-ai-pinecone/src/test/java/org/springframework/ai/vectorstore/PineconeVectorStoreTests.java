@@ -0,0 +1,251 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.vectorstore;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.protobuf.Struct;
+import com.google.protobuf.Value;
+import io.pinecone.PineconeConnection;
+import io.pinecone.proto.QueryRequest;
+import io.pinecone.proto.QueryResponse;
+import io.pinecone.proto.ScoredVector;
+import io.pinecone.proto.UpsertRequest;
+import io.pinecone.proto.UpsertResponse;
+import io.pinecone.proto.Vector;
+import io.pinecone.proto.VectorServiceGrpc.VectorServiceFutureStub;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingClient;
+import org.springframework.ai.vectorstore.PineconeVectorStore.PineconeVectorStoreConfig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit Tests for the batched upserts and the asynchronous queries of
+ * {@link PineconeVectorStore}.
+ */
+class PineconeVectorStoreTests {
+
+	private final PineconeConnection pineconeConnection = mock(PineconeConnection.class);
+
+	private final VectorServiceFutureStub futureStub = mock(VectorServiceFutureStub.class);
+
+	private final EmbeddingClient embeddingClient = mock(EmbeddingClient.class);
+
+	private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+
+	private final AtomicInteger maxInFlight = new AtomicInteger();
+
+	@BeforeEach
+	void setUp() {
+		when(this.pineconeConnection.getFutureStub()).thenReturn(this.futureStub);
+		when(this.embeddingClient.embedDocuments(anyList())).thenAnswer(invocation -> {
+			List<Document> documents = invocation.getArgument(0);
+			return documents.stream().map(document -> List.of(0.1, 0.2)).toList();
+		});
+		when(this.embeddingClient.embed(any(String.class))).thenReturn(List.of(0.1, 0.2));
+		doAnswer(invocation -> {
+			int current = this.inFlight.incrementAndGet();
+			this.maxInFlight.accumulateAndGet(current, Math::max);
+			SettableFuture<UpsertResponse> upsert = SettableFuture.create();
+			this.scheduler.schedule(() -> {
+				this.inFlight.decrementAndGet();
+				upsert.set(UpsertResponse.getDefaultInstance());
+			}, 20, TimeUnit.MILLISECONDS);
+			return upsert;
+		}).when(this.futureStub).upsert(any(UpsertRequest.class));
+	}
+
+	@AfterEach
+	void tearDown() {
+		this.scheduler.shutdownNow();
+	}
+
+	@Test
+	void addSplitsTheBatchesOnTheSerializedSizeOfTheVectors() {
+		PineconeVectorStore vectorStore = vectorStore(config().withUpsertBatchSize(3).withMaxUpsertRequestBytes(2500));
+
+		vectorStore.add(documents(5, 1000));
+
+		List<UpsertRequest> upsertRequests = upsertRequests(3);
+		assertThat(upsertRequests).extracting(UpsertRequest::getVectorsCount).containsExactly(2, 1, 2);
+		assertThat(upsertRequests).allSatisfy(request -> assertThat(request.getSerializedSize()).isLessThan(2500));
+		assertThat(upsertRequests).flatExtracting(UpsertRequest::getVectorsList)
+			.extracting(Vector::getId)
+			.containsExactly("0", "1", "2", "3", "4");
+		verify(this.embeddingClient, times(2)).embedDocuments(anyList());
+	}
+
+	@Test
+	void addKeepsTheUpsertRequestsBelowTwoMegabytesByDefault() {
+		PineconeVectorStore vectorStore = vectorStore(config());
+
+		vectorStore.add(documents(3, 900 * 1024));
+
+		List<UpsertRequest> upsertRequests = upsertRequests(2);
+		assertThat(upsertRequests).extracting(UpsertRequest::getVectorsCount).containsExactly(2, 1);
+		assertThat(upsertRequests).allSatisfy(request -> assertThat(request.getSerializedSize())
+			.isLessThanOrEqualTo(PineconeVectorStore.DEFAULT_MAX_UPSERT_REQUEST_BYTES));
+	}
+
+	@Test
+	void addSendsAVectorLargerThanTheLimitAlone() {
+		PineconeVectorStore vectorStore = vectorStore(config().withMaxUpsertRequestBytes(500));
+
+		vectorStore.add(documents(2, 1000));
+
+		assertThat(upsertRequests(2)).extracting(UpsertRequest::getVectorsCount).containsExactly(1, 1);
+	}
+
+	@Test
+	void addBoundsTheUpsertRequestsInFlight() {
+		PineconeVectorStore vectorStore = vectorStore(config().withUpsertBatchSize(1).withUpsertConcurrency(2));
+
+		vectorStore.add(documents(6, 10));
+
+		upsertRequests(6);
+		assertThat(this.maxInFlight.get()).isEqualTo(2);
+		assertThat(this.inFlight.get()).isZero();
+	}
+
+	@Test
+	void addPropagatesTheFailureOfAnUpsert() {
+		IllegalStateException failure = new IllegalStateException("upsert failed");
+		doAnswer(invocation -> {
+			SettableFuture<UpsertResponse> upsert = SettableFuture.create();
+			upsert.setException(failure);
+			return upsert;
+		}).when(this.futureStub).upsert(any(UpsertRequest.class));
+		PineconeVectorStore vectorStore = vectorStore(config().withUpsertBatchSize(1));
+
+		assertThatThrownBy(() -> vectorStore.add(documents(2, 10))).isInstanceOf(RuntimeException.class)
+			.hasCause(failure);
+	}
+
+	@Test
+	void addReactiveSplitsAndBoundsTheUpsertRequests() {
+		PineconeVectorStore vectorStore = vectorStore(
+				config().withUpsertBatchSize(3).withMaxUpsertRequestBytes(2500).withUpsertConcurrency(2));
+
+		vectorStore.addReactive(documents(5, 1000)).block();
+
+		assertThat(upsertRequests(3)).extracting(UpsertRequest::getVectorsCount).containsExactlyInAnyOrder(2, 1, 2);
+		assertThat(this.maxInFlight.get()).isLessThanOrEqualTo(2);
+		assertThat(this.inFlight.get()).isZero();
+	}
+
+	@Test
+	void similaritySearchAsyncCompletesWithTheMatchingDocuments() throws Exception {
+		SettableFuture<QueryResponse> query = SettableFuture.create();
+		when(this.futureStub.query(any(QueryRequest.class))).thenReturn(query);
+		PineconeVectorStore vectorStore = vectorStore(config());
+
+		CompletableFuture<List<Document>> result = vectorStore
+			.similaritySearchAsync(SearchRequest.query("Great Depression").withTopK(2).withSimilarityThreshold(0.5));
+
+		assertThat(result).isNotDone();
+		ArgumentCaptor<QueryRequest> queryRequest = ArgumentCaptor.forClass(QueryRequest.class);
+		verify(this.futureStub).query(queryRequest.capture());
+		assertThat(queryRequest.getValue().getTopK()).isEqualTo(2);
+		assertThat(queryRequest.getValue().getVectorList()).containsExactly(0.1f, 0.2f);
+
+		query.set(QueryResponse.newBuilder()
+			.addMatches(scoredVector("1", "The Great Depression", 0.8f))
+			.addMatches(scoredVector("2", "The Roaring Twenties", 0.3f))
+			.build());
+
+		List<Document> documents = result.get(1, TimeUnit.SECONDS);
+		assertThat(documents).hasSize(1);
+		assertThat(documents.get(0).getId()).isEqualTo("1");
+		assertThat(documents.get(0).getContent()).isEqualTo("The Great Depression");
+		assertThat((Float) documents.get(0).getMetadata().get("distance")).isCloseTo(0.2f, within(0.0001f));
+	}
+
+	@Test
+	void similaritySearchAsyncCompletesExceptionallyWhenTheQueryFails() {
+		SettableFuture<QueryResponse> query = SettableFuture.create();
+		when(this.futureStub.query(any(QueryRequest.class))).thenReturn(query);
+		PineconeVectorStore vectorStore = vectorStore(config());
+
+		CompletableFuture<List<Document>> result = vectorStore
+			.similaritySearchAsync(SearchRequest.query("Great Depression"));
+		IllegalStateException failure = new IllegalStateException("query failed");
+		query.setException(failure);
+
+		assertThat(result).isCompletedExceptionally();
+		assertThatThrownBy(result::join).hasCause(failure);
+	}
+
+	private List<UpsertRequest> upsertRequests(int count) {
+		ArgumentCaptor<UpsertRequest> upsertRequests = ArgumentCaptor.forClass(UpsertRequest.class);
+		verify(this.futureStub, times(count)).upsert(upsertRequests.capture());
+		return upsertRequests.getAllValues();
+	}
+
+	private PineconeVectorStore vectorStore(PineconeVectorStoreConfig.Builder config) {
+		return new PineconeVectorStore(config.build(), this.pineconeConnection, this.embeddingClient);
+	}
+
+	private static PineconeVectorStoreConfig.Builder config() {
+		return PineconeVectorStoreConfig.builder()
+			.withApiKey("api-key")
+			.withEnvironment("gcp-starter")
+			.withProjectId("project")
+			.withIndexName("index");
+	}
+
+	private static List<Document> documents(int count, int contentLength) {
+		List<Document> documents = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			documents.add(new Document(String.valueOf(i), "a".repeat(contentLength), Map.of()));
+		}
+		return documents;
+	}
+
+	private static ScoredVector scoredVector(String id, String content, float score) {
+		return ScoredVector.newBuilder()
+			.setId(id)
+			.setScore(score)
+			.setMetadata(Struct.newBuilder()
+				.putFields("document_content", Value.newBuilder().setStringValue(content).build()))
+			.build();
+	}
+
+}
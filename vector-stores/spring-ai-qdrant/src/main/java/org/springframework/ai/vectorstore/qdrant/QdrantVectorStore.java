@@ -20,14 +20,27 @@ import static io.qdrant.client.ValueFactory.value;
 import static io.qdrant.client.VectorsFactory.vectors;
 import static io.qdrant.client.WithPayloadSelectorFactory.enable;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import org.springframework.ai.document.Document;
 import org.springframework.ai.embedding.EmbeddingClient;
+import org.springframework.ai.vectorstore.QueryEmbeddings;
+import org.springframework.ai.vectorstore.ReactiveVectorStore;
 import org.springframework.ai.vectorstore.SearchRequest;
 import org.springframework.ai.vectorstore.VectorStore;
 import org.springframework.beans.factory.InitializingBean;
@@ -38,12 +51,15 @@ import io.qdrant.client.QdrantGrpcClient;
 import io.qdrant.client.grpc.Collections.Distance;
 import io.qdrant.client.grpc.Collections.VectorParams;
 import io.qdrant.client.grpc.JsonWithInt.Value;
+import io.qdrant.client.grpc.Points.BatchResult;
 import io.qdrant.client.grpc.Points.Filter;
 import io.qdrant.client.grpc.Points.PointId;
 import io.qdrant.client.grpc.Points.PointStruct;
 import io.qdrant.client.grpc.Points.ScoredPoint;
 import io.qdrant.client.grpc.Points.SearchPoints;
+import io.qdrant.client.grpc.Points.UpdateResult;
 import io.qdrant.client.grpc.Points.UpdateStatus;
+import io.qdrant.client.grpc.Points.UpsertPoints;
 
 /**
  * Qdrant vectorStore implementation. This store supports creating, updating, deleting,
@@ -53,12 +69,16 @@ import io.qdrant.client.grpc.Points.UpdateStatus;
  * @author Christian Tzolov
  * @since 0.8.1
  */
-public class QdrantVectorStore implements VectorStore, InitializingBean {
+public class QdrantVectorStore implements VectorStore, ReactiveVectorStore, InitializingBean {
 
 	private static final String CONTENT_FIELD_NAME = "doc_content";
 
 	private static final String DISTANCE_FIELD_NAME = "distance";
 
+	public static final int DEFAULT_UPSERT_BATCH_SIZE = 256;
+
+	public static final int DEFAULT_MAX_CONCURRENT_UPSERTS = 4;
+
 	private final EmbeddingClient embeddingClient;
 
 	private final QdrantClient qdrantClient;
@@ -67,6 +87,12 @@ public class QdrantVectorStore implements VectorStore, InitializingBean {
 
 	private final QdrantFilterExpressionConverter filterExpressionConverter = new QdrantFilterExpressionConverter();
 
+	private int upsertBatchSize = DEFAULT_UPSERT_BATCH_SIZE;
+
+	private int maxConcurrentUpserts = DEFAULT_MAX_CONCURRENT_UPSERTS;
+
+	private boolean upsertWait = true;
+
 	/**
 	 * Configuration class for the QdrantVectorStore.
 	 */
@@ -76,6 +102,12 @@ public class QdrantVectorStore implements VectorStore, InitializingBean {
 
 		private QdrantClient qdrantClient;
 
+		private final int upsertBatchSize;
+
+		private final int maxConcurrentUpserts;
+
+		private final boolean upsertWait;
+
 		/*
 		 * Constructor using the builder.
 		 *
@@ -92,6 +124,9 @@ public class QdrantVectorStore implements VectorStore, InitializingBean {
 			}
 
 			this.qdrantClient = new QdrantClient(grpcClientBuilder.build());
+			this.upsertBatchSize = builder.upsertBatchSize;
+			this.maxConcurrentUpserts = builder.maxConcurrentUpserts;
+			this.upsertWait = builder.upsertWait;
 		}
 
 		/**
@@ -121,6 +156,12 @@ public class QdrantVectorStore implements VectorStore, InitializingBean {
 
 			private String apiKey = null;
 
+			private int upsertBatchSize = DEFAULT_UPSERT_BATCH_SIZE;
+
+			private int maxConcurrentUpserts = DEFAULT_MAX_CONCURRENT_UPSERTS;
+
+			private boolean upsertWait = true;
+
 			private Builder() {
 			}
 
@@ -167,6 +208,36 @@ public class QdrantVectorStore implements VectorStore, InitializingBean {
 				return this;
 			}
 
+			/**
+			 * @param upsertBatchSize The maximum number of points sent in a single upsert
+			 * request. Defaults to 256.
+			 */
+			public Builder withUpsertBatchSize(int upsertBatchSize) {
+				Assert.isTrue(upsertBatchSize > 0, "upsertBatchSize must be positive");
+				this.upsertBatchSize = upsertBatchSize;
+				return this;
+			}
+
+			/**
+			 * @param maxConcurrentUpserts The maximum number of upsert requests in flight.
+			 * Defaults to 4.
+			 */
+			public Builder withMaxConcurrentUpserts(int maxConcurrentUpserts) {
+				Assert.isTrue(maxConcurrentUpserts > 0, "maxConcurrentUpserts must be positive");
+				this.maxConcurrentUpserts = maxConcurrentUpserts;
+				return this;
+			}
+
+			/**
+			 * @param upsertWait Whether the upserts wait for the changes to be applied.
+			 * When false, the upserts are confirmed as soon as Qdrant acknowledges them.
+			 * Defaults to true.
+			 */
+			public Builder withUpsertWait(boolean upsertWait) {
+				this.upsertWait = upsertWait;
+				return this;
+			}
+
 			/**
 			 * {@return the immutable configuration}
 			 */
@@ -186,6 +257,9 @@ public class QdrantVectorStore implements VectorStore, InitializingBean {
 	 */
 	public QdrantVectorStore(QdrantVectorStoreConfig config, EmbeddingClient embeddingClient) {
 		this(config.qdrantClient, config.collectionName, embeddingClient);
+		this.upsertBatchSize = config.upsertBatchSize;
+		this.maxConcurrentUpserts = config.maxConcurrentUpserts;
+		this.upsertWait = config.upsertWait;
 	}
 
 	/**
@@ -205,30 +279,73 @@ public class QdrantVectorStore implements VectorStore, InitializingBean {
 	}
 
 	/**
-	 * Adds a list of documents to the vector store.
+	 * Adds a list of documents to the vector store. The documents are embedded and
+	 * upserted in chunks, with a bounded number of upsert requests in flight.
 	 * @param documents The list of documents to be added.
 	 */
 	@Override
 	public void add(List<Document> documents) {
+		Semaphore inFlight = new Semaphore(this.maxConcurrentUpserts);
+		List<ListenableFuture<UpdateResult>> upserts = new ArrayList<>();
 		try {
-			List<PointStruct> points = documents.stream().map(document -> {
-				// Compute and assign an embedding to the document.
-				document.setEmbedding(this.embeddingClient.embed(document));
-
-				return PointStruct.newBuilder()
-					.setId(id(UUID.fromString(document.getId())))
-					.setVectors(vectors(toFloatList(document.getEmbedding())))
-					.putAllPayload(toPayload(document))
+			for (int i = 0; i < documents.size(); i += this.upsertBatchSize) {
+				List<Document> chunk = documents.subList(i, Math.min(i + this.upsertBatchSize, documents.size()));
+				UpsertPoints upsertPoints = UpsertPoints.newBuilder()
+					.setCollectionName(this.collectionName)
+					.addAllPoints(toPoints(chunk))
+					.setWait(this.upsertWait)
 					.build();
-			}).toList();
 
-			this.qdrantClient.upsertAsync(this.collectionName, points).get();
+				inFlight.acquire();
+				ListenableFuture<UpdateResult> upsert = this.qdrantClient.upsertAsync(upsertPoints);
+				upsert.addListener(inFlight::release, MoreExecutors.directExecutor());
+				upserts.add(upsert);
+			}
+			Futures.allAsList(upserts).get();
 		}
 		catch (InterruptedException | ExecutionException | IllegalArgumentException e) {
 			throw new RuntimeException(e);
 		}
 	}
 
+	/**
+	 * Non-blocking variant of {@link #add(List)}. The documents are embedded on the
+	 * bounded elastic scheduler.
+	 * @param documents The list of documents to be added.
+	 * @return A {@link Mono} that completes once all chunks are upserted.
+	 */
+	@Override
+	public Mono<Void> addReactive(List<Document> documents) {
+		return Flux.fromIterable(documents)
+			.buffer(this.upsertBatchSize)
+			.flatMap(chunk -> Mono.fromCallable(() -> UpsertPoints.newBuilder()
+				.setCollectionName(this.collectionName)
+				.addAllPoints(toPoints(chunk))
+				.setWait(this.upsertWait)
+				.build())
+				.subscribeOn(Schedulers.boundedElastic())
+				.flatMap(upsertPoints -> toMono(() -> this.qdrantClient.upsertAsync(upsertPoints))),
+					this.maxConcurrentUpserts)
+			.then();
+	}
+
+	private List<PointStruct> toPoints(List<Document> documents) {
+		// Compute and assign the embeddings to the documents.
+		List<List<Double>> embeddings = this.embeddingClient.embedDocuments(documents);
+
+		List<PointStruct> points = new ArrayList<>(documents.size());
+		for (int i = 0; i < documents.size(); i++) {
+			Document document = documents.get(i);
+			document.setEmbedding(embeddings.get(i));
+			points.add(PointStruct.newBuilder()
+				.setId(id(UUID.fromString(document.getId())))
+				.setVectors(vectors(toFloatList(document.getEmbedding())))
+				.putAllPayload(toPayload(document))
+				.build());
+		}
+		return points;
+	}
+
 	/**
 	 * Deletes a list of documents by their IDs.
 	 * @param documentIds The list of document IDs to be deleted.
@@ -248,6 +365,18 @@ public class QdrantVectorStore implements VectorStore, InitializingBean {
 		}
 	}
 
+	/**
+	 * Non-blocking variant of {@link #delete(List)}.
+	 * @param documentIds The list of document IDs to be deleted.
+	 * @return Whether the deletion completed.
+	 */
+	@Override
+	public Mono<Boolean> deleteReactive(List<String> documentIds) {
+		return Mono.fromCallable(() -> documentIds.stream().map(id -> id(UUID.fromString(id))).toList())
+			.flatMap(ids -> toMono(() -> this.qdrantClient.deleteAsync(this.collectionName, ids)))
+			.map(updateResult -> updateResult.getStatus() == UpdateStatus.Completed);
+	}
+
 	/**
 	 * Performs a similarity search on the vector store.
 	 * @param request The {@link SearchRequest} object containing the query and other
@@ -257,22 +386,9 @@ public class QdrantVectorStore implements VectorStore, InitializingBean {
 	@Override
 	public List<Document> similaritySearch(SearchRequest request) {
 		try {
-			Filter filter = (request.getFilterExpression() != null)
-					? this.filterExpressionConverter.convertExpression(request.getFilterExpression())
-					: Filter.getDefaultInstance();
-
-			List<Double> queryEmbedding = this.embeddingClient.embed(request.getQuery());
-
-			var searchPoints = SearchPoints.newBuilder()
-				.setCollectionName(this.collectionName)
-				.setLimit(request.getTopK())
-				.setWithPayload(enable(true))
-				.addAllVector(toFloatList(queryEmbedding))
-				.setFilter(filter)
-				.setScoreThreshold((float) request.getSimilarityThreshold())
-				.build();
+			List<Double> queryEmbedding = QueryEmbeddings.embed(this.embeddingClient, request);
 
-			var queryResponse = this.qdrantClient.searchAsync(searchPoints).get();
+			var queryResponse = this.qdrantClient.searchAsync(toSearchPoints(request, queryEmbedding)).get();
 
 			return queryResponse.stream().map(scoredPoint -> {
 				return toDocument(scoredPoint);
@@ -284,6 +400,88 @@ public class QdrantVectorStore implements VectorStore, InitializingBean {
 		}
 	}
 
+	/**
+	 * Non-blocking variant of {@link #similaritySearch(SearchRequest)}. The query is
+	 * embedded on the bounded elastic scheduler.
+	 * @param request The {@link SearchRequest} object containing the query and other
+	 * search parameters.
+	 * @return The documents that are similar to the query.
+	 */
+	@Override
+	public Flux<Document> similaritySearchReactive(SearchRequest request) {
+		return Mono.fromCallable(() -> toSearchPoints(request, QueryEmbeddings.embed(this.embeddingClient, request)))
+			.subscribeOn(Schedulers.boundedElastic())
+			.flatMap(searchPoints -> toMono(() -> this.qdrantClient.searchAsync(searchPoints)))
+			.flatMapIterable(scoredPoints -> scoredPoints)
+			.map(this::toDocument);
+	}
+
+	private static <T> Mono<T> toMono(Supplier<ListenableFuture<T>> futureSupplier) {
+		return Mono.create(sink -> {
+			ListenableFuture<T> future = futureSupplier.get();
+			sink.onCancel(() -> future.cancel(true));
+			Futures.addCallback(future, new FutureCallback<T>() {
+
+				@Override
+				public void onSuccess(T result) {
+					sink.success(result);
+				}
+
+				@Override
+				public void onFailure(Throwable t) {
+					sink.error(t);
+				}
+
+			}, MoreExecutors.directExecutor());
+		});
+	}
+
+	/**
+	 * Performs multiple similarity searches in a single round trip, using the Qdrant
+	 * batch search API. All query texts are embedded with a single embedding call.
+	 * @param requests The search requests.
+	 * @return For each request, in order, the list of documents similar to its query.
+	 */
+	@Override
+	public List<List<Document>> similaritySearch(List<SearchRequest> requests) {
+		if (requests.isEmpty()) {
+			return List.of();
+		}
+		try {
+			List<List<Double>> queryEmbeddings = QueryEmbeddings.embed(this.embeddingClient, requests);
+
+			List<SearchPoints> searches = new ArrayList<>(requests.size());
+			for (int i = 0; i < requests.size(); i++) {
+				searches.add(toSearchPoints(requests.get(i), queryEmbeddings.get(i)));
+			}
+
+			List<BatchResult> batchResults = this.qdrantClient.searchBatchAsync(this.collectionName, searches, null)
+				.get();
+
+			return batchResults.stream()
+				.map(batchResult -> batchResult.getResultList().stream().map(this::toDocument).toList())
+				.toList();
+		}
+		catch (InterruptedException | ExecutionException | IllegalArgumentException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private SearchPoints toSearchPoints(SearchRequest request, List<Double> queryEmbedding) {
+		Filter filter = (request.getFilterExpression() != null)
+				? this.filterExpressionConverter.convertExpression(request.getFilterExpression())
+				: Filter.getDefaultInstance();
+
+		return SearchPoints.newBuilder()
+			.setCollectionName(this.collectionName)
+			.setLimit(request.getTopK())
+			.setWithPayload(enable(true))
+			.addAllVector(toFloatList(queryEmbedding))
+			.setFilter(filter)
+			.setScoreThreshold((float) request.getSimilarityThreshold())
+			.build();
+	}
+
 	/**
 	 * Extracts metadata from a Protobuf Struct.
 	 * @param metadataStruct The Protobuf Struct containing metadata.
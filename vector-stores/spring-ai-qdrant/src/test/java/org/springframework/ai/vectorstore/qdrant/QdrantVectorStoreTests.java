@@ -0,0 +1,231 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.vectorstore.qdrant;
+
+import static io.qdrant.client.PointIdFactory.id;
+import static io.qdrant.client.ValueFactory.value;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.SettableFuture;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingClient;
+import org.springframework.ai.vectorstore.SearchRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.qdrant.client.QdrantClient;
+import io.qdrant.client.grpc.Points.BatchResult;
+import io.qdrant.client.grpc.Points.ScoredPoint;
+import io.qdrant.client.grpc.Points.SearchPoints;
+import io.qdrant.client.grpc.Points.UpdateResult;
+import io.qdrant.client.grpc.Points.UpdateStatus;
+import io.qdrant.client.grpc.Points.UpsertPoints;
+
+/**
+ * Unit Tests for the chunked upserts and the batch search of {@link QdrantVectorStore}.
+ */
+class QdrantVectorStoreTests {
+
+	private static final UpdateResult COMPLETED = UpdateResult.newBuilder().setStatus(UpdateStatus.Completed).build();
+
+	private final QdrantClient qdrantClient = mock(QdrantClient.class);
+
+	private final EmbeddingClient embeddingClient = mock(EmbeddingClient.class);
+
+	private final List<UpsertPoints> upserts = new ArrayList<>();
+
+	private final List<SettableFuture<UpdateResult>> upsertResults = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		when(this.embeddingClient.embedDocuments(anyList())).thenAnswer(invocation -> {
+			List<Document> documents = invocation.getArgument(0);
+			return documents.stream().map(document -> List.of(0.1, 0.2)).toList();
+		});
+		when(this.qdrantClient.upsertAsync(any(UpsertPoints.class))).thenAnswer(invocation -> {
+			SettableFuture<UpdateResult> result = SettableFuture.create();
+			synchronized (this.upserts) {
+				this.upserts.add(invocation.getArgument(0));
+				this.upsertResults.add(result);
+			}
+			return result;
+		});
+	}
+
+	@Test
+	void addUpsertsTheDocumentsInChunks() {
+		when(this.qdrantClient.upsertAsync(any(UpsertPoints.class))).thenAnswer(invocation -> {
+			this.upserts.add(invocation.getArgument(0));
+			return Futures.immediateFuture(COMPLETED);
+		});
+		QdrantVectorStore vectorStore = vectorStore(2, 4);
+
+		vectorStore.add(documents(5));
+
+		assertThat(this.upserts).extracting(UpsertPoints::getPointsCount).containsExactly(2, 2, 1);
+		assertThat(this.upserts).allSatisfy(upsert -> {
+			assertThat(upsert.getCollectionName()).isEqualTo("test-collection");
+			assertThat(upsert.getWait()).isFalse();
+			assertThat(upsert.getPointsList())
+				.allSatisfy(point -> assertThat(point.getPayloadMap()).containsKey("doc_content"));
+		});
+		verify(this.embeddingClient, times(3)).embedDocuments(anyList());
+	}
+
+	@Test
+	void addBoundsTheUpsertsInFlight() throws Exception {
+		QdrantVectorStore vectorStore = vectorStore(1, 2);
+
+		CompletableFuture<Void> added = CompletableFuture.runAsync(() -> vectorStore.add(documents(5)));
+
+		assertUpsertsAreBounded(added);
+	}
+
+	@Test
+	void addReactiveBoundsTheUpsertsInFlight() throws Exception {
+		QdrantVectorStore vectorStore = vectorStore(1, 2);
+
+		CompletableFuture<Void> added = vectorStore.addReactive(documents(5)).toFuture();
+
+		assertUpsertsAreBounded(added);
+	}
+
+	private void assertUpsertsAreBounded(CompletableFuture<Void> added) throws Exception {
+		verify(this.qdrantClient, timeout(5000).times(2)).upsertAsync(any(UpsertPoints.class));
+		Thread.sleep(100);
+		verify(this.qdrantClient, times(2)).upsertAsync(any(UpsertPoints.class));
+
+		for (int completed = 0; completed < 5; completed++) {
+			verify(this.qdrantClient, timeout(5000).times(Math.min(completed + 2, 5)))
+				.upsertAsync(any(UpsertPoints.class));
+			synchronized (this.upserts) {
+				this.upsertResults.get(completed).set(COMPLETED);
+			}
+		}
+
+		added.get(5, TimeUnit.SECONDS);
+		assertThat(this.upserts).extracting(UpsertPoints::getPointsCount).containsOnly(1);
+	}
+
+	@Test
+	void addFailsWhenAnUpsertFails() {
+		when(this.qdrantClient.upsertAsync(any(UpsertPoints.class)))
+			.thenReturn(Futures.immediateFailedFuture(new IllegalStateException("Upsert failed")));
+		QdrantVectorStore vectorStore = vectorStore(2, 4);
+
+		assertThatThrownBy(() -> vectorStore.add(documents(3))).hasRootCauseMessage("Upsert failed");
+		assertThatThrownBy(() -> vectorStore.addReactive(documents(3)).block(Duration.ofSeconds(5)))
+			.hasMessage("Upsert failed");
+	}
+
+	@Test
+	void searchesAllRequestsInOneBatch() {
+		String firstId = UUID.randomUUID().toString();
+		String secondId = UUID.randomUUID().toString();
+		when(this.embeddingClient.embed(anyList())).thenReturn(List.of(List.of(0.5, 0.6)));
+		when(this.qdrantClient.searchBatchAsync(eq("test-collection"), anyList(), isNull()))
+			.thenReturn(Futures.immediateFuture(List.of(batchResult(scoredPoint(firstId, "first", 0.9f)),
+					batchResult(scoredPoint(secondId, "second", 0.7f)))));
+		QdrantVectorStore vectorStore = vectorStore(2, 4);
+
+		List<List<Document>> results = vectorStore.similaritySearch(List.of(
+				SearchRequest.query("first").withTopK(3).withSimilarityThreshold(0.5),
+				SearchRequest.query("second").withTopK(7).withQueryEmbedding(new float[] { 0.3f, 0.4f })
+					.withFilterExpression("year == 2024")));
+
+		verify(this.embeddingClient).embed(List.of("first"));
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<SearchPoints>> searches = ArgumentCaptor.forClass(List.class);
+		verify(this.qdrantClient).searchBatchAsync(eq("test-collection"), searches.capture(), isNull());
+		assertThat(searches.getValue()).hasSize(2);
+		SearchPoints first = searches.getValue().get(0);
+		assertThat(first.getLimit()).isEqualTo(3);
+		assertThat(first.getScoreThreshold()).isEqualTo(0.5f);
+		assertThat(first.getVectorList()).containsExactly(0.5f, 0.6f);
+		assertThat(first.getFilter().getMustCount()).isZero();
+		SearchPoints second = searches.getValue().get(1);
+		assertThat(second.getLimit()).isEqualTo(7);
+		assertThat(second.getVectorList()).containsExactly(0.3f, 0.4f);
+		assertThat(second.getFilter().getMustCount()).isEqualTo(1);
+
+		assertThat(results).hasSize(2);
+		assertThat(results.get(0)).extracting(Document::getId, Document::getContent)
+			.containsExactly(tuple(firstId, "first"));
+		assertThat(results.get(1)).extracting(Document::getId).containsExactly(secondId);
+		assertThat((float) results.get(1).get(0).getMetadata().get("distance")).isEqualTo(1 - 0.7f);
+	}
+
+	@Test
+	void searchesNoRequestsWithoutCallingQdrant() {
+		assertThat(vectorStore(2, 4).similaritySearch(List.<SearchRequest>of())).isEmpty();
+		verify(this.qdrantClient, times(0)).searchBatchAsync(any(), anyList(), any());
+	}
+
+	private QdrantVectorStore vectorStore(int upsertBatchSize, int maxConcurrentUpserts) {
+		QdrantVectorStore vectorStore = new QdrantVectorStore(this.qdrantClient, "test-collection",
+				this.embeddingClient);
+		// The configuration builder creates its own gRPC client.
+		ReflectionTestUtils.setField(vectorStore, "upsertBatchSize", upsertBatchSize);
+		ReflectionTestUtils.setField(vectorStore, "maxConcurrentUpserts", maxConcurrentUpserts);
+		ReflectionTestUtils.setField(vectorStore, "upsertWait", false);
+		return vectorStore;
+	}
+
+	private static List<Document> documents(int count) {
+		List<Document> documents = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			documents.add(new Document(UUID.randomUUID().toString(), "content " + i, Map.of("index", i)));
+		}
+		return documents;
+	}
+
+	private static BatchResult batchResult(ScoredPoint scoredPoint) {
+		return BatchResult.newBuilder().addResult(scoredPoint).build();
+	}
+
+	private static ScoredPoint scoredPoint(String id, String content, float score) {
+		return ScoredPoint.newBuilder()
+			.setId(id(UUID.fromString(id)))
+			.setScore(score)
+			.putPayload("doc_content", value(content))
+			.build();
+	}
+
+}
@@ -365,7 +365,7 @@ public class RedisVectorStore implements VectorStore, InitializingBean {
 		returnFields.add(this.config.embeddingFieldName);
 		returnFields.add(this.config.contentFieldName);
 		returnFields.add(DISTANCE_FIELD_NAME);
-		var embedding = toFloatArray(this.embeddingClient.embed(request.getQuery()));
+		var embedding = toFloatArray(QueryEmbeddings.embed(this.embeddingClient, request));
 		Query query = new Query(queryString).addParam(EMBEDDING_PARAM_NAME, RediSearchUtil.toByteArray(embedding))
 			.returnFields(returnFields.toArray(new String[0]))
 			.setSortBy(DISTANCE_FIELD_NAME, true)
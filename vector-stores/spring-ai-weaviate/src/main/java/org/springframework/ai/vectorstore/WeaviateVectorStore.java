@@ -21,6 +21,12 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -49,6 +55,7 @@ import org.springframework.ai.document.Document;
 import org.springframework.ai.embedding.EmbeddingClient;
 import org.springframework.ai.vectorstore.WeaviateVectorStore.WeaviateVectorStoreConfig.ConsistentLevel;
 import org.springframework.ai.vectorstore.WeaviateVectorStore.WeaviateVectorStoreConfig.MetadataField;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
@@ -64,7 +71,7 @@ import org.springframework.util.StringUtils;
  *
  * @author Christian Tzolov
  */
-public class WeaviateVectorStore implements VectorStore, InitializingBean {
+public class WeaviateVectorStore implements VectorStore, InitializingBean, DisposableBean {
 
 	public static final String DOCUMENT_METADATA_DISTANCE_KEY_NAME = "distance";
 
@@ -90,6 +97,17 @@ public class WeaviateVectorStore implements VectorStore, InitializingBean {
 
 	private final String weaviateObjectClass;
 
+	private final boolean includeVectorInSearchResults;
+
+	private final int batchSize;
+
+	/**
+	 * Sends the batch requests of all the add operations, with at most
+	 * {@link WeaviateVectorStoreConfig.Builder#withBatchConcurrency(int) batchConcurrency}
+	 * threads.
+	 */
+	private final ExecutorService batchExecutor;
+
 	/**
 	 * List of metadata fields (as field name and type) that can be used in similarity
 	 * search query filter expressions. The {@link Document#getMetadata()} can contain
@@ -194,6 +212,21 @@ public class WeaviateVectorStore implements VectorStore, InitializingBean {
 
 		private final Map<String, String> headers;
 
+		/**
+		 * Whether the similarity search results include the document embeddings.
+		 */
+		private final boolean includeVectorInSearchResults;
+
+		/**
+		 * Maximum number of objects sent in a single batch request.
+		 */
+		private final int batchSize;
+
+		/**
+		 * Maximum number of batch requests sent concurrently.
+		 */
+		private final int batchConcurrency;
+
 		/**
 		 * Constructor using the builder.
 		 * @param builder The configuration builder.
@@ -206,6 +239,9 @@ public class WeaviateVectorStore implements VectorStore, InitializingBean {
 			this.consistencyLevel = builder.consistencyLevel;
 			this.filterMetadataFields = builder.filterMetadataFields;
 			this.headers = builder.headers;
+			this.includeVectorInSearchResults = builder.includeVectorInSearchResults;
+			this.batchSize = builder.batchSize;
+			this.batchConcurrency = builder.batchConcurrency;
 		}
 
 		/**
@@ -239,6 +275,12 @@ public class WeaviateVectorStore implements VectorStore, InitializingBean {
 
 			private Map<String, String> headers = Map.of();
 
+			private boolean includeVectorInSearchResults = false;
+
+			private int batchSize = 100;
+
+			private int batchConcurrency = 4;
+
 			private Builder() {
 			}
 
@@ -319,6 +361,40 @@ public class WeaviateVectorStore implements VectorStore, InitializingBean {
 				return this;
 			}
 
+			/**
+			 * Whether the similarity search results include the document embeddings.
+			 * Defaults to false, as the vectors dominate the search response payload.
+			 * @param includeVectorInSearchResults true to retrieve the embeddings.
+			 * @return this builder.
+			 */
+			public Builder withIncludeVectorInSearchResults(boolean includeVectorInSearchResults) {
+				this.includeVectorInSearchResults = includeVectorInSearchResults;
+				return this;
+			}
+
+			/**
+			 * Maximum number of objects sent in a single batch request.
+			 * @param batchSize the batch size to use.
+			 * @return this builder.
+			 */
+			public Builder withBatchSize(int batchSize) {
+				Assert.isTrue(batchSize > 0, "The batchSize must be positive.");
+				this.batchSize = batchSize;
+				return this;
+			}
+
+			/**
+			 * Maximum number of batch requests sent concurrently, shared by all the add
+			 * operations of the store.
+			 * @param batchConcurrency the batch concurrency to use.
+			 * @return this builder.
+			 */
+			public Builder withBatchConcurrency(int batchConcurrency) {
+				Assert.isTrue(batchConcurrency > 0, "The batchConcurrency must be positive.");
+				this.batchConcurrency = batchConcurrency;
+				return this;
+			}
+
 			/**
 			 * {@return the immutable configuration}
 			 */
@@ -343,6 +419,9 @@ public class WeaviateVectorStore implements VectorStore, InitializingBean {
 		this.consistencyLevel = vectorStoreConfig.consistencyLevel;
 		this.weaviateObjectClass = vectorStoreConfig.weaviateObjectClass;
 		this.filterMetadataFields = vectorStoreConfig.filterMetadataFields;
+		this.includeVectorInSearchResults = vectorStoreConfig.includeVectorInSearchResults;
+		this.batchSize = vectorStoreConfig.batchSize;
+		this.batchExecutor = createBatchExecutor(vectorStoreConfig.batchConcurrency);
 		this.filterExpressionConverter = new WeaviateFilterExpressionConverter(
 				this.filterMetadataFields.stream().map(MetadataField::name).toList());
 
@@ -358,6 +437,18 @@ public class WeaviateVectorStore implements VectorStore, InitializingBean {
 		this.weaviateSimilaritySearchFields = buildWeaviateSimilaritySearchFields();
 	}
 
+	private static ExecutorService createBatchExecutor(int threads) {
+		AtomicInteger threadCount = new AtomicInteger();
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(), runnable -> {
+					Thread thread = new Thread(runnable, "weaviate-vector-store-" + threadCount.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				});
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
 	private Field[] buildWeaviateSimilaritySearchFields() {
 
 		List<Field> searchWeaviateFieldList = new ArrayList<>();
@@ -367,12 +458,16 @@ public class WeaviateVectorStore implements VectorStore, InitializingBean {
 		searchWeaviateFieldList.addAll(this.filterMetadataFields.stream()
 			.map(mf -> Field.builder().name(METADATA_FIELD_PREFIX + mf.name()).build())
 			.toList());
+		List<Field> additionalFields = new ArrayList<>();
+		additionalFields.add(Field.builder().name(ADDITIONAL_ID_FIELD_NAME).build());
+		additionalFields.add(Field.builder().name(ADDITIONAL_CERTAINTY_FIELD_NAME).build());
+		if (this.includeVectorInSearchResults) {
+			additionalFields.add(Field.builder().name(ADDITIONAL_VECTOR_FIELD_NAME).build());
+		}
 		searchWeaviateFieldList.add(Field.builder()
 			.name(ADDITIONAL_FIELD_NAME)
 			// https://weaviate.io/developers/weaviate/api/graphql/get#additional-properties--metadata
-			.fields(Field.builder().name(ADDITIONAL_ID_FIELD_NAME).build(),
-					Field.builder().name(ADDITIONAL_CERTAINTY_FIELD_NAME).build(),
-					Field.builder().name(ADDITIONAL_VECTOR_FIELD_NAME).build())
+			.fields(additionalFields.toArray(new Field[0]))
 			.build());
 
 		return searchWeaviateFieldList.toArray(new Field[0]);
@@ -385,6 +480,52 @@ public class WeaviateVectorStore implements VectorStore, InitializingBean {
 			return;
 		}
 
+		List<List<Document>> batches = new ArrayList<>();
+		for (int i = 0; i < documents.size(); i += this.batchSize) {
+			batches.add(documents.subList(i, Math.min(i + this.batchSize, documents.size())));
+		}
+
+		List<String> errorMessages = new ArrayList<>();
+
+		if (batches.size() == 1) {
+			errorMessages.addAll(addBatch(batches.get(0)));
+		}
+		else {
+			List<CompletableFuture<List<String>>> futures = batches.stream()
+				.map(batch -> CompletableFuture.supplyAsync(() -> addBatch(batch), this.batchExecutor))
+				.toList();
+			for (int i = 0; i < futures.size(); i++) {
+				try {
+					errorMessages.addAll(futures.get(i).join());
+				}
+				catch (Exception e) {
+					errorMessages.add("Batch " + i + ": " + e.getMessage());
+				}
+			}
+		}
+
+		if (!CollectionUtils.isEmpty(errorMessages)) {
+			throw new RuntimeException("Failed to add documents because: \n" + errorMessages);
+		}
+	}
+
+	/**
+	 * Embeds and sends a single batch of documents.
+	 * @param documents the batch of documents.
+	 * @return the error messages reported for the batch, if any.
+	 */
+	private List<String> addBatch(List<Document> documents) {
+
+		List<Document> documentsToEmbed = documents.stream()
+			.filter(document -> CollectionUtils.isEmpty(document.getEmbedding()))
+			.toList();
+		if (!documentsToEmbed.isEmpty()) {
+			List<List<Double>> embeddings = this.embeddingClient.embedDocuments(documentsToEmbed);
+			for (int i = 0; i < documentsToEmbed.size(); i++) {
+				documentsToEmbed.get(i).setEmbedding(embeddings.get(i));
+			}
+		}
+
 		List<WeaviateObject> weaviateObjects = documents.stream().map(this::toWeaviateObject).toList();
 
 		Result<ObjectGetResponse[]> response = this.weaviateClient.batch()
@@ -401,7 +542,7 @@ public class WeaviateVectorStore implements VectorStore, InitializingBean {
 				.stream()
 				.map(wm -> wm.getMessage())
 				.collect(Collectors.joining(System.lineSeparator())));
-			throw new RuntimeException("Failed to add documents because: \n" + errorMessages);
+			return errorMessages;
 		}
 
 		if (response.getResult() != null) {
@@ -416,9 +557,7 @@ public class WeaviateVectorStore implements VectorStore, InitializingBean {
 			}
 		}
 
-		if (!CollectionUtils.isEmpty(errorMessages)) {
-			throw new RuntimeException("Failed to add documents because: \n" + errorMessages);
-		}
+		return errorMessages;
 	}
 
 	private WeaviateObject toWeaviateObject(Document document) {
@@ -484,7 +623,7 @@ public class WeaviateVectorStore implements VectorStore, InitializingBean {
 	@Override
 	public List<Document> similaritySearch(SearchRequest request) {
 
-		Float[] embedding = toFloatArray(this.embeddingClient.embed(request.getQuery()));
+		Float[] embedding = toFloatArray(QueryEmbeddings.embed(this.embeddingClient, request));
 
 		GetBuilder.GetBuilderBuilder builder = GetBuilder.builder();
 
@@ -554,7 +693,8 @@ public class WeaviateVectorStore implements VectorStore, InitializingBean {
 		Map<String, ?> additional = (Map<String, ?>) item.get(ADDITIONAL_FIELD_NAME);
 		double certainty = (Double) additional.get(ADDITIONAL_CERTAINTY_FIELD_NAME);
 		String id = (String) additional.get(ADDITIONAL_ID_FIELD_NAME);
-		List<Double> embedding = ((List<Double>) additional.get(ADDITIONAL_VECTOR_FIELD_NAME)).stream().toList();
+		List<Double> embedding = additional.get(ADDITIONAL_VECTOR_FIELD_NAME) != null
+				? ((List<Double>) additional.get(ADDITIONAL_VECTOR_FIELD_NAME)).stream().toList() : List.of();
 
 		// Metadata
 		Map<String, Object> metadata = new HashMap<>();
@@ -615,4 +755,12 @@ public class WeaviateVectorStore implements VectorStore, InitializingBean {
 		this.delete(List.of(document.getId()));
 	}
 
+	/**
+	 * Shuts down the thread pool sending the batch requests.
+	 */
+	@Override
+	public void destroy() {
+		this.batchExecutor.shutdownNow();
+	}
+
 }
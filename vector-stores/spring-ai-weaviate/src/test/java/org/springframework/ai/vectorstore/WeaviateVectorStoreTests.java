@@ -0,0 +1,292 @@
+/*
+ * Copyright 2023 - 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.vectorstore;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingClient;
+import org.springframework.ai.vectorstore.WeaviateVectorStore.WeaviateVectorStoreConfig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit Tests for the chunked batches and the search projection of
+ * {@link WeaviateVectorStore}, against a stub HTTP server.
+ */
+class WeaviateVectorStoreTests {
+
+	private static final String BATCH_PATH = "/v1/batch/objects";
+
+	private static final String GRAPHQL_PATH = "/v1/graphql";
+
+	private static final String DOCUMENT_ID = "b2f3d64e-1c5d-4a7e-9f0b-3c2a1d4e5f60";
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private final ConcurrentLinkedQueue<RecordedRequest> requests = new ConcurrentLinkedQueue<>();
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+
+	private final AtomicInteger maxInFlight = new AtomicInteger();
+
+	private final ExecutorService serverExecutor = Executors.newCachedThreadPool();
+
+	private final EmbeddingClient embeddingClient = mock(EmbeddingClient.class);
+
+	private HttpServer server;
+
+	private volatile long responseDelayMillis;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		this.server.createContext("/", this::handle);
+		this.server.setExecutor(this.serverExecutor);
+		this.server.start();
+
+		when(this.embeddingClient.embed(any(String.class))).thenReturn(List.of(0.1, 0.2));
+		when(this.embeddingClient.embedDocuments(anyList())).thenAnswer(invocation -> {
+			List<Document> documents = invocation.getArgument(0);
+			return documents.stream().map(document -> List.of(0.1, 0.2)).toList();
+		});
+	}
+
+	@AfterEach
+	void tearDown() {
+		this.server.stop(0);
+		this.serverExecutor.shutdownNow();
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		int current = this.inFlight.incrementAndGet();
+		this.maxInFlight.accumulateAndGet(current, Math::max);
+		try {
+			String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+			JsonNode json = this.objectMapper.readTree(body);
+			this.requests.add(new RecordedRequest(exchange.getRequestURI().getPath(), json));
+			if (this.responseDelayMillis > 0) {
+				Thread.sleep(this.responseDelayMillis);
+			}
+			if (exchange.getRequestURI().getPath().equals(GRAPHQL_PATH)) {
+				respond(exchange, 200, searchResponse(json.get("query").asText()));
+			}
+			else if (contents(json).contains("rejected")) {
+				respond(exchange, 422, "{\"error\": [{\"message\": \"Batch rejected\"}]}");
+			}
+			else {
+				respond(exchange, 200, batchResponse(json));
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+		finally {
+			this.inFlight.decrementAndGet();
+			exchange.close();
+		}
+	}
+
+	private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+		byte[] response = body.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().add("Content-Type", "application/json");
+		exchange.sendResponseHeaders(status, response.length);
+		try (OutputStream outputStream = exchange.getResponseBody()) {
+			outputStream.write(response);
+		}
+	}
+
+	/**
+	 * Reports an object error for every object whose content starts with "invalid".
+	 */
+	private String batchResponse(JsonNode request) {
+		ArrayNode response = this.objectMapper.createArrayNode();
+		for (JsonNode object : request.get("objects")) {
+			ObjectNode item = response.addObject();
+			item.put("id", object.get("id").asText());
+			item.put("class", object.get("class").asText());
+			String content = object.at("/properties/content").asText();
+			if (content.startsWith("invalid")) {
+				item.putObject("result")
+					.putObject("errors")
+					.putArray("error")
+					.addObject()
+					.put("message", "Invalid object: " + content);
+			}
+		}
+		return response.toString();
+	}
+
+	private static String searchResponse(String query) {
+		String additional = query.matches("(?s).*certainty\\s+vector\\s*}.*")
+				? "{\"id\": \"%s\", \"certainty\": 0.8, \"vector\": [0.5, 0.6]}".formatted(DOCUMENT_ID)
+				: "{\"id\": \"%s\", \"certainty\": 0.8}".formatted(DOCUMENT_ID);
+		return """
+				{"data": {"Get": {"SpringAiWeaviate": [
+					{"content": "first", "metadata": "{\\"year\\": 2024}", "_additional": %s}]}}}"""
+			.formatted(additional);
+	}
+
+	private static List<String> contents(JsonNode request) {
+		List<String> contents = new ArrayList<>();
+		request.path("objects").forEach(object -> contents.add(object.at("/properties/content").asText()));
+		return contents;
+	}
+
+	@Test
+	void searchDoesNotRequestTheVectorByDefault() {
+		WeaviateVectorStore vectorStore = vectorStore(WeaviateVectorStoreConfig.builder());
+
+		List<Document> documents = vectorStore.similaritySearch(SearchRequest.query("query").withTopK(3));
+
+		String query = this.requests.poll().body().get("query").asText();
+		assertThat(query).containsPattern("_additional\\s*\\{\\s*id\\s+certainty\\s*\\}");
+		assertThat(documents).hasSize(1);
+		Document document = documents.get(0);
+		assertThat(document.getId()).isEqualTo(DOCUMENT_ID);
+		assertThat(document.getContent()).isEqualTo("first");
+		assertThat(document.getMetadata()).containsEntry("year", 2024);
+		assertThat(document.getEmbedding()).isEmpty();
+	}
+
+	@Test
+	void searchRequestsTheVectorWhenIncluded() {
+		WeaviateVectorStore vectorStore = vectorStore(
+				WeaviateVectorStoreConfig.builder().withIncludeVectorInSearchResults(true));
+
+		List<Document> documents = vectorStore.similaritySearch(SearchRequest.query("query").withTopK(3));
+
+		String query = this.requests.poll().body().get("query").asText();
+		assertThat(query).containsPattern("_additional\\s*\\{\\s*id\\s+certainty\\s+vector\\s*\\}");
+		assertThat(documents).hasSize(1);
+		assertThat(documents.get(0).getEmbedding()).containsExactly(0.5, 0.6);
+	}
+
+	@Test
+	void addSendsTheDocumentsInChunks() {
+		WeaviateVectorStore vectorStore = vectorStore(WeaviateVectorStoreConfig.builder().withBatchSize(2));
+
+		vectorStore.add(documents("content 0", "content 1", "content 2", "content 3", "content 4"));
+
+		assertThat(this.requests).hasSize(3).allSatisfy(request -> {
+			assertThat(request.path()).isEqualTo(BATCH_PATH);
+			assertThat(request.body().get("objects").size()).isBetween(1, 2);
+			request.body().get("objects").forEach(object -> assertThat(object.get("vector")).hasSize(2));
+		});
+		assertThat(this.requests.stream().flatMap(request -> contents(request.body()).stream()))
+			.containsExactlyInAnyOrder("content 0", "content 1", "content 2", "content 3", "content 4");
+		verify(this.embeddingClient, times(3)).embedDocuments(anyList());
+	}
+
+	@Test
+	void addBoundsTheBatchesInFlight() {
+		WeaviateVectorStore vectorStore = vectorStore(
+				WeaviateVectorStoreConfig.builder().withBatchSize(1).withBatchConcurrency(2));
+		this.responseDelayMillis = 100;
+
+		vectorStore.add(documents("content 0", "content 1", "content 2", "content 3", "content 4", "content 5"));
+
+		assertThat(this.requests).hasSize(6);
+		assertThat(this.maxInFlight).hasValue(2);
+	}
+
+	@Test
+	void addReportsTheErrorsOfEveryChunk() {
+		WeaviateVectorStore vectorStore = vectorStore(WeaviateVectorStoreConfig.builder().withBatchSize(2));
+
+		assertThatThrownBy(() -> vectorStore
+			.add(documents("rejected", "content 1", "content 2", "invalid 3", "invalid 4", "content 5")))
+			.hasMessageStartingWith("Failed to add documents because:")
+			.hasMessageContaining("Batch rejected")
+			.hasMessageContaining("Invalid object: invalid 3")
+			.hasMessageContaining("Invalid object: invalid 4");
+		assertThat(this.requests).hasSize(3);
+	}
+
+	@Test
+	void addSendsTheBatchesOfEveryCallOnTheThreadsOfTheStore() {
+		Set<String> threadNames = ConcurrentHashMap.newKeySet();
+		doAnswer(invocation -> {
+			threadNames.add(Thread.currentThread().getName());
+			List<Document> documents = invocation.getArgument(0);
+			return documents.stream().map(document -> List.of(0.1, 0.2)).toList();
+		}).when(this.embeddingClient).embedDocuments(anyList());
+		WeaviateVectorStore vectorStore = vectorStore(
+				WeaviateVectorStoreConfig.builder().withBatchSize(1).withBatchConcurrency(2));
+
+		vectorStore.add(documents("content 0", "content 1", "content 2"));
+		vectorStore.add(documents("content 3", "content 4", "content 5"));
+
+		assertThat(this.requests).hasSize(6);
+		assertThat(threadNames).hasSizeBetween(1, 2).allMatch(name -> name.startsWith("weaviate-vector-store-"));
+
+		vectorStore.destroy();
+
+		assertThatThrownBy(() -> vectorStore.add(documents("content 6", "content 7")))
+			.isInstanceOf(RejectedExecutionException.class);
+	}
+
+	private WeaviateVectorStore vectorStore(WeaviateVectorStoreConfig.Builder configBuilder) {
+		WeaviateVectorStoreConfig config = configBuilder.withScheme("http")
+			.withHost("localhost:" + this.server.getAddress().getPort())
+			.build();
+		return new WeaviateVectorStore(config, this.embeddingClient);
+	}
+
+	private static List<Document> documents(String... contents) {
+		List<Document> documents = new ArrayList<>();
+		for (String content : contents) {
+			documents.add(new Document(UUID.randomUUID().toString(), content, Map.of("content", content)));
+		}
+		return documents;
+	}
+
+	private record RecordedRequest(String path, JsonNode body) {
+	}
+
+}